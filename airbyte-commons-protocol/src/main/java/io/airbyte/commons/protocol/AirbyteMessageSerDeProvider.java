@@ -5,13 +5,17 @@
 package io.airbyte.commons.protocol;
 
 import com.google.common.annotations.VisibleForTesting;
+import io.airbyte.commons.protocol.serde.AirbyteMessageBinaryDeserializer;
+import io.airbyte.commons.protocol.serde.AirbyteMessageBinarySerializer;
 import io.airbyte.commons.protocol.serde.AirbyteMessageDeserializer;
 import io.airbyte.commons.protocol.serde.AirbyteMessageSerializer;
 import io.airbyte.commons.version.AirbyteVersion;
 import jakarta.annotation.PostConstruct;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -22,20 +26,38 @@ import java.util.Set;
  *
  * This class is intended to help access the serializer/deserializer for a given version of the
  * Airbyte Protocol.
+ *
+ * Besides the json serializer/deserializer, a version may have binary ones, keyed by the name of
+ * their format. Those are only used with connectors that advertise support for the format.
  */
 @Singleton
 public class AirbyteMessageSerDeProvider {
 
   private final List<AirbyteMessageDeserializer<?>> deserializersToRegister;
   private final List<AirbyteMessageSerializer<?>> serializersToRegister;
+  private final List<AirbyteMessageBinaryDeserializer<?>> binaryDeserializersToRegister;
+  private final List<AirbyteMessageBinarySerializer<?>> binarySerializersToRegister;
 
   private final Map<String, AirbyteMessageDeserializer<?>> deserializers = new HashMap<>();
   private final Map<String, AirbyteMessageSerializer<?>> serializers = new HashMap<>();
+  // keyed by major version, then by format
+  private final Map<String, Map<String, AirbyteMessageBinaryDeserializer<?>>> binaryDeserializers = new HashMap<>();
+  private final Map<String, Map<String, AirbyteMessageBinarySerializer<?>>> binarySerializers = new HashMap<>();
 
+  @Inject
   public AirbyteMessageSerDeProvider(final List<AirbyteMessageDeserializer<?>> deserializers,
-                                     final List<AirbyteMessageSerializer<?>> serializers) {
+                                     final List<AirbyteMessageSerializer<?>> serializers,
+                                     final List<AirbyteMessageBinaryDeserializer<?>> binaryDeserializers,
+                                     final List<AirbyteMessageBinarySerializer<?>> binarySerializers) {
     deserializersToRegister = deserializers;
     serializersToRegister = serializers;
+    binaryDeserializersToRegister = binaryDeserializers;
+    binarySerializersToRegister = binarySerializers;
+  }
+
+  public AirbyteMessageSerDeProvider(final List<AirbyteMessageDeserializer<?>> deserializers,
+                                     final List<AirbyteMessageSerializer<?>> serializers) {
+    this(deserializers, serializers, Collections.emptyList(), Collections.emptyList());
   }
 
   public AirbyteMessageSerDeProvider() {
@@ -46,6 +68,8 @@ public class AirbyteMessageSerDeProvider {
   public void initialize() {
     deserializersToRegister.forEach(this::registerDeserializer);
     serializersToRegister.forEach(this::registerSerializer);
+    binaryDeserializersToRegister.forEach(this::registerBinaryDeserializer);
+    binarySerializersToRegister.forEach(this::registerBinarySerializer);
   }
 
   /**
@@ -62,6 +86,30 @@ public class AirbyteMessageSerDeProvider {
     return Optional.ofNullable(serializers.get(version.getMajorVersion()));
   }
 
+  /**
+   * Returns the binary Deserializer of the format for the version if known else empty
+   */
+  public Optional<AirbyteMessageBinaryDeserializer<?>> getBinaryDeserializer(final AirbyteVersion version, final String format) {
+    return Optional.ofNullable(binaryDeserializers.getOrDefault(version.getMajorVersion(), Map.of()).get(format));
+  }
+
+  /**
+   * Returns the binary Serializer of the format for the version if known else empty
+   */
+  public Optional<AirbyteMessageBinarySerializer<?>> getBinarySerializer(final AirbyteVersion version, final String format) {
+    return Optional.ofNullable(binarySerializers.getOrDefault(version.getMajorVersion(), Map.of()).get(format));
+  }
+
+  /**
+   * Returns the binary formats that messages of the version can be both serialized to and
+   * deserialized from, to be advertised to connectors.
+   */
+  public Set<String> getBinaryFormats(final AirbyteVersion version) {
+    final Set<String> formats = new HashSet<>(binaryDeserializers.getOrDefault(version.getMajorVersion(), Map.of()).keySet());
+    formats.retainAll(binarySerializers.getOrDefault(version.getMajorVersion(), Map.of()).keySet());
+    return formats;
+  }
+
   @VisibleForTesting
   void registerDeserializer(final AirbyteMessageDeserializer<?> deserializer) {
     final String key = deserializer.getTargetVersion().getMajorVersion();
@@ -84,6 +132,32 @@ public class AirbyteMessageSerDeProvider {
     }
   }
 
+  @VisibleForTesting
+  void registerBinaryDeserializer(final AirbyteMessageBinaryDeserializer<?> deserializer) {
+    final Map<String, AirbyteMessageBinaryDeserializer<?>> formats =
+        binaryDeserializers.computeIfAbsent(deserializer.getTargetVersion().getMajorVersion(), key -> new HashMap<>());
+    if (!formats.containsKey(deserializer.getFormat())) {
+      formats.put(deserializer.getFormat(), deserializer);
+    } else {
+      throw new RuntimeException(String.format("Trying to register a %s deserializer for protocol version %s when %s already exists",
+          deserializer.getFormat(), deserializer.getTargetVersion().serialize(),
+          formats.get(deserializer.getFormat()).getTargetVersion().serialize()));
+    }
+  }
+
+  @VisibleForTesting
+  void registerBinarySerializer(final AirbyteMessageBinarySerializer<?> serializer) {
+    final Map<String, AirbyteMessageBinarySerializer<?>> formats =
+        binarySerializers.computeIfAbsent(serializer.getTargetVersion().getMajorVersion(), key -> new HashMap<>());
+    if (!formats.containsKey(serializer.getFormat())) {
+      formats.put(serializer.getFormat(), serializer);
+    } else {
+      throw new RuntimeException(String.format("Trying to register a %s serializer for protocol version %s when %s already exists",
+          serializer.getFormat(), serializer.getTargetVersion().serialize(),
+          formats.get(serializer.getFormat()).getTargetVersion().serialize()));
+    }
+  }
+
   // Used for inspection of the injection
   @VisibleForTesting
   Set<String> getDeserializerKeys() {
@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.protocol.serde;
+
+import io.airbyte.commons.version.AirbyteVersion;
+
+/**
+ * Deserializes messages written by the {@link AirbyteMessageBinarySerializer} of the same format.
+ */
+public interface AirbyteMessageBinaryDeserializer<T> {
+
+  T deserialize(final byte[] bytes);
+
+  AirbyteVersion getTargetVersion();
+
+  /**
+   * @return the name the format is advertised with.
+   */
+  String getFormat();
+
+}
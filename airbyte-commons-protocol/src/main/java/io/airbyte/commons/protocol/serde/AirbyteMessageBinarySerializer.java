@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.protocol.serde;
+
+import io.airbyte.commons.version.AirbyteVersion;
+
+/**
+ * Serializes messages to a compact binary encoding instead of json. Only used between a worker and a
+ * connector that both advertise support for its format.
+ */
+public interface AirbyteMessageBinarySerializer<T> {
+
+  byte[] serialize(final T message);
+
+  AirbyteVersion getTargetVersion();
+
+  /**
+   * @return the name the format is advertised with.
+   */
+  String getFormat();
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.protocol.serde;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.airbyte.commons.version.AirbyteVersion;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import lombok.Getter;
+
+/**
+ * Deserializes messages written by an {@link AirbyteMessageSmileSerializer}.
+ */
+public class AirbyteMessageSmileDeserializer<T> implements AirbyteMessageBinaryDeserializer<T> {
+
+  private static final ObjectMapper MAPPER = SmileMappers.initMapper();
+
+  @Getter
+  private final AirbyteVersion targetVersion;
+  private final Class<T> typeClass;
+
+  public AirbyteMessageSmileDeserializer(final AirbyteVersion targetVersion, final Class<T> typeClass) {
+    this.targetVersion = targetVersion;
+    this.typeClass = typeClass;
+  }
+
+  @Override
+  public T deserialize(final byte[] bytes) {
+    try {
+      return MAPPER.readValue(bytes, typeClass);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public String getFormat() {
+    return AirbyteMessageSmileSerializer.FORMAT;
+  }
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.protocol.serde;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.airbyte.commons.version.AirbyteVersion;
+import lombok.Getter;
+
+/**
+ * Serializes messages to Smile, Jackson's binary json. Numbers are written as binary, and field
+ * names and short strings that repeat within a message, e.g. in an array of objects, are written as
+ * back references instead of text, which makes messages both smaller and cheaper to encode and
+ * decode than json. Each message is a separate Smile document, so back references never span
+ * messages.
+ */
+public class AirbyteMessageSmileSerializer<T> implements AirbyteMessageBinarySerializer<T> {
+
+  public static final String FORMAT = "smile";
+
+  private static final ObjectMapper MAPPER = SmileMappers.initMapper();
+
+  @Getter
+  private final AirbyteVersion targetVersion;
+
+  public AirbyteMessageSmileSerializer(final AirbyteVersion targetVersion) {
+    this.targetVersion = targetVersion;
+  }
+
+  @Override
+  public byte[] serialize(final T message) {
+    try {
+      return MAPPER.writeValueAsBytes(message);
+    } catch (final JsonProcessingException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public String getFormat() {
+    return FORMAT;
+  }
+
+}
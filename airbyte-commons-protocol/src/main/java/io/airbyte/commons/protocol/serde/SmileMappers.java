@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.protocol.serde;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Creates the Smile mappers of the binary serdes, configured like the json mapper of
+ * {@link io.airbyte.commons.json.Jsons} so that both encodings round trip messages the same way.
+ */
+class SmileMappers {
+
+  static ObjectMapper initMapper() {
+    final SmileFactory factory = SmileFactory.builder()
+        // back references to short string values repeated within a message, e.g. in object arrays.
+        .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+        .build();
+    final ObjectMapper result = new ObjectMapper(factory).registerModule(new JavaTimeModule());
+    result.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    return result;
+  }
+
+}
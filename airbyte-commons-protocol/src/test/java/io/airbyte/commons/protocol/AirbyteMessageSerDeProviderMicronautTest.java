@@ -6,6 +6,7 @@ package io.airbyte.commons.protocol;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import io.airbyte.commons.version.AirbyteVersion;
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
 import jakarta.inject.Inject;
 import java.util.HashSet;
@@ -26,6 +27,7 @@ class AirbyteMessageSerDeProviderMicronautTest {
 
     assertEquals(expectedVersions, serDeProvider.getDeserializerKeys());
     assertEquals(expectedVersions, serDeProvider.getSerializerKeys());
+    assertEquals(Set.of("smile"), serDeProvider.getBinaryFormats(new AirbyteVersion("0.3.0")));
   }
 
 }
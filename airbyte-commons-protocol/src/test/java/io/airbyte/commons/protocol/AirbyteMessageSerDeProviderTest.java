@@ -9,10 +9,13 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import io.airbyte.commons.protocol.serde.AirbyteMessageBinaryDeserializer;
+import io.airbyte.commons.protocol.serde.AirbyteMessageBinarySerializer;
 import io.airbyte.commons.protocol.serde.AirbyteMessageDeserializer;
 import io.airbyte.commons.protocol.serde.AirbyteMessageSerializer;
 import io.airbyte.commons.version.AirbyteVersion;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -71,6 +74,34 @@ class AirbyteMessageSerDeProviderTest {
     });
   }
 
+  @Test
+  void testGetBinarySerDe() {
+    final AirbyteMessageBinaryDeserializer<?> smileDeser = buildBinaryDeserializer(new AirbyteVersion("0.2.0"), "smile");
+    final AirbyteMessageBinarySerializer<?> smileSer = buildBinarySerializer(new AirbyteVersion("0.3.0"), "smile");
+    final AirbyteMessageBinaryDeserializer<?> cborDeser = buildBinaryDeserializer(new AirbyteVersion("0.3.0"), "cbor");
+    serDeProvider.registerBinaryDeserializer(smileDeser);
+    serDeProvider.registerBinarySerializer(smileSer);
+    serDeProvider.registerBinaryDeserializer(cborDeser);
+
+    assertEquals(Optional.of(smileDeser), serDeProvider.getBinaryDeserializer(new AirbyteVersion("0.1.0"), "smile"));
+    assertEquals(Optional.of(smileSer), serDeProvider.getBinarySerializer(new AirbyteVersion("0.1.0"), "smile"));
+    assertEquals(Optional.empty(), serDeProvider.getBinarySerializer(new AirbyteVersion("0.1.0"), "cbor"));
+    assertEquals(Optional.empty(), serDeProvider.getBinaryDeserializer(new AirbyteVersion("1.0.0"), "smile"));
+    // a format is only usable if messages can go both ways
+    assertEquals(Set.of("smile"), serDeProvider.getBinaryFormats(new AirbyteVersion("0.1.0")));
+    assertEquals(Set.of(), serDeProvider.getBinaryFormats(new AirbyteVersion("1.0.0")));
+  }
+
+  @Test
+  void testRegisterBinaryDeserializerShouldFailOnFormatCollision() {
+    serDeProvider.registerBinaryDeserializer(buildBinaryDeserializer(new AirbyteVersion("0.2.0"), "smile"));
+    serDeProvider.registerBinaryDeserializer(buildBinaryDeserializer(new AirbyteVersion("1.0.0"), "smile"));
+    final AirbyteMessageBinaryDeserializer<?> deser = buildBinaryDeserializer(new AirbyteVersion("0.3.0"), "smile");
+    assertThrows(RuntimeException.class, () -> {
+      serDeProvider.registerBinaryDeserializer(deser);
+    });
+  }
+
   private <T> AirbyteMessageDeserializer<T> buildDeserializer(AirbyteVersion version) {
     final AirbyteMessageDeserializer<T> deser = mock(AirbyteMessageDeserializer.class);
     when(deser.getTargetVersion()).thenReturn(version);
@@ -83,4 +114,18 @@ class AirbyteMessageSerDeProviderTest {
     return ser;
   }
 
+  private <T> AirbyteMessageBinaryDeserializer<T> buildBinaryDeserializer(AirbyteVersion version, String format) {
+    final AirbyteMessageBinaryDeserializer<T> deser = mock(AirbyteMessageBinaryDeserializer.class);
+    when(deser.getTargetVersion()).thenReturn(version);
+    when(deser.getFormat()).thenReturn(format);
+    return deser;
+  }
+
+  private <T> AirbyteMessageBinarySerializer<T> buildBinarySerializer(AirbyteVersion version, String format) {
+    final AirbyteMessageBinarySerializer<T> ser = mock(AirbyteMessageBinarySerializer.class);
+    when(ser.getTargetVersion()).thenReturn(version);
+    when(ser.getFormat()).thenReturn(format);
+    return ser;
+  }
+
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.protocol.serde;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.v0.AirbyteMessage;
+import io.airbyte.protocol.models.v0.AirbyteMessage.Type;
+import io.airbyte.protocol.models.v0.AirbyteRecordMessage;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class AirbyteMessageV0SmileSerDeTest {
+
+  @Test
+  void v0SmileSerDeRoundTripTest() {
+    final AirbyteMessageV0SmileDeserializer deser = new AirbyteMessageV0SmileDeserializer();
+    final AirbyteMessageV0SmileSerializer ser = new AirbyteMessageV0SmileSerializer();
+
+    final AirbyteMessage message = new AirbyteMessage()
+        .withType(Type.RECORD)
+        .withRecord(new AirbyteRecordMessage()
+            .withStream("users")
+            .withEmittedAt(1_665_000_000_000L)
+            .withData(Jsons.jsonNode(Map.of("id", 1, "name", "caf\u00e9", "score", 1.5))));
+
+    final byte[] serializedMessage = ser.serialize(message);
+    final AirbyteMessage deserializedMessage = deser.deserialize(serializedMessage);
+
+    assertEquals(message, deserializedMessage);
+    assertTrue(serializedMessage.length < Jsons.serialize(message).length());
+  }
+
+}
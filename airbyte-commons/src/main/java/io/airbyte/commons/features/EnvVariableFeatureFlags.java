@@ -13,6 +13,9 @@ public class EnvVariableFeatureFlags implements FeatureFlags {
   public static final String USE_STREAM_CAPABLE_STATE = "USE_STREAM_CAPABLE_STATE";
   public static final String LOG_CONNECTOR_MESSAGES = "LOG_CONNECTOR_MESSAGES";
   public static final String NEED_STATE_VALIDATION = "NEED_STATE_VALIDATION";
+  public static final String USE_PIPELINED_REPLICATION = "USE_PIPELINED_REPLICATION";
+  public static final String USE_MESSAGE_SOCKET = "USE_MESSAGE_SOCKET";
+  public static final String USE_BINARY_MESSAGE_FORMAT = "USE_BINARY_MESSAGE_FORMAT";
 
   @Override
   public boolean autoDisablesFailingConnections() {
@@ -41,6 +44,21 @@ public class EnvVariableFeatureFlags implements FeatureFlags {
     return getEnvOrDefault(NEED_STATE_VALIDATION, true, Boolean::parseBoolean);
   }
 
+  @Override
+  public boolean usePipelinedReplication() {
+    return getEnvOrDefault(USE_PIPELINED_REPLICATION, false, Boolean::parseBoolean);
+  }
+
+  @Override
+  public boolean useMessageSocket() {
+    return getEnvOrDefault(USE_MESSAGE_SOCKET, false, Boolean::parseBoolean);
+  }
+
+  @Override
+  public boolean useBinaryMessageFormat() {
+    return getEnvOrDefault(USE_BINARY_MESSAGE_FORMAT, false, Boolean::parseBoolean);
+  }
+
   // TODO: refactor in order to use the same method than the ones in EnvConfigs.java
   public <T> T getEnvOrDefault(final String key, final T defaultValue, final Function<String, T> parser) {
     final String value = System.getenv(key);
@@ -20,4 +20,10 @@ public interface FeatureFlags {
 
   boolean needStateValidation();
 
+  boolean usePipelinedReplication();
+
+  boolean useMessageSocket();
+
+  boolean useBinaryMessageFormat();
+
 }
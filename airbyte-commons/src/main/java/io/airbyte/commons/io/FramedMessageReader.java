@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.io;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads the length prefixed frames written by a {@link FramedMessageWriter}.
+ */
+public class FramedMessageReader implements Closeable {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final DataInputStream in;
+
+  public FramedMessageReader(final InputStream in) {
+    this.in = new DataInputStream(new BufferedInputStream(in, BUFFER_SIZE));
+  }
+
+  /**
+   * @return the next message, or null once the writer has closed the stream.
+   * @throws EOFException if the stream ends in the middle of a message.
+   */
+  public String read() throws IOException {
+    final byte[] bytes = readBytes();
+    return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * @return the next message as it was written, or null once the writer has closed the stream.
+   * @throws EOFException if the stream ends in the middle of a message.
+   */
+  public byte[] readBytes() throws IOException {
+    final int first = in.read();
+    if (first == -1) {
+      return null;
+    }
+    final int length = (first << 24) | (in.readUnsignedByte() << 16) | (in.readUnsignedByte() << 8) | in.readUnsignedByte();
+    final byte[] bytes = new byte[length];
+    in.readFully(bytes);
+    return bytes;
+  }
+
+  /**
+   * @return the remaining messages, read lazily. Read failures are thrown as
+   *         {@link UncheckedIOException}.
+   */
+  public Stream<String> messages() {
+    return frames().map(bytes -> new String(bytes, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * @return the remaining messages as they were written, read lazily. Read failures are thrown as
+   *         {@link UncheckedIOException}.
+   */
+  public Stream<byte[]> frames() {
+    final Iterator<byte[]> iterator = new Iterator<>() {
+
+      private byte[] next = null;
+
+      @Override
+      public boolean hasNext() {
+        if (next == null) {
+          try {
+            next = readBytes();
+          } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        }
+        return next != null;
+      }
+
+      @Override
+      public byte[] next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        final byte[] message = next;
+        next = null;
+        return message;
+      }
+
+    };
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+  }
+
+  @Override
+  public void close() throws IOException {
+    in.close();
+  }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.io;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * Writes messages as length prefixed frames: the length of the UTF-8 encoded message (or of a
+ * binary message) as a 4 byte big endian int, followed by the encoded message. Unlike json lines,
+ * the reader never has to scan the messages for line ends. See {@link FramedMessageReader}.
+ *
+ * Frames are buffered: they reach the reader once the buffer fills, or on {@link #flush()} or
+ * {@link #close()}.
+ */
+public class FramedMessageWriter implements Closeable {
+
+  /**
+   * Set by the worker, to the path of a unix domain socket relative to the working directory of the
+   * connector, when it accepts the messages of the connector as frames through that socket instead
+   * of json lines on stdout.
+   */
+  public static final String MESSAGE_SOCKET_ENV_VAR = "AIRBYTE_MESSAGE_SOCKET";
+
+  /**
+   * Set by the worker, along with {@link #MESSAGE_SOCKET_ENV_VAR}, to the comma separated binary
+   * formats it can read messages in. When it is set, the first frame a connector writes to the
+   * socket is the name of the format of the following frames, either one of those or
+   * {@link #JSON_FORMAT}.
+   */
+  public static final String MESSAGE_FORMATS_ENV_VAR = "AIRBYTE_MESSAGE_FORMATS";
+
+  public static final String JSON_FORMAT = "json";
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final DataOutputStream out;
+
+  public FramedMessageWriter(final OutputStream out) {
+    this.out = new DataOutputStream(new BufferedOutputStream(out, BUFFER_SIZE));
+  }
+
+  /**
+   * Connects to the unix domain socket at the given path, to write frames to it.
+   */
+  public static FramedMessageWriter connect(final Path socketPath) throws IOException {
+    return new FramedMessageWriter(Channels.newOutputStream(SocketChannel.open(UnixDomainSocketAddress.of(socketPath))));
+  }
+
+  public void write(final String message) throws IOException {
+    write(message.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public synchronized void write(final byte[] message) throws IOException {
+    out.writeInt(message.length);
+    out.write(message);
+  }
+
+  public synchronized void flush() throws IOException {
+    out.flush();
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    out.close();
+  }
+
+}
@@ -77,6 +77,18 @@ public class Jsons {
     }
   }
 
+  /**
+   * Same as {@link #tryDeserialize(String, Class)}, but reads the json straight from a slice of a
+   * UTF-8 encoded byte buffer, without decoding it into a String first.
+   */
+  public static <T> Optional<T> tryDeserialize(final byte[] jsonBytes, final int offset, final int length, final Class<T> klass) {
+    try {
+      return Optional.of(OBJECT_MAPPER.readValue(jsonBytes, offset, length, klass));
+    } catch (final Throwable e) {
+      return Optional.empty();
+    }
+  }
+
   public static Optional<JsonNode> tryDeserialize(final String jsonString) {
     try {
       return Optional.of(OBJECT_MAPPER.readTree(jsonString));
@@ -130,4 +130,17 @@ public class AutoCloseableIterators {
     return new CompositeIterator<>(iterators);
   }
 
+  /**
+   * Like {@link #concatWithEagerClose(List)}, but consumes up to parallelism of the iterators
+   * concurrently. Elements of different iterators are interleaved in the order they are produced.
+   *
+   * @param iterators iterators to merge, none of them may return null elements
+   * @param parallelism maximum number of iterators consumed at the same time
+   * @param <T> type
+   * @return autocloseable iterator over the elements of all the iterators
+   */
+  public static <T> ConcurrentCompositeIterator<T> mergeConcurrently(final List<AutoCloseableIterator<T>> iterators, final int parallelism) {
+    return new ConcurrentCompositeIterator<>(iterators, parallelism);
+  }
+
 }
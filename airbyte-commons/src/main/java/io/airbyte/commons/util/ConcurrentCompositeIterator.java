@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.util;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.AbstractIterator;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Composes multiple {@link AutoCloseableIterator}s like {@link CompositeIterator}, but consumes up
+ * to parallelism of the internal iterators at the same time, each on its own thread, and returns
+ * their elements in whatever order they are produced. Elements of one internal iterator are still
+ * returned in the order of that iterator. Internal iterators must not return null elements.
+ *
+ * <p>
+ * The threads are started the first time {@link ConcurrentCompositeIterator#hasNext()} is called.
+ * Each one hands its elements over through a bounded queue, so a slow consumer holds back the
+ * producers instead of letting them buffer whole iterators in memory. Each internal iterator is
+ * closed by its thread as soon as it is exhausted. If one of them throws, the exception is rethrown
+ * to the consumer once the elements produced before it have been consumed.
+ * </p>
+ * <p>
+ * {@link ConcurrentCompositeIterator#close()} stops the threads and gives the same guarantees as
+ * {@link CompositeIterator#close()}: it calls close on each internal iterator once and rethrows the
+ * first exception encountered. A thread blocked inside an internal iterator only stops once that
+ * iterator returns, so close waits for it before closing the internal iterators. The close method
+ * on each internal iterator should be idempotent.
+ * </p>
+ *
+ * @param <T> type
+ */
+public final class ConcurrentCompositeIterator<T> extends AbstractIterator<T> implements AutoCloseableIterator<T> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentCompositeIterator.class);
+
+  private static final int QUEUE_CAPACITY_PER_THREAD = 1000;
+  private static final long CLOSE_TIMEOUT_SECONDS = 60;
+  private static final Object END_OF_ITERATOR = new Object();
+
+  private final List<AutoCloseableIterator<T>> iterators;
+  private final int parallelism;
+  private final BlockingQueue<Object> queue;
+  private final AtomicReference<Exception> failure;
+
+  private ExecutorService executor;
+  private int remaining;
+  private boolean hasClosed;
+
+  ConcurrentCompositeIterator(final List<AutoCloseableIterator<T>> iterators, final int parallelism) {
+    Preconditions.checkNotNull(iterators);
+    Preconditions.checkArgument(parallelism > 0, "parallelism must be positive");
+
+    this.iterators = iterators;
+    this.parallelism = Math.min(parallelism, Math.max(iterators.size(), 1));
+    this.queue = new ArrayBlockingQueue<>(this.parallelism * QUEUE_CAPACITY_PER_THREAD);
+    this.failure = new AtomicReference<>();
+    this.remaining = iterators.size();
+    this.hasClosed = false;
+  }
+
+  @Override
+  protected T computeNext() {
+    assertHasNotClosed();
+
+    if (executor == null && !iterators.isEmpty()) {
+      start();
+    }
+
+    while (remaining > 0) {
+      final Object next;
+      try {
+        next = queue.take();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException(e);
+      }
+
+      if (next != END_OF_ITERATOR) {
+        @SuppressWarnings("unchecked")
+        final T element = (T) next;
+        return element;
+      }
+
+      remaining--;
+      if (failure.get() != null) {
+        throw new RuntimeException(failure.get());
+      }
+    }
+
+    return endOfData();
+  }
+
+  private void start() {
+    executor = Executors.newFixedThreadPool(parallelism, new ThreadFactoryBuilder()
+        .setNameFormat("concurrent-iterator-%d")
+        .setDaemon(true)
+        .build());
+    for (final AutoCloseableIterator<T> iterator : iterators) {
+      executor.execute(() -> drain(iterator));
+    }
+  }
+
+  private void drain(final AutoCloseableIterator<T> iterator) {
+    try (iterator) {
+      while (failure.get() == null && iterator.hasNext()) {
+        queue.put(iterator.next());
+      }
+    } catch (final InterruptedException e) {
+      // the composite iterator is being closed.
+      Thread.currentThread().interrupt();
+      return;
+    } catch (final Exception e) {
+      failure.compareAndSet(null, e);
+    }
+
+    try {
+      queue.put(END_OF_ITERATOR);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public void close() throws Exception {
+    hasClosed = true;
+
+    // stop the threads before closing the internal iterators, so that none of them is closed while
+    // it is being read.
+    if (executor != null) {
+      executor.shutdownNow();
+      if (!executor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        LOGGER.warn("Threads consuming the internal iterators did not stop within {} seconds.", CLOSE_TIMEOUT_SECONDS);
+      }
+    }
+
+    final List<Exception> exceptions = new ArrayList<>();
+    for (final AutoCloseableIterator<T> iterator : iterators) {
+      try {
+        iterator.close();
+      } catch (final Exception e) {
+        LOGGER.error("exception while closing", e);
+        exceptions.add(e);
+      }
+    }
+
+    if (!exceptions.isEmpty()) {
+      throw exceptions.get(0);
+    }
+  }
+
+  private void assertHasNotClosed() {
+    Preconditions.checkState(!hasClosed);
+  }
+
+}
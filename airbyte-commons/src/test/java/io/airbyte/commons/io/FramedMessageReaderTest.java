@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FramedMessageReaderTest {
+
+  private static final List<String> MESSAGES = List.of(
+      "{\"type\":\"RECORD\",\"record\":{\"stream\":\"users\",\"data\":{\"name\":\"line\\nbreak\"}}}",
+      "",
+      "{\"type\":\"STATE\",\"state\":{\"data\":{\"cursor\":\"caf\u00e9\"}}}",
+      "x".repeat(200_000));
+
+  @Test
+  void testReadsWrittenMessages() throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (final FramedMessageWriter writer = new FramedMessageWriter(out)) {
+      for (final String message : MESSAGES) {
+        writer.write(message);
+      }
+    }
+
+    final FramedMessageReader reader = new FramedMessageReader(new ByteArrayInputStream(out.toByteArray()));
+    assertEquals(MESSAGES, reader.messages().collect(Collectors.toList()));
+    assertNull(reader.read());
+  }
+
+  @Test
+  void testTruncatedMessage() throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (final FramedMessageWriter writer = new FramedMessageWriter(out)) {
+      writer.write(MESSAGES.get(0));
+    }
+    final byte[] truncated = Arrays.copyOf(out.toByteArray(), out.size() - 1);
+
+    final FramedMessageReader reader = new FramedMessageReader(new ByteArrayInputStream(truncated));
+    assertThrows(EOFException.class, reader::read);
+    assertThrows(UncheckedIOException.class, () -> new FramedMessageReader(new ByteArrayInputStream(truncated)).messages().count());
+  }
+
+  @Test
+  void testThroughUnixDomainSocket(@TempDir final Path tempDir) throws Exception {
+    final Path socketPath = tempDir.resolve("messages.sock");
+    try (final ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+      server.bind(UnixDomainSocketAddress.of(socketPath));
+
+      final CompletableFuture<Void> writerFuture = CompletableFuture.runAsync(() -> {
+        try (final FramedMessageWriter writer = FramedMessageWriter.connect(socketPath)) {
+          for (final String message : MESSAGES) {
+            writer.write(message);
+          }
+        } catch (final IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+
+      try (final SocketChannel channel = server.accept();
+          final FramedMessageReader reader = new FramedMessageReader(Channels.newInputStream(channel))) {
+        assertEquals(MESSAGES, reader.messages().collect(Collectors.toList()));
+      }
+      writerFuture.get();
+    }
+  }
+
+}
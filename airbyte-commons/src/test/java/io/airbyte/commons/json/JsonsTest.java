@@ -100,6 +100,18 @@ class JsonsTest {
         Jsons.tryDeserialize("{\"str\":\"abc\", \"num\": 999, \"test\": 888}", ToClass.class));
   }
 
+  @Test
+  void testTryDeserializeFromBytes() {
+    final byte[] bytes = "xx{\"str\":\"abc\", \"num\": 999, \"numLong\": 888}\nyy".getBytes(StandardCharsets.UTF_8);
+    assertEquals(
+        Optional.of(new ToClass(ABC, 999, 888L)),
+        Jsons.tryDeserialize(bytes, 2, bytes.length - 5, ToClass.class));
+
+    assertEquals(
+        Optional.empty(),
+        Jsons.tryDeserialize(bytes, 0, bytes.length, ToClass.class));
+  }
+
   @Test
   void testTryDeserializeToJsonNode() {
     assertEquals(
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.collect.ImmutableList;
+import io.airbyte.commons.concurrency.VoidCallable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentCompositeIteratorTest {
+
+  private VoidCallable onClose1;
+  private VoidCallable onClose2;
+  private VoidCallable onClose3;
+
+  @BeforeEach
+  void setup() {
+    onClose1 = mock(VoidCallable.class);
+    onClose2 = mock(VoidCallable.class);
+    onClose3 = mock(VoidCallable.class);
+  }
+
+  @Test
+  void testNullInput() {
+    assertThrows(NullPointerException.class, () -> new ConcurrentCompositeIterator<>(null, 2));
+  }
+
+  @Test
+  void testInvalidParallelism() {
+    assertThrows(IllegalArgumentException.class, () -> new ConcurrentCompositeIterator<>(Collections.emptyList(), 0));
+  }
+
+  @Test
+  void testEmptyInput() throws Exception {
+    final AutoCloseableIterator<String> iterator = new ConcurrentCompositeIterator<>(Collections.emptyList(), 2);
+    assertFalse(iterator.hasNext());
+    iterator.close();
+  }
+
+  @Test
+  void testMultipleIterators() throws Exception {
+    final AutoCloseableIterator<String> iterator = new ConcurrentCompositeIterator<>(ImmutableList.of(
+        AutoCloseableIterators.fromIterator(MoreIterators.of("a", "b", "c"), onClose1),
+        AutoCloseableIterators.fromIterator(MoreIterators.of(), onClose2),
+        AutoCloseableIterators.fromIterator(MoreIterators.of("g", "h", "i"), onClose3)), 2);
+
+    final List<String> elements = MoreIterators.toList(iterator);
+    assertEquals(List.of("a", "b", "c", "g", "h", "i"), elements.stream().sorted().collect(Collectors.toList()));
+    // each internal iterator keeps its own order.
+    assertEquals(List.of("a", "b", "c"), elements.stream().filter(e -> e.compareTo("d") < 0).collect(Collectors.toList()));
+    assertEquals(List.of("g", "h", "i"), elements.stream().filter(e -> e.compareTo("d") > 0).collect(Collectors.toList()));
+    // internal iterators are closed as soon as they are exhausted.
+    verify(onClose1, times(1)).call();
+    verify(onClose2, times(1)).call();
+    verify(onClose3, times(1)).call();
+
+    iterator.close();
+  }
+
+  @Test
+  void testMoreElementsThanQueueCapacity() throws Exception {
+    final List<AutoCloseableIterator<Integer>> iterators = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      iterators.add(AutoCloseableIterators.fromIterator(IntStream.range(i * 10_000, (i + 1) * 10_000).iterator()));
+    }
+
+    try (final AutoCloseableIterator<Integer> iterator = new ConcurrentCompositeIterator<>(iterators, 3)) {
+      final List<Integer> elements = MoreIterators.toList(iterator);
+      Collections.sort(elements);
+      assertEquals(IntStream.range(0, 40_000).boxed().collect(Collectors.toList()), elements);
+    }
+  }
+
+  @Test
+  void testFailureIsRethrown() throws Exception {
+    final Iterator<String> failing = new Iterator<>() {
+
+      @Override
+      public boolean hasNext() {
+        return true;
+      }
+
+      @Override
+      public String next() {
+        throw new IllegalStateException("read failed");
+      }
+
+    };
+    final AutoCloseableIterator<String> iterator = new ConcurrentCompositeIterator<>(ImmutableList.of(
+        AutoCloseableIterators.fromIterator(MoreIterators.of("a", "b", "c"), onClose1),
+        AutoCloseableIterators.fromIterator(failing, onClose2)), 2);
+
+    final RuntimeException exception = assertThrows(RuntimeException.class, () -> MoreIterators.toList(iterator));
+    assertEquals(IllegalStateException.class, exception.getCause().getClass());
+
+    iterator.close();
+    verify(onClose2, times(1)).call();
+  }
+
+  @SuppressWarnings("ResultOfMethodCallIgnored")
+  @Test
+  void testCloseBeforeUsingItUp() throws Exception {
+    final AutoCloseableIterator<Integer> iterator = new ConcurrentCompositeIterator<>(ImmutableList.of(
+        AutoCloseableIterators.fromIterator(IntStream.range(0, 100_000).iterator(), onClose1),
+        AutoCloseableIterators.fromIterator(IntStream.range(0, 100_000).iterator(), onClose2)), 2);
+
+    iterator.next();
+    iterator.close();
+    verify(onClose1, times(1)).call();
+    verify(onClose2, times(1)).call();
+    assertThrows(IllegalStateException.class, iterator::hasNext);
+    iterator.close(); // still allowed to close again.
+  }
+
+}
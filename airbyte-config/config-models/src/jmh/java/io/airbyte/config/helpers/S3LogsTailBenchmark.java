@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import io.airbyte.config.storage.CloudStorageConfigs;
+import io.airbyte.config.storage.CloudStorageConfigs.MinioConfig;
+import io.airbyte.config.storage.MinioS3ClientFactory;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.testcontainers.containers.GenericContainer;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+/**
+ * Compares tailing a job log stored in a local MinIO with ranged reads from the end of the newest
+ * objects, against downloading every object and prepending each line as {@link S3Logs} used to. The
+ * log is made of 20 objects of 25k lines each, about 50MB in total, like a long running sync.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class S3LogsTailBenchmark {
+
+  private static final String BUCKET_NAME = "airbyte-dev-logs";
+  private static final String ACCESS_KEY = "minio";
+  private static final String SECRET_KEY = "minio123";
+  private static final int MINIO_PORT = 9000;
+  private static final String LOG_PATH = "job-logging/workspace/1/0/logs.log/";
+  private static final int NUM_OBJECTS = 20;
+  private static final int LINES_PER_OBJECT = 25_000;
+
+  @Param({"100", "1000", "50000"})
+  public int numLines;
+
+  private GenericContainer<?> container;
+  private S3Client s3Client;
+  private LogConfigs logConfigs;
+
+  @Setup(Level.Trial)
+  @SuppressWarnings("resource")
+  public void setup() {
+    container = new GenericContainer<>("minio/minio:latest")
+        .withEnv("MINIO_ACCESS_KEY", ACCESS_KEY)
+        .withEnv("MINIO_SECRET_KEY", SECRET_KEY)
+        .withCommand("server", "/data")
+        .withExposedPorts(MINIO_PORT);
+    container.start();
+
+    final MinioConfig minioConfig = new MinioConfig(BUCKET_NAME, ACCESS_KEY, SECRET_KEY,
+        "http://" + container.getHost() + ":" + container.getMappedPort(MINIO_PORT));
+    logConfigs = new LogConfigs(Optional.of(CloudStorageConfigs.minio(minioConfig)));
+    s3Client = new MinioS3ClientFactory(minioConfig).get();
+    s3Client.createBucket(CreateBucketRequest.builder().bucket(BUCKET_NAME).build());
+
+    for (int i = 0; i < NUM_OBJECTS; i++) {
+      final StringBuilder content = new StringBuilder();
+      for (int j = 0; j < LINES_PER_OBJECT; j++) {
+        content.append("2022-10-01 12:00:00 INFO i.a.w.g.DefaultReplicationWorker(run):").append(i * LINES_PER_OBJECT + j)
+            .append(" - Records read: ").append(j).append(" (").append(j / 1000).append(" MB)\n");
+      }
+      s3Client.putObject(PutObjectRequest.builder().bucket(BUCKET_NAME).key(LOG_PATH + String.format("%05d", i)).build(),
+          RequestBody.fromString(content.toString()));
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    s3Client.close();
+    container.stop();
+  }
+
+  @Benchmark
+  public List<String> rangedTail() throws IOException {
+    return S3Logs.tailCloudLog(s3Client, logConfigs, LOG_PATH, numLines);
+  }
+
+  @Benchmark
+  public List<String> fullDownloadTail() throws IOException {
+    final List<String> keys = new ArrayList<>();
+    final var listObjReq = ListObjectsV2Request.builder().bucket(BUCKET_NAME).prefix(LOG_PATH).build();
+    for (final var page : s3Client.listObjectsV2Paginator(listObjReq)) {
+      for (final var objMetadata : page.contents()) {
+        keys.add(objMetadata.key());
+      }
+    }
+
+    final var lines = new ArrayList<String>();
+    for (int i = keys.size() - 1; i >= 0 && lines.size() < numLines; i--) {
+      final var data = s3Client.getObjectAsBytes(GetObjectRequest.builder().bucket(BUCKET_NAME).key(keys.get(i)).build()).asByteArray();
+      final var fileLines = new ArrayList<String>();
+      try (final var reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(data), StandardCharsets.UTF_8))) {
+        String line = reader.readLine();
+        while (line != null) {
+          fileLines.add(line);
+          line = reader.readLine();
+        }
+      }
+      for (int j = fileLines.size() - 1; j >= 0 && lines.size() < numLines; j--) {
+        lines.add(0, fileLines.get(j));
+      }
+    }
+    return lines;
+  }
+
+}
@@ -282,6 +282,19 @@ public interface Configs {
    */
   int getSyncJobMaxTimeoutDays();
 
+  /**
+   * Define the rate at which records of a stream are validated against the stream schema during a
+   * sync. A value of N validates 1 in N records, 0 disables validation. Defaults to 1, validating
+   * every record.
+   */
+  int getRecordSchemaValidationSampleRate();
+
+  /**
+   * Define the maximum number of records per stream validated against the stream schema during a
+   * sync. Defaults to 0, meaning no limit.
+   */
+  long getRecordSchemaValidationMaxRecordsPerStream();
+
   /**
    * Defines whether job creation uses connector-specific resource requirements when spawning jobs.
    * Works on both Docker and Kubernetes. Defaults to false for ease of use in OSS trials of Airbyte
@@ -343,6 +356,19 @@ public interface Configs {
    */
   int getMaxDaysOfOnlyFailedJobsBeforeConnectionDisable();
 
+  /**
+   * Defines the maximum number of source and destination definitions, sources, destinations and
+   * connections kept in memory after being read from the config database. Defaults to 0, which
+   * disables the cache.
+   */
+  long getConfigCacheMaximumSize();
+
+  /**
+   * Defines how long a config is kept in memory once read, which is also how long a change made by
+   * another Airbyte replica can go unnoticed. Defaults to 60 seconds.
+   */
+  long getConfigCacheTtlSeconds();
+
   // Jobs - Kube only
 
   /**
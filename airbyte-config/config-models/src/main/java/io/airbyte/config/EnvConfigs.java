@@ -77,6 +77,8 @@ public class EnvConfigs implements Configs {
   public static final String JOB_KUBE_CURL_IMAGE = "JOB_KUBE_CURL_IMAGE";
   public static final String SYNC_JOB_MAX_ATTEMPTS = "SYNC_JOB_MAX_ATTEMPTS";
   public static final String SYNC_JOB_MAX_TIMEOUT_DAYS = "SYNC_JOB_MAX_TIMEOUT_DAYS";
+  public static final String RECORD_SCHEMA_VALIDATION_SAMPLE_RATE = "RECORD_SCHEMA_VALIDATION_SAMPLE_RATE";
+  public static final String RECORD_SCHEMA_VALIDATION_MAX_RECORDS_PER_STREAM = "RECORD_SCHEMA_VALIDATION_MAX_RECORDS_PER_STREAM";
   private static final String CONNECTOR_SPECIFIC_RESOURCE_DEFAULTS_ENABLED = "CONNECTOR_SPECIFIC_RESOURCE_DEFAULTS_ENABLED";
   public static final String MAX_SPEC_WORKERS = "MAX_SPEC_WORKERS";
   public static final String MAX_CHECK_WORKERS = "MAX_CHECK_WORKERS";
@@ -147,6 +149,8 @@ public class EnvConfigs implements Configs {
 
   private static final String MAX_FAILED_JOBS_IN_A_ROW_BEFORE_CONNECTION_DISABLE = "MAX_FAILED_JOBS_IN_A_ROW_BEFORE_CONNECTION_DISABLE";
   private static final String MAX_DAYS_OF_ONLY_FAILED_JOBS_BEFORE_CONNECTION_DISABLE = "MAX_DAYS_OF_ONLY_FAILED_JOBS_BEFORE_CONNECTION_DISABLE";
+  private static final String CONFIG_CACHE_MAXIMUM_SIZE = "CONFIG_CACHE_MAXIMUM_SIZE";
+  private static final String CONFIG_CACHE_TTL_SECONDS = "CONFIG_CACHE_TTL_SECONDS";
 
   public static final String METRIC_CLIENT = "METRIC_CLIENT";
   private static final String OTEL_COLLECTOR_ENDPOINT = "OTEL_COLLECTOR_ENDPOINT";
@@ -210,6 +214,9 @@ public class EnvConfigs implements Configs {
   public static final int DEFAULT_FAILED_JOBS_IN_A_ROW_BEFORE_CONNECTION_DISABLE = 100;
   public static final int DEFAULT_DAYS_OF_ONLY_FAILED_JOBS_BEFORE_CONNECTION_DISABLE = 14;
 
+  public static final long DEFAULT_CONFIG_CACHE_MAXIMUM_SIZE = 0;
+  public static final long DEFAULT_CONFIG_CACHE_TTL_SECONDS = 60;
+
   private final Function<String, String> getEnv;
   private final Supplier<Set<String>> getAllEnvKeys;
   private final LogConfigs logConfigs;
@@ -531,6 +538,16 @@ public class EnvConfigs implements Configs {
     return Integer.parseInt(getEnvOrDefault(SYNC_JOB_MAX_TIMEOUT_DAYS, "3"));
   }
 
+  @Override
+  public int getRecordSchemaValidationSampleRate() {
+    return getEnvOrDefault(RECORD_SCHEMA_VALIDATION_SAMPLE_RATE, 1);
+  }
+
+  @Override
+  public long getRecordSchemaValidationMaxRecordsPerStream() {
+    return getEnvOrDefault(RECORD_SCHEMA_VALIDATION_MAX_RECORDS_PER_STREAM, 0L);
+  }
+
   @Override
   public boolean connectorSpecificResourceDefaultsEnabled() {
     return getEnvOrDefault(CONNECTOR_SPECIFIC_RESOURCE_DEFAULTS_ENABLED, false);
@@ -797,6 +814,16 @@ public class EnvConfigs implements Configs {
     return getEnvOrDefault(MAX_DAYS_OF_ONLY_FAILED_JOBS_BEFORE_CONNECTION_DISABLE, DEFAULT_DAYS_OF_ONLY_FAILED_JOBS_BEFORE_CONNECTION_DISABLE);
   }
 
+  @Override
+  public long getConfigCacheMaximumSize() {
+    return getEnvOrDefault(CONFIG_CACHE_MAXIMUM_SIZE, DEFAULT_CONFIG_CACHE_MAXIMUM_SIZE);
+  }
+
+  @Override
+  public long getConfigCacheTtlSeconds() {
+    return getEnvOrDefault(CONFIG_CACHE_TTL_SECONDS, DEFAULT_CONFIG_CACHE_TTL_SECONDS);
+  }
+
   @Override
   public String getCheckJobMainContainerCpuRequest() {
     return getEnvOrDefault(CHECK_JOB_MAIN_CONTAINER_CPU_REQUEST, getJobMainContainerCpuRequest());
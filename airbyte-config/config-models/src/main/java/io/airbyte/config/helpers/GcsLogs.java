@@ -5,18 +5,19 @@
 package io.airbyte.config.helpers;
 
 import com.google.api.gax.paging.Page;
+import com.google.cloud.ReadChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.Blob.BlobSourceOption;
 import com.google.cloud.storage.Storage;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 import io.airbyte.commons.string.Strings;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Supplier;
 import org.slf4j.Logger;
@@ -68,8 +69,13 @@ public class GcsLogs implements CloudLogs {
 
   @Override
   public List<String> tailCloudLog(final LogConfigs configs, final String logPath, final int numLines) throws IOException {
+    return tailCloudLog(getOrCreateGcsClient(), configs, logPath, numLines);
+  }
+
+  @VisibleForTesting
+  static List<String> tailCloudLog(final Storage gcsClient, final LogConfigs configs, final String logPath, final int numLines)
+      throws IOException {
     LOGGER.debug("Tailing logs from GCS path: {}", logPath);
-    final Storage gcsClient = getOrCreateGcsClient();
 
     LOGGER.debug("Start GCS list request.");
 
@@ -83,28 +89,18 @@ public class GcsLogs implements CloudLogs {
     }
     final var descendingTimestampBlobs = Lists.reverse(ascendingTimestampBlobs);
 
-    final var lines = new ArrayList<String>();
-    int linesRead = 0;
+    final var tailReader = new LogTailReader(numLines);
 
     LOGGER.debug("Start getting GCS objects.");
-    while (linesRead <= numLines && !descendingTimestampBlobs.isEmpty()) {
-      final var poppedBlob = descendingTimestampBlobs.remove(0);
-      try (final var inMemoryData = new ByteArrayOutputStream()) {
-        poppedBlob.downloadTo(inMemoryData);
-        final var currFileLines = inMemoryData.toString(StandardCharsets.UTF_8).split("\n");
-        final List<String> currFileLinesReversed = Lists.reverse(List.of(currFileLines));
-        for (final var line : currFileLinesReversed) {
-          if (linesRead == numLines) {
-            break;
-          }
-          lines.add(0, line);
-          linesRead++;
-        }
+    for (final Blob blob : descendingTimestampBlobs) {
+      if (tailReader.isDone()) {
+        break;
       }
+      tailReader.readObject(blob.getSize(), (start, end) -> getBlobRange(blob, start, end));
     }
 
     LOGGER.debug("Done retrieving GCS logs: {}.", logPath);
-    return lines;
+    return tailReader.getLines();
   }
 
   @Override
@@ -120,6 +116,20 @@ public class GcsLogs implements CloudLogs {
     LOGGER.debug("Finished all deletes.");
   }
 
+  private static byte[] getBlobRange(final Blob blob, final long start, final long end) throws IOException {
+    final var buffer = ByteBuffer.allocate(Math.toIntExact(end - start));
+    try (final ReadChannel reader = blob.reader()) {
+      reader.seek(start);
+      reader.setChunkSize(buffer.capacity());
+      int read = 0;
+      // a read may return fewer bytes than requested, keep reading until the range is filled.
+      while (buffer.hasRemaining() && read >= 0) {
+        read = reader.read(buffer);
+      }
+    }
+    return Arrays.copyOf(buffer.array(), buffer.position());
+  }
+
   private Storage getOrCreateGcsClient() {
     if (gcs == null) {
       gcs = gcsClientFactory.get();
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Collects the last lines of a log made of several cloud objects by reading each object backwards
+ * in fixed size byte ranges, starting from the newest object, so that only the end of the log is
+ * downloaded. Each object is split on '\n' only, so a '\r' is kept as part of its line: a line
+ * never spans two objects and the newline ending an object does not start an empty line.
+ */
+final class LogTailReader {
+
+  static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+  private static final byte NEW_LINE = '\n';
+  private static final byte[] EMPTY = new byte[0];
+
+  /**
+   * Reads the bytes of an object between start inclusive and end exclusive.
+   */
+  @FunctionalInterface
+  interface RangeReader {
+
+    byte[] read(long start, long end) throws IOException;
+
+  }
+
+  private final int numLines;
+  private final int chunkSize;
+  // lines are collected from the end of the log, and only reversed once.
+  private final List<String> reversedLines;
+
+  LogTailReader(final int numLines) {
+    this(numLines, DEFAULT_CHUNK_SIZE);
+  }
+
+  LogTailReader(final int numLines, final int chunkSize) {
+    this.numLines = numLines;
+    this.chunkSize = chunkSize;
+    this.reversedLines = new ArrayList<>(Math.max(0, Math.min(numLines, 1024)));
+  }
+
+  boolean isDone() {
+    return reversedLines.size() >= numLines;
+  }
+
+  /**
+   * Adds the lines of an object older than the ones read so far, stopping as soon as enough lines
+   * have been collected.
+   */
+  void readObject(final long size, final RangeReader rangeReader) throws IOException {
+    long end = size;
+    // the start of a line whose beginning is in a chunk that has not been read yet.
+    byte[] partialLine = EMPTY;
+    boolean isLastChunk = true;
+
+    while (end > 0 && !isDone()) {
+      final long start = Math.max(0, end - chunkSize);
+      final byte[] buffer = concat(rangeReader.read(start, end), partialLine);
+
+      int lineEnd = buffer.length;
+      if (isLastChunk && lineEnd > 0 && buffer[lineEnd - 1] == NEW_LINE) {
+        lineEnd--;
+      }
+      isLastChunk = false;
+
+      for (int i = lineEnd - 1; i >= 0 && !isDone(); i--) {
+        if (buffer[i] == NEW_LINE) {
+          addLine(buffer, i + 1, lineEnd);
+          lineEnd = i;
+        }
+      }
+      partialLine = Arrays.copyOf(buffer, lineEnd);
+      end = start;
+    }
+
+    if (end == 0 && size > 0 && !isDone()) {
+      addLine(partialLine, 0, partialLine.length);
+    }
+  }
+
+  /**
+   * @return the collected lines, oldest first.
+   */
+  List<String> getLines() {
+    final List<String> lines = new ArrayList<>(reversedLines);
+    Collections.reverse(lines);
+    return lines;
+  }
+
+  private void addLine(final byte[] buffer, final int start, final int end) {
+    // new lines never occur inside a multi-byte UTF-8 character, so each line can be decoded alone.
+    reversedLines.add(new String(buffer, start, end - start, StandardCharsets.UTF_8));
+  }
+
+  private static byte[] concat(final byte[] first, final byte[] second) {
+    if (second.length == 0) {
+      return first;
+    }
+    final byte[] result = Arrays.copyOf(first, first.length + second.length);
+    System.arraycopy(second, 0, result, first.length, second.length);
+    return result;
+  }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class LogTailReaderTest {
+
+  private static final int CHUNK_SIZE = 4;
+
+  @Test
+  void testTailAcrossObjects() throws IOException {
+    final List<String> objects = List.of("Line 1\nLine 2\nLine 3\n", "Line 4\nLine 5\nLine 6\n", "Line 7\nLine 8\nLine 9\n");
+
+    assertEquals(List.of("Line 4", "Line 5", "Line 6", "Line 7", "Line 8", "Line 9"), tail(objects, 6).lines());
+    assertEquals(List.of("Line 9"), tail(objects, 1).lines());
+    assertEquals(List.of(), tail(objects, 0).lines());
+  }
+
+  @Test
+  void testFewerLinesThanRequested() throws IOException {
+    final List<String> objects = List.of("Line 1\n", "", "Line 2");
+
+    assertEquals(List.of("Line 1", "Line 2"), tail(objects, 10).lines());
+  }
+
+  @Test
+  void testLineSeparators() throws IOException {
+    final List<String> objects = List.of("a\r\nb\n\nc", "\n", "d\re\r\n");
+
+    // only '\n' ends a line, a '\r' is part of the line.
+    assertEquals(List.of("a\r", "b", "", "c", "", "d\re\r"), tail(objects, 10).lines());
+  }
+
+  @Test
+  void testMultiByteCharactersAcrossChunks() throws IOException {
+    final List<String> objects = List.of("\u00e9\u00e0\u00fc\nna\u00efve\n");
+
+    assertEquals(List.of("\u00e9\u00e0\u00fc", "na\u00efve"), tail(objects, 2).lines());
+  }
+
+  @Test
+  void testOnlyReadsTheEndOfTheLog() throws IOException {
+    final List<String> objects = List.of("a very long line that should never be read\n", "Line 1\nLine 2\nLine 3\n");
+
+    final TailResult result = tail(objects, 2);
+    assertEquals(List.of("Line 2", "Line 3"), result.lines());
+    assertTrue(result.bytesRead() < objects.get(1).length());
+    assertFalse(result.objectsRead().contains(0));
+  }
+
+  private static TailResult tail(final List<String> objects, final int numLines) throws IOException {
+    final LogTailReader reader = new LogTailReader(numLines, CHUNK_SIZE);
+    final List<Integer> objectsRead = new ArrayList<>();
+    final long[] bytesRead = {0};
+
+    for (int i = objects.size() - 1; i >= 0 && !reader.isDone(); i--) {
+      final int index = i;
+      final byte[] data = objects.get(i).getBytes(StandardCharsets.UTF_8);
+      reader.readObject(data.length, (start, end) -> {
+        objectsRead.add(index);
+        bytesRead[0] += end - start;
+        return Arrays.copyOfRange(data, (int) start, (int) end);
+      });
+    }
+    return new TailResult(reader.getLines(), objectsRead, bytesRead[0]);
+  }
+
+  private record TailResult(List<String> lines, List<Integer> objectsRead, long bytesRead) {}
+
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.persistence;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.AirbyteConfig;
+import io.airbyte.config.ConfigSchema;
+import io.airbyte.config.ConfigWithMetadata;
+import io.airbyte.metrics.lib.MetricAttribute;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricTags;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
+import io.airbyte.validation.json.JsonValidationException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Keeps configs of the given types in memory once they have been read by id, so that the repeated
+ * point lookups of definitions, actors and connections made by every API request and scheduling
+ * activity do not all go to the config database. Entries are evicted once the cache is full or
+ * after a ttl, and are dropped as soon as the config is written or deleted through this persistence.
+ *
+ * The cache is local to the process: a config changed by another replica is only seen here once its
+ * entry expires, so the ttl bounds how stale a read can be. Configs are kept as json and deserialized
+ * on every hit, so callers are free to modify what they get.
+ */
+@SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
+public class CachingConfigPersistence implements ConfigPersistence {
+
+  public static final Set<AirbyteConfig> DEFAULT_CACHED_CONFIG_TYPES = Set.of(
+      ConfigSchema.STANDARD_SOURCE_DEFINITION,
+      ConfigSchema.STANDARD_DESTINATION_DEFINITION,
+      ConfigSchema.SOURCE_CONNECTION,
+      ConfigSchema.DESTINATION_CONNECTION,
+      ConfigSchema.STANDARD_SYNC);
+
+  private record CacheKey(AirbyteConfig configType, String configId) {}
+
+  private final ConfigPersistence decoratedPersistence;
+  private final Set<AirbyteConfig> cachedConfigTypes;
+  private final MetricClient metricClient;
+  private final Cache<CacheKey, JsonNode> cache;
+
+  public CachingConfigPersistence(final ConfigPersistence decoratedPersistence,
+                                  final long maximumSize,
+                                  final Duration ttl,
+                                  final MetricClient metricClient) {
+    this(decoratedPersistence, DEFAULT_CACHED_CONFIG_TYPES, maximumSize, ttl, metricClient);
+  }
+
+  public CachingConfigPersistence(final ConfigPersistence decoratedPersistence,
+                                  final Set<AirbyteConfig> cachedConfigTypes,
+                                  final long maximumSize,
+                                  final Duration ttl,
+                                  final MetricClient metricClient) {
+    this.decoratedPersistence = decoratedPersistence;
+    this.cachedConfigTypes = cachedConfigTypes;
+    this.metricClient = metricClient;
+    this.cache = CacheBuilder.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(ttl)
+        .build();
+  }
+
+  @Override
+  public <T> T getConfig(final AirbyteConfig configType, final String configId, final Class<T> clazz)
+      throws ConfigNotFoundException, JsonValidationException, IOException {
+    if (!cachedConfigTypes.contains(configType)) {
+      return decoratedPersistence.getConfig(configType, configId, clazz);
+    }
+
+    final AtomicBoolean isMiss = new AtomicBoolean(false);
+    final JsonNode config;
+    try {
+      // a config not found is not cached, so that it can be read as soon as it is created.
+      config = cache.get(new CacheKey(configType, configId), () -> {
+        isMiss.set(true);
+        return Jsons.jsonNode(decoratedPersistence.getConfig(configType, configId, clazz));
+      });
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof ConfigNotFoundException cause) {
+        throw cause;
+      } else if (e.getCause() instanceof JsonValidationException cause) {
+        throw cause;
+      } else if (e.getCause() instanceof IOException cause) {
+        throw cause;
+      }
+      throw new RuntimeException(e.getCause());
+    } catch (final UncheckedExecutionException e) {
+      throw (RuntimeException) e.getCause();
+    }
+
+    metricClient.count(isMiss.get() ? OssMetricsRegistry.CONFIG_CACHE_MISS : OssMetricsRegistry.CONFIG_CACHE_HIT, 1,
+        new MetricAttribute(MetricTags.CONFIG_TYPE, configType.name()));
+    return Jsons.object(config, clazz);
+  }
+
+  @Override
+  public <T> List<T> listConfigs(final AirbyteConfig configType, final Class<T> clazz) throws JsonValidationException, IOException {
+    return decoratedPersistence.listConfigs(configType, clazz);
+  }
+
+  @Override
+  public <T> ConfigWithMetadata<T> getConfigWithMetadata(final AirbyteConfig configType, final String configId, final Class<T> clazz)
+      throws ConfigNotFoundException, JsonValidationException, IOException {
+    return decoratedPersistence.getConfigWithMetadata(configType, configId, clazz);
+  }
+
+  @Override
+  public <T> List<ConfigWithMetadata<T>> listConfigsWithMetadata(final AirbyteConfig configType, final Class<T> clazz)
+      throws JsonValidationException, IOException {
+    return decoratedPersistence.listConfigsWithMetadata(configType, clazz);
+  }
+
+  @Override
+  public <T> void writeConfig(final AirbyteConfig configType, final String configId, final T config) throws JsonValidationException, IOException {
+    try {
+      decoratedPersistence.writeConfig(configType, configId, config);
+    } finally {
+      invalidateConfig(configType, configId);
+    }
+  }
+
+  @Override
+  public <T> void writeConfigs(final AirbyteConfig configType, final Map<String, T> configs) throws IOException, JsonValidationException {
+    try {
+      decoratedPersistence.writeConfigs(configType, configs);
+    } finally {
+      configs.keySet().forEach(configId -> invalidateConfig(configType, configId));
+    }
+  }
+
+  @Override
+  public void deleteConfig(final AirbyteConfig configType, final String configId) throws ConfigNotFoundException, IOException {
+    try {
+      decoratedPersistence.deleteConfig(configType, configId);
+    } finally {
+      invalidateConfig(configType, configId);
+    }
+  }
+
+  @Override
+  public void replaceAllConfigs(final Map<AirbyteConfig, Stream<?>> configs, final boolean dryRun) throws IOException {
+    try {
+      decoratedPersistence.replaceAllConfigs(configs, dryRun);
+    } finally {
+      cache.invalidateAll();
+    }
+  }
+
+  @Override
+  public Map<String, Stream<JsonNode>> dumpConfigs() throws IOException {
+    return decoratedPersistence.dumpConfigs();
+  }
+
+  @Override
+  public void loadData(final ConfigPersistence seedPersistence) throws IOException {
+    try {
+      decoratedPersistence.loadData(seedPersistence);
+    } finally {
+      cache.invalidateAll();
+    }
+  }
+
+  @Override
+  public void invalidateConfig(final AirbyteConfig configType, final String configId) {
+    cache.invalidate(new CacheKey(configType, configId));
+    decoratedPersistence.invalidateConfig(configType, configId);
+  }
+
+}
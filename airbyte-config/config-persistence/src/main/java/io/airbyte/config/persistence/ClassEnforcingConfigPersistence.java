@@ -96,4 +96,9 @@ public class ClassEnforcingConfigPersistence implements ConfigPersistence {
     decoratedPersistence.loadData(seedPersistence);
   }
 
+  @Override
+  public void invalidateConfig(final AirbyteConfig configType, final String configId) {
+    decoratedPersistence.invalidateConfig(configType, configId);
+  }
+
 }
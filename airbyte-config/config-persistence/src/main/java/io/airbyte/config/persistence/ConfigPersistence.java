@@ -36,4 +36,10 @@ public interface ConfigPersistence {
 
   void loadData(ConfigPersistence seedPersistence) throws IOException;
 
+  /**
+   * Drops any copy of a config kept in memory, after it was changed without going through this
+   * persistence. Persistences that do not keep configs in memory have nothing to do.
+   */
+  default void invalidateConfig(final AirbyteConfig configType, final String configId) {}
+
 }
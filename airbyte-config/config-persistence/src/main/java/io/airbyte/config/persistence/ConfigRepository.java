@@ -54,6 +54,7 @@ import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -83,6 +84,10 @@ public class ConfigRepository {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ConfigRepository.class);
 
+  public record SourceAndDefinition(SourceConnection source, StandardSourceDefinition definition) {}
+
+  public record DestinationAndDefinition(DestinationConnection destination, StandardDestinationDefinition definition) {}
+
   private final ConfigPersistence persistence;
   private final ExceptionWrappingDatabase database;
 
@@ -259,6 +264,7 @@ public class ConfigRepository {
       writeActorDefinitionWorkspaceGrant(sourceDefinition.getSourceDefinitionId(), workspaceId, ctx);
       return null;
     });
+    persistence.invalidateConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, sourceDefinition.getSourceDefinitionId().toString());
   }
 
   public void deleteStandardSourceDefinition(final UUID sourceDefId) throws IOException {
@@ -365,6 +371,7 @@ public class ConfigRepository {
       writeActorDefinitionWorkspaceGrant(destinationDefinition.getDestinationDefinitionId(), workspaceId, ctx);
       return null;
     });
+    persistence.invalidateConfig(ConfigSchema.STANDARD_DESTINATION_DEFINITION, destinationDefinition.getDestinationDefinitionId().toString());
   }
 
   public void deleteStandardDestinationDefinition(final UUID destDefId) throws IOException {
@@ -574,6 +581,48 @@ public class ConfigRepository {
     return persistence.getConfig(ConfigSchema.DESTINATION_CONNECTION, destinationId.toString(), DestinationConnection.class);
   }
 
+  /**
+   * Returns the given sources along with their definitions, fetched together in a single query. Ids
+   * that do not belong to a source are ignored. Does not contain secrets.
+   *
+   * @param sourceIds - ids of the sources to fetch
+   * @return a source and its definition for each source found, in no particular order
+   * @throws IOException - you never know when you IO
+   */
+  public List<SourceAndDefinition> getSourceAndDefinitionsFromSourceIds(final List<UUID> sourceIds) throws IOException {
+    return listActorsJoinedWithDefinitions(ActorType.source, sourceIds).stream()
+        .map(record -> new SourceAndDefinition(
+            DbConverter.buildSourceConnection(record),
+            DbConverter.buildStandardSourceDefinition(record)))
+        .toList();
+  }
+
+  /**
+   * Returns the given destinations along with their definitions, fetched together in a single query.
+   * Ids that do not belong to a destination are ignored. Does not contain secrets.
+   *
+   * @param destinationIds - ids of the destinations to fetch
+   * @return a destination and its definition for each destination found, in no particular order
+   * @throws IOException - you never know when you IO
+   */
+  public List<DestinationAndDefinition> getDestinationAndDefinitionsFromDestinationIds(final List<UUID> destinationIds) throws IOException {
+    return listActorsJoinedWithDefinitions(ActorType.destination, destinationIds).stream()
+        .map(record -> new DestinationAndDefinition(
+            DbConverter.buildDestinationConnection(record),
+            DbConverter.buildStandardDestinationDefinition(record)))
+        .toList();
+  }
+
+  private Result<Record> listActorsJoinedWithDefinitions(final ActorType actorType, final List<UUID> actorIds) throws IOException {
+    // select the qualified fields rather than asterisks so that the columns both tables have, such
+    // as id and name, can be told apart in the result
+    return database.query(ctx -> ctx.select(ArrayUtils.addAll(ACTOR.fields(), ACTOR_DEFINITION.fields()))
+        .from(ACTOR)
+        .join(ACTOR_DEFINITION).on(ACTOR.ACTOR_DEFINITION_ID.eq(ACTOR_DEFINITION.ID))
+        .where(ACTOR.ACTOR_TYPE.eq(actorType), ACTOR.ID.in(actorIds))
+        .fetch());
+  }
+
   /**
    * MUST NOT ACCEPT SECRETS - Should only be called from { @link SecretsRepositoryWriter }
    *
@@ -634,21 +683,35 @@ public class ConfigRepository {
   }
 
   private List<StandardSync> getStandardSyncsFromResult(final Result<Record> result) throws IOException {
+    final List<UUID> connectionIds = result.stream().map(record -> record.get(CONNECTION.ID)).toList();
+    final Map<UUID, List<UUID>> connectionOperationIds = getConnectionOperationIds(connectionIds);
+
     final List<StandardSync> standardSyncs = new ArrayList<>();
     for (final Record record : result) {
-      final UUID connectionId = record.get(CONNECTION.ID);
-      final Result<Record> connectionOperationRecords = database.query(ctx -> ctx.select(asterisk())
-          .from(CONNECTION_OPERATION)
-          .where(CONNECTION_OPERATION.CONNECTION_ID.eq(connectionId))
-          .fetch());
-
-      final List<UUID> connectionOperationIds =
-          connectionOperationRecords.stream().map(r -> r.get(CONNECTION_OPERATION.OPERATION_ID)).collect(Collectors.toList());
-      standardSyncs.add(DbConverter.buildStandardSync(record, connectionOperationIds));
+      standardSyncs.add(DbConverter.buildStandardSync(record,
+          connectionOperationIds.getOrDefault(record.get(CONNECTION.ID), Collections.emptyList())));
     }
     return standardSyncs;
   }
 
+  /**
+   * Loads the operation ids of all the given connections in one query instead of one per connection.
+   */
+  private Map<UUID, List<UUID>> getConnectionOperationIds(final List<UUID> connectionIds) throws IOException {
+    if (connectionIds.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    final Result<Record> connectionOperationRecords = database.query(ctx -> ctx.select(asterisk())
+        .from(CONNECTION_OPERATION)
+        .where(CONNECTION_OPERATION.CONNECTION_ID.in(connectionIds))
+        .fetch());
+
+    return connectionOperationRecords.stream().collect(Collectors.groupingBy(
+        r -> r.get(CONNECTION_OPERATION.CONNECTION_ID),
+        Collectors.mapping(r -> r.get(CONNECTION_OPERATION.OPERATION_ID), Collectors.toList())));
+  }
+
+
   public StandardSyncOperation getStandardSyncOperation(final UUID operationId) throws JsonValidationException, IOException, ConfigNotFoundException {
     return persistence.getConfig(ConfigSchema.STANDARD_SYNC_OPERATION, operationId.toString(), StandardSyncOperation.class);
   }
@@ -697,17 +760,22 @@ public class ConfigRepository {
 
       return null;
     });
+    persistence.invalidateConfig(ConfigSchema.STANDARD_SYNC, connectionId.toString());
   }
 
   public void deleteStandardSyncOperation(final UUID standardSyncOperationId) throws IOException {
-    database.transaction(ctx -> {
-      ctx.deleteFrom(CONNECTION_OPERATION)
-          .where(CONNECTION_OPERATION.OPERATION_ID.eq(standardSyncOperationId)).execute();
+    final List<UUID> connectionIds = database.transaction(ctx -> {
+      final List<UUID> ids = ctx.deleteFrom(CONNECTION_OPERATION)
+          .where(CONNECTION_OPERATION.OPERATION_ID.eq(standardSyncOperationId))
+          .returning(CONNECTION_OPERATION.CONNECTION_ID)
+          .fetch()
+          .getValues(CONNECTION_OPERATION.CONNECTION_ID);
       ctx.update(OPERATION)
           .set(OPERATION.TOMBSTONE, true)
           .where(OPERATION.ID.eq(standardSyncOperationId)).execute();
-      return null;
+      return ids;
     });
+    connectionIds.forEach(connectionId -> persistence.invalidateConfig(ConfigSchema.STANDARD_SYNC, connectionId.toString()));
   }
 
   public SourceOAuthParameter getSourceOAuthParams(final UUID sourceOAuthParameterId)
@@ -120,6 +120,11 @@ public class ValidatingConfigPersistence implements ConfigPersistence {
     decoratedPersistence.loadData(seedPersistence);
   }
 
+  @Override
+  public void invalidateConfig(final AirbyteConfig configType, final String configId) {
+    decoratedPersistence.invalidateConfig(configType, configId);
+  }
+
   private <T> void validateJson(final T config, final AirbyteConfig configType) throws JsonValidationException {
     final JsonNode schema = JsonSchemaValidator.getSchema(configType.getConfigSchemaFile());
     schemaValidator.ensure(schema, Jsons.jsonNode(config));
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.config.ConfigSchema;
+import io.airbyte.config.SourceConnection;
+import io.airbyte.config.StandardSourceDefinition;
+import io.airbyte.config.StandardWorkspace;
+import io.airbyte.metrics.lib.MetricAttribute;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricTags;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
+import io.airbyte.validation.json.JsonValidationException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CachingConfigPersistenceTest {
+
+  private static final String SOURCE_DEFINITION_ID = new UUID(0, 1).toString();
+  private static final StandardSourceDefinition SOURCE_DEFINITION = new StandardSourceDefinition()
+      .withSourceDefinitionId(UUID.fromString(SOURCE_DEFINITION_ID))
+      .withName("apache storm");
+  private static final MetricAttribute SOURCE_DEFINITION_ATTRIBUTE =
+      new MetricAttribute(MetricTags.CONFIG_TYPE, ConfigSchema.STANDARD_SOURCE_DEFINITION.name());
+
+  private ConfigPersistence decoratedConfigPersistence;
+  private MetricClient metricClient;
+  private CachingConfigPersistence configPersistence;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    decoratedConfigPersistence = mock(ConfigPersistence.class);
+    metricClient = mock(MetricClient.class);
+    configPersistence = new CachingConfigPersistence(decoratedConfigPersistence, 100, Duration.ofMinutes(1), metricClient);
+
+    when(decoratedConfigPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, SOURCE_DEFINITION_ID, StandardSourceDefinition.class))
+        .thenReturn(SOURCE_DEFINITION);
+  }
+
+  @Test
+  void testGetConfigIsCached() throws Exception {
+    assertEquals(SOURCE_DEFINITION, getSourceDefinition());
+    assertEquals(SOURCE_DEFINITION, getSourceDefinition());
+
+    verify(decoratedConfigPersistence, times(1))
+        .getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, SOURCE_DEFINITION_ID, StandardSourceDefinition.class);
+    verify(metricClient, times(1)).count(OssMetricsRegistry.CONFIG_CACHE_MISS, 1, SOURCE_DEFINITION_ATTRIBUTE);
+    verify(metricClient, times(1)).count(OssMetricsRegistry.CONFIG_CACHE_HIT, 1, SOURCE_DEFINITION_ATTRIBUTE);
+  }
+
+  @Test
+  void testGetConfigReturnsCopies() throws Exception {
+    final StandardSourceDefinition sourceDefinition = getSourceDefinition();
+    sourceDefinition.setName("modified");
+
+    final StandardSourceDefinition cachedSourceDefinition = getSourceDefinition();
+    assertNotSame(sourceDefinition, cachedSourceDefinition);
+    assertEquals(SOURCE_DEFINITION, cachedSourceDefinition);
+  }
+
+  @Test
+  void testConfigNotFoundIsNotCached() throws Exception {
+    final String sourceId = UUID.randomUUID().toString();
+    final SourceConnection source = new SourceConnection().withSourceId(UUID.fromString(sourceId)).withName("source");
+    when(decoratedConfigPersistence.getConfig(ConfigSchema.SOURCE_CONNECTION, sourceId, SourceConnection.class))
+        .thenThrow(new ConfigNotFoundException(ConfigSchema.SOURCE_CONNECTION, sourceId))
+        .thenReturn(source);
+
+    assertThrows(ConfigNotFoundException.class,
+        () -> configPersistence.getConfig(ConfigSchema.SOURCE_CONNECTION, sourceId, SourceConnection.class));
+    assertEquals(source, configPersistence.getConfig(ConfigSchema.SOURCE_CONNECTION, sourceId, SourceConnection.class));
+  }
+
+  @Test
+  void testUncachedConfigTypeIsNotCached() throws Exception {
+    final String workspaceId = UUID.randomUUID().toString();
+    final StandardWorkspace workspace = new StandardWorkspace().withWorkspaceId(UUID.fromString(workspaceId));
+    when(decoratedConfigPersistence.getConfig(ConfigSchema.STANDARD_WORKSPACE, workspaceId, StandardWorkspace.class)).thenReturn(workspace);
+
+    configPersistence.getConfig(ConfigSchema.STANDARD_WORKSPACE, workspaceId, StandardWorkspace.class);
+    configPersistence.getConfig(ConfigSchema.STANDARD_WORKSPACE, workspaceId, StandardWorkspace.class);
+
+    verify(decoratedConfigPersistence, times(2)).getConfig(ConfigSchema.STANDARD_WORKSPACE, workspaceId, StandardWorkspace.class);
+  }
+
+  @Test
+  void testWriteConfigInvalidates() throws Exception {
+    getSourceDefinition();
+    configPersistence.writeConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, SOURCE_DEFINITION_ID, SOURCE_DEFINITION);
+    getSourceDefinition();
+
+    verify(decoratedConfigPersistence).writeConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, SOURCE_DEFINITION_ID, SOURCE_DEFINITION);
+    verify(decoratedConfigPersistence, times(2))
+        .getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, SOURCE_DEFINITION_ID, StandardSourceDefinition.class);
+  }
+
+  @Test
+  void testWriteConfigsInvalidates() throws Exception {
+    getSourceDefinition();
+    configPersistence.writeConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, Map.of(SOURCE_DEFINITION_ID, SOURCE_DEFINITION));
+    getSourceDefinition();
+
+    verify(decoratedConfigPersistence, times(2))
+        .getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, SOURCE_DEFINITION_ID, StandardSourceDefinition.class);
+  }
+
+  @Test
+  void testDeleteConfigInvalidates() throws Exception {
+    getSourceDefinition();
+    configPersistence.deleteConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, SOURCE_DEFINITION_ID);
+    getSourceDefinition();
+
+    verify(decoratedConfigPersistence, times(2))
+        .getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, SOURCE_DEFINITION_ID, StandardSourceDefinition.class);
+  }
+
+  @Test
+  void testInvalidateConfig() throws Exception {
+    getSourceDefinition();
+    configPersistence.invalidateConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, SOURCE_DEFINITION_ID);
+    getSourceDefinition();
+
+    verify(decoratedConfigPersistence).invalidateConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, SOURCE_DEFINITION_ID);
+    verify(decoratedConfigPersistence, times(2))
+        .getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, SOURCE_DEFINITION_ID, StandardSourceDefinition.class);
+  }
+
+  @Test
+  void testLoadDataInvalidatesAll() throws Exception {
+    getSourceDefinition();
+    configPersistence.loadData(mock(ConfigPersistence.class));
+    getSourceDefinition();
+
+    verify(decoratedConfigPersistence).loadData(any());
+    verify(decoratedConfigPersistence, times(2))
+        .getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, SOURCE_DEFINITION_ID, StandardSourceDefinition.class);
+  }
+
+  private StandardSourceDefinition getSourceDefinition() throws JsonValidationException, IOException, ConfigNotFoundException {
+    return configPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, SOURCE_DEFINITION_ID, StandardSourceDefinition.class);
+  }
+
+}
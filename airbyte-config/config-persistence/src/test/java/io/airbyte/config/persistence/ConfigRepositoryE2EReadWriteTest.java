@@ -26,6 +26,8 @@ import io.airbyte.config.StandardSourceDefinition.SourceType;
 import io.airbyte.config.StandardSync;
 import io.airbyte.config.StandardSyncOperation;
 import io.airbyte.config.StandardWorkspace;
+import io.airbyte.config.persistence.ConfigRepository.DestinationAndDefinition;
+import io.airbyte.config.persistence.ConfigRepository.SourceAndDefinition;
 import io.airbyte.config.persistence.split_secrets.JsonSecretsProcessor;
 import io.airbyte.db.Database;
 import io.airbyte.db.factory.DSLContextFactory;
@@ -35,6 +37,7 @@ import io.airbyte.db.instance.configs.ConfigsDatabaseMigrator;
 import io.airbyte.db.instance.configs.ConfigsDatabaseTestProvider;
 import io.airbyte.db.instance.development.DevDatabaseMigrator;
 import io.airbyte.db.instance.development.MigrationDevHelper;
+import io.airbyte.metrics.lib.MetricClient;
 import io.airbyte.protocol.models.AirbyteCatalog;
 import io.airbyte.protocol.models.CatalogHelpers;
 import io.airbyte.protocol.models.Field;
@@ -43,6 +46,8 @@ import io.airbyte.test.utils.DatabaseConnectionHelper;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -212,6 +217,36 @@ class ConfigRepositoryE2EReadWriteTest {
     assertThat(MockData.standardSyncs().subList(0, 3)).hasSameElementsAs(syncs);
   }
 
+  @Test
+  void testGetSourceAndDefinitionsFromSourceIds() throws IOException {
+    final List<SourceConnection> sources = MockData.sourceConnections().subList(0, 2);
+    final List<UUID> sourceIds = sources.stream().map(SourceConnection::getSourceId).toList();
+
+    // destination ids are not sources, so they are left out
+    final List<UUID> requestedIds = new ArrayList<>(sourceIds);
+    requestedIds.add(MockData.destinationConnections().get(0).getDestinationId());
+    final List<SourceAndDefinition> actual = configRepository.getSourceAndDefinitionsFromSourceIds(requestedIds);
+
+    assertThat(actual.stream().map(SourceAndDefinition::source).toList()).hasSameElementsAs(sources);
+    for (final SourceAndDefinition sourceAndDefinition : actual) {
+      assertEquals(sourceAndDefinition.source().getSourceDefinitionId(), sourceAndDefinition.definition().getSourceDefinitionId());
+    }
+  }
+
+  @Test
+  void testGetDestinationAndDefinitionsFromDestinationIds() throws IOException {
+    final List<DestinationConnection> destinations = MockData.destinationConnections().subList(0, 2);
+    final List<UUID> destinationIds = destinations.stream().map(DestinationConnection::getDestinationId).toList();
+
+    final List<DestinationAndDefinition> actual = configRepository.getDestinationAndDefinitionsFromDestinationIds(destinationIds);
+
+    assertThat(actual.stream().map(DestinationAndDefinition::destination).toList()).hasSameElementsAs(destinations);
+    for (final DestinationAndDefinition destinationAndDefinition : actual) {
+      assertEquals(destinationAndDefinition.destination().getDestinationDefinitionId(),
+          destinationAndDefinition.definition().getDestinationDefinitionId());
+    }
+  }
+
   @Test
   void testGetWorkspaceBySlug()
       throws IOException {
@@ -439,4 +474,23 @@ class ConfigRepositoryE2EReadWriteTest {
     }
   }
 
+  @Test
+  void testDeleteStandardSyncOperationWithCachedConfigs()
+      throws IOException, JsonValidationException, ConfigNotFoundException {
+    final ConfigRepository cachingConfigRepository = new ConfigRepository(
+        new CachingConfigPersistence(configPersistence, 100, Duration.ofMinutes(1), mock(MetricClient.class)),
+        database);
+    final UUID deletedOperationId = MockData.standardSyncOperations().get(0).getOperationId();
+    final List<StandardSync> syncs = MockData.standardSyncs();
+    for (final StandardSync sync : syncs) {
+      cachingConfigRepository.getStandardSync(sync.getConnectionId());
+    }
+
+    cachingConfigRepository.deleteStandardSyncOperation(deletedOperationId);
+
+    for (final StandardSync sync : syncs) {
+      assertThat(cachingConfigRepository.getStandardSync(sync.getConnectionId()).getOperationIds()).doesNotContain(deletedOperationId);
+    }
+  }
+
 }
@@ -89,12 +89,21 @@ public class ReplicationJobOrchestrator implements JobOrchestrator<StandardSyncI
         processFactory,
         syncInput.getDestinationResourceRequirements());
 
+    final NamespacingMapper mapper =
+        new NamespacingMapper(syncInput.getNamespaceDefinition(), syncInput.getNamespaceFormat(), syncInput.getPrefix());
+    final RecordSchemaValidator recordSchemaValidator = new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(syncInput),
+        configs.getRecordSchemaValidationSampleRate(), configs.getRecordSchemaValidationMaxRecordsPerStream());
+    // when nothing reads or changes record data on the way to the destination, pass it through as the
+    // raw json emitted by the source instead of parsing and re-serializing it.
+    final boolean recordPassthrough = mapper.isIdentity() && !recordSchemaValidator.isEnabled();
+    log.info("Record passthrough: {}", recordPassthrough);
+
     log.info("Setting up source...");
     // reset jobs use an empty source to induce resetting all data in destination.
     final AirbyteSource airbyteSource =
         WorkerConstants.RESET_JOB_SOURCE_DOCKER_IMAGE_STUB.equals(sourceLauncherConfig.getDockerImage()) ? new EmptyAirbyteSource(
             featureFlags.useStreamCapableState())
-            : new DefaultAirbyteSource(sourceLauncher);
+            : new DefaultAirbyteSource(sourceLauncher, recordPassthrough);
 
     MetricClientFactory.initialize(MetricEmittingApps.WORKER);
     final MetricClient metricClient = MetricClientFactory.getMetricClient();
@@ -105,11 +114,12 @@ public class ReplicationJobOrchestrator implements JobOrchestrator<StandardSyncI
         jobRunConfig.getJobId(),
         Math.toIntExact(jobRunConfig.getAttemptId()),
         airbyteSource,
-        new NamespacingMapper(syncInput.getNamespaceDefinition(), syncInput.getNamespaceFormat(), syncInput.getPrefix()),
+        mapper,
         new DefaultAirbyteDestination(destinationLauncher),
         new AirbyteMessageTracker(),
-        new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(syncInput)),
-        metricReporter);
+        recordSchemaValidator,
+        metricReporter,
+        featureFlags.usePipelinedReplication());
 
     log.info("Running replication worker...");
     final Path jobRoot = WorkerUtils.getJobRoot(configs.getWorkspaceRoot(), jobRunConfig.getJobId(), jobRunConfig.getAttemptId());
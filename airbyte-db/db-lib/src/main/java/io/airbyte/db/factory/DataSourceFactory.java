@@ -19,6 +19,8 @@ import javax.sql.DataSource;
  */
 public class DataSourceFactory {
 
+  public static final int DEFAULT_MAXIMUM_POOL_SIZE = 10;
+
   /**
    * Constructs a new {@link DataSource} using the provided configuration.
    *
@@ -65,6 +67,34 @@ public class DataSourceFactory {
         .build();
   }
 
+  /**
+   * Constructs a new {@link DataSource} using the provided configuration.
+   *
+   * @param username The username of the database user.
+   * @param password The password of the database user.
+   * @param driverClassName The fully qualified name of the JDBC driver class.
+   * @param jdbcConnectionString The JDBC connection string.
+   * @param connectionProperties Additional configuration properties for the underlying driver.
+   * @param maximumPoolSize The maximum number of connections in the pool.
+   * @return The configured {@link DataSource}.
+   */
+  public static DataSource create(final String username,
+                                  final String password,
+                                  final String driverClassName,
+                                  final String jdbcConnectionString,
+                                  final Map<String, String> connectionProperties,
+                                  final int maximumPoolSize) {
+    return new DataSourceBuilder()
+        .withConnectionProperties(connectionProperties)
+        .withDriverClassName(driverClassName)
+        .withJdbcUrl(jdbcConnectionString)
+        .withPassword(password)
+        .withUsername(username)
+        .withConnectionTimeoutMs(DataSourceBuilder.getConnectionTimeoutMs(connectionProperties))
+        .withMaximumPoolSize(maximumPoolSize)
+        .build();
+  }
+
   /**
    * Constructs a new {@link DataSource} using the provided configuration.
    *
@@ -173,7 +203,7 @@ public class DataSourceFactory {
     private String driverClassName;
     private String host;
     private String jdbcUrl;
-    private int maximumPoolSize = 10;
+    private int maximumPoolSize = DEFAULT_MAXIMUM_POOL_SIZE;
     private int minimumPoolSize = 0;
     private long connectionTimeoutMs;
     private String password;
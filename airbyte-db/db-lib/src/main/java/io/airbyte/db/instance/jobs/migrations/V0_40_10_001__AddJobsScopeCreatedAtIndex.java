@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.jobs.migrations;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Adds an index matching how the job history of a connection is paged through: filtered by scope
+ * and walked newest first by (created_at, id). It includes the config type and status so that
+ * counting and filtering a connection's jobs can be answered from the index alone.
+ */
+public class V0_40_10_001__AddJobsScopeCreatedAtIndex extends BaseJavaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(V0_40_10_001__AddJobsScopeCreatedAtIndex.class);
+
+  @Override
+  public void migrate(final Context context) throws Exception {
+    LOGGER.info("Running migration: {}", this.getClass().getSimpleName());
+
+    try (final DSLContext ctx = DSL.using(context.getConnection())) {
+      ctx.execute("CREATE INDEX IF NOT EXISTS jobs_scope_created_at_id_idx ON jobs (scope, created_at DESC, id DESC) "
+          + "INCLUDE (config_type, status)");
+    }
+  }
+
+}
@@ -14,11 +14,13 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.db.DataTypeUtils;
 import io.airbyte.db.JdbcCompatibleSourceOperations;
+import java.lang.ref.WeakReference;
 import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.Date;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.text.ParseException;
@@ -42,28 +44,137 @@ public abstract class AbstractJdbcCompatibleSourceOperations<Datatype> implement
    */
   private static final Date ONE_CE = Date.valueOf("0001-01-01");
 
+  /**
+   * The column readers of the result set whose rows were last read on a thread. A result set is
+   * iterated on a single thread, so its readers are compiled when its first row is read and reused
+   * for all of its other rows.
+   */
+  private final ThreadLocal<CompiledColumnReaders> compiledColumnReaders = new ThreadLocal<>();
+
   @Override
   public JsonNode rowToJson(final ResultSet queryContext) throws SQLException {
-    // the first call communicates with the database. after that the result is cached.
-    final int columnCount = queryContext.getMetaData().getColumnCount();
+    final ColumnReader[] columnReaders = getColumnReaders(queryContext);
     final ObjectNode jsonNode = (ObjectNode) Jsons.jsonNode(Collections.emptyMap());
 
-    for (int i = 1; i <= columnCount; i++) {
-      // attempt to access the column. this allows us to know if it is null before we do type-specific
-      // parsing. if it is null, we can move on. while awkward, this seems to be the agreed upon way of
-      // checking for null values with jdbc.
-      queryContext.getObject(i);
-      if (queryContext.wasNull()) {
-        continue;
-      }
-
+    for (final ColumnReader columnReader : columnReaders) {
       // convert to java types that will convert into reasonable json.
-      setJsonField(queryContext, i, jsonNode);
+      columnReader.read(queryContext, jsonNode);
     }
 
     return jsonNode;
   }
 
+  private ColumnReader[] getColumnReaders(final ResultSet resultSet) throws SQLException {
+    final CompiledColumnReaders compiled = compiledColumnReaders.get();
+    if (compiled != null && compiled.resultSet.get() == resultSet) {
+      return compiled.columnReaders;
+    }
+
+    final ResultSetMetaData metadata = resultSet.getMetaData();
+    final ColumnReader[] columnReaders = new ColumnReader[metadata.getColumnCount()];
+    for (int i = 1; i <= columnReaders.length; i++) {
+      columnReaders[i - 1] = getColumnReader(metadata, i);
+    }
+    compiledColumnReaders.set(new CompiledColumnReaders(resultSet, columnReaders));
+    return columnReaders;
+  }
+
+  /**
+   * Resolves how the column at colIndex is read into json from the result set metadata. This is
+   * called once per query and column, and the returned reader is called for every row. A null value
+   * is written with {@link #onNull}.
+   * <p/>
+   * By default the column is checked for null with {@link #isNull} and then read with
+   * {@link #setJsonField}, which resolves the column type again for every value. Implementations
+   * should resolve the column type here instead, and pick one of {@link #readOnce} or
+   * {@link #readIfNotNull} for it.
+   *
+   * @param colIndex 1-based column index.
+   */
+  protected ColumnReader getColumnReader(final ResultSetMetaData metadata, final int colIndex) throws SQLException {
+    return (resultSet, json) -> {
+      if (!isNull(resultSet, colIndex)) {
+        setJsonField(resultSet, colIndex, json);
+      }
+    };
+  }
+
+  /**
+   * Reads a column with a single call to the put method, which must not fail on a null value. Put
+   * methods backed by a getter that returns a primitive or null, and that do not dereference the
+   * value, qualify. The field is replaced with {@link #onNull} if the value was null.
+   */
+  protected ColumnReader readOnce(final int colIndex, final String columnName, final ColumnValuePutter putter) {
+    return (resultSet, json) -> {
+      putter.put(json, columnName, resultSet, colIndex);
+      if (resultSet.wasNull()) {
+        onNull(json, columnName);
+      }
+    };
+  }
+
+  /**
+   * Reads a column with a put method that cannot handle a null value, by checking the value with
+   * {@link #isNull} first.
+   */
+  protected ColumnReader readIfNotNull(final int colIndex, final String columnName, final ColumnValuePutter putter) {
+    return (resultSet, json) -> {
+      if (!isNull(resultSet, colIndex)) {
+        putter.put(json, columnName, resultSet, colIndex);
+      } else {
+        onNull(json, columnName);
+      }
+    };
+  }
+
+  /**
+   * Writes a null value of a column read with {@link #readOnce} or {@link #readIfNotNull}. By
+   * default the column is left out of the json.
+   */
+  protected void onNull(final ObjectNode json, final String columnName) {
+    json.remove(columnName);
+  }
+
+  protected boolean isNull(final ResultSet resultSet, final int colIndex) throws SQLException {
+    // attempt to access the column. while awkward, this seems to be the agreed upon way of checking
+    // for null values with jdbc.
+    resultSet.getObject(colIndex);
+    return resultSet.wasNull();
+  }
+
+  /**
+   * Reads one column of the current row of a result set into a json object.
+   */
+  @FunctionalInterface
+  protected interface ColumnReader {
+
+    void read(ResultSet resultSet, ObjectNode json) throws SQLException;
+
+  }
+
+  /**
+   * A put method for a column value, such as {@link #putString}.
+   */
+  @FunctionalInterface
+  protected interface ColumnValuePutter {
+
+    void put(ObjectNode node, String columnName, ResultSet resultSet, int index) throws SQLException;
+
+  }
+
+  private static class CompiledColumnReaders {
+
+    // weak so that a thread does not keep the last result set it read alive
+    private final WeakReference<ResultSet> resultSet;
+    private final ColumnReader[] columnReaders;
+
+    CompiledColumnReaders(final ResultSet resultSet, final ColumnReader[] columnReaders) {
+      this.resultSet = new WeakReference<>(resultSet);
+      this.columnReaders = columnReaders;
+    }
+
+  }
+
   protected void putArray(final ObjectNode node, final String columnName, final ResultSet resultSet, final int index) throws SQLException {
     final ArrayNode arrayNode = new ObjectMapper().createArrayNode();
     final ResultSet arrayResultSet = resultSet.getArray(index).getResultSet();
@@ -105,10 +105,18 @@ public class MongoDatabase extends AbstractDatabase implements AutoCloseable {
   }
 
   public Stream<JsonNode> read(final String collectionName, final List<String> columnNames, final Optional<Bson> filter) {
+    return read(collectionName, columnNames, filter, Optional.empty());
+  }
+
+  public Stream<JsonNode> read(final String collectionName,
+                               final List<String> columnNames,
+                               final Optional<Bson> filter,
+                               final Optional<Bson> sort) {
     try {
       final MongoCollection<Document> collection = database.getCollection(collectionName);
       final MongoCursor<Document> cursor = collection
           .find(filter.orElse(new BsonDocument()))
+          .sort(sort.orElse(null))
           .batchSize(BATCH_SIZE)
           .cursor();
 
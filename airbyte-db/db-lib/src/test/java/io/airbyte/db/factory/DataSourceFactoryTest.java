@@ -87,6 +87,20 @@ class DataSourceFactoryTest extends CommonFactoryTest {
     assertEquals(Integer.MAX_VALUE, ((HikariDataSource) dataSource).getHikariConfigMXBean().getConnectionTimeout());
   }
 
+  @Test
+  void testCreatingDataSourceWithMaximumPoolSize() {
+    final DataSource dataSource = DataSourceFactory.create(
+        username,
+        password,
+        driverClassName,
+        jdbcUrl,
+        Map.of(),
+        20);
+    assertNotNull(dataSource);
+    assertEquals(HikariDataSource.class, dataSource.getClass());
+    assertEquals(20, ((HikariDataSource) dataSource).getHikariConfigMXBean().getMaximumPoolSize());
+  }
+
   @Test
   void testCreatingDataSourceWithConnectionTimeoutNotSet() {
     final Map<String, String> connectionProperties = Map.of();
@@ -142,6 +142,22 @@ class TestJdbcUtils {
     }
   }
 
+  @Test
+  void testRowToJsonWithNullValues() throws SQLException {
+    try (final Connection connection = dataSource.getConnection()) {
+      createTableWithAllTypes(connection);
+      insertRecordOfEachType(connection);
+      connection.createStatement().execute("INSERT INTO data DEFAULT VALUES;");
+
+      // nulls are sorted last, so the second row is read with the column readers of the first.
+      final ResultSet resultSet = connection.createStatement().executeQuery("SELECT * FROM data ORDER BY int;");
+      resultSet.next();
+      assertEquals(jsonFieldExpectedValues(), sourceOperations.rowToJson(resultSet));
+      resultSet.next();
+      assertEquals(Jsons.emptyObject(), sourceOperations.rowToJson(resultSet));
+    }
+  }
+
   // test setting on a PreparedStatement every JDBCType that we support.
   @Test
   void testSetStatementField() throws SQLException {
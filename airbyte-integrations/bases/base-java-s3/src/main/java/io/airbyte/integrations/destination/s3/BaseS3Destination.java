@@ -63,6 +63,14 @@ public abstract class BaseS3Destination extends BaseConnector implements Destina
                                             final ConfiguredAirbyteCatalog catalog,
                                             final Consumer<AirbyteMessage> outputRecordCollector) {
     final S3DestinationConfig s3Config = configFactory.getS3DestinationConfig(config, storageProvider());
+    if (s3Config.isPipelinedUpload()) {
+      return new S3ConsumerFactory().createWithPipelinedUploads(
+          outputRecordCollector,
+          new S3StorageOperations(nameTransformer, s3Config.getS3Client(), s3Config),
+          nameTransformer,
+          s3Config,
+          catalog);
+    }
     return new S3ConsumerFactory().create(
         outputRecordCollector,
         new S3StorageOperations(nameTransformer, s3Config.getS3Client(), s3Config),
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3;
+
+import io.airbyte.integrations.destination.record_buffer.BufferStorage;
+import io.airbyte.integrations.destination.s3.util.PipelinedMultipartUpload;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import org.apache.commons.io.output.TeeOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link BufferStorage} that also sends the data written to it to a
+ * {@link PipelinedMultipartUpload} as it is written, so that most of a buffer is already uploaded
+ * by the time it is flushed. The upload is completed when the storage is closed, once the buffer is
+ * flushed.
+ *
+ * The data is still written to the wrapped storage: if the upload fails, or is not started before
+ * data is written, it is aborted and the buffer is uploaded from the wrapped storage once flushed,
+ * as it is without pipelining.
+ */
+public class PipelinedUploadBufferStorage implements BufferStorage {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(PipelinedUploadBufferStorage.class);
+
+  private final BufferStorage delegate;
+  private OutputStream outputStream;
+  // null until the upload is started, and once it failed
+  private PipelinedMultipartUpload upload;
+  // the stream to the upload, wrapped in the blob decorators
+  private OutputStream uploadStream;
+  private boolean hasFailed;
+  private boolean isUploaded;
+
+  public PipelinedUploadBufferStorage(final BufferStorage delegate) {
+    this.delegate = delegate;
+    this.outputStream = null;
+    this.upload = null;
+    this.uploadStream = null;
+    this.hasFailed = false;
+    this.isUploaded = false;
+  }
+
+  /**
+   * @param upload the upload to send the data to
+   * @param uploadStream the stream to write the data to, upload itself or a stream wrapping it
+   */
+  public void startUpload(final PipelinedMultipartUpload upload, final OutputStream uploadStream) {
+    if (hasFailed) {
+      upload.abort();
+      return;
+    }
+    this.upload = upload;
+    this.uploadStream = uploadStream;
+  }
+
+  /**
+   * @return whether all the data of the buffer was uploaded, once the storage is closed
+   */
+  public boolean isUploaded() {
+    return isUploaded;
+  }
+
+  public String getObjectKey() {
+    return upload.getObjectKey();
+  }
+
+  @Override
+  public OutputStream getOutputStream() throws IOException {
+    if (outputStream == null) {
+      outputStream = new TeeOutputStream(delegate.getOutputStream(), new UploadOutputStream());
+    }
+    return outputStream;
+  }
+
+  @Override
+  public String getFilename() throws IOException {
+    return delegate.getFilename();
+  }
+
+  @Override
+  public File getFile() throws IOException {
+    return delegate.getFile();
+  }
+
+  @Override
+  public InputStream convertToInputStream() throws IOException {
+    return delegate.convertToInputStream();
+  }
+
+  @Override
+  public void close() throws IOException {
+    delegate.close();
+    if (upload != null) {
+      try {
+        uploadStream.close();
+        upload.complete();
+        isUploaded = true;
+      } catch (final IOException | RuntimeException e) {
+        abortUpload(e);
+      }
+    }
+  }
+
+  @Override
+  public void deleteFile() throws IOException {
+    // the buffer is discarded without being flushed
+    if (upload != null && !isUploaded) {
+      upload.abort();
+      upload = null;
+    }
+    delegate.deleteFile();
+  }
+
+  @Override
+  public long getMaxTotalBufferSizeInBytes() {
+    return delegate.getMaxTotalBufferSizeInBytes();
+  }
+
+  @Override
+  public long getMaxPerStreamBufferSizeInBytes() {
+    return delegate.getMaxPerStreamBufferSizeInBytes();
+  }
+
+  @Override
+  public int getMaxConcurrentStreamsInBuffer() {
+    return delegate.getMaxConcurrentStreamsInBuffer();
+  }
+
+  private void abortUpload(final Exception e) {
+    LOGGER.warn("Pipelined upload of {} failed, the buffer will be uploaded once flushed", upload.getObjectKey(), e);
+    upload.abort();
+    upload = null;
+    hasFailed = true;
+  }
+
+  /**
+   * Forwards the data to the upload, without letting its failures fail the writes to the wrapped
+   * storage.
+   */
+  private class UploadOutputStream extends OutputStream {
+
+    @Override
+    public void write(final int b) {
+      write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) {
+      if (upload == null) {
+        if (!hasFailed) {
+          LOGGER.warn("Data was written before the pipelined upload was started, the buffer will be uploaded once flushed");
+          hasFailed = true;
+        }
+        return;
+      }
+      try {
+        uploadStream.write(b, off, len);
+      } catch (final IOException | RuntimeException e) {
+        abortUpload(e);
+      }
+    }
+
+    @Override
+    public void flush() {
+      if (upload != null) {
+        try {
+          uploadStream.flush();
+        } catch (final IOException | RuntimeException e) {
+          abortUpload(e);
+        }
+      }
+    }
+
+    // the upload stream is closed, and the upload completed, when the storage is closed
+
+  }
+
+}
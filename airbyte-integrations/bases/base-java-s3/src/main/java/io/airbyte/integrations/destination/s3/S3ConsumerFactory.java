@@ -14,8 +14,11 @@ import io.airbyte.integrations.destination.NamingConventionTransformer;
 import io.airbyte.integrations.destination.buffered_stream_consumer.BufferedStreamConsumer;
 import io.airbyte.integrations.destination.buffered_stream_consumer.OnCloseFunction;
 import io.airbyte.integrations.destination.buffered_stream_consumer.OnStartFunction;
+import io.airbyte.integrations.destination.record_buffer.FileBuffer;
+import io.airbyte.integrations.destination.record_buffer.GlobalBufferManager;
 import io.airbyte.integrations.destination.record_buffer.SerializableBuffer;
 import io.airbyte.integrations.destination.record_buffer.SerializedBufferingStrategy;
+import io.airbyte.integrations.destination.s3.util.PipelinedMultipartUpload;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteStream;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
@@ -23,6 +26,10 @@ import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import io.airbyte.protocol.models.DestinationSyncMode;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -36,6 +43,10 @@ public class S3ConsumerFactory {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(S3ConsumerFactory.class);
   private static final DateTime SYNC_DATETIME = DateTime.now(DateTimeZone.UTC);
+  // full buffers are uploaded in the background while the next ones fill, with at most about one
+  // full buffer in flight on top of the buffers being filled
+  private static final int FLUSH_WORKERS = 2;
+  private static final long MAX_IN_FLIGHT_BYTES = GlobalBufferManager.MAX_PER_STREAM_BUFFER_SIZE_BYTES;
 
   public AirbyteMessageConsumer create(final Consumer<AirbyteMessage> outputRecordCollector,
                                        final BlobStorageOperations storageOperations,
@@ -50,7 +61,87 @@ public class S3ConsumerFactory {
         new SerializedBufferingStrategy(
             onCreateBuffer,
             catalog,
-            flushBufferFunction(storageOperations, writeConfigs, catalog)),
+            flushBufferFunction(storageOperations, writeConfigs, catalog, buffer -> Optional.empty()),
+            FLUSH_WORKERS,
+            MAX_IN_FLIGHT_BYTES),
+        onCloseFunction(storageOperations, writeConfigs),
+        catalog,
+        storageOperations::isValidData);
+  }
+
+  /**
+   * Same as {@link #create}, except that buffers are uploaded while records are written to them:
+   * each buffer is stored in a {@link PipelinedUploadBufferStorage}, which sends every part of the
+   * buffer to S3 as soon as it is filled, so only the last part is left to upload when the buffer is
+   * flushed. Buffers that are not stored in a
+   * {@link io.airbyte.integrations.destination.record_buffer.BufferStorage}, such as parquet ones, or
+   * whose pipelined upload failed, are uploaded once flushed.
+   *
+   * Each pipelined upload holds the part it is filling on the heap, so only as many buffers as
+   * {@link S3StorageOperations#getMaxPipelinedUploads(long)} allows are pipelined at once. The
+   * buffers created beyond that are uploaded once flushed.
+   */
+  public AirbyteMessageConsumer createWithPipelinedUploads(final Consumer<AirbyteMessage> outputRecordCollector,
+                                                           final S3StorageOperations storageOperations,
+                                                           final NamingConventionTransformer namingResolver,
+                                                           final S3DestinationConfig s3Config,
+                                                           final ConfiguredAirbyteCatalog catalog) {
+    final List<WriteConfig> writeConfigs = createWriteConfigs(storageOperations, namingResolver, s3Config, catalog);
+    final Map<AirbyteStreamNameNamespacePair, WriteConfig> pairToWriteConfig = toPairToWriteConfig(writeConfigs);
+
+    // the buffers are expected to be flushed once full
+    final long expectedObjectSize = GlobalBufferManager.forFileBuffers().getMaxPerStreamBufferSizeInBytes();
+    final int maxPipelinedUploads = S3StorageOperations.getMaxPipelinedUploads(expectedObjectSize);
+    LOGGER.info("Up to {} buffers are uploaded while they are written, others once flushed", maxPipelinedUploads);
+    // taken by a buffer when its storage is created, released once the buffer is flushed
+    final Semaphore pipelinedUploads = new Semaphore(maxPipelinedUploads);
+
+    // buffers are created one at a time, by the thread adding records, which hands the storage of the
+    // buffer being created over to onCreateBuffer through this reference
+    final AtomicReference<PipelinedUploadBufferStorage> createdStorage = new AtomicReference<>();
+    final CheckedBiFunction<AirbyteStreamNameNamespacePair, ConfiguredAirbyteCatalog, SerializableBuffer, Exception> createBuffer =
+        SerializedBufferFactory.getCreateFunction(s3Config, fileExtension -> {
+          if (!pipelinedUploads.tryAcquire()) {
+            return new FileBuffer(fileExtension);
+          }
+          final PipelinedUploadBufferStorage storage = new PipelinedUploadBufferStorage(new FileBuffer(fileExtension));
+          createdStorage.set(storage);
+          return storage;
+        });
+    final Map<SerializableBuffer, PipelinedUploadBufferStorage> bufferStorages = new ConcurrentHashMap<>();
+    final CheckedBiFunction<AirbyteStreamNameNamespacePair, ConfiguredAirbyteCatalog, SerializableBuffer, Exception> onCreateBuffer =
+        (stream, configuredCatalog) -> {
+          final SerializableBuffer buffer = createBuffer.apply(stream, configuredCatalog);
+          final PipelinedUploadBufferStorage storage = createdStorage.getAndSet(null);
+          final WriteConfig writeConfig = pairToWriteConfig.get(stream);
+          if (storage != null && writeConfig != null) {
+            final PipelinedMultipartUpload upload =
+                storageOperations.startPipelinedUpload(writeConfig.getFullOutputPath(), buffer, expectedObjectSize);
+            storage.startUpload(upload, storageOperations.wrapWithBlobDecorators(upload));
+            bufferStorages.put(buffer, storage);
+          } else if (storage != null) {
+            pipelinedUploads.release();
+          }
+          return buffer;
+        };
+
+    return new BufferedStreamConsumer(
+        outputRecordCollector,
+        onStartFunction(storageOperations, writeConfigs),
+        new SerializedBufferingStrategy(
+            onCreateBuffer,
+            catalog,
+            flushBufferFunction(storageOperations, writeConfigs, catalog, buffer -> {
+              final PipelinedUploadBufferStorage storage = bufferStorages.remove(buffer);
+              if (storage == null) {
+                return Optional.empty();
+              }
+              // the buffer is flushed, so its upload no longer fills a part
+              pipelinedUploads.release();
+              return storage.isUploaded() ? Optional.of(S3StorageOperations.getFilename(storage.getObjectKey())) : Optional.empty();
+            }),
+            FLUSH_WORKERS,
+            MAX_IN_FLIGHT_BYTES),
         onCloseFunction(storageOperations, writeConfigs),
         catalog,
         storageOperations::isValidData);
@@ -109,13 +200,21 @@ public class S3ConsumerFactory {
     return new AirbyteStreamNameNamespacePair(config.getStreamName(), config.getNamespace());
   }
 
+  private static Map<AirbyteStreamNameNamespacePair, WriteConfig> toPairToWriteConfig(final List<WriteConfig> writeConfigs) {
+    return writeConfigs.stream()
+        .collect(Collectors.toUnmodifiableMap(
+            S3ConsumerFactory::toNameNamespacePair, Function.identity()));
+  }
+
+  /**
+   * @param getUploadedFilename returns the filename of a buffer that was already uploaded as it was
+   *        written, once flushed, or empty if it still has to be uploaded
+   */
   private CheckedBiConsumer<AirbyteStreamNameNamespacePair, SerializableBuffer, Exception> flushBufferFunction(final BlobStorageOperations storageOperations,
                                                                                                                final List<WriteConfig> writeConfigs,
-                                                                                                               final ConfiguredAirbyteCatalog catalog) {
-    final Map<AirbyteStreamNameNamespacePair, WriteConfig> pairToWriteConfig =
-        writeConfigs.stream()
-            .collect(Collectors.toUnmodifiableMap(
-                S3ConsumerFactory::toNameNamespacePair, Function.identity()));
+                                                                                                               final ConfiguredAirbyteCatalog catalog,
+                                                                                                               final Function<SerializableBuffer, Optional<String>> getUploadedFilename) {
+    final Map<AirbyteStreamNameNamespacePair, WriteConfig> pairToWriteConfig = toPairToWriteConfig(writeConfigs);
 
     return (pair, writer) -> {
       LOGGER.info("Flushing buffer for stream {} ({}) to storage", pair.getName(), FileUtils.byteCountToDisplaySize(writer.getByteCount()));
@@ -127,11 +226,16 @@ public class S3ConsumerFactory {
       final WriteConfig writeConfig = pairToWriteConfig.get(pair);
       try (writer) {
         writer.flush();
-        writeConfig.addStoredFile(storageOperations.uploadRecordsToBucket(
-            writer,
-            writeConfig.getNamespace(),
-            writeConfig.getStreamName(),
-            writeConfig.getFullOutputPath()));
+        final Optional<String> uploadedFilename = getUploadedFilename.apply(writer);
+        if (uploadedFilename.isPresent()) {
+          writeConfig.addStoredFile(uploadedFilename.get());
+        } else {
+          writeConfig.addStoredFile(storageOperations.uploadRecordsToBucket(
+              writer,
+              writeConfig.getNamespace(),
+              writeConfig.getStreamName(),
+              writeConfig.getFullOutputPath()));
+        }
       } catch (final Exception e) {
         LOGGER.error("Failed to flush and upload buffer to storage:", e);
         throw new RuntimeException("Failed to upload buffer to storage", e);
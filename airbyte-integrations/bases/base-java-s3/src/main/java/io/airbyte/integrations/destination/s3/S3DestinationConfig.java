@@ -7,6 +7,7 @@ package io.airbyte.integrations.destination.s3;
 import static io.airbyte.integrations.destination.s3.constant.S3Constants.ACCESS_KEY_ID;
 import static io.airbyte.integrations.destination.s3.constant.S3Constants.ACCOUNT_ID;
 import static io.airbyte.integrations.destination.s3.constant.S3Constants.FILE_NAME_PATTERN;
+import static io.airbyte.integrations.destination.s3.constant.S3Constants.PIPELINED_UPLOAD;
 import static io.airbyte.integrations.destination.s3.constant.S3Constants.SECRET_ACCESS_KEY;
 import static io.airbyte.integrations.destination.s3.constant.S3Constants.S_3_BUCKET_NAME;
 import static io.airbyte.integrations.destination.s3.constant.S3Constants.S_3_BUCKET_PATH;
@@ -56,6 +57,8 @@ public class S3DestinationConfig {
 
   private int uploadThreadsCount = S3StorageOperations.DEFAULT_UPLOAD_THREADS;
 
+  private boolean pipelinedUpload = false;
+
   public S3DestinationConfig(final String endpoint,
                              final String bucketName,
                              final String bucketPath,
@@ -84,7 +87,8 @@ public class S3DestinationConfig {
                              final AmazonS3 s3Client,
                              final String fileNamePattern,
                              final boolean checkIntegrity,
-                             final int uploadThreadsCount) {
+                             final int uploadThreadsCount,
+                             final boolean pipelinedUpload) {
     this.endpoint = endpoint;
     this.bucketName = bucketName;
     this.bucketPath = bucketPath;
@@ -96,6 +100,7 @@ public class S3DestinationConfig {
     this.fileNamePattern = fileNamePattern;
     this.checkIntegrity = checkIntegrity;
     this.uploadThreadsCount = uploadThreadsCount;
+    this.pipelinedUpload = pipelinedUpload;
   }
 
   public static Builder create(final String bucketName, final String bucketPath, final String bucketRegion) {
@@ -131,6 +136,10 @@ public class S3DestinationConfig {
       builder = builder.withPathFormat(config.get(S_3_PATH_FORMAT).asText());
     }
 
+    if (config.has(PIPELINED_UPLOAD)) {
+      builder = builder.withPipelinedUpload(config.get(PIPELINED_UPLOAD).asBoolean());
+    }
+
     switch (storageProvider) {
       case CF_R2 -> {
         if (config.has(ACCOUNT_ID)) {
@@ -215,6 +224,10 @@ public class S3DestinationConfig {
     return uploadThreadsCount;
   }
 
+  public boolean isPipelinedUpload() {
+    return pipelinedUpload;
+  }
+
   public AmazonS3 getS3Client() {
     synchronized (lock) {
       if (s3Client == null) {
@@ -302,6 +315,8 @@ public class S3DestinationConfig {
 
     private int uploadThreadsCount = S3StorageOperations.DEFAULT_UPLOAD_THREADS;
 
+    private boolean pipelinedUpload = false;
+
     protected Builder(final String bucketName, final String bucketPath, final String bucketRegion) {
       this.bucketName = bucketName;
       this.bucketPath = bucketPath;
@@ -368,6 +383,11 @@ public class S3DestinationConfig {
       return this;
     }
 
+    public Builder withPipelinedUpload(final boolean pipelinedUpload) {
+      this.pipelinedUpload = pipelinedUpload;
+      return this;
+    }
+
     public S3DestinationConfig get() {
       return new S3DestinationConfig(
           endpoint,
@@ -380,7 +400,8 @@ public class S3DestinationConfig {
           s3Client,
           fileNamePattern,
           checkIntegrity,
-          uploadThreadsCount);
+          uploadThreadsCount,
+          pipelinedUpload);
     }
 
   }
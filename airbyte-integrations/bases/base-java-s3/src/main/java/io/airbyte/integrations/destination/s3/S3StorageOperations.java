@@ -20,6 +20,7 @@ import io.airbyte.integrations.destination.NamingConventionTransformer;
 import io.airbyte.integrations.destination.record_buffer.SerializableBuffer;
 import io.airbyte.integrations.destination.s3.template.S3FilenameTemplateManager;
 import io.airbyte.integrations.destination.s3.template.S3FilenameTemplateParameterObject;
+import io.airbyte.integrations.destination.s3.util.PipelinedMultipartUpload;
 import io.airbyte.integrations.destination.s3.util.StreamTransferManagerFactory;
 import java.io.IOException;
 import java.io.InputStream;
@@ -29,9 +30,16 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.joda.time.DateTime;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -49,6 +57,13 @@ public class S3StorageOperations extends BlobStorageOperations {
   private static final int DEFAULT_QUEUE_CAPACITY = DEFAULT_UPLOAD_THREADS;
   private static final int DEFAULT_PART_SIZE = 10;
   private static final int UPLOAD_RETRY_LIMIT = 3;
+  // pipelined uploads split objects of the expected size in about this many parts, so that parts are
+  // uploaded early on while leaving room for objects larger than expected
+  private static final int PIPELINED_UPLOAD_TARGET_PART_COUNT = 100;
+  private static final long MIN_PART_SIZE_BYTES = StreamTransferManagerFactory.DEFAULT_PART_SIZE_MB * 1024L * 1024L;
+  private static final long MAX_PART_SIZE_BYTES = StreamTransferManagerFactory.MAX_ALLOWED_PART_SIZE_MB * 1024L * 1024L;
+  // share of the maximum heap size that the parts being filled by pipelined uploads may use
+  private static final double PIPELINED_UPLOAD_HEAP_SHARE = 0.25;
 
   private static final String FORMAT_VARIABLE_NAMESPACE = "${NAMESPACE}";
   private static final String FORMAT_VARIABLE_STREAM_NAME = "${STREAM_NAME}";
@@ -65,7 +80,18 @@ public class S3StorageOperations extends BlobStorageOperations {
 
   private final NamingConventionTransformer nameTransformer;
   protected final S3DestinationConfig s3Config;
-  protected AmazonS3 s3Client;
+  // buffers can be uploaded concurrently, by the flush workers, and any of them may reset the client
+  protected volatile AmazonS3 s3Client;
+
+  // next part id of each object path, counted from the objects found in the bucket on first use, so
+  // that buffers of the same stream uploaded concurrently do not get the same id. -1 when the bucket
+  // has too many objects to count them.
+  private final ConcurrentMap<String, AtomicInteger> nextPartIds = new ConcurrentHashMap<>();
+
+  // shared by the pipelined uploads of all the streams, created with the first one
+  private ExecutorService uploadExecutor;
+  // parts of pipelined uploads held in memory while they wait for, or go through, an upload thread
+  private Semaphore partsInFlight;
 
   public S3StorageOperations(final NamingConventionTransformer nameTransformer, final AmazonS3 s3Client, final S3DestinationConfig s3Config) {
     this.nameTransformer = nameTransformer;
@@ -118,18 +144,21 @@ public class S3StorageOperations extends BlobStorageOperations {
                                       final String streamName,
                                       final String objectPath) {
     final List<Exception> exceptionsThrown = new ArrayList<>();
+    AmazonS3 failedClient = null;
     while (exceptionsThrown.size() < UPLOAD_RETRY_LIMIT) {
       if (!exceptionsThrown.isEmpty()) {
         LOGGER.info("Retrying to upload records into storage {} ({}/{}})", objectPath, exceptionsThrown.size(), UPLOAD_RETRY_LIMIT);
         // Force a reconnection before retrying in case error was due to network issues...
-        s3Client = s3Config.resetS3Client();
+        resetS3Client(failedClient);
       }
 
+      final AmazonS3 client = s3Client;
       try {
         return loadDataIntoBucket(objectPath, recordsData);
       } catch (final Exception e) {
         LOGGER.error("Failed to upload records into storage {}", objectPath, e);
         exceptionsThrown.add(e);
+        failedClient = client;
       }
     }
     throw new RuntimeException(String.format("Exceptions thrown while uploading records into storage: %s", Strings.join(exceptionsThrown, "\n")));
@@ -141,13 +170,128 @@ public class S3StorageOperations extends BlobStorageOperations {
    * @return the uploaded filename, which is different from the serialized buffer filename
    */
   private String loadDataIntoBucket(final String objectPath, final SerializableBuffer recordsData) throws IOException {
-    final long partSize = DEFAULT_PART_SIZE;
     final String bucket = s3Config.getBucketName();
+    final String fullObjectKey;
+    if (s3Config.isPipelinedUpload()) {
+      final PipelinedMultipartUpload upload = startPipelinedUpload(objectPath, recordsData, recordsData.getByteCount());
+      fullObjectKey = upload.getObjectKey();
+      boolean succeeded = false;
+
+      try {
+        try (final OutputStream outputStream = wrapWithBlobDecorators(upload);
+            final InputStream dataStream = recordsData.getInputStream()) {
+          dataStream.transferTo(outputStream);
+        }
+        upload.complete();
+        succeeded = true;
+      } catch (final Exception e) {
+        LOGGER.error("Failed to load data into storage {}", objectPath, e);
+        throw new RuntimeException(e);
+      } finally {
+        if (!succeeded) {
+          upload.abort();
+        }
+      }
+    } else {
+      final long partSize = DEFAULT_PART_SIZE;
+      fullObjectKey = getFullObjectKey(objectPath, recordsData);
+      final StreamTransferManager uploadManager = StreamTransferManagerFactory.create(bucket, fullObjectKey, s3Client)
+          .setPartSize(partSize)
+          .setUserMetadata(getUserMetadata())
+          .get()
+          .checkIntegrity(s3Config.isCheckIntegrity())
+          .numUploadThreads(s3Config.getUploadThreadsCount())
+          .queueCapacity(DEFAULT_QUEUE_CAPACITY);
+      boolean succeeded = false;
+
+      try (final OutputStream outputStream = wrapWithBlobDecorators(uploadManager.getMultiPartOutputStreams().get(0));
+          final InputStream dataStream = recordsData.getInputStream()) {
+        dataStream.transferTo(outputStream);
+        succeeded = true;
+      } catch (final Exception e) {
+        LOGGER.error("Failed to load data into storage {}", objectPath, e);
+        throw new RuntimeException(e);
+      } finally {
+        if (!succeeded) {
+          uploadManager.abort();
+        } else {
+          uploadManager.complete();
+        }
+      }
+    }
+    if (!s3Client.doesObjectExist(bucket, fullObjectKey)) {
+      LOGGER.error("Failed to upload data into storage, object {} not found", fullObjectKey);
+      throw new RuntimeException("Upload failed");
+    }
+    final String newFilename = getFilename(fullObjectKey);
+    LOGGER.info("Uploaded buffer file to storage: {} -> {} (filename: {})", recordsData.getFilename(), fullObjectKey, newFilename);
+    return newFilename;
+  }
+
+  /**
+   * Starts a multipart upload of the data of {@code recordsData} to S3, with parts sized after the
+   * expected size of the object, uploaded by threads shared with the other pipelined uploads. The
+   * data written to the upload should go through {@link #wrapWithBlobDecorators(OutputStream)}.
+   *
+   * @param expectedObjectSize the size of the buffer if it is complete, or the size it is expected to
+   *        grow to.
+   */
+  public PipelinedMultipartUpload startPipelinedUpload(final String objectPath, final SerializableBuffer recordsData, final long expectedObjectSize)
+      throws IOException {
+    final ExecutorService executor = getUploadExecutor();
+    return new PipelinedMultipartUpload(
+        s3Client,
+        s3Config.getBucketName(),
+        getFullObjectKey(objectPath, recordsData),
+        getUserMetadata(),
+        getPartSize(expectedObjectSize),
+        s3Config.isCheckIntegrity(),
+        executor,
+        partsInFlight);
+  }
+
+  private synchronized ExecutorService getUploadExecutor() {
+    if (uploadExecutor == null) {
+      uploadExecutor = Executors.newFixedThreadPool(s3Config.getUploadThreadsCount(),
+          new BasicThreadFactory.Builder().namingPattern("s3-upload-%d").daemon(true).build());
+      partsInFlight = new Semaphore(s3Config.getUploadThreadsCount() + DEFAULT_QUEUE_CAPACITY);
+    }
+    return uploadExecutor;
+  }
+
+  @VisibleForTesting
+  static long getPartSize(final long expectedObjectSize) {
+    return Math.min(Math.max(expectedObjectSize / PIPELINED_UPLOAD_TARGET_PART_COUNT, MIN_PART_SIZE_BYTES), MAX_PART_SIZE_BYTES);
+  }
+
+  /**
+   * @return how many uploads started by {@link #startPipelinedUpload} with the given expected
+   *         object size may be open at once, so that the parts they fill fit in a share of the
+   *         heap. At least one.
+   */
+  public static int getMaxPipelinedUploads(final long expectedObjectSize) {
+    return getMaxPipelinedUploads(Runtime.getRuntime().maxMemory(), expectedObjectSize);
+  }
+
+  @VisibleForTesting
+  static int getMaxPipelinedUploads(final long maxHeapBytes, final long expectedObjectSize) {
+    final long uploads = (long) (maxHeapBytes * PIPELINED_UPLOAD_HEAP_SHARE) / getPartSize(expectedObjectSize);
+    return (int) Math.max(1, Math.min(uploads, Integer.MAX_VALUE));
+  }
+
+  public OutputStream wrapWithBlobDecorators(final OutputStream outputStream) {
+    OutputStream wrappedOutputStream = outputStream;
+    for (final BlobDecorator blobDecorator : blobDecorators) {
+      wrappedOutputStream = blobDecorator.wrap(wrappedOutputStream);
+    }
+    return wrappedOutputStream;
+  }
+
+  private String getFullObjectKey(final String objectPath, final SerializableBuffer recordsData) throws IOException {
     final String partId = getPartId(objectPath);
     final String fileExtension = getExtension(recordsData.getFilename());
-    final String fullObjectKey;
     if (StringUtils.isNotBlank(s3Config.getFileNamePattern())) {
-      fullObjectKey = s3FilenameTemplateManager
+      return s3FilenameTemplateManager
           .applyPatternToFilename(
               S3FilenameTemplateParameterObject
                   .builder()
@@ -157,49 +301,16 @@ public class S3StorageOperations extends BlobStorageOperations {
                   .fileExtension(fileExtension)
                   .fileNamePattern(s3Config.getFileNamePattern())
                   .build());
-    } else {
-      fullObjectKey = objectPath + partId + fileExtension;
     }
+    return objectPath + partId + fileExtension;
+  }
+
+  private Map<String, String> getUserMetadata() {
     final Map<String, String> metadata = new HashMap<>();
     for (final BlobDecorator blobDecorator : blobDecorators) {
       blobDecorator.updateMetadata(metadata, getMetadataMapping());
     }
-    final StreamTransferManager uploadManager = StreamTransferManagerFactory.create(bucket, fullObjectKey, s3Client)
-        .setPartSize(partSize)
-        .setUserMetadata(metadata)
-        .get()
-        .checkIntegrity(s3Config.isCheckIntegrity())
-        .numUploadThreads(s3Config.getUploadThreadsCount())
-        .queueCapacity(DEFAULT_QUEUE_CAPACITY);
-    boolean succeeded = false;
-
-    // Wrap output stream in decorators
-    OutputStream rawOutputStream = uploadManager.getMultiPartOutputStreams().get(0);
-    for (final BlobDecorator blobDecorator : blobDecorators) {
-      rawOutputStream = blobDecorator.wrap(rawOutputStream);
-    }
-
-    try (final OutputStream outputStream = rawOutputStream;
-        final InputStream dataStream = recordsData.getInputStream()) {
-      dataStream.transferTo(outputStream);
-      succeeded = true;
-    } catch (final Exception e) {
-      LOGGER.error("Failed to load data into storage {}", objectPath, e);
-      throw new RuntimeException(e);
-    } finally {
-      if (!succeeded) {
-        uploadManager.abort();
-      } else {
-        uploadManager.complete();
-      }
-    }
-    if (!s3Client.doesObjectExist(bucket, fullObjectKey)) {
-      LOGGER.error("Failed to upload data into storage, object {} not found", fullObjectKey);
-      throw new RuntimeException("Upload failed");
-    }
-    final String newFilename = getFilename(fullObjectKey);
-    LOGGER.info("Uploaded buffer file to storage: {} -> {} (filename: {})", recordsData.getFilename(), fullObjectKey, newFilename);
-    return newFilename;
+    return metadata;
   }
 
   @VisibleForTesting
@@ -217,15 +328,26 @@ public class S3StorageOperations extends BlobStorageOperations {
     return "." + result;
   }
 
-  private String getPartId(final String objectPath) {
-    final String bucket = s3Config.getBucketName();
-    final ObjectListing objects = s3Client.listObjects(bucket, objectPath);
-    if (objects.isTruncated()) {
+  /**
+   * Resets the client, unless an upload running concurrently already replaced the one that failed.
+   */
+  private synchronized void resetS3Client(final AmazonS3 failedClient) {
+    if (s3Client == failedClient) {
+      s3Client = s3Config.resetS3Client();
+    }
+  }
+
+  @VisibleForTesting
+  String getPartId(final String objectPath) {
+    final AtomicInteger nextPartId = nextPartIds.computeIfAbsent(objectPath, path -> {
+      final ObjectListing objects = s3Client.listObjects(s3Config.getBucketName(), path);
+      return new AtomicInteger(objects.isTruncated() ? -1 : objects.getObjectSummaries().size());
+    });
+    if (nextPartId.get() < 0) {
       // bucket contains too many objects, use an uuid instead
       return UUID.randomUUID().toString();
-    } else {
-      return Integer.toString(objects.getObjectSummaries().size());
     }
+    return Integer.toString(nextPartId.getAndIncrement());
   }
 
   @Override
@@ -6,6 +6,7 @@ package io.airbyte.integrations.destination.s3;
 
 import io.airbyte.protocol.models.DestinationSyncMode;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -33,7 +34,8 @@ public class WriteConfig {
     this.pathFormat = pathFormat;
     this.fullOutputPath = fullOutputPath;
     this.syncMode = syncMode;
-    this.storedFiles = new ArrayList<>();
+    // files are added by the threads flushing buffers
+    this.storedFiles = Collections.synchronizedList(new ArrayList<>());
   }
 
   public String getNamespace() {
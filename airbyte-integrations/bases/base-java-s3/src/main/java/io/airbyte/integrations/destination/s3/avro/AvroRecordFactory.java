@@ -12,6 +12,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.airbyte.commons.jackson.MoreMappers;
 import io.airbyte.integrations.base.JavaBaseConstants;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.util.Optional;
 import java.util.UUID;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
@@ -24,22 +25,39 @@ public class AvroRecordFactory {
 
   private final Schema schema;
   private final JsonAvroConverter converter;
+  // only set for the converter it reproduces, records it cannot encode go through the converter.
+  private final JsonAvroRecordEncoder encoder;
 
   public AvroRecordFactory(final Schema schema, final JsonAvroConverter converter) {
     this.schema = schema;
     this.converter = converter;
+    this.encoder = converter == AvroConstants.JSON_CONVERTER ? new JsonAvroRecordEncoder(schema) : null;
   }
 
   public GenericData.Record getAvroRecord(final UUID id, final AirbyteRecordMessage recordMessage) throws JsonProcessingException {
-    final ObjectNode jsonRecord = MAPPER.createObjectNode();
-    jsonRecord.put(JavaBaseConstants.COLUMN_NAME_AB_ID, id.toString());
-    jsonRecord.put(JavaBaseConstants.COLUMN_NAME_EMITTED_AT, recordMessage.getEmittedAt());
-    jsonRecord.setAll((ObjectNode) recordMessage.getData());
+    final ObjectNode airbyteFields = MAPPER.createObjectNode();
+    airbyteFields.put(JavaBaseConstants.COLUMN_NAME_AB_ID, id.toString());
+    airbyteFields.put(JavaBaseConstants.COLUMN_NAME_EMITTED_AT, recordMessage.getEmittedAt());
 
-    return converter.convertToGenericDataRecord(WRITER.writeValueAsBytes(jsonRecord), schema);
+    if (encoder != null) {
+      final Optional<GenericData.Record> record = encoder.encode(airbyteFields, recordMessage.getData());
+      if (record.isPresent()) {
+        return record.get();
+      }
+    }
+
+    airbyteFields.setAll((ObjectNode) recordMessage.getData());
+    return converter.convertToGenericDataRecord(WRITER.writeValueAsBytes(airbyteFields), schema);
   }
 
   public GenericData.Record getAvroRecord(JsonNode formattedData) throws JsonProcessingException {
+    if (encoder != null) {
+      final Optional<GenericData.Record> record = encoder.encode(formattedData);
+      if (record.isPresent()) {
+        return record.get();
+      }
+    }
+
     var bytes = WRITER.writeValueAsBytes(formattedData);
     return converter.convertToGenericDataRecord(bytes, schema);
   }
@@ -0,0 +1,366 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.avro;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.avro.LogicalType;
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+import org.apache.avro.Schema.Field;
+import org.apache.avro.generic.GenericData;
+
+/**
+ * Converts Json records to Avro records of a schema produced by {@link JsonToAvroSchemaConverter},
+ * the way {@link AvroConstants#JSON_CONVERTER} does, but by walking the Json tree and filling the
+ * Avro record directly instead of serializing the record and parsing it back. The conversion of
+ * each field is prepared once from the schema, and the Avro field of each Json field name that has
+ * one is cached.
+ *
+ * Only values whose conversion is unambiguous are converted: a value of the type of the field, an
+ * integer that fits an int or long field, or an ISO 8601 date or time for a logical type. When a
+ * record has a value the converter would coerce, such as a number given for a string field, it is
+ * not converted and should be left to the converter.
+ */
+public class JsonAvroRecordEncoder {
+
+  // the value does not match this schema, the next branch of a union may match it.
+  private static final Object NO_MATCH = new Object();
+  // the value may match this schema, but only the converter knows how it is converted.
+  private static final Object UNKNOWN = new Object();
+
+  private static final ValueEncoder UNKNOWN_ENCODER = value -> UNKNOWN;
+  private static final String UUID_LOGICAL_TYPE = "uuid";
+
+  private final RecordEncoder rootEncoder;
+
+  public JsonAvroRecordEncoder(final Schema schema) {
+    this.rootEncoder = (RecordEncoder) compile(schema, new IdentityHashMap<>());
+  }
+
+  /**
+   * @param objects Json objects whose fields make up the record. A field of a later object replaces
+   *        the field of the same name in an earlier one.
+   * @return the Avro record, or empty if it has to be converted by the converter.
+   */
+  public Optional<GenericData.Record> encode(final JsonNode... objects) {
+    final Object record = rootEncoder.encodeRecord(objects);
+    return record instanceof GenericData.Record ? Optional.of((GenericData.Record) record) : Optional.empty();
+  }
+
+  @FunctionalInterface
+  private interface ValueEncoder {
+
+    /**
+     * @return the Avro value, {@link #NO_MATCH} or {@link #UNKNOWN}.
+     */
+    Object encode(JsonNode value);
+
+  }
+
+  private static ValueEncoder compile(final Schema schema, final Map<Schema, ValueEncoder> compiled) {
+    final ValueEncoder existing = compiled.get(schema);
+    if (existing != null) {
+      return existing;
+    }
+
+    final LogicalType logicalType = schema.getLogicalType();
+    switch (schema.getType()) {
+      case RECORD -> {
+        final RecordEncoder recordEncoder = new RecordEncoder(schema);
+        // registered before its fields are compiled, so that a recursive schema refers to it.
+        compiled.put(schema, recordEncoder);
+        recordEncoder.compileFields(compiled);
+        return recordEncoder;
+      }
+      case UNION -> {
+        final List<ValueEncoder> branches = new ArrayList<>();
+        for (final Schema branch : schema.getTypes()) {
+          branches.add(compile(branch, compiled));
+        }
+        return value -> encodeUnion(branches, value);
+      }
+      case ARRAY -> {
+        final Schema arraySchema = schema;
+        final ValueEncoder itemEncoder = compile(schema.getElementType(), compiled);
+        return value -> value.isArray() ? encodeArray(arraySchema, itemEncoder, value) : NO_MATCH;
+      }
+      case NULL -> {
+        return value -> value.isNull() ? null : NO_MATCH;
+      }
+      case BOOLEAN -> {
+        return value -> value.isBoolean() ? value.booleanValue() : NO_MATCH;
+      }
+      case INT -> {
+        if (logicalType instanceof LogicalTypes.Date) {
+          return JsonAvroRecordEncoder::encodeDate;
+        }
+        return logicalType == null ? JsonAvroRecordEncoder::encodeInt : UNKNOWN_ENCODER;
+      }
+      case LONG -> {
+        if (logicalType instanceof LogicalTypes.TimestampMicros) {
+          return JsonAvroRecordEncoder::encodeTimestampMicros;
+        } else if (logicalType instanceof LogicalTypes.TimeMicros) {
+          return JsonAvroRecordEncoder::encodeTimeMicros;
+        } else if (logicalType instanceof LogicalTypes.TimestampMillis) {
+          // the emitted at field, which is always given as a number.
+          return value -> value.isIntegralNumber() ? encodeLong(value) : UNKNOWN;
+        }
+        return logicalType == null ? JsonAvroRecordEncoder::encodeLong : UNKNOWN_ENCODER;
+      }
+      case DOUBLE -> {
+        return value -> value.isNumber() ? value.doubleValue() : NO_MATCH;
+      }
+      case FLOAT -> {
+        // through a double, as the converter reads numbers as doubles.
+        return value -> value.isNumber() ? (float) value.doubleValue() : NO_MATCH;
+      }
+      case STRING -> {
+        if (logicalType == null || UUID_LOGICAL_TYPE.equals(logicalType.getName())) {
+          return value -> value.isTextual() ? value.textValue() : NO_MATCH;
+        }
+        return UNKNOWN_ENCODER;
+      }
+      default -> {
+        return UNKNOWN_ENCODER;
+      }
+    }
+  }
+
+  private static Object encodeUnion(final List<ValueEncoder> branches, final JsonNode value) {
+    for (final ValueEncoder branch : branches) {
+      final Object encoded = branch.encode(value);
+      if (encoded != NO_MATCH) {
+        return encoded;
+      }
+    }
+    // the converter falls back on coercing the value to one of the branches.
+    return UNKNOWN;
+  }
+
+  private static Object encodeArray(final Schema schema, final ValueEncoder itemEncoder, final JsonNode value) {
+    final GenericData.Array<Object> array = new GenericData.Array<>(value.size(), schema);
+    for (final JsonNode item : value) {
+      final Object encoded = itemEncoder.encode(item);
+      if (encoded == NO_MATCH || encoded == UNKNOWN) {
+        return UNKNOWN;
+      }
+      array.add(encoded);
+    }
+    return array;
+  }
+
+  private static Object encodeInt(final JsonNode value) {
+    if (!value.isNumber()) {
+      return NO_MATCH;
+    }
+    // the converter truncates other numbers.
+    return value.isIntegralNumber() && value.canConvertToInt() ? value.intValue() : UNKNOWN;
+  }
+
+  private static Object encodeLong(final JsonNode value) {
+    if (!value.isNumber()) {
+      return NO_MATCH;
+    }
+    return value.isIntegralNumber() && value.canConvertToLong() ? value.longValue() : UNKNOWN;
+  }
+
+  private static Object encodeTimestampMicros(final JsonNode value) {
+    // e.g. 2021-01-01T01:01:01+01:00, the converter also reads other formats.
+    if (!value.isTextual() || value.textValue().indexOf('T') != 10) {
+      return UNKNOWN;
+    }
+    try {
+      final Instant instant = OffsetDateTime.parse(value.textValue()).toInstant();
+      if (instant.getNano() % 1000 != 0) {
+        return UNKNOWN;
+      }
+      return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1000);
+    } catch (final DateTimeParseException | ArithmeticException e) {
+      return UNKNOWN;
+    }
+  }
+
+  private static Object encodeDate(final JsonNode value) {
+    // e.g. 2021-01-01
+    if (!value.isTextual() || value.textValue().length() != 10) {
+      return UNKNOWN;
+    }
+    try {
+      return Math.toIntExact(LocalDate.parse(value.textValue()).toEpochDay());
+    } catch (final DateTimeParseException | ArithmeticException e) {
+      return UNKNOWN;
+    }
+  }
+
+  private static Object encodeTimeMicros(final JsonNode value) {
+    // e.g. 12:23:01.541
+    if (!value.isTextual() || value.textValue().length() < 8) {
+      return UNKNOWN;
+    }
+    try {
+      final long nanoOfDay = LocalTime.parse(value.textValue()).toNanoOfDay();
+      return nanoOfDay % 1000 == 0 ? nanoOfDay / 1000 : UNKNOWN;
+    } catch (final DateTimeParseException e) {
+      return UNKNOWN;
+    }
+  }
+
+  /**
+   * Fills the fields of a record. Json fields that are not in the schema, and the fields of a Json
+   * additional properties object, go to the Avro additional properties field as strings.
+   */
+  private static class RecordEncoder implements ValueEncoder {
+
+    private static final FieldSlot UNKNOWN_FIELD = new FieldSlot(-1, false);
+
+    private final Schema schema;
+    private final ValueEncoder[] fieldEncoders;
+    private final boolean[] requiredFields;
+    private final int extraPropsPosition;
+    // Json field name -> Avro field. Names without a field, such as additional properties, are not
+    // cached, as records can have any number of them.
+    private final Map<String, FieldSlot> fieldSlots = new ConcurrentHashMap<>();
+
+    RecordEncoder(final Schema schema) {
+      this.schema = schema;
+      this.fieldEncoders = new ValueEncoder[schema.getFields().size()];
+      this.requiredFields = new boolean[schema.getFields().size()];
+      final Field extraPropsField = schema.getField(AvroConstants.AVRO_EXTRA_PROPS_FIELD);
+      this.extraPropsPosition = extraPropsField == null ? -1 : extraPropsField.pos();
+    }
+
+    void compileFields(final Map<Schema, ValueEncoder> compiled) {
+      for (final Field field : schema.getFields()) {
+        fieldEncoders[field.pos()] = compile(field.schema(), compiled);
+        requiredFields[field.pos()] = !field.schema().isNullable();
+      }
+    }
+
+    @Override
+    public Object encode(final JsonNode value) {
+      return value.isObject() ? encodeRecord(value) : NO_MATCH;
+    }
+
+    Object encodeRecord(final JsonNode... objects) {
+      final GenericData.Record record = new GenericData.Record(schema);
+      Map<String, String> extraProps = null;
+
+      for (final JsonNode object : objects) {
+        if (!object.isObject()) {
+          return UNKNOWN;
+        }
+        final Iterator<Entry<String, JsonNode>> fields = object.fields();
+        while (fields.hasNext()) {
+          final Entry<String, JsonNode> field = fields.next();
+          final String name = field.getKey();
+          final JsonNode value = field.getValue();
+
+          if (extraPropsPosition >= 0 && AvroConstants.JSON_EXTRA_PROPS_FIELDS.contains(name)) {
+            if (value.isNull()) {
+              continue;
+            }
+            if (!value.isObject()) {
+              return UNKNOWN;
+            }
+            final Iterator<Entry<String, JsonNode>> extraFields = value.fields();
+            while (extraFields.hasNext()) {
+              final Entry<String, JsonNode> extraField = extraFields.next();
+              extraProps = putExtraProp(extraProps, extraField.getKey(), extraField.getValue());
+              if (extraProps == null) {
+                return UNKNOWN;
+              }
+            }
+            continue;
+          }
+
+          final FieldSlot slot = getSlot(name);
+          if (slot.position() >= 0) {
+            final Object encoded = fieldEncoders[slot.position()].encode(value);
+            if (encoded == NO_MATCH || encoded == UNKNOWN) {
+              return UNKNOWN;
+            }
+            record.put(slot.position(), encoded);
+          } else if (extraPropsPosition >= 0 && slot.standardName()) {
+            extraProps = putExtraProp(extraProps, name, value);
+            if (extraProps == null) {
+              return UNKNOWN;
+            }
+          } else {
+            return UNKNOWN;
+          }
+        }
+      }
+
+      if (extraProps != null) {
+        record.put(extraPropsPosition, extraProps);
+      }
+      for (int i = 0; i < requiredFields.length; i++) {
+        if (requiredFields[i] && record.get(i) == null) {
+          return UNKNOWN;
+        }
+      }
+      return record;
+    }
+
+    private FieldSlot getSlot(final String name) {
+      final FieldSlot cached = fieldSlots.get(name);
+      if (cached != null) {
+        return cached;
+      }
+      final FieldSlot slot = findSlot(name);
+      if (slot.position() >= 0) {
+        fieldSlots.put(name, slot);
+      }
+      return slot;
+    }
+
+    private FieldSlot findSlot(final String name) {
+      final String avroName = AvroConstants.NAME_TRANSFORMER.getIdentifier(name);
+      final Field field = schema.getField(avroName);
+      if (field == null || field.pos() == extraPropsPosition) {
+        return avroName.equals(name) ? new FieldSlot(-1, true) : UNKNOWN_FIELD;
+      }
+      return new FieldSlot(field.pos(), avroName.equals(name));
+    }
+
+    /**
+     * @return the additional properties with the given one added, or null if it cannot be.
+     */
+    private static Map<String, String> putExtraProp(final Map<String, String> extraProps, final String name, final JsonNode value) {
+      final String text;
+      if (value.isTextual()) {
+        text = value.textValue();
+      } else if (value.isBoolean() || value.isIntegralNumber()) {
+        text = value.asText();
+      } else {
+        return null;
+      }
+      final Map<String, String> props = extraProps == null ? new LinkedHashMap<>() : extraProps;
+      return props.putIfAbsent(name, text) == null ? props : null;
+    }
+
+  }
+
+  /**
+   * @param position position of the Avro field of a Json field name, or -1 if there is none.
+   * @param standardName whether the Json field name is also a valid Avro name.
+   */
+  private record FieldSlot(int position, boolean standardName) {}
+
+}
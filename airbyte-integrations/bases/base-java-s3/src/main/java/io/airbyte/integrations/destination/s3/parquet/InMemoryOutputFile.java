@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.parquet;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.apache.parquet.io.OutputFile;
+import org.apache.parquet.io.PositionOutputStream;
+
+/**
+ * An {@link OutputFile} that keeps the parquet file in memory, so that it does not have to be
+ * written to disk and read back before it is uploaded.
+ *
+ * The bytes are kept in chunks instead of a single growing array, so that the file is never copied,
+ * neither while it grows nor when it is read back with {@link #newInputStream()}. Chunks grow with
+ * the file, so that buffers of streams with few records stay small.
+ */
+class InMemoryOutputFile implements OutputFile {
+
+  private static final int MIN_CHUNK_SIZE = 64 * 1024; // 64 kb
+  private static final int MAX_CHUNK_SIZE = 4 * 1024 * 1024; // 4 mb
+
+  private final List<byte[]> chunks = new ArrayList<>();
+  private byte[] currentChunk = null;
+  private int currentChunkOffset = 0;
+  private long position = 0;
+
+  @Override
+  public PositionOutputStream create(final long blockSizeHint) {
+    return new InMemoryPositionOutputStream();
+  }
+
+  @Override
+  public PositionOutputStream createOrOverwrite(final long blockSizeHint) {
+    chunks.clear();
+    currentChunk = null;
+    currentChunkOffset = 0;
+    position = 0;
+    return new InMemoryPositionOutputStream();
+  }
+
+  @Override
+  public boolean supportsBlockSize() {
+    return false;
+  }
+
+  @Override
+  public long defaultBlockSize() {
+    return 0;
+  }
+
+  /**
+   * @return number of bytes written so far.
+   */
+  public long getByteCount() {
+    return position;
+  }
+
+  /**
+   * @return a stream reading the bytes written so far, to be called once the parquet writer is
+   *         closed.
+   */
+  public InputStream newInputStream() {
+    final List<InputStream> streams = new ArrayList<>(chunks.size());
+    for (final byte[] chunk : chunks) {
+      // only the last chunk is partially filled
+      streams.add(new ByteArrayInputStream(chunk, 0, chunk == currentChunk ? currentChunkOffset : chunk.length));
+    }
+    return new SequenceInputStream(Collections.enumeration(streams));
+  }
+
+  private class InMemoryPositionOutputStream extends PositionOutputStream {
+
+    @Override
+    public long getPos() {
+      return position;
+    }
+
+    @Override
+    public void write(final int b) {
+      ensureCapacity();
+      currentChunk[currentChunkOffset++] = (byte) b;
+      position++;
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) {
+      int written = 0;
+      while (written < len) {
+        ensureCapacity();
+        final int length = Math.min(len - written, currentChunk.length - currentChunkOffset);
+        System.arraycopy(b, off + written, currentChunk, currentChunkOffset, length);
+        currentChunkOffset += length;
+        written += length;
+        position += length;
+      }
+    }
+
+    private void ensureCapacity() {
+      if (currentChunk == null || currentChunkOffset == currentChunk.length) {
+        // double the size of the file with every new chunk, up to the max chunk size
+        currentChunk = new byte[(int) Math.min(Math.max(position, MIN_CHUNK_SIZE), MAX_CHUNK_SIZE)];
+        currentChunkOffset = 0;
+        chunks.add(currentChunk);
+      }
+    }
+
+  }
+
+}
@@ -6,7 +6,8 @@ package io.airbyte.integrations.destination.s3.parquet;
 
 import io.airbyte.commons.functional.CheckedBiFunction;
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
-import io.airbyte.integrations.destination.record_buffer.FileBuffer;
+import io.airbyte.integrations.destination.buffered_stream_consumer.RecordSizeEstimator;
+import io.airbyte.integrations.destination.record_buffer.GlobalBufferManager;
 import io.airbyte.integrations.destination.record_buffer.SerializableBuffer;
 import io.airbyte.integrations.destination.s3.S3DestinationConfig;
 import io.airbyte.integrations.destination.s3.avro.AvroConstants;
@@ -20,15 +21,23 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData.Record;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.parquet.avro.AvroParquetWriter;
 import org.apache.parquet.hadoop.ParquetWriter;
 import org.apache.parquet.hadoop.util.HadoopOutputFile;
+import org.apache.parquet.io.OutputFile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,14 +50,42 @@ import org.slf4j.LoggerFactory;
  * to go through {@link HadoopOutputFile} instead. So we can't benefit from the abstraction
  * described above. Therefore, we re-implement the necessary methods to be used as
  * {@link SerializableBuffer}, while data will be buffered in such a hadoop file.
+ *
+ * With the in_memory_buffer option, the file is written to an {@link InMemoryOutputFile} instead,
+ * and the upload reads it straight from memory. With encoding_threads, records are converted and
+ * encoded by a pool of threads shared by the buffers of all streams, in batches, while the thread
+ * adding records moves on: a buffer has at most one batch being encoded at a time, so its row groups
+ * are still written in order, but the buffers of several streams are encoded in parallel. Records
+ * not encoded yet are counted in {@link #getByteCount()} by their estimated size, which the encoded
+ * size replaces once their batch is encoded.
  */
 public class ParquetSerializedBuffer implements SerializableBuffer {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ParquetSerializedBuffer.class);
 
+  // records handed to the encoding threads at once, unless they reach the byte limit first
+  private static final int ENCODING_BATCH_SIZE = 10_000;
+  private static final long ENCODING_BATCH_BYTES = 10 * 1024 * 1024; // mb
+
   private final AvroRecordFactory avroRecordFactory;
   private final ParquetWriter<Record> parquetWriter;
+  // null when the file is written in memory
   private final Path bufferFile;
+  // null when the file is written to disk
+  private final InMemoryOutputFile inMemoryFile;
+  private final String filename;
+  // null when records are encoded on the thread adding them
+  private final ExecutorService encodingExecutor;
+  private final RecordSizeEstimator recordSizeEstimator;
+  private List<AirbyteRecordMessage> pendingRecords;
+  // estimated size of the pending records
+  private long pendingByteCount;
+  private Future<?> encodingBatch;
+  // estimated size of the records being encoded, until they are
+  private volatile long encodingBatchByteCount;
+  // size of the data encoded by the last batch, as getDataSize() cannot be called while encoding
+  private volatile long encodedByteCount;
+  private File inMemoryTempFile;
   private InputStream inputStream;
   private Long lastByteCount;
   private boolean isClosed;
@@ -57,6 +94,18 @@ public class ParquetSerializedBuffer implements SerializableBuffer {
                                  final AirbyteStreamNameNamespacePair stream,
                                  final ConfiguredAirbyteCatalog catalog)
       throws IOException {
+    this(config, stream, catalog, null);
+  }
+
+  /**
+   * @param encodingExecutor threads encoding the records, or null to encode them on the thread adding
+   *        them.
+   */
+  public ParquetSerializedBuffer(final S3DestinationConfig config,
+                                 final AirbyteStreamNameNamespacePair stream,
+                                 final ConfiguredAirbyteCatalog catalog,
+                                 final ExecutorService encodingExecutor)
+      throws IOException {
     final JsonToAvroSchemaConverter schemaConverter = new JsonToAvroSchemaConverter();
     final Schema schema = schemaConverter.getAvroSchema(catalog.getStreams()
         .stream()
@@ -66,12 +115,22 @@ public class ParquetSerializedBuffer implements SerializableBuffer {
         .getStream()
         .getJsonSchema(),
         stream.getName(), stream.getNamespace());
-    bufferFile = Files.createTempFile(UUID.randomUUID().toString(), ".parquet");
-    Files.deleteIfExists(bufferFile);
     avroRecordFactory = new AvroRecordFactory(schema, AvroConstants.JSON_CONVERTER);
     final S3ParquetFormatConfig formatConfig = (S3ParquetFormatConfig) config.getFormatConfig();
-    parquetWriter = AvroParquetWriter.<Record>builder(HadoopOutputFile
-        .fromPath(new org.apache.hadoop.fs.Path(bufferFile.toUri()), new Configuration()))
+    final OutputFile outputFile;
+    if (formatConfig.isInMemoryBuffer()) {
+      bufferFile = null;
+      inMemoryFile = new InMemoryOutputFile();
+      filename = UUID.randomUUID() + S3ParquetFormatConfig.PARQUET_SUFFIX;
+      outputFile = inMemoryFile;
+    } else {
+      bufferFile = Files.createTempFile(UUID.randomUUID().toString(), ".parquet");
+      Files.deleteIfExists(bufferFile);
+      inMemoryFile = null;
+      filename = bufferFile.getFileName().toString();
+      outputFile = HadoopOutputFile.fromPath(new org.apache.hadoop.fs.Path(bufferFile.toUri()), new Configuration());
+    }
+    parquetWriter = AvroParquetWriter.<Record>builder(outputFile)
         .withSchema(schema)
         .withCompressionCodec(formatConfig.getCompressionCodec())
         .withRowGroupSize(formatConfig.getBlockSize())
@@ -80,6 +139,14 @@ public class ParquetSerializedBuffer implements SerializableBuffer {
         .withDictionaryPageSize(formatConfig.getDictionaryPageSize())
         .withDictionaryEncoding(formatConfig.isDictionaryEncoding())
         .build();
+    this.encodingExecutor = encodingExecutor;
+    recordSizeEstimator = new RecordSizeEstimator();
+    pendingRecords = new ArrayList<>();
+    pendingByteCount = 0L;
+    encodingBatch = null;
+    encodingBatchByteCount = 0L;
+    encodedByteCount = 0L;
+    inMemoryTempFile = null;
     inputStream = null;
     isClosed = false;
     lastByteCount = 0L;
@@ -89,19 +156,73 @@ public class ParquetSerializedBuffer implements SerializableBuffer {
   public long accept(final AirbyteRecordMessage recordMessage) throws Exception {
     if (inputStream == null && !isClosed) {
       final long startCount = getByteCount();
-      parquetWriter.write(avroRecordFactory.getAvroRecord(UUID.randomUUID(), recordMessage));
+      if (encodingExecutor == null) {
+        parquetWriter.write(avroRecordFactory.getAvroRecord(UUID.randomUUID(), recordMessage));
+      } else {
+        pendingRecords.add(recordMessage);
+        pendingByteCount += recordSizeEstimator.getEstimatedByteSize(recordMessage);
+        if (pendingRecords.size() >= ENCODING_BATCH_SIZE || pendingByteCount >= ENCODING_BATCH_BYTES) {
+          encodePendingRecords();
+        }
+      }
       return getByteCount() - startCount;
     } else {
       throw new IllegalCallerException("Buffer is already closed, it cannot accept more messages");
     }
   }
 
+  /**
+   * Waits for the previous batch to be encoded, and hands the pending records to the encoding
+   * threads.
+   */
+  private void encodePendingRecords() throws Exception {
+    awaitEncodingBatch();
+    final List<AirbyteRecordMessage> records = pendingRecords;
+    encodingBatchByteCount = pendingByteCount;
+    pendingRecords = new ArrayList<>();
+    pendingByteCount = 0L;
+    encodingBatch = encodingExecutor.submit(() -> {
+      for (final AirbyteRecordMessage record : records) {
+        parquetWriter.write(avroRecordFactory.getAvroRecord(UUID.randomUUID(), record));
+      }
+      encodedByteCount = parquetWriter.getDataSize();
+      encodingBatchByteCount = 0L;
+      return null;
+    });
+  }
+
+  private void awaitEncodingBatch() throws Exception {
+    if (encodingBatch != null) {
+      try {
+        encodingBatch.get();
+      } catch (final ExecutionException e) {
+        if (e.getCause() instanceof Exception) {
+          throw (Exception) e.getCause();
+        }
+        throw e;
+      } finally {
+        encodingBatch = null;
+      }
+    }
+  }
+
   @Override
   public void flush() throws Exception {
     if (inputStream == null && !isClosed) {
+      if (encodingExecutor != null) {
+        if (!pendingRecords.isEmpty()) {
+          encodePendingRecords();
+        }
+        awaitEncodingBatch();
+      }
       getByteCount();
       parquetWriter.close();
-      inputStream = new FileInputStream(bufferFile.toFile());
+      if (inMemoryFile != null) {
+        lastByteCount = inMemoryFile.getByteCount();
+        inputStream = inMemoryFile.newInputStream();
+      } else {
+        inputStream = new FileInputStream(bufferFile.toFile());
+      }
       LOGGER.info("Finished writing data to {} ({})", getFilename(), FileUtils.byteCountToDisplaySize(getByteCount()));
     }
   }
@@ -113,18 +234,34 @@ public class ParquetSerializedBuffer implements SerializableBuffer {
       // count
       return lastByteCount;
     }
-    lastByteCount = parquetWriter.getDataSize();
+    if (encodingExecutor == null) {
+      lastByteCount = parquetWriter.getDataSize();
+    } else {
+      // read before the encoded size, which is updated first, so that a batch is never missed
+      final long batchByteCount = encodingBatchByteCount;
+      lastByteCount = encodedByteCount + batchByteCount + pendingByteCount;
+    }
     return lastByteCount;
   }
 
   @Override
   public String getFilename() throws IOException {
-    return bufferFile.getFileName().toString();
+    return filename;
   }
 
   @Override
   public File getFile() throws IOException {
-    return bufferFile.toFile();
+    if (inMemoryFile == null) {
+      return bufferFile.toFile();
+    }
+    // only written for the destinations that need to upload a file, once the buffer is flushed
+    if (inMemoryTempFile == null) {
+      inMemoryTempFile = Files.createTempFile(UUID.randomUUID().toString(), ".parquet").toFile();
+      try (final InputStream in = inMemoryFile.newInputStream()) {
+        FileUtils.copyInputStreamToFile(in, inMemoryTempFile);
+      }
+    }
+    return inMemoryTempFile;
   }
 
   @Override
@@ -134,31 +271,47 @@ public class ParquetSerializedBuffer implements SerializableBuffer {
 
   @Override
   public long getMaxTotalBufferSizeInBytes() {
-    return FileBuffer.MAX_TOTAL_BUFFER_SIZE_BYTES;
+    return getBufferManager().getMaxTotalBufferSizeInBytes();
   }
 
   @Override
   public long getMaxPerStreamBufferSizeInBytes() {
-    return FileBuffer.MAX_PER_STREAM_BUFFER_SIZE_BYTES;
+    return getBufferManager().getMaxPerStreamBufferSizeInBytes();
   }
 
   @Override
   public int getMaxConcurrentStreamsInBuffer() {
-    return FileBuffer.DEFAULT_MAX_CONCURRENT_STREAM_IN_BUFFER;
+    return getBufferManager().getMaxConcurrentStreamsInBuffer();
+  }
+
+  private GlobalBufferManager getBufferManager() {
+    return inMemoryFile != null ? GlobalBufferManager.forInMemoryBuffers() : GlobalBufferManager.forFileBuffers();
   }
 
   @Override
   public void close() throws Exception {
     if (!isClosed) {
       inputStream.close();
-      Files.deleteIfExists(bufferFile);
+      if (bufferFile != null) {
+        Files.deleteIfExists(bufferFile);
+      }
+      if (inMemoryTempFile != null) {
+        Files.deleteIfExists(inMemoryTempFile.toPath());
+      }
       isClosed = true;
     }
   }
 
   public static CheckedBiFunction<AirbyteStreamNameNamespacePair, ConfiguredAirbyteCatalog, SerializableBuffer, Exception> createFunction(final S3DestinationConfig s3DestinationConfig) {
+    final int encodingThreads = ((S3ParquetFormatConfig) s3DestinationConfig.getFormatConfig()).getEncodingThreads();
+    // shared by the buffers of all the streams, the threads are daemons as buffers are not told when
+    // the sync ends
+    final ExecutorService encodingExecutor = encodingThreads > 0
+        ? Executors.newFixedThreadPool(encodingThreads,
+            new BasicThreadFactory.Builder().namingPattern("parquet-encoding-%d").daemon(true).build())
+        : null;
     return (final AirbyteStreamNameNamespacePair stream, final ConfiguredAirbyteCatalog catalog) -> new ParquetSerializedBuffer(s3DestinationConfig,
-        stream, catalog);
+        stream, catalog, encodingExecutor);
   }
 
 }
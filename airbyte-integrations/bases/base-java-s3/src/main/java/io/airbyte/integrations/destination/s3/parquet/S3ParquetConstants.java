@@ -16,4 +16,8 @@ public class S3ParquetConstants {
   public static final int DEFAULT_DICTIONARY_PAGE_SIZE_KB = 1024;
   public static final boolean DEFAULT_DICTIONARY_ENCODING = true;
 
+  // Parquet buffer
+  public static final boolean DEFAULT_IN_MEMORY_BUFFER = false;
+  public static final int DEFAULT_ENCODING_THREADS = 0;
+
 }
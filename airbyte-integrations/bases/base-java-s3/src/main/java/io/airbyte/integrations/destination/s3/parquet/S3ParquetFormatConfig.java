@@ -19,6 +19,8 @@ public class S3ParquetFormatConfig implements S3FormatConfig {
   private final int pageSize;
   private final int dictionaryPageSize;
   private final boolean dictionaryEncoding;
+  private final boolean inMemoryBuffer;
+  private final int encodingThreads;
 
   public S3ParquetFormatConfig(final JsonNode formatConfig) {
     final int blockSizeMb = S3FormatConfig.withDefault(formatConfig, "block_size_mb", S3ParquetConstants.DEFAULT_BLOCK_SIZE_MB);
@@ -34,6 +36,8 @@ public class S3ParquetFormatConfig implements S3FormatConfig {
     this.pageSize = pageSizeKb * 1024;
     this.dictionaryPageSize = dictionaryPageSizeKb * 1024;
     this.dictionaryEncoding = S3FormatConfig.withDefault(formatConfig, "dictionary_encoding", S3ParquetConstants.DEFAULT_DICTIONARY_ENCODING);
+    this.inMemoryBuffer = S3FormatConfig.withDefault(formatConfig, "in_memory_buffer", S3ParquetConstants.DEFAULT_IN_MEMORY_BUFFER);
+    this.encodingThreads = S3FormatConfig.withDefault(formatConfig, "encoding_threads", S3ParquetConstants.DEFAULT_ENCODING_THREADS);
   }
 
   @Override
@@ -70,6 +74,14 @@ public class S3ParquetFormatConfig implements S3FormatConfig {
     return dictionaryEncoding;
   }
 
+  public boolean isInMemoryBuffer() {
+    return inMemoryBuffer;
+  }
+
+  public int getEncodingThreads() {
+    return encodingThreads;
+  }
+
   @Override
   public String toString() {
     return "S3ParquetFormatConfig{" +
@@ -79,6 +91,8 @@ public class S3ParquetFormatConfig implements S3FormatConfig {
         "pageSize=" + pageSize + ", " +
         "dictionaryPageSize=" + dictionaryPageSize + ", " +
         "dictionaryEncoding=" + dictionaryEncoding + ", " +
+        "inMemoryBuffer=" + inMemoryBuffer + ", " +
+        "encodingThreads=" + encodingThreads + ", " +
         '}';
   }
 
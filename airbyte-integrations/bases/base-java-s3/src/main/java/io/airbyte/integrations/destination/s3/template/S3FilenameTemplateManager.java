@@ -28,11 +28,6 @@ import org.apache.commons.text.lookup.StringLookupFactory;
 public class S3FilenameTemplateManager {
 
   private static final String UTC = "UTC";
-  private final StringSubstitutor stringSubstitutor;
-
-  public S3FilenameTemplateManager() {
-    stringSubstitutor = new StringSubstitutor();
-  }
 
   public String applyPatternToFilename(final S3FilenameTemplateParameterObject parameterObject)
       throws IOException {
@@ -42,6 +37,8 @@ public class S3FilenameTemplateManager {
         .trim()
         .replaceAll(" ", "_");
 
+    // a substitutor per call, as buffers of several streams can be uploaded concurrently
+    final StringSubstitutor stringSubstitutor = new StringSubstitutor();
     stringSubstitutor.setVariableResolver(
         StringLookupFactory.INSTANCE.mapStringLookup(fillTheMapWithDefaultPlaceHolders(sanitizedFileFormat, parameterObject)));
     stringSubstitutor.setVariablePrefix("{");
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.util;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link OutputStream} to a multipart upload, which uploads each part on a pool of threads as
+ * soon as it is filled, while the next part is being written.
+ *
+ * Unlike {@link alex.mojaki.s3upload.StreamTransferManager}, which starts its own threads for each
+ * upload, the threads are shared by all the uploads of a destination, and so is the number of parts
+ * held in memory while they wait to be uploaded: writing a part waits for a permit of partsInFlight,
+ * released once the part is uploaded. The part being filled is not counted there, as waiting for
+ * other uploads to fill their parts would block the thread writing to all of them: each upload
+ * holds up to one part of partSize bytes, allocated once the part starts, and callers should
+ * limit how many uploads are open at once.
+ *
+ * Closing the stream uploads the last part, {@link #complete()} then waits for all the parts and
+ * completes the upload. If writing fails, {@link #abort()} should be called.
+ */
+public class PipelinedMultipartUpload extends OutputStream {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(PipelinedMultipartUpload.class);
+
+  // https://docs.aws.amazon.com/AmazonS3/latest/userguide/qfacts.html
+  public static final int MAX_PART_COUNT = 10_000;
+
+  private final AmazonS3 s3Client;
+  private final String bucketName;
+  private final String objectKey;
+  private final String uploadId;
+  private final long partSize;
+  private final boolean checkIntegrity;
+  private final ExecutorService uploadExecutor;
+  private final Semaphore partsInFlight;
+
+  private final List<Future<PartETag>> parts = new ArrayList<>();
+  // allocated with the first byte of each part
+  private PartBuffer currentPart;
+  private boolean isClosed = false;
+
+  public PipelinedMultipartUpload(final AmazonS3 s3Client,
+                                  final String bucketName,
+                                  final String objectKey,
+                                  final Map<String, String> userMetadata,
+                                  final long partSize,
+                                  final boolean checkIntegrity,
+                                  final ExecutorService uploadExecutor,
+                                  final Semaphore partsInFlight) {
+    this.s3Client = s3Client;
+    this.bucketName = bucketName;
+    this.objectKey = objectKey;
+    this.partSize = partSize;
+    this.checkIntegrity = checkIntegrity;
+    this.uploadExecutor = uploadExecutor;
+    this.partsInFlight = partsInFlight;
+    this.currentPart = null;
+
+    final ObjectMetadata objectMetadata = new ObjectMetadata();
+    objectMetadata.setUserMetadata(userMetadata);
+    this.uploadId = s3Client.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucketName, objectKey, objectMetadata)).getUploadId();
+    LOGGER.info("Started multipart upload of {} with parts of {} bytes", objectKey, partSize);
+  }
+
+  public String getObjectKey() {
+    return objectKey;
+  }
+
+  @Override
+  public void write(final int b) throws IOException {
+    ensureOpen();
+    startPart();
+    currentPart.write(b);
+    if (currentPart.size() >= partSize) {
+      uploadCurrentPart();
+    }
+  }
+
+  @Override
+  public void write(final byte[] b, final int off, final int len) throws IOException {
+    ensureOpen();
+    int written = 0;
+    while (written < len) {
+      startPart();
+      final int length = (int) Math.min(len - written, partSize - currentPart.size());
+      currentPart.write(b, off + written, length);
+      written += length;
+      if (currentPart.size() >= partSize) {
+        uploadCurrentPart();
+      }
+    }
+  }
+
+  /**
+   * Uploads the last part. A multipart upload needs at least one part, which may be empty.
+   */
+  @Override
+  public void close() throws IOException {
+    if (!isClosed) {
+      isClosed = true;
+      if (currentPart != null || parts.isEmpty()) {
+        uploadCurrentPart();
+      }
+    }
+  }
+
+  /**
+   * Uploads the last part if the stream is not closed yet, waits for all the parts to be uploaded and
+   * completes the upload.
+   */
+  public void complete() throws IOException {
+    close();
+    final List<PartETag> partETags = new ArrayList<>(parts.size());
+    for (final Future<PartETag> part : parts) {
+      partETags.add(getPart(part));
+    }
+    s3Client.completeMultipartUpload(new CompleteMultipartUploadRequest(bucketName, objectKey, uploadId, partETags));
+    LOGGER.info("Completed multipart upload of {} in {} parts", objectKey, partETags.size());
+  }
+
+  /**
+   * Aborts the upload, so that the parts already uploaded are deleted. Parts still waiting for a
+   * thread are not cancelled, so that they release their permit, but fail to upload.
+   */
+  public void abort() {
+    isClosed = true;
+    currentPart = null;
+    try {
+      s3Client.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, objectKey, uploadId));
+      LOGGER.info("Aborted multipart upload of {}", objectKey);
+    } catch (final RuntimeException e) {
+      LOGGER.warn("Failed to abort multipart upload of {}", objectKey, e);
+    }
+  }
+
+  private void ensureOpen() throws IOException {
+    if (isClosed) {
+      throw new IOException("The upload of " + objectKey + " is closed");
+    }
+  }
+
+  private void startPart() {
+    if (currentPart == null) {
+      currentPart = new PartBuffer(partSize);
+    }
+  }
+
+  private void uploadCurrentPart() throws IOException {
+    // fail as soon as a part failed, rather than once everything is written
+    for (final Future<PartETag> part : parts) {
+      if (part.isDone()) {
+        getPart(part);
+      }
+    }
+    final int partNumber = parts.size() + 1;
+    if (partNumber > MAX_PART_COUNT) {
+      throw new IOException(String.format("Object %s does not fit in %d parts of %d bytes", objectKey, MAX_PART_COUNT, partSize));
+    }
+    try {
+      partsInFlight.acquire();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting to upload part " + partNumber + " of " + objectKey);
+    }
+    // handed over to the upload thread as is, the next part gets a buffer of its own
+    final PartBuffer part = currentPart != null ? currentPart : new PartBuffer(0);
+    currentPart = null;
+    parts.add(uploadExecutor.submit(() -> {
+      try {
+        return uploadPart(partNumber, part);
+      } finally {
+        partsInFlight.release();
+      }
+    }));
+  }
+
+  private PartETag uploadPart(final int partNumber, final PartBuffer part) throws NoSuchAlgorithmException {
+    final UploadPartRequest request = new UploadPartRequest()
+        .withBucketName(bucketName)
+        .withKey(objectKey)
+        .withUploadId(uploadId)
+        .withPartNumber(partNumber)
+        .withPartSize(part.size())
+        .withInputStream(part.toInputStream());
+    if (checkIntegrity) {
+      request.setMd5Digest(Base64.getEncoder().encodeToString(part.md5()));
+    }
+    return s3Client.uploadPart(request).getPartETag();
+  }
+
+  private static PartETag getPart(final Future<PartETag> part) throws IOException {
+    try {
+      return part.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for a part to be uploaded");
+    } catch (final ExecutionException e) {
+      throw new IOException("Failed to upload part", e.getCause());
+    }
+  }
+
+  /**
+   * The bytes of a part, read by the upload without being copied.
+   */
+  private static class PartBuffer extends ByteArrayOutputStream {
+
+    PartBuffer(final long partSize) {
+      super(Math.toIntExact(partSize));
+    }
+
+    InputStream toInputStream() {
+      return new ByteArrayInputStream(buf, 0, count);
+    }
+
+    byte[] md5() throws NoSuchAlgorithmException {
+      final MessageDigest digest = MessageDigest.getInstance("MD5");
+      digest.update(buf, 0, count);
+      return digest.digest();
+    }
+
+  }
+
+}
@@ -9,6 +9,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -99,6 +100,36 @@ public class S3StorageOperationsTest {
     assertEquals(OBJECT_TO_DELETE, deleteRequest.getValue().getKeys().get(0).getKey());
   }
 
+  @Test
+  void testPartIdsAreCountedOncePerObjectPath() {
+    final ObjectListing results = mock(ObjectListing.class);
+    when(results.isTruncated()).thenReturn(false);
+    when(results.getObjectSummaries()).thenReturn(List.of(mock(S3ObjectSummary.class), mock(S3ObjectSummary.class)));
+    when(s3Client.listObjects(BUCKET_NAME, FAKE_BUCKET_PATH)).thenReturn(results);
+
+    assertEquals("2", s3StorageOperations.getPartId(FAKE_BUCKET_PATH));
+    assertEquals("3", s3StorageOperations.getPartId(FAKE_BUCKET_PATH));
+    verify(s3Client, times(1)).listObjects(BUCKET_NAME, FAKE_BUCKET_PATH);
+  }
+
+  @Test
+  void testGetPartSize() {
+    final long mb = 1024 * 1024;
+    assertEquals(5 * mb, S3StorageOperations.getPartSize(0));
+    assertEquals(5 * mb, S3StorageOperations.getPartSize(200 * mb));
+    assertEquals(40 * mb, S3StorageOperations.getPartSize(4000 * mb));
+    assertEquals(525 * mb, S3StorageOperations.getPartSize(1000 * 1000 * mb));
+  }
+
+  @Test
+  void testGetMaxPipelinedUploads() {
+    final long mb = 1024 * 1024;
+    // a quarter of the heap, divided by the part size
+    assertEquals(51, S3StorageOperations.getMaxPipelinedUploads(1024 * mb, 200 * mb));
+    assertEquals(6, S3StorageOperations.getMaxPipelinedUploads(1024 * mb, 4000 * mb));
+    assertEquals(1, S3StorageOperations.getMaxPipelinedUploads(8 * mb, 200 * mb));
+  }
+
   @Test
   void testGetFilename() {
     assertEquals("filename", S3StorageOperations.getFilename("filename"));
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.avro;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.resources.MoreResources;
+import io.airbyte.commons.util.MoreIterators;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+class JsonAvroRecordEncoderTest {
+
+  // records with values the converter coerces to another type, which are left to it.
+  private static final Set<String> CONVERTER_ONLY_CASES = Set.of(
+      "field_with_combined_restriction",
+      "record_with_combined_restriction_field",
+      "array_without_items_in_schema",
+      "array_field_with_empty_items");
+
+  public static class ConversionTestCaseProvider implements ArgumentsProvider {
+
+    @Override
+    public Stream<? extends Arguments> provideArguments(final ExtensionContext context) throws Exception {
+      final JsonNode testCases = Jsons.deserialize(MoreResources.readResource("parquet/json_schema_converter/json_conversion_test_cases.json"));
+      return MoreIterators.toList(testCases.elements()).stream().map(testCase -> Arguments.of(
+          testCase.get("schemaName").asText(),
+          testCase.get("jsonObject"),
+          testCase.get("avroSchema"),
+          testCase.get("avroObject")));
+    }
+
+  }
+
+  /**
+   * The encoder either produces the record the converter produces, or leaves it to the converter.
+   */
+  @ParameterizedTest
+  @ArgumentsSource(ConversionTestCaseProvider.class)
+  public void testEncodesLikeTheConverter(final String schemaName,
+                                          final JsonNode jsonObject,
+                                          final JsonNode avroSchema,
+                                          final JsonNode avroObject) {
+    final Schema schema = new Schema.Parser().parse(Jsons.serialize(avroSchema));
+    final Optional<GenericData.Record> record = new JsonAvroRecordEncoder(schema).encode(jsonObject);
+
+    assertEquals(!CONVERTER_ONLY_CASES.contains(schemaName), record.isPresent(), String.format("Encoding of %s", schemaName));
+    record.ifPresent(r -> assertEquals(avroObject, Jsons.deserialize(r.toString()), String.format("Object conversion for %s failed", schemaName)));
+  }
+
+  @Test
+  public void testLeavesNonIsoTimestampsToTheConverter() {
+    final Schema schema = new JsonToAvroSchemaConverter().getAvroSchema(
+        Jsons.deserialize("{\"properties\": {\"updated_at\": {\"type\": \"string\", \"format\": \"date-time\"}}}"),
+        "stream", null, false, true, true, true);
+    final JsonAvroRecordEncoder encoder = new JsonAvroRecordEncoder(schema);
+
+    assertEquals(
+        1609459261123456L,
+        encoder.encode(Jsons.deserialize("{\"updated_at\": \"2021-01-01T00:01:01.123456Z\"}")).orElseThrow().get("updated_at"));
+    assertFalse(encoder.encode(Jsons.deserialize("{\"updated_at\": \"2021-01-01 00:01:01\"}")).isPresent());
+    assertFalse(encoder.encode(Jsons.deserialize("{\"updated_at\": 1609459261}")).isPresent());
+  }
+
+  @Test
+  public void testRecordFactoryAddsAirbyteFields() throws Exception {
+    final Schema schema = new JsonToAvroSchemaConverter().getAvroSchema(
+        Jsons.deserialize("{\"properties\": {\"name\": {\"type\": \"string\"}}}"),
+        "stream", null, true, true, true, true);
+    final UUID id = UUID.randomUUID();
+    final AirbyteRecordMessage message = new AirbyteRecordMessage()
+        .withEmittedAt(1634982000L)
+        .withData(Jsons.deserialize("{\"name\": \"darwin\", \"age\": 73}"));
+
+    final GenericData.Record record = new AvroRecordFactory(schema, AvroConstants.JSON_CONVERTER).getAvroRecord(id, message);
+
+    assertEquals(
+        Jsons.jsonNode(Map.of(
+            "_airbyte_ab_id", id.toString(),
+            "_airbyte_emitted_at", 1634982000L,
+            "name", "darwin",
+            "_airbyte_additional_properties", Map.of("age", "73"))),
+        Jsons.deserialize(record.toString()));
+  }
+
+}
@@ -77,6 +77,57 @@ public class ParquetSerializedBufferTest {
     runTest(195L, 215L, config, getExpectedString());
   }
 
+  @Test
+  public void testInMemoryParquetWriter() throws Exception {
+    final S3DestinationConfig config = S3DestinationConfig.getS3DestinationConfig(Jsons.jsonNode(Map.of(
+        "format", Map.of(
+            "format_type", "parquet",
+            "in_memory_buffer", true,
+            "encoding_threads", 2),
+        "s3_bucket_name", "test",
+        "s3_bucket_region", "us-east-2")));
+    // enough records for a few encoding batches
+    final int recordCount = 25_000;
+    final File tempFile = Files.createTempFile(UUID.randomUUID().toString(), ".parquet").toFile();
+    try (final SerializableBuffer writer = ParquetSerializedBuffer.createFunction(config).apply(streamPair, catalog)) {
+      for (int i = 0; i < recordCount; i++) {
+        writer.accept(message);
+      }
+      writer.flush();
+      assertTrue(writer.getFilename().endsWith(".parquet"));
+      final InputStream in = writer.getInputStream();
+      try (final FileOutputStream outFile = new FileOutputStream(tempFile)) {
+        IOUtils.copy(in, outFile);
+      }
+      // the whole file is in memory, so its size is known exactly
+      assertEquals(tempFile.length(), writer.getByteCount());
+      assertEquals(recordCount, assertRecords(tempFile, getExpectedString()));
+    } finally {
+      Files.deleteIfExists(tempFile.toPath());
+    }
+  }
+
+  @Test
+  public void testPendingRecordsAreCounted() throws Exception {
+    final S3DestinationConfig config = S3DestinationConfig.getS3DestinationConfig(Jsons.jsonNode(Map.of(
+        "format", Map.of(
+            "format_type", "parquet",
+            "encoding_threads", 2),
+        "s3_bucket_name", "test",
+        "s3_bucket_region", "us-east-2")));
+    try (final SerializableBuffer writer = ParquetSerializedBuffer.createFunction(config).apply(streamPair, catalog)) {
+      long acceptedBytes = 0;
+      for (int i = 0; i < 10; i++) {
+        final long recordBytes = writer.accept(message);
+        // the record is not encoded yet, but its estimated size is counted right away
+        assertTrue(recordBytes > 0);
+        acceptedBytes += recordBytes;
+      }
+      assertEquals(acceptedBytes, writer.getByteCount());
+      writer.flush();
+    }
+  }
+
   private static String resolveArchitecture() {
     return System.getProperty("os.name").replace(' ', '_') + "-" + System.getProperty("os.arch") + "-" + System.getProperty("sun.arch.data.model");
   }
@@ -150,21 +201,31 @@ public class ParquetSerializedBufferTest {
       try (final FileOutputStream outFile = new FileOutputStream(tempFile)) {
         IOUtils.copy(in, outFile);
       }
-      try (final ParquetReader<Record> parquetReader =
-          ParquetReader.<Record>builder(new AvroReadSupport<>(), new Path(tempFile.getAbsolutePath()))
-              .withConf(new Configuration())
-              .build()) {
-        Record record;
-        while ((record = parquetReader.read()) != null) {
-          record.put("_airbyte_ab_id", "<UUID>");
-          record.put("_airbyte_emitted_at", "<timestamp>");
-          final String actualData = record.toString();
-          assertEquals(expectedData, actualData);
-        }
-      }
+      assertRecords(tempFile, expectedData);
     } finally {
       Files.deleteIfExists(tempFile.toPath());
     }
   }
 
+  /**
+   * @return the number of records in the file
+   */
+  private static int assertRecords(final File file, final String expectedData) throws Exception {
+    int recordCount = 0;
+    try (final ParquetReader<Record> parquetReader =
+        ParquetReader.<Record>builder(new AvroReadSupport<>(), new Path(file.getAbsolutePath()))
+            .withConf(new Configuration())
+            .build()) {
+      Record record;
+      while ((record = parquetReader.read()) != null) {
+        record.put("_airbyte_ab_id", "<UUID>");
+        record.put("_airbyte_emitted_at", "<timestamp>");
+        final String actualData = record.toString();
+        assertEquals(expectedData, actualData);
+        recordCount++;
+      }
+    }
+    return recordCount;
+  }
+
 }
@@ -6,6 +6,7 @@ package io.airbyte.integrations.destination.s3.parquet;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.commons.json.Jsons;
@@ -22,7 +23,9 @@ class S3ParquetFormatConfigTest {
         + "\t\"max_padding_size_mb\": 1,\n"
         + "\t\"page_size_kb\": 1,\n"
         + "\t\"dictionary_page_size_kb\": 1,\n"
-        + "\t\"dictionary_encoding\": false\n"
+        + "\t\"dictionary_encoding\": false,\n"
+        + "\t\"in_memory_buffer\": true,\n"
+        + "\t\"encoding_threads\": 4\n"
         + "}");
 
     final S3ParquetFormatConfig config = new S3ParquetFormatConfig(formatConfig);
@@ -35,6 +38,8 @@ class S3ParquetFormatConfigTest {
 
     assertEquals(CompressionCodecName.GZIP, config.getCompressionCodec());
     assertFalse(config.isDictionaryEncoding());
+    assertTrue(config.isInMemoryBuffer());
+    assertEquals(4, config.getEncodingThreads());
   }
 
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class PipelinedMultipartUploadTest {
+
+  private static final String BUCKET_NAME = "fake-bucket";
+  private static final String OBJECT_KEY = "namespace/stream_name/0.csv";
+  private static final String UPLOAD_ID = "upload-id";
+
+  private AmazonS3 s3Client;
+  private ExecutorService uploadExecutor;
+  private Map<Integer, String> uploadedParts;
+
+  @BeforeEach
+  public void setup() {
+    s3Client = mock(AmazonS3.class);
+    final InitiateMultipartUploadResult initiateResult = new InitiateMultipartUploadResult();
+    initiateResult.setUploadId(UPLOAD_ID);
+    when(s3Client.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).thenReturn(initiateResult);
+
+    uploadedParts = new ConcurrentSkipListMap<>();
+    when(s3Client.uploadPart(any(UploadPartRequest.class))).thenAnswer(invocation -> {
+      final UploadPartRequest request = invocation.getArgument(0);
+      uploadedParts.put(request.getPartNumber(), new String(request.getInputStream().readAllBytes(), UTF_8));
+      final UploadPartResult result = new UploadPartResult();
+      result.setPartNumber(request.getPartNumber());
+      result.setETag("etag-" + request.getPartNumber());
+      return result;
+    });
+    uploadExecutor = Executors.newFixedThreadPool(2);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    uploadExecutor.shutdownNow();
+  }
+
+  @Test
+  void testUploadsPartsAsTheyFill() throws IOException {
+    final PipelinedMultipartUpload upload = createUpload(4);
+    upload.write("abcdef".getBytes(UTF_8));
+    upload.write('g');
+    upload.write("hij".getBytes(UTF_8));
+    upload.complete();
+
+    assertEquals(List.of("abcd", "efgh", "ij"), List.copyOf(uploadedParts.values()));
+    final ArgumentCaptor<CompleteMultipartUploadRequest> completeRequest = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+    verify(s3Client).completeMultipartUpload(completeRequest.capture());
+    assertEquals(UPLOAD_ID, completeRequest.getValue().getUploadId());
+    assertEquals(List.of(1, 2, 3), completeRequest.getValue().getPartETags().stream().map(PartETag::getPartNumber).toList());
+  }
+
+  @Test
+  void testUploadsAnEmptyPartForAnEmptyObject() throws IOException {
+    final PipelinedMultipartUpload upload = createUpload(4);
+    upload.complete();
+
+    assertEquals(Map.of(1, ""), uploadedParts);
+  }
+
+  @Test
+  void testFailsWhenAPartFails() {
+    when(s3Client.uploadPart(any(UploadPartRequest.class))).thenThrow(new SdkClientException("Connection reset"));
+    final PipelinedMultipartUpload upload = createUpload(4);
+
+    assertThrows(IOException.class, () -> {
+      upload.write("abcdefghij".getBytes(UTF_8));
+      upload.complete();
+    });
+    upload.abort();
+
+    verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+  }
+
+  @Test
+  void testRejectsWritesOnceClosed() throws IOException {
+    final PipelinedMultipartUpload upload = createUpload(4);
+    upload.write("abc".getBytes(UTF_8));
+    upload.close();
+
+    assertThrows(IOException.class, () -> upload.write('d'));
+    upload.complete();
+    assertEquals(Map.of(1, "abc"), uploadedParts);
+  }
+
+  private PipelinedMultipartUpload createUpload(final long partSize) {
+    return new PipelinedMultipartUpload(s3Client, BUCKET_NAME, OBJECT_KEY, Map.of(), partSize, true, uploadExecutor, new Semaphore(2));
+  }
+
+}
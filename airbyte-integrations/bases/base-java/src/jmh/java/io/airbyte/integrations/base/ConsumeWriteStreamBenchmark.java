@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.base;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the throughput, in messages per second, of
+ * {@link IntegrationRunner#consumeWriteStream(AirbyteMessageConsumer, java.io.InputStream)} with a
+ * consumer that does nothing, next to the Scanner based loop it replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ConsumeWriteStreamBenchmark {
+
+  private static final int NUM_MESSAGES = 10_000;
+
+  @Param({"5", "200"})
+  public int numColumns;
+
+  private byte[] input;
+
+  @Setup
+  public void setup() {
+    final ObjectNode data = (ObjectNode) Jsons.emptyObject();
+    for (int i = 0; i < numColumns; i++) {
+      switch (i % 3) {
+        case 0 -> data.put("column_" + i, "some string value " + i);
+        case 1 -> data.put("column_" + i, i * 1000L);
+        default -> data.put("column_" + i, i / 7.0);
+      }
+    }
+    final String line = Jsons.serialize(new AirbyteMessage()
+        .withType(AirbyteMessage.Type.RECORD)
+        .withRecord(new AirbyteRecordMessage()
+            .withStream("benchmark_stream")
+            .withNamespace("public")
+            .withEmittedAt(1_665_000_000_000L)
+            .withData(data)));
+    input = (line + "\n").repeat(NUM_MESSAGES).getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUM_MESSAGES)
+  public void consumeWriteStream(final Blackhole blackhole) throws Exception {
+    IntegrationRunner.consumeWriteStream(new NoOpConsumer(blackhole), new ByteArrayInputStream(input));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUM_MESSAGES)
+  public void scannerConsumeWriteStream(final Blackhole blackhole) throws Exception {
+    final AirbyteMessageConsumer consumer = new NoOpConsumer(blackhole);
+    final Scanner scanner = new Scanner(new ByteArrayInputStream(input), StandardCharsets.UTF_8).useDelimiter("[\r\n]+");
+    consumer.start();
+    while (scanner.hasNext()) {
+      IntegrationRunner.consumeMessage(consumer, scanner.next());
+    }
+  }
+
+  private static class NoOpConsumer implements AirbyteMessageConsumer {
+
+    private final Blackhole blackhole;
+
+    NoOpConsumer(final Blackhole blackhole) {
+      this.blackhole = blackhole;
+    }
+
+    @Override
+    public void start() {}
+
+    @Override
+    public void accept(final AirbyteMessage message) {
+      blackhole.consume(message);
+    }
+
+    @Override
+    public void close() {}
+
+  }
+
+}
@@ -9,21 +9,26 @@ import com.fasterxml.jackson.annotation.JsonPropertyDescription;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import io.airbyte.commons.io.FramedMessageWriter;
 import io.airbyte.commons.io.IOs;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.lang.Exceptions.Procedure;
+import io.airbyte.commons.protocol.serde.AirbyteMessageSmileSerializer;
 import io.airbyte.commons.string.Strings;
 import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.commons.version.AirbyteVersion;
 import io.airbyte.protocol.models.AirbyteConnectionStatus;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteMessage.Type;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.validation.json.JsonSchemaValidator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
-import java.util.Scanner;
 import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -49,6 +54,10 @@ public class IntegrationRunner {
 
   public static final int FORCED_EXIT_CODE = 2;
 
+  private static final AirbyteVersion MESSAGE_VERSION = new AirbyteVersion("0.3.0");
+  // frames are buffered, so they are also flushed this often for sources that emit few messages
+  private static final long FRAME_FLUSH_INTERVAL_MILLIS = 1000;
+
   private final IntegrationCliParser cliParser;
   private final Consumer<AirbyteMessage> outputRecordCollector;
   private final Integration integration;
@@ -153,24 +162,106 @@ public class IntegrationRunner {
   }
 
   private void produceMessages(final AutoCloseableIterator<AirbyteMessage> messageIterator) throws Exception {
-    watchForOrphanThreads(
-        () -> messageIterator.forEachRemaining(outputRecordCollector),
-        () -> System.exit(FORCED_EXIT_CODE),
-        INTERRUPT_THREAD_DELAY_MINUTES,
-        TimeUnit.MINUTES,
-        EXIT_THREAD_DELAY_MINUTES,
-        TimeUnit.MINUTES);
+    final Optional<FramedMessageWriter> socketWriter = connectToMessageSocket(System.getenv(FramedMessageWriter.MESSAGE_SOCKET_ENV_VAR));
+    final Optional<ScheduledExecutorService> flusher = socketWriter.map(IntegrationRunner::flushPeriodically);
+    try {
+      final Consumer<AirbyteMessage> collector = socketWriter.isPresent()
+          ? frameCollector(socketWriter.get(), System.getenv(FramedMessageWriter.MESSAGE_FORMATS_ENV_VAR))
+          : outputRecordCollector;
+      watchForOrphanThreads(
+          () -> messageIterator.forEachRemaining(collector),
+          () -> System.exit(FORCED_EXIT_CODE),
+          INTERRUPT_THREAD_DELAY_MINUTES,
+          TimeUnit.MINUTES,
+          EXIT_THREAD_DELAY_MINUTES,
+          TimeUnit.MINUTES);
+    } finally {
+      flusher.ifPresent(ScheduledExecutorService::shutdownNow);
+      if (socketWriter.isPresent()) {
+        socketWriter.get().close();
+      }
+    }
+  }
+
+  private static ScheduledExecutorService flushPeriodically(final FramedMessageWriter writer) {
+    final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(
+        new BasicThreadFactory.Builder().namingPattern("frame-flusher-%d").daemon(true).build());
+    flusher.scheduleWithFixedDelay(() -> {
+      try {
+        writer.flush();
+      } catch (final IOException e) {
+        // the next write fails the same way, and reports it.
+        LOGGER.debug("Could not flush the message socket", e);
+      }
+    }, FRAME_FLUSH_INTERVAL_MILLIS, FRAME_FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    return flusher;
+  }
+
+  /**
+   * When the worker offers a unix domain socket, messages are sent through it as length prefixed
+   * frames instead of json lines on stdout, which saves the worker from scanning them for line ends
+   * and the relays in between. The socket is connected before any message is emitted, as this is how
+   * the worker tells that it is used. Stdout is used if it cannot be connected, e.g. when the worker
+   * runs somewhere the socket cannot be shared with the connector.
+   */
+  @VisibleForTesting
+  static Optional<FramedMessageWriter> connectToMessageSocket(final String socketPath) {
+    if (socketPath == null || socketPath.isEmpty()) {
+      return Optional.empty();
+    }
+    try {
+      final FramedMessageWriter writer = FramedMessageWriter.connect(Path.of(socketPath));
+      LOGGER.info("Sending messages through socket {}", socketPath);
+      return Optional.of(writer);
+    } catch (final IOException | RuntimeException e) {
+      LOGGER.warn("Could not connect to socket {}, sending messages to stdout instead.", socketPath, e);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * When the worker also offers binary formats, the first frame names the format the messages are
+   * sent in: Smile if it is offered, as it is cheaper to encode and decode than json, else json.
+   * Frames are flushed after each state message, so that checkpoints are not held in the buffer.
+   */
+  @VisibleForTesting
+  static Consumer<AirbyteMessage> frameCollector(final FramedMessageWriter writer, final String offeredFormats) throws IOException {
+    if (offeredFormats == null || offeredFormats.isEmpty()) {
+      return message -> writeFrame(writer, message, Jsons.serialize(message).getBytes(StandardCharsets.UTF_8));
+    }
+
+    if (Set.of(offeredFormats.split(",")).contains(AirbyteMessageSmileSerializer.FORMAT)) {
+      LOGGER.info("Sending messages as {}", AirbyteMessageSmileSerializer.FORMAT);
+      writer.write(AirbyteMessageSmileSerializer.FORMAT);
+      final AirbyteMessageSmileSerializer<AirbyteMessage> serializer = new AirbyteMessageSmileSerializer<>(MESSAGE_VERSION);
+      return message -> writeFrame(writer, message, serializer.serialize(message));
+    }
+    writer.write(FramedMessageWriter.JSON_FORMAT);
+    return message -> writeFrame(writer, message, Jsons.serialize(message).getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static void writeFrame(final FramedMessageWriter writer, final AirbyteMessage message, final byte[] frame) {
+    try {
+      writer.write(frame);
+      if (message.getType() == Type.STATE) {
+        writer.flush();
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
   }
 
   @VisibleForTesting
   static void consumeWriteStream(final AirbyteMessageConsumer consumer) throws Exception {
-    // use a Scanner that only processes new line characters to strictly abide with the
-    // https://jsonlines.org/ standard
-    final Scanner input = new Scanner(System.in, StandardCharsets.UTF_8).useDelimiter("[\r\n]+");
+    consumeWriteStream(consumer, System.in);
+  }
+
+  @VisibleForTesting
+  static void consumeWriteStream(final AirbyteMessageConsumer consumer, final InputStream inputStream) throws Exception {
+    // only split on new line characters to strictly abide with the https://jsonlines.org/ standard
+    final JsonLinesReader input = new JsonLinesReader(inputStream);
     consumer.start();
-    while (input.hasNext()) {
-      consumeMessage(consumer, input.next());
-    }
+    input.forEachLine((buffer, offset, length) -> consumeMessage(consumer, buffer, offset, length));
   }
 
   private static void runConsumer(final AirbyteMessageConsumer consumer) throws Exception {
@@ -266,6 +357,21 @@ public class IntegrationRunner {
     }
   }
 
+  /**
+   * Same as {@link #consumeMessage(AirbyteMessageConsumer, String)}, but deserializes the message
+   * straight from a slice of the stdin buffer. Only lines that are not valid messages are decoded into
+   * a String, to be reported.
+   */
+  private static void consumeMessage(final AirbyteMessageConsumer consumer, final byte[] buffer, final int offset, final int length)
+      throws Exception {
+    final Optional<AirbyteMessage> messageOptional = Jsons.tryDeserialize(buffer, offset, length, AirbyteMessage.class);
+    if (messageOptional.isPresent()) {
+      consumer.accept(messageOptional.get());
+    } else {
+      consumeMessage(consumer, new String(buffer, offset, length, StandardCharsets.UTF_8));
+    }
+  }
+
   private static String dumpThread(final Thread thread) {
     return String.format("%s (%s)\n Thread stacktrace: %s", thread.getName(), thread.getState(),
         Strings.join(List.of(thread.getStackTrace()), "\n        at "));
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.base;
+
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Splits an input stream into lines, following the https://jsonlines.org/ standard, and hands each
+ * line to a consumer as a slice of a reusable byte buffer. Compared to a {@link java.util.Scanner}
+ * there is no regex matching and no String is decoded per line, so the bytes can go straight to a
+ * json parser.
+ *
+ * Lines are delimited by any run of \r and \n characters, and empty lines are skipped. Neither byte
+ * can appear inside a multi-byte UTF-8 character, so the input does not need to be decoded to be
+ * split. The buffer grows to fit lines longer than it.
+ */
+class JsonLinesReader {
+
+  static final int DEFAULT_BUFFER_SIZE = 1024 * 1024; // 1 MiB
+
+  @FunctionalInterface
+  interface LineConsumer {
+
+    /**
+     * The slice of the buffer is only valid for the duration of the call.
+     */
+    void accept(byte[] buffer, int offset, int length) throws Exception;
+
+  }
+
+  private final InputStream inputStream;
+  private byte[] buffer;
+
+  JsonLinesReader(final InputStream inputStream) {
+    this(inputStream, DEFAULT_BUFFER_SIZE);
+  }
+
+  JsonLinesReader(final InputStream inputStream, final int bufferSize) {
+    this.inputStream = inputStream;
+    this.buffer = new byte[bufferSize];
+  }
+
+  /**
+   * Reads the input stream until its end and calls the consumer with every non empty line.
+   */
+  void forEachLine(final LineConsumer consumer) throws Exception {
+    // bytes [lineStart, end) are read but not consumed yet, bytes before scanFrom hold no delimiter.
+    int lineStart = 0;
+    int scanFrom = 0;
+    int end = 0;
+    while (true) {
+      for (int i = scanFrom; i < end; i++) {
+        final byte b = buffer[i];
+        if (b == '\n' || b == '\r') {
+          if (i > lineStart) {
+            consumer.accept(buffer, lineStart, i - lineStart);
+          }
+          lineStart = i + 1;
+        }
+      }
+
+      // make room for the next read by moving the partial line to the front of the buffer, or by
+      // growing the buffer when the partial line already fills it.
+      if (lineStart > 0) {
+        System.arraycopy(buffer, lineStart, buffer, 0, end - lineStart);
+        end -= lineStart;
+        lineStart = 0;
+      } else if (end == buffer.length) {
+        buffer = Arrays.copyOf(buffer, buffer.length * 2);
+      }
+      scanFrom = end;
+
+      final int read = inputStream.read(buffer, end, buffer.length - end);
+      if (read == -1) {
+        if (end > lineStart) {
+          consumer.accept(buffer, lineStart, end - lineStart);
+        }
+        return;
+      }
+      end += read;
+    }
+  }
+
+}
@@ -20,7 +20,9 @@ import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteMessage.Type;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -83,6 +85,8 @@ public class BufferedStreamConsumer extends FailureTrackingAirbyteMessageConsume
   private final Consumer<AirbyteMessage> outputRecordCollector;
   private final BufferingStrategy bufferingStrategy;
   private final DestStateLifecycleManager stateManager;
+  // states received since the buffering strategy last started flushing all its buffers
+  private final List<AirbyteMessage> unflushedStates;
 
   private boolean hasStarted;
   private boolean hasClosed;
@@ -104,6 +108,7 @@ public class BufferedStreamConsumer extends FailureTrackingAirbyteMessageConsume
     this.streamToIgnoredRecordCount = new HashMap<>();
     this.bufferingStrategy = bufferingStrategy;
     this.stateManager = new DefaultDestStateLifecycleManager();
+    this.unflushedStates = new ArrayList<>();
   }
 
   @Override
@@ -140,15 +145,24 @@ public class BufferedStreamConsumer extends FailureTrackingAirbyteMessageConsume
       }
 
     } else if (message.getType() == Type.STATE) {
-      stateManager.addState(message);
+      unflushedStates.add(message);
     } else {
       LOGGER.warn("Unexpected message: " + message.getType());
     }
 
   }
 
-  private void markStatesAsFlushedToTmpDestination() {
-    stateManager.markPendingAsFlushed();
+  /**
+   * Marks the states received so far as flushed once the buffering strategy has flushed every record
+   * that came before them. Strategies flushing in the background may only get there later.
+   */
+  private void markStatesAsFlushedToTmpDestination() throws Exception {
+    final List<AirbyteMessage> states = List.copyOf(unflushedStates);
+    unflushedStates.clear();
+    bufferingStrategy.runAfterFlush(() -> {
+      states.forEach(stateManager::addState);
+      stateManager.markPendingAsFlushed();
+    });
   }
 
   private static void throwUnrecognizedStream(final ConfiguredAirbyteCatalog catalog, final AirbyteMessage message) {
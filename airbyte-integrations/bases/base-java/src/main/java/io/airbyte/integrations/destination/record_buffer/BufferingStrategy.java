@@ -4,6 +4,7 @@
 
 package io.airbyte.integrations.destination.record_buffer;
 
+import io.airbyte.commons.concurrency.VoidCallable;
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.protocol.models.AirbyteMessage;
 
@@ -24,7 +25,8 @@ public interface BufferingStrategy extends AutoCloseable {
    *
    * @param stream - stream associated with record
    * @param message - message to buffer
-   * @return true if this record cause ALL records in the buffer to flush, otherwise false.
+   * @return true if this record caused buffers to be flushed, otherwise false. States received so far
+   *         can then be marked as flushed through {@link #runAfterFlush(VoidCallable)}.
    * @throws Exception throw on failure
    */
   boolean addRecord(AirbyteStreamNameNamespacePair stream, AirbyteMessage message) throws Exception;
@@ -44,4 +46,15 @@ public interface BufferingStrategy extends AutoCloseable {
    */
   void clear() throws Exception;
 
+  /**
+   * Calls the callback once every record handed to this strategy so far has been flushed. The
+   * callback always runs on the thread calling into this strategy.
+   *
+   * Strategies that flush in the foreground are done flushing whenever {@link #addRecord} returns
+   * true or {@link #flushAll()} returns, so by default the callback runs right away.
+   */
+  default void runAfterFlush(final VoidCallable callback) throws Exception {
+    callback.call();
+  }
+
 }
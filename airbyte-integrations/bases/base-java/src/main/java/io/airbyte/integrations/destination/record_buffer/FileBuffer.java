@@ -20,30 +20,13 @@ public class FileBuffer implements BufferStorage {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(FileBuffer.class);
 
-  // The per stream size limit is following recommendations from:
-  // https://docs.snowflake.com/en/user-guide/data-load-considerations-prepare.html#general-file-sizing-recommendations
-  // "To optimize the number of parallel operations for a load,
-  // we recommend aiming to produce data files roughly 100-250 MB (or larger) in size compressed."
-  public static final long MAX_PER_STREAM_BUFFER_SIZE_BYTES = 200 * 1024 * 1024; // mb
-  // Other than the per-file size limit, we also limit the total size (which would limit how many
-  // concurrent streams we can buffer simultaneously too)
-  // Since this class is storing data on disk, the buffer size limits below are tied to the
-  // necessary disk storage space.
-  public static final long MAX_TOTAL_BUFFER_SIZE_BYTES = 1024 * 1024 * 1024; // mb
-  // we limit number of stream being buffered simultaneously anyway (limit how many files are
-  // stored/open for writing)
-  public static final int DEFAULT_MAX_CONCURRENT_STREAM_IN_BUFFER = 10;
-
   private final String fileExtension;
   private File tempFile;
   private OutputStream outputStream;
   private final int maxConcurrentStreams;
 
   public FileBuffer(final String fileExtension) {
-    this.fileExtension = fileExtension;
-    this.maxConcurrentStreams = DEFAULT_MAX_CONCURRENT_STREAM_IN_BUFFER;
-    tempFile = null;
-    outputStream = null;
+    this(fileExtension, GlobalBufferManager.forFileBuffers().getMaxConcurrentStreamsInBuffer());
   }
 
   public FileBuffer(final String fileExtension, final int maxConcurrentStreams) {
@@ -93,12 +76,12 @@ public class FileBuffer implements BufferStorage {
 
   @Override
   public long getMaxTotalBufferSizeInBytes() {
-    return MAX_TOTAL_BUFFER_SIZE_BYTES;
+    return GlobalBufferManager.forFileBuffers().getMaxTotalBufferSizeInBytes();
   }
 
   @Override
   public long getMaxPerStreamBufferSizeInBytes() {
-    return MAX_PER_STREAM_BUFFER_SIZE_BYTES;
+    return GlobalBufferManager.forFileBuffers().getMaxPerStreamBufferSizeInBytes();
   }
 
   @Override
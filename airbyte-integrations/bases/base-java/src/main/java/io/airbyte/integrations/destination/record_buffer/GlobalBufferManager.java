@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.record_buffer;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.File;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sizes the buffers of all the streams of a sync from the resources of the container, instead of
+ * hard coded limits, and picks which buffer to flush once they are full.
+ *
+ * There is one manager per kind of storage, shared by all the {@link BufferStorage}s of that kind:
+ * {@link FileBuffer}s are bounded by the disk space available in the temporary directory and
+ * {@link InMemoryBuffer}s by the maximum heap size. When the total is reached, the
+ * {@link SerializedBufferingStrategy} only flushes the buffer picked by
+ * {@link #selectBufferToEvict(Map, Map, long)}, so streams keep filling their buffers up to the per
+ * stream limit and fewer, larger files get staged on catalogs with many streams.
+ */
+public class GlobalBufferManager {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(GlobalBufferManager.class);
+
+  // The per stream size limit is following recommendations from:
+  // https://docs.snowflake.com/en/user-guide/data-load-considerations-prepare.html#general-file-sizing-recommendations
+  // "To optimize the number of parallel operations for a load,
+  // we recommend aiming to produce data files roughly 100-250 MB (or larger) in size compressed."
+  public static final long MAX_PER_STREAM_BUFFER_SIZE_BYTES = 200 * 1024 * 1024; // mb
+  // share of the usable disk space of the temporary directory that file buffers may use
+  private static final double DISK_SHARE = 0.5;
+  // share of the maximum heap size that in memory buffers may use, the rest is left to the
+  // connector and to copies of buffers being uploaded
+  private static final double HEAP_SHARE = 0.25;
+  // only allow as many concurrent buffers as can each hold at least this much data
+  private static final long MIN_BUFFER_SIZE_BYTES = 25 * 1024 * 1024; // mb
+  private static final int MIN_CONCURRENT_STREAMS = 10;
+  private static final int MAX_CONCURRENT_STREAMS = 1000;
+  // a buffer older than this is flushed before bigger ones, so that it does not hold back state
+  // checkpoints for too long
+  @VisibleForTesting
+  static final long MAX_BUFFER_AGE_MILLIS = 15 * 60 * 1000; // 15 minutes
+
+  private final long maxTotalBufferSizeInBytes;
+  private final int maxConcurrentStreams;
+
+  @VisibleForTesting
+  GlobalBufferManager(final long availableBytes, final double share) {
+    this.maxTotalBufferSizeInBytes = Math.max((long) (availableBytes * share), MAX_PER_STREAM_BUFFER_SIZE_BYTES);
+    this.maxConcurrentStreams = (int) Math.min(Math.max(maxTotalBufferSizeInBytes / MIN_BUFFER_SIZE_BYTES, MIN_CONCURRENT_STREAMS),
+        MAX_CONCURRENT_STREAMS);
+  }
+
+  public static GlobalBufferManager forFileBuffers() {
+    return FileBufferManagerHolder.INSTANCE;
+  }
+
+  public static GlobalBufferManager forInMemoryBuffers() {
+    return InMemoryBufferManagerHolder.INSTANCE;
+  }
+
+  /**
+   * @return How much storage should be used overall by all buffers
+   */
+  public long getMaxTotalBufferSizeInBytes() {
+    return maxTotalBufferSizeInBytes;
+  }
+
+  /**
+   * @return How much storage should be used for a particular stream at a time before flushing it
+   */
+  public long getMaxPerStreamBufferSizeInBytes() {
+    return MAX_PER_STREAM_BUFFER_SIZE_BYTES;
+  }
+
+  /**
+   * @return How many concurrent buffers can be handled at once in parallel
+   */
+  public int getMaxConcurrentStreamsInBuffer() {
+    return maxConcurrentStreams;
+  }
+
+  /**
+   * Picks the buffer to flush to make room for new records: the oldest buffer if it is older than
+   * {@link #MAX_BUFFER_AGE_MILLIS}, otherwise the largest one.
+   *
+   * @param buffers buffers being filled
+   * @param bufferCreationTimes time at which each buffer was created, in epoch millis
+   * @param now current time, in epoch millis
+   * @return the key of the buffer to flush, or null if there are no buffers
+   */
+  public static <K> K selectBufferToEvict(final Map<K, SerializableBuffer> buffers, final Map<K, Long> bufferCreationTimes, final long now) {
+    K oldest = null;
+    long oldestCreationTime = Long.MAX_VALUE;
+    K largest = null;
+    long largestByteCount = -1;
+    for (final Entry<K, SerializableBuffer> entry : buffers.entrySet()) {
+      final long creationTime = bufferCreationTimes.getOrDefault(entry.getKey(), now);
+      if (creationTime < oldestCreationTime) {
+        oldest = entry.getKey();
+        oldestCreationTime = creationTime;
+      }
+      if (entry.getValue().getByteCount() > largestByteCount) {
+        largest = entry.getKey();
+        largestByteCount = entry.getValue().getByteCount();
+      }
+    }
+    return oldest != null && now - oldestCreationTime > MAX_BUFFER_AGE_MILLIS ? oldest : largest;
+  }
+
+  // holders are only loaded, and the limits computed, the first time each kind of buffer is used
+
+  private static class FileBufferManagerHolder {
+
+    private static final GlobalBufferManager INSTANCE = create();
+
+    private static GlobalBufferManager create() {
+      final File tempDirectory = FileUtils.getTempDirectory();
+      final long usableSpace = tempDirectory.getUsableSpace();
+      final GlobalBufferManager manager = new GlobalBufferManager(usableSpace, DISK_SHARE);
+      LOGGER.info("File buffers are limited to {} in total over up to {} streams ({} usable in {})",
+          FileUtils.byteCountToDisplaySize(manager.maxTotalBufferSizeInBytes), manager.maxConcurrentStreams,
+          FileUtils.byteCountToDisplaySize(usableSpace), tempDirectory);
+      return manager;
+    }
+
+  }
+
+  private static class InMemoryBufferManagerHolder {
+
+    private static final GlobalBufferManager INSTANCE = create();
+
+    private static GlobalBufferManager create() {
+      final long maxMemory = Runtime.getRuntime().maxMemory();
+      final GlobalBufferManager manager = new GlobalBufferManager(maxMemory, HEAP_SHARE);
+      LOGGER.info("In memory buffers are limited to {} in total over up to {} streams ({} max heap)",
+          FileUtils.byteCountToDisplaySize(manager.maxTotalBufferSizeInBytes), manager.maxConcurrentStreams,
+          FileUtils.byteCountToDisplaySize(maxMemory));
+      return manager;
+    }
+
+  }
+
+}
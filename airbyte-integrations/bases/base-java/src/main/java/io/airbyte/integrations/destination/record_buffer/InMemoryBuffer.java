@@ -23,19 +23,6 @@ public class InMemoryBuffer implements BufferStorage {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(InMemoryBuffer.class);
 
-  // The per stream size limit is following recommendations from:
-  // https://docs.snowflake.com/en/user-guide/data-load-considerations-prepare.html#general-file-sizing-recommendations
-  // "To optimize the number of parallel operations for a load,
-  // we recommend aiming to produce data files roughly 100-250 MB (or larger) in size compressed."
-  public static final long MAX_PER_STREAM_BUFFER_SIZE_BYTES = 200 * 1024 * 1024; // mb
-  // Other than the per-file size limit, we also limit the total size (which would limit how many
-  // concurrent streams we can buffer simultaneously too)
-  // Since this class is storing data in memory, the buffer size limits below are tied to the
-  // necessary RAM space.
-  public static final long MAX_TOTAL_BUFFER_SIZE_BYTES = 1024 * 1024 * 1024; // mb
-  // we limit number of stream being buffered simultaneously anyway
-  public static final int MAX_CONCURRENT_STREAM_IN_BUFFER = 100;
-
   private final String fileExtension;
   private final ByteArrayOutputStream byteBuffer = new ByteArrayOutputStream();
   private File tempFile;
@@ -88,17 +75,17 @@ public class InMemoryBuffer implements BufferStorage {
 
   @Override
   public long getMaxTotalBufferSizeInBytes() {
-    return MAX_TOTAL_BUFFER_SIZE_BYTES;
+    return GlobalBufferManager.forInMemoryBuffers().getMaxTotalBufferSizeInBytes();
   }
 
   @Override
   public long getMaxPerStreamBufferSizeInBytes() {
-    return MAX_PER_STREAM_BUFFER_SIZE_BYTES;
+    return GlobalBufferManager.forInMemoryBuffers().getMaxPerStreamBufferSizeInBytes();
   }
 
   @Override
   public int getMaxConcurrentStreamsInBuffer() {
-    return MAX_CONCURRENT_STREAM_IN_BUFFER;
+    return GlobalBufferManager.forInMemoryBuffers().getMaxConcurrentStreamsInBuffer();
   }
 
 }
@@ -4,21 +4,48 @@
 
 package io.airbyte.integrations.destination.record_buffer;
 
+import io.airbyte.commons.concurrency.VoidCallable;
 import io.airbyte.commons.functional.CheckedBiConsumer;
 import io.airbyte.commons.functional.CheckedBiFunction;
 import io.airbyte.commons.string.Strings;
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Buffers records of each stream in a {@link SerializableBuffer} and flushes them with
+ * onStreamFlush once they fill up.
+ *
+ * Once all the buffers together reach their total size limit, or too many streams are buffered at
+ * once, only the buffer picked by {@link GlobalBufferManager#selectBufferToEvict} is flushed, to make
+ * room for new records. The other streams keep filling their buffers towards the per stream limit.
+ *
+ * By default buffers are flushed one after another on the thread adding records, so ingestion stops
+ * while they are uploaded. With flush workers, full buffers are instead handed to a bounded pool of
+ * threads and fresh buffers keep accepting records in the meantime. The bytes of buffers being
+ * flushed are bounded by maxInFlightBytes: once it is reached, adding records waits for the oldest
+ * flushes to complete. Flushes complete, and {@link #runAfterFlush} callbacks run, in the order the
+ * buffers were handed off, and always on the thread adding records. Only use flush workers if
+ * onStreamFlush can safely be called concurrently.
+ */
 public class SerializedBufferingStrategy implements BufferingStrategy {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(SerializedBufferingStrategy.class);
@@ -27,21 +54,51 @@ public class SerializedBufferingStrategy implements BufferingStrategy {
   private final CheckedBiConsumer<AirbyteStreamNameNamespacePair, SerializableBuffer, Exception> onStreamFlush;
 
   private Map<AirbyteStreamNameNamespacePair, SerializableBuffer> allBuffers = new HashMap<>();
+  private Map<AirbyteStreamNameNamespacePair, Long> bufferCreationTimes = new HashMap<>();
+  // runAfterFlush callbacks waiting for buffers that held records when they were registered
+  private final List<PendingCallback> callbacksWaitingOnBuffers = new ArrayList<>();
   private long totalBufferSizeInBytes;
   private final ConfiguredAirbyteCatalog catalog;
 
+  // null when buffers are flushed in the foreground
+  private final ExecutorService flushExecutor;
+  private final long maxInFlightBytes;
+  private final Deque<FlushBatch> inFlightBatches = new ArrayDeque<>();
+  private long inFlightBytes;
+
   public SerializedBufferingStrategy(final CheckedBiFunction<AirbyteStreamNameNamespacePair, ConfiguredAirbyteCatalog, SerializableBuffer, Exception> onCreateBuffer,
                                      final ConfiguredAirbyteCatalog catalog,
                                      final CheckedBiConsumer<AirbyteStreamNameNamespacePair, SerializableBuffer, Exception> onStreamFlush) {
+    this(onCreateBuffer, catalog, onStreamFlush, 0, 0);
+  }
+
+  /**
+   * @param flushWorkers number of threads flushing buffers in the background, 0 to flush in the
+   *        foreground
+   * @param maxInFlightBytes maximum number of bytes of buffers being flushed in the background at
+   *        once. A single hand-off bigger than this is still let through when nothing else is in
+   *        flight.
+   */
+  public SerializedBufferingStrategy(final CheckedBiFunction<AirbyteStreamNameNamespacePair, ConfiguredAirbyteCatalog, SerializableBuffer, Exception> onCreateBuffer,
+                                     final ConfiguredAirbyteCatalog catalog,
+                                     final CheckedBiConsumer<AirbyteStreamNameNamespacePair, SerializableBuffer, Exception> onStreamFlush,
+                                     final int flushWorkers,
+                                     final long maxInFlightBytes) {
     this.onCreateBuffer = onCreateBuffer;
     this.catalog = catalog;
     this.onStreamFlush = onStreamFlush;
     this.totalBufferSizeInBytes = 0;
+    this.flushExecutor = flushWorkers > 0
+        ? Executors.newFixedThreadPool(flushWorkers, new BasicThreadFactory.Builder().namingPattern("buffer-flush-%d").daemon(true).build())
+        : null;
+    this.maxInFlightBytes = maxInFlightBytes;
+    this.inFlightBytes = 0;
   }
 
   @Override
   public boolean addRecord(final AirbyteStreamNameNamespacePair stream, final AirbyteMessage message) throws Exception {
     boolean didFlush = false;
+    completeFinishedFlushes();
 
     final SerializableBuffer streamBuffer = allBuffers.computeIfAbsent(stream, k -> {
       LOGGER.info("Starting a new buffer for stream {} (current state: {} in {} buffers)",
@@ -49,6 +106,7 @@ public class SerializedBufferingStrategy implements BufferingStrategy {
           FileUtils.byteCountToDisplaySize(totalBufferSizeInBytes),
           allBuffers.size());
       try {
+        bufferCreationTimes.put(stream, System.currentTimeMillis());
         return onCreateBuffer.apply(stream, catalog);
       } catch (final Exception e) {
         LOGGER.error("Failed to create a new buffer for stream {}", stream.getName(), e);
@@ -62,25 +120,23 @@ public class SerializedBufferingStrategy implements BufferingStrategy {
     totalBufferSizeInBytes += actualMessageSizeInBytes;
     if (totalBufferSizeInBytes >= streamBuffer.getMaxTotalBufferSizeInBytes()
         || allBuffers.size() >= streamBuffer.getMaxConcurrentStreamsInBuffer()) {
-      flushAll();
+      // evict buffers one at a time instead of flushing all of them, so that the other streams keep
+      // filling their buffers
+      while (!allBuffers.isEmpty() && (totalBufferSizeInBytes >= streamBuffer.getMaxTotalBufferSizeInBytes()
+          || allBuffers.size() >= streamBuffer.getMaxConcurrentStreamsInBuffer())) {
+        final AirbyteStreamNameNamespacePair evictedStream =
+            GlobalBufferManager.selectBufferToEvict(allBuffers, bufferCreationTimes, System.currentTimeMillis());
+        flushWriter(evictedStream, allBuffers.get(evictedStream));
+      }
+      // states received so far are marked as flushed, through runAfterFlush, once every buffer
+      // holding records from before them is flushed.
       didFlush = true;
-      totalBufferSizeInBytes = 0;
     } else if (streamBuffer.getByteCount() >= streamBuffer.getMaxPerStreamBufferSizeInBytes()) {
       flushWriter(stream, streamBuffer);
       /*
-       * Note: We intentionally do not mark didFlush as true in the branch of this conditional. Because
-       * this branch flushes individual streams, there is no guaranteee that it will flush records in the
-       * same order that state messages were received. The outcome here is that records get flushed but
-       * our updating of which state messages have been flushed falls behind.
-       *
-       * This is not ideal from a checkpoint point of view, because it means in the case where there is a
-       * failure, we will not be able to report that those records that were flushed and committed were
-       * committed because there corresponding state messages weren't marked as flushed. Thus, it weakens
-       * checkpointing, but it does not cause a correctness issue.
-       *
-       * In non-failure cases, using this conditional branch relies on the state messages getting flushed
-       * by some other means. That can be caused by the previous branch in this conditional. It is
-       * guaranteed by the fact that we always flush all state messages at the end of a sync.
+       * Note: We intentionally do not mark didFlush as true in the branch of this conditional. It is not
+       * needed for correctness, as runAfterFlush callbacks wait for the buffers they depend on, but a
+       * single full stream would otherwise register a callback waiting on every other buffer each time.
        */
     }
 
@@ -89,34 +145,172 @@ public class SerializedBufferingStrategy implements BufferingStrategy {
 
   @Override
   public void flushWriter(final AirbyteStreamNameNamespacePair stream, final SerializableBuffer writer) throws Exception {
-    LOGGER.info("Flushing buffer of stream {} ({})", stream.getName(), FileUtils.byteCountToDisplaySize(writer.getByteCount()));
+    if (flushExecutor != null) {
+      totalBufferSizeInBytes -= writer.getByteCount();
+      allBuffers.remove(stream);
+      bufferCreationTimes.remove(stream);
+      flushInBackground(Map.of(stream, writer), false);
+      onBuffersFlushed(Set.of(stream));
+      return;
+    }
+    // the flush may close or delete the buffer, after which it no longer reports its size.
+    final long bufferBytes = writer.getByteCount();
+    LOGGER.info("Flushing buffer of stream {} ({})", stream.getName(), FileUtils.byteCountToDisplaySize(bufferBytes));
     onStreamFlush.accept(stream, writer);
-    totalBufferSizeInBytes -= writer.getByteCount();
+    totalBufferSizeInBytes -= bufferBytes;
     allBuffers.remove(stream);
+    bufferCreationTimes.remove(stream);
+    onBuffersFlushed(Set.of(stream));
   }
 
+  /**
+   * Flushes all buffers. With flush workers, this also waits for every flush running in the
+   * background to complete.
+   */
   @Override
   public void flushAll() throws Exception {
+    if (flushExecutor != null) {
+      flushAllInBackground();
+      waitForFlushes();
+      return;
+    }
     LOGGER.info("Flushing all {} current buffers ({} in total)", allBuffers.size(), FileUtils.byteCountToDisplaySize(totalBufferSizeInBytes));
     for (final Entry<AirbyteStreamNameNamespacePair, SerializableBuffer> entry : allBuffers.entrySet()) {
       LOGGER.info("Flushing buffer of stream {} ({})", entry.getKey().getName(), FileUtils.byteCountToDisplaySize(entry.getValue().getByteCount()));
       onStreamFlush.accept(entry.getKey(), entry.getValue());
     }
+    final Set<AirbyteStreamNameNamespacePair> flushedStreams = Set.copyOf(allBuffers.keySet());
     close();
     clear();
+    onBuffersFlushed(flushedStreams);
 
     totalBufferSizeInBytes = 0;
   }
 
+  private void flushAllInBackground() throws Exception {
+    LOGGER.info("Handing all {} current buffers ({} in total) to the flush workers", allBuffers.size(),
+        FileUtils.byteCountToDisplaySize(totalBufferSizeInBytes));
+    flushInBackground(allBuffers, true);
+    final Set<AirbyteStreamNameNamespacePair> flushedStreams = Set.copyOf(allBuffers.keySet());
+    clear();
+    onBuffersFlushed(flushedStreams);
+    totalBufferSizeInBytes = 0;
+  }
+
+  /**
+   * Hands the buffers to the flush workers as one batch, after waiting for enough of the batches
+   * already in flight to complete to stay within maxInFlightBytes.
+   */
+  private void flushInBackground(final Map<AirbyteStreamNameNamespacePair, SerializableBuffer> buffers, final boolean closeBuffers)
+      throws Exception {
+    final long batchBytes = buffers.values().stream().mapToLong(SerializableBuffer::getByteCount).sum();
+    while (!inFlightBatches.isEmpty() && inFlightBytes + batchBytes > maxInFlightBytes) {
+      LOGGER.info("Waiting for buffers to be flushed ({} in flight)", FileUtils.byteCountToDisplaySize(inFlightBytes));
+      completeOldestFlush();
+    }
+
+    final List<Future<?>> flushes = new ArrayList<>();
+    for (final Entry<AirbyteStreamNameNamespacePair, SerializableBuffer> entry : buffers.entrySet()) {
+      final AirbyteStreamNameNamespacePair stream = entry.getKey();
+      final SerializableBuffer buffer = entry.getValue();
+      flushes.add(flushExecutor.submit(() -> {
+        try {
+          LOGGER.info("Flushing buffer of stream {} ({})", stream.getName(), FileUtils.byteCountToDisplaySize(buffer.getByteCount()));
+          onStreamFlush.accept(stream, buffer);
+        } finally {
+          if (closeBuffers) {
+            buffer.close();
+          }
+        }
+        return null;
+      }));
+    }
+    inFlightBatches.addLast(new FlushBatch(flushes, batchBytes));
+    inFlightBytes += batchBytes;
+  }
+
+  private void completeFinishedFlushes() throws Exception {
+    while (!inFlightBatches.isEmpty() && inFlightBatches.peekFirst().isDone()) {
+      completeOldestFlush();
+    }
+  }
+
+  private void waitForFlushes() throws Exception {
+    while (!inFlightBatches.isEmpty()) {
+      completeOldestFlush();
+    }
+  }
+
+  /**
+   * Waits for the oldest batch in flight to be flushed, then runs its callbacks. Throws the exception
+   * of the first flush of the batch that failed, if any, in which case the callbacks do not run.
+   */
+  private void completeOldestFlush() throws Exception {
+    final FlushBatch batch = inFlightBatches.removeFirst();
+    inFlightBytes -= batch.byteCount;
+    for (final Future<?> flush : batch.flushes) {
+      try {
+        flush.get();
+      } catch (final ExecutionException e) {
+        if (e.getCause() instanceof Exception) {
+          throw (Exception) e.getCause();
+        }
+        throw e;
+      }
+    }
+    for (final VoidCallable callback : batch.callbacks) {
+      callback.call();
+    }
+  }
+
+  @Override
+  public void runAfterFlush(final VoidCallable callback) throws Exception {
+    if (allBuffers.isEmpty()) {
+      runAfterBatchesInFlight(callback);
+    } else {
+      callbacksWaitingOnBuffers.add(new PendingCallback(new HashSet<>(allBuffers.keySet()), callback));
+    }
+  }
+
+  /**
+   * Releases the callbacks that no longer wait on any buffer, in the order they were registered.
+   * Buffers still held when a callback is registered are also held for every earlier callback, so
+   * released callbacks always form a prefix of the waiting ones.
+   */
+  private void onBuffersFlushed(final Set<AirbyteStreamNameNamespacePair> streams) throws Exception {
+    final Iterator<PendingCallback> iterator = callbacksWaitingOnBuffers.iterator();
+    while (iterator.hasNext()) {
+      final PendingCallback pendingCallback = iterator.next();
+      pendingCallback.buffers.removeAll(streams);
+      if (pendingCallback.buffers.isEmpty()) {
+        iterator.remove();
+        runAfterBatchesInFlight(pendingCallback.callback);
+      }
+    }
+  }
+
+  private void runAfterBatchesInFlight(final VoidCallable callback) throws Exception {
+    if (inFlightBatches.isEmpty()) {
+      callback.call();
+    } else {
+      // batches complete in order, so the last one completes once every buffer so far is flushed
+      inFlightBatches.peekLast().callbacks.add(callback);
+    }
+  }
+
   @Override
   public void clear() throws Exception {
     LOGGER.debug("Reset all buffers");
     allBuffers = new HashMap<>();
+    bufferCreationTimes = new HashMap<>();
   }
 
   @Override
   public void close() throws Exception {
     final List<Exception> exceptionsThrown = new ArrayList<>();
+    if (flushExecutor != null) {
+      closeFlushWorkers(exceptionsThrown);
+    }
     for (final Entry<AirbyteStreamNameNamespacePair, SerializableBuffer> entry : allBuffers.entrySet()) {
       try {
         LOGGER.info("Closing buffer for stream {}", entry.getKey().getName());
@@ -131,4 +325,59 @@ public class SerializedBufferingStrategy implements BufferingStrategy {
     }
   }
 
+  /**
+   * Lets the flushes in flight complete. Batches up to the first failure complete normally, so the
+   * callbacks of the batches that were flushed still run. Later batches are only waited for.
+   */
+  private void closeFlushWorkers(final List<Exception> exceptionsThrown) {
+    try {
+      waitForFlushes();
+    } catch (final Exception e) {
+      exceptionsThrown.add(e);
+      LOGGER.error("Exception while flushing stream buffers", e);
+      for (final FlushBatch batch : inFlightBatches) {
+        batch.flushes.forEach(flush -> {
+          try {
+            flush.get();
+          } catch (final Exception ignored) {
+            // the first failure is already reported
+          }
+        });
+      }
+      inFlightBatches.clear();
+      inFlightBytes = 0;
+    } finally {
+      flushExecutor.shutdownNow();
+    }
+  }
+
+  private static class PendingCallback {
+
+    private final Set<AirbyteStreamNameNamespacePair> buffers;
+    private final VoidCallable callback;
+
+    PendingCallback(final Set<AirbyteStreamNameNamespacePair> buffers, final VoidCallable callback) {
+      this.buffers = buffers;
+      this.callback = callback;
+    }
+
+  }
+
+  private static class FlushBatch {
+
+    private final List<Future<?>> flushes;
+    private final long byteCount;
+    private final List<VoidCallable> callbacks = new ArrayList<>();
+
+    FlushBatch(final List<Future<?>> flushes, final long byteCount) {
+      this.flushes = flushes;
+      this.byteCount = byteCount;
+    }
+
+    boolean isDone() {
+      return flushes.stream().allMatch(Future::isDone);
+    }
+
+  }
+
 }
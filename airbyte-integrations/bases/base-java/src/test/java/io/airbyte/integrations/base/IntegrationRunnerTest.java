@@ -5,7 +5,9 @@
 package io.airbyte.integrations.base;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
@@ -19,10 +21,15 @@ import static org.mockito.Mockito.when;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
+import io.airbyte.commons.io.FramedMessageReader;
+import io.airbyte.commons.io.FramedMessageWriter;
 import io.airbyte.commons.io.IOs;
 import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.protocol.serde.AirbyteMessageSmileDeserializer;
+import io.airbyte.commons.protocol.serde.AirbyteMessageSmileSerializer;
 import io.airbyte.commons.util.AutoCloseableIterators;
 import io.airbyte.commons.util.MoreIterators;
+import io.airbyte.commons.version.AirbyteVersion;
 import io.airbyte.protocol.models.AirbyteCatalog;
 import io.airbyte.protocol.models.AirbyteConnectionStatus;
 import io.airbyte.protocol.models.AirbyteConnectionStatus.Status;
@@ -36,14 +43,22 @@ import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.ConnectorSpecification;
 import io.airbyte.validation.json.JsonSchemaValidator;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.net.StandardProtocolFamily;
 import java.net.URI;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -422,4 +437,80 @@ class IntegrationRunnerTest {
     });
   }
 
+  @Test
+  void testConnectToMessageSocket() throws Exception {
+    assertTrue(IntegrationRunner.connectToMessageSocket(null).isEmpty());
+    assertTrue(IntegrationRunner.connectToMessageSocket("").isEmpty());
+
+    final Path socketPath = Files.createTempDirectory(Files.createDirectories(TEST_ROOT), "test").resolve("messages.sock");
+    // nothing listens on the socket, so messages go to stdout.
+    assertTrue(IntegrationRunner.connectToMessageSocket(socketPath.toString()).isEmpty());
+
+    try (final ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+      server.bind(UnixDomainSocketAddress.of(socketPath));
+      final Optional<FramedMessageWriter> writer = IntegrationRunner.connectToMessageSocket(socketPath.toString());
+      assertTrue(writer.isPresent());
+
+      final AirbyteMessage message = new AirbyteMessage().withType(Type.RECORD)
+          .withRecord(new AirbyteRecordMessage().withStream(STREAM_NAME).withData(Jsons.jsonNode(ImmutableMap.of("name", "mike"))));
+      writer.get().write(Jsons.serialize(message));
+      writer.get().close();
+      try (final SocketChannel channel = server.accept();
+          final FramedMessageReader reader = new FramedMessageReader(Channels.newInputStream(channel))) {
+        assertEquals(message, Jsons.deserialize(reader.read(), AirbyteMessage.class));
+        assertNull(reader.read());
+      }
+    }
+  }
+
+  @Test
+  void testFrameCollectorFlushesStateMessages() throws Exception {
+    final Path socketPath = Files.createTempDirectory(Files.createDirectories(TEST_ROOT), "test").resolve("messages.sock");
+    final AirbyteMessage state = new AirbyteMessage().withType(Type.STATE)
+        .withState(new AirbyteStateMessage().withData(Jsons.jsonNode(ImmutableMap.of("checkpoint", "05/08/1945"))));
+
+    try (final ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+      server.bind(UnixDomainSocketAddress.of(socketPath));
+      try (final FramedMessageWriter writer = IntegrationRunner.connectToMessageSocket(socketPath.toString()).orElseThrow();
+          final SocketChannel channel = server.accept();
+          final FramedMessageReader reader = new FramedMessageReader(Channels.newInputStream(channel))) {
+        IntegrationRunner.frameCollector(writer, null).accept(state);
+        // the writer is still open, so the frame can only have been read if it was flushed.
+        assertEquals(state, assertTimeoutPreemptively(Duration.ofSeconds(10), () -> Jsons.deserialize(reader.read(), AirbyteMessage.class)));
+      }
+    }
+  }
+
+  @Test
+  void testFrameCollectorNegotiatesFormat() throws Exception {
+    final AirbyteMessage message = new AirbyteMessage().withType(Type.RECORD)
+        .withRecord(new AirbyteRecordMessage().withStream(STREAM_NAME).withData(Jsons.jsonNode(ImmutableMap.of("name", "mike"))));
+
+    // no formats offered: json frames, without a format frame.
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (final FramedMessageWriter writer = new FramedMessageWriter(out)) {
+      IntegrationRunner.frameCollector(writer, null).accept(message);
+    }
+    FramedMessageReader reader = new FramedMessageReader(new ByteArrayInputStream(out.toByteArray()));
+    assertEquals(message, Jsons.deserialize(reader.read(), AirbyteMessage.class));
+    assertNull(reader.read());
+
+    out = new ByteArrayOutputStream();
+    try (final FramedMessageWriter writer = new FramedMessageWriter(out)) {
+      IntegrationRunner.frameCollector(writer, "cbor,smile").accept(message);
+    }
+    reader = new FramedMessageReader(new ByteArrayInputStream(out.toByteArray()));
+    assertEquals(AirbyteMessageSmileSerializer.FORMAT, reader.read());
+    assertEquals(message, new AirbyteMessageSmileDeserializer<>(new AirbyteVersion("0.3.0"), AirbyteMessage.class).deserialize(reader.readBytes()));
+    assertNull(reader.read());
+
+    out = new ByteArrayOutputStream();
+    try (final FramedMessageWriter writer = new FramedMessageWriter(out)) {
+      IntegrationRunner.frameCollector(writer, "cbor").accept(message);
+    }
+    reader = new FramedMessageReader(new ByteArrayInputStream(out.toByteArray()));
+    assertEquals(FramedMessageWriter.JSON_FORMAT, reader.read());
+    assertEquals(message, Jsons.deserialize(reader.read(), AirbyteMessage.class));
+  }
+
 }
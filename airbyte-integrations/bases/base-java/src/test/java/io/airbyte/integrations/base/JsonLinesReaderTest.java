@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.base;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class JsonLinesReaderTest {
+
+  private static final String INPUT = "\r\n{\"a\":1}\n{\"b\":\"\u00e9\"}\r\n\r\n{\"a_much_longer_line\":\"that does not fit in small buffers\"}\n\n{\"c\":3}";
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 4, 16, JsonLinesReader.DEFAULT_BUFFER_SIZE})
+  void testSplitsOnNewLinesAndSkipsEmptyLines(final int bufferSize) throws Exception {
+    final List<String> lines = new ArrayList<>();
+    new JsonLinesReader(new ByteArrayInputStream(INPUT.getBytes(StandardCharsets.UTF_8)), bufferSize)
+        .forEachLine((buffer, offset, length) -> lines.add(new String(buffer, offset, length, StandardCharsets.UTF_8)));
+
+    assertEquals(
+        List.of("{\"a\":1}", "{\"b\":\"\u00e9\"}", "{\"a_much_longer_line\":\"that does not fit in small buffers\"}", "{\"c\":3}"),
+        lines);
+  }
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.record_buffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class GlobalBufferManagerTest {
+
+  private static final long GB = 1024L * 1024L * 1024L;
+  private static final long NOW = 1_665_000_000_000L;
+
+  @Test
+  void testSizesFromAvailableResources() {
+    final GlobalBufferManager manager = new GlobalBufferManager(10 * GB, 0.5);
+    assertEquals(5 * GB, manager.getMaxTotalBufferSizeInBytes());
+    assertEquals(GlobalBufferManager.MAX_PER_STREAM_BUFFER_SIZE_BYTES, manager.getMaxPerStreamBufferSizeInBytes());
+    assertEquals(204, manager.getMaxConcurrentStreamsInBuffer());
+  }
+
+  @Test
+  void testSizingBounds() {
+    final GlobalBufferManager small = new GlobalBufferManager(GB / 10, 0.5);
+    assertEquals(GlobalBufferManager.MAX_PER_STREAM_BUFFER_SIZE_BYTES, small.getMaxTotalBufferSizeInBytes());
+    assertEquals(10, small.getMaxConcurrentStreamsInBuffer());
+
+    final GlobalBufferManager large = new GlobalBufferManager(1000 * GB, 0.5);
+    assertEquals(1000, large.getMaxConcurrentStreamsInBuffer());
+  }
+
+  @Test
+  void testSelectBufferToEvict() {
+    final SerializableBuffer small = mock(SerializableBuffer.class);
+    final SerializableBuffer large = mock(SerializableBuffer.class);
+    when(small.getByteCount()).thenReturn(10L);
+    when(large.getByteCount()).thenReturn(100L);
+    final Map<String, SerializableBuffer> buffers = Map.of("small", small, "large", large);
+
+    assertEquals("large", GlobalBufferManager.selectBufferToEvict(buffers, Map.of("small", NOW - 1000, "large", NOW), NOW));
+    assertEquals("small", GlobalBufferManager.selectBufferToEvict(buffers,
+        Map.of("small", NOW - GlobalBufferManager.MAX_BUFFER_AGE_MILLIS - 1, "large", NOW), NOW));
+    assertNull(GlobalBufferManager.selectBufferToEvict(Map.of(), Map.of(), NOW));
+  }
+
+}
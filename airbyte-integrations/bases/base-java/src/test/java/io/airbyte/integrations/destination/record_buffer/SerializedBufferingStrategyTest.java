@@ -4,6 +4,7 @@
 
 package io.airbyte.integrations.destination.record_buffer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -21,6 +22,12 @@ import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -128,18 +135,19 @@ public class SerializedBufferingStrategyTest {
     when(recordWriter1.getByteCount()).thenReturn(20L); // second record in recordWriter1
     assertFalse(buffering.addRecord(stream1, message4));
     when(recordWriter2.getByteCount()).thenReturn(20L); // second record in recordWriter2
+    when(recordWriter1.getByteCount()).thenReturn(21L); // make recordWriter1 the largest buffer
     assertTrue(buffering.addRecord(stream2, message5));
-    // Buffer limit reached for total streams, flushing all streams
+    // Buffer limit reached for total streams, flushing the largest buffer only
     verify(perStreamFlushHook, times(1)).accept(stream1, recordWriter1);
-    verify(perStreamFlushHook, times(1)).accept(stream2, recordWriter2);
-    verify(perStreamFlushHook, times(1)).accept(stream3, recordWriter3);
+    verify(perStreamFlushHook, times(0)).accept(stream2, recordWriter2);
+    verify(perStreamFlushHook, times(0)).accept(stream3, recordWriter3);
 
     assertFalse(buffering.addRecord(stream3, message6));
     // force flush to terminate test
     buffering.flushAll();
     verify(perStreamFlushHook, times(1)).accept(stream1, recordWriter1);
     verify(perStreamFlushHook, times(1)).accept(stream2, recordWriter2);
-    verify(perStreamFlushHook, times(2)).accept(stream3, recordWriter3);
+    verify(perStreamFlushHook, times(1)).accept(stream3, recordWriter3);
   }
 
   @Test
@@ -164,22 +172,75 @@ public class SerializedBufferingStrategyTest {
     verify(perStreamFlushHook, times(0)).accept(stream2, recordWriter2);
     verify(perStreamFlushHook, times(0)).accept(stream3, recordWriter3);
 
+    when(recordWriter3.getByteCount()).thenReturn(15L); // make recordWriter3 the largest buffer
     assertTrue(buffering.addRecord(stream4, message4));
-    // Buffer limit reached for concurrent streams, flushing all streams
-    verify(perStreamFlushHook, times(1)).accept(stream1, recordWriter1);
-    verify(perStreamFlushHook, times(1)).accept(stream2, recordWriter2);
+    // Buffer limit reached for concurrent streams, flushing the largest buffer only
+    verify(perStreamFlushHook, times(0)).accept(stream1, recordWriter1);
+    verify(perStreamFlushHook, times(0)).accept(stream2, recordWriter2);
     verify(perStreamFlushHook, times(1)).accept(stream3, recordWriter3);
-    verify(perStreamFlushHook, times(1)).accept(stream4, recordWriter4);
+    verify(perStreamFlushHook, times(0)).accept(stream4, recordWriter4);
 
     assertFalse(buffering.addRecord(stream1, message5));
     // force flush to terminate test
     buffering.flushAll();
-    verify(perStreamFlushHook, times(2)).accept(stream1, recordWriter1);
+    verify(perStreamFlushHook, times(1)).accept(stream1, recordWriter1);
     verify(perStreamFlushHook, times(1)).accept(stream2, recordWriter2);
     verify(perStreamFlushHook, times(1)).accept(stream3, recordWriter3);
     verify(perStreamFlushHook, times(1)).accept(stream4, recordWriter4);
   }
 
+  @Test
+  public void testRunAfterFlushWaitsForBufferedStreams() throws Exception {
+    final SerializedBufferingStrategy buffering = new SerializedBufferingStrategy(onCreateBufferFunction(), catalog, perStreamFlushHook);
+    final AirbyteStreamNameNamespacePair stream1 = new AirbyteStreamNameNamespacePair(STREAM_1, "namespace");
+    final AirbyteStreamNameNamespacePair stream2 = new AirbyteStreamNameNamespacePair(STREAM_2, "namespace");
+    final List<String> events = new ArrayList<>();
+
+    assertFalse(buffering.addRecord(stream1, generateMessage(stream1)));
+    assertFalse(buffering.addRecord(stream2, generateMessage(stream2)));
+    buffering.runAfterFlush(() -> events.add("callback1"));
+    assertFalse(buffering.addRecord(stream1, generateMessage(stream1)));
+    buffering.runAfterFlush(() -> events.add("callback2"));
+
+    buffering.flushWriter(stream1, recordWriter1);
+    assertEquals(List.of(), events);
+    buffering.flushWriter(stream2, recordWriter2);
+    assertEquals(List.of("callback1", "callback2"), events);
+
+    // nothing is buffered anymore
+    buffering.runAfterFlush(() -> events.add("callback3"));
+    assertEquals(List.of("callback1", "callback2", "callback3"), events);
+  }
+
+  @Test
+  public void testFlushReleasesBufferSizeReadBeforeFlushing() throws Exception {
+    // like the real buffers, recordWriter1 no longer reports its size once it has been flushed
+    final AtomicLong recordWriter1Bytes = new AtomicLong();
+    when(recordWriter1.getByteCount()).thenAnswer(invocation -> recordWriter1Bytes.get());
+    final List<String> flushedStreams = new ArrayList<>();
+    final SerializedBufferingStrategy buffering = new SerializedBufferingStrategy(onCreateBufferFunction(), catalog, (stream, buffer) -> {
+      flushedStreams.add(stream.getName());
+      if (buffer == recordWriter1) {
+        recordWriter1Bytes.set(0);
+      }
+    });
+    final AirbyteStreamNameNamespacePair stream1 = new AirbyteStreamNameNamespacePair(STREAM_1, "namespace");
+    final AirbyteStreamNameNamespacePair stream2 = new AirbyteStreamNameNamespacePair(STREAM_2, "namespace");
+
+    for (long bytes = 10; bytes <= 30; bytes += 10) {
+      recordWriter1Bytes.set(bytes);
+      assertFalse(buffering.addRecord(stream1, generateMessage(stream1)));
+    }
+    // the per stream limit is reached, and the 30 bytes of recordWriter1 are no longer buffered
+    assertEquals(List.of(STREAM_1), flushedStreams);
+
+    assertFalse(buffering.addRecord(stream2, generateMessage(stream2)));
+    when(recordWriter2.getByteCount()).thenReturn(20L); // second record in recordWriter2
+    assertFalse(buffering.addRecord(stream2, generateMessage(stream2)));
+    // 20 bytes are buffered in total, below the total limit
+    assertEquals(List.of(STREAM_1), flushedStreams);
+  }
+
   @Test
   public void testCreateBufferFailure() {
     final SerializedBufferingStrategy buffering = new SerializedBufferingStrategy(onCreateBufferFunction(), catalog, perStreamFlushHook);
@@ -187,6 +248,58 @@ public class SerializedBufferingStrategyTest {
     assertThrows(RuntimeException.class, () -> buffering.addRecord(stream, generateMessage(stream)));
   }
 
+  @Test
+  public void testBackgroundFlushKeepsAcceptingRecords() throws Exception {
+    final CountDownLatch releaseFlush = new CountDownLatch(1);
+    final List<String> events = Collections.synchronizedList(new ArrayList<>());
+    final SerializedBufferingStrategy buffering = new SerializedBufferingStrategy(onCreateBufferFunction(), catalog, (stream, buffer) -> {
+      releaseFlush.await();
+      events.add("flushed " + stream.getName());
+    }, 2, 1_000L);
+    final AirbyteStreamNameNamespacePair stream1 = new AirbyteStreamNameNamespacePair(STREAM_1, "namespace");
+    final AirbyteStreamNameNamespacePair stream2 = new AirbyteStreamNameNamespacePair(STREAM_2, "namespace");
+    final AirbyteStreamNameNamespacePair stream3 = new AirbyteStreamNameNamespacePair(STREAM_3, "namespace");
+    final AirbyteStreamNameNamespacePair stream4 = new AirbyteStreamNameNamespacePair(STREAM_4, "namespace");
+
+    when(recordWriter1.getByteCount()).thenReturn(20L); // make recordWriter1 the largest buffer
+    assertFalse(buffering.addRecord(stream1, generateMessage(stream1)));
+    assertFalse(buffering.addRecord(stream2, generateMessage(stream2)));
+    assertFalse(buffering.addRecord(stream3, generateMessage(stream3)));
+    // the 4th concurrent stream hands the largest buffer to the flush workers, which are blocked
+    assertTrue(buffering.addRecord(stream4, generateMessage(stream4)));
+    buffering.runAfterFlush(() -> events.add("callback"));
+
+    // records keep being accepted while the flush is in flight
+    assertFalse(buffering.addRecord(stream2, generateMessage(stream2)));
+    assertEquals(List.of(), events);
+
+    releaseFlush.countDown();
+    buffering.flushAll();
+    buffering.close();
+
+    assertEquals(5, events.size());
+    // the callback only runs after the buffers holding records from before it were flushed
+    assertEquals("callback", events.get(4));
+    verify(recordWriter2, times(1)).close();
+  }
+
+  @Test
+  public void testBackgroundFlushFailure() throws Exception {
+    final SerializedBufferingStrategy buffering = new SerializedBufferingStrategy(onCreateBufferFunction(), catalog, (stream, buffer) -> {
+      throw new IOException("upload failed");
+    }, 2, 1_000L);
+    final AirbyteStreamNameNamespacePair stream1 = new AirbyteStreamNameNamespacePair(STREAM_1, "namespace");
+    final List<String> events = new ArrayList<>();
+
+    assertFalse(buffering.addRecord(stream1, generateMessage(stream1)));
+    buffering.flushWriter(stream1, recordWriter1);
+    buffering.runAfterFlush(() -> events.add("callback"));
+
+    assertThrows(IOException.class, buffering::flushAll);
+    assertEquals(List.of(), events);
+    buffering.close();
+  }
+
   private static AirbyteMessage generateMessage(final AirbyteStreamNameNamespacePair stream) {
     return new AirbyteMessage().withRecord(new AirbyteRecordMessage()
         .withStream(stream.getName())
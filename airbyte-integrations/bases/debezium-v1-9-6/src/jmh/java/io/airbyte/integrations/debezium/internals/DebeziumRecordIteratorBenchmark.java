@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium.internals;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.resources.MoreResources;
+import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.integrations.debezium.CdcMetadataInjector;
+import io.airbyte.integrations.debezium.CdcTargetPosition;
+import io.debezium.engine.ChangeEvent;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the throughput, in events per second, of turning the change events of a connector into
+ * Airbyte messages: replaying recorded events through a {@link DebeziumRecordIterator} and
+ * converting them with {@link DebeziumEventUtils#toAirbyteMessage}, as
+ * {@link io.airbyte.integrations.debezium.AirbyteDebeziumHandler} does. The publisher is reported
+ * closed, so the iterator drains the queue without waiting on it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DebeziumRecordIteratorBenchmark {
+
+  private static final int NUM_EVENTS = 10_000;
+  private static final Instant EMITTED_AT = Instant.ofEpochMilli(1_665_000_000_000L);
+
+  @Param({"postgres", "mysql"})
+  public String connector;
+
+  private List<ChangeEvent<String, String>> events;
+  private CdcTargetPosition targetPosition;
+  private CdcMetadataInjector metadataInjector;
+  private LinkedBlockingQueue<ChangeEvent<String, String>> queue;
+
+  @Setup
+  public void setup() throws IOException {
+    final JsonNode recorded = Jsons.deserialize(MoreResources.readResource(connector + "_change_events.json"));
+    events = new ArrayList<>(NUM_EVENTS);
+    for (int i = 0; i < NUM_EVENTS; i++) {
+      events.add(new RecordedChangeEvent(Jsons.serialize(recorded.get(i % recorded.size()))));
+    }
+
+    // the target positions are never reached, as in the middle of a sync.
+    if ("postgres".equals(connector)) {
+      targetPosition = valueAsJson -> valueAsJson.get("source").get("lsn").asLong() == Long.MAX_VALUE;
+      metadataInjector = new MetadataInjector("schema") {
+
+        @Override
+        public void addMetaData(final ObjectNode event, final JsonNode source) {
+          event.put(DebeziumEventUtils.CDC_LSN, source.get("lsn").asLong());
+        }
+
+      };
+    } else {
+      targetPosition = valueAsJson -> "mysql-bin.999999".compareTo(valueAsJson.get("source").get("file").asText()) < 0;
+      metadataInjector = new MetadataInjector("db") {
+
+        @Override
+        public void addMetaData(final ObjectNode event, final JsonNode source) {
+          event.put("_ab_cdc_log_file", source.get("file").asText());
+          event.put("_ab_cdc_log_pos", source.get("pos").asLong());
+        }
+
+      };
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void fillQueue() {
+    queue = new LinkedBlockingQueue<>(events);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUM_EVENTS)
+  public void iterateAndConvert(final Blackhole blackhole) throws Exception {
+    try (final AutoCloseableIterator<ChangeEventWithMetadata> iterator = new DebeziumRecordIterator(
+        queue,
+        targetPosition,
+        () -> true,
+        () -> {},
+        Duration.ofSeconds(1))) {
+      while (iterator.hasNext()) {
+        blackhole.consume(DebeziumEventUtils.toAirbyteMessage(iterator.next(), metadataInjector, EMITTED_AT));
+      }
+    }
+  }
+
+  private record RecordedChangeEvent(String value) implements ChangeEvent<String, String> {
+
+    @Override
+    public String key() {
+      return null;
+    }
+
+    @Override
+    public String destination() {
+      return null;
+    }
+
+  }
+
+  private abstract static class MetadataInjector implements CdcMetadataInjector {
+
+    private final String namespaceField;
+
+    MetadataInjector(final String namespaceField) {
+      this.namespaceField = namespaceField;
+    }
+
+    @Override
+    public String namespace(final JsonNode source) {
+      return source.get(namespaceField).asText();
+    }
+
+  }
+
+}
@@ -10,9 +10,11 @@ import io.airbyte.commons.util.AutoCloseableIterators;
 import io.airbyte.commons.util.MoreIterators;
 import io.airbyte.integrations.debezium.internals.AirbyteFileOffsetBackingStore;
 import io.airbyte.integrations.debezium.internals.AirbyteSchemaHistoryStorage;
+import io.airbyte.integrations.debezium.internals.ChangeEventWithMetadata;
 import io.airbyte.integrations.debezium.internals.DebeziumEventUtils;
 import io.airbyte.integrations.debezium.internals.DebeziumRecordIterator;
 import io.airbyte.integrations.debezium.internals.DebeziumRecordPublisher;
+import io.airbyte.integrations.debezium.internals.DebeziumStateDecoratingIterator;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
@@ -42,20 +44,40 @@ public class AirbyteDebeziumHandler {
    * {@link io.debezium.config.CommonConnectorConfig#DEFAULT_MAX_QUEUE_SIZE} is 8192
    */
   private static final int QUEUE_CAPACITY = 10000;
+  /**
+   * During an incremental sync, a state message is emitted every this many records or this much
+   * time, whichever comes first, so that a failed sync resumes from there instead of from the state
+   * of the previous sync.
+   */
+  private static final long DEFAULT_CHECKPOINT_RECORDS = 10_000;
+  private static final Duration DEFAULT_CHECKPOINT_INTERVAL = Duration.ofMinutes(15);
 
   private final JsonNode config;
   private final CdcTargetPosition targetPosition;
   private final boolean trackSchemaHistory;
   private final Duration firstRecordWaitTime;
+  private final long checkpointRecords;
+  private final Duration checkpointInterval;
 
   public AirbyteDebeziumHandler(final JsonNode config,
                                 final CdcTargetPosition targetPosition,
                                 final boolean trackSchemaHistory,
                                 final Duration firstRecordWaitTime) {
+    this(config, targetPosition, trackSchemaHistory, firstRecordWaitTime, DEFAULT_CHECKPOINT_RECORDS, DEFAULT_CHECKPOINT_INTERVAL);
+  }
+
+  public AirbyteDebeziumHandler(final JsonNode config,
+                                final CdcTargetPosition targetPosition,
+                                final boolean trackSchemaHistory,
+                                final Duration firstRecordWaitTime,
+                                final long checkpointRecords,
+                                final Duration checkpointInterval) {
     this.config = config;
     this.targetPosition = targetPosition;
     this.trackSchemaHistory = trackSchemaHistory;
     this.firstRecordWaitTime = firstRecordWaitTime;
+    this.checkpointRecords = checkpointRecords;
+    this.checkpointInterval = checkpointInterval;
   }
 
   public AutoCloseableIterator<AirbyteMessage> getSnapshotIterators(
@@ -76,7 +98,7 @@ public class AirbyteDebeziumHandler {
         schemaHistoryManager(new EmptySavedInfo()));
     tableSnapshotPublisher.start(queue);
 
-    final AutoCloseableIterator<ChangeEvent<String, String>> eventIterator = new DebeziumRecordIterator(
+    final AutoCloseableIterator<ChangeEventWithMetadata> eventIterator = new DebeziumRecordIterator(
         queue,
         targetPosition,
         tableSnapshotPublisher::hasClosed,
@@ -106,25 +128,33 @@ public class AirbyteDebeziumHandler {
     publisher.start(queue);
 
     // handle state machine around pub/sub logic.
-    final AutoCloseableIterator<ChangeEvent<String, String>> eventIterator = new DebeziumRecordIterator(
+    final AutoCloseableIterator<ChangeEventWithMetadata> eventIterator = new DebeziumRecordIterator(
         queue,
         targetPosition,
         publisher::hasClosed,
         publisher::close,
         firstRecordWaitTime);
 
-    // convert to airbyte message.
-    final AutoCloseableIterator<AirbyteMessage> messageIterator = AutoCloseableIterators
-        .transform(
-            eventIterator,
-            (event) -> DebeziumEventUtils.toAirbyteMessage(event, cdcMetadataInjector, emittedAt));
+    final Supplier<String> schemaHistorySupplier = () -> trackSchemaHistory ? schemaHistoryManager
+        .orElseThrow(() -> new RuntimeException("Schema History Tracking is true but manager is not initialised")).read() : null;
+
+    // convert to airbyte message, with a state message every once in a while.
+    final AutoCloseableIterator<AirbyteMessage> messageIterator = new DebeziumStateDecoratingIterator(
+        eventIterator,
+        cdcMetadataInjector,
+        emittedAt,
+        offsetManager::read,
+        schemaHistorySupplier,
+        publisher::getPublishedRecords,
+        cdcStateHandler,
+        checkpointRecords,
+        checkpointInterval);
 
     // our goal is to get the state at the time this supplier is called (i.e. after all message records
     // have been produced)
     final Supplier<AirbyteMessage> stateMessageSupplier = () -> {
       final Map<String, String> offset = offsetManager.read();
-      final String dbHistory = trackSchemaHistory ? schemaHistoryManager
-          .orElseThrow(() -> new RuntimeException("Schema History Tracking is true but manager is not initialised")).read() : null;
+      final String dbHistory = schemaHistorySupplier.get();
 
       return cdcStateHandler.saveState(offset, dbHistory);
     };
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium.internals;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
+import io.debezium.engine.ChangeEvent;
+
+/**
+ * A change event produced by debezium along with its value parsed as json. The value is parsed
+ * once, when the event is taken off the queue, and the parsed tree is what the snapshot and target
+ * position checks and the conversion to an Airbyte message read.
+ */
+public class ChangeEventWithMetadata {
+
+  private final ChangeEvent<String, String> event;
+  private final JsonNode eventValueAsJson;
+  private final SnapshotMetadata snapshotMetadata;
+
+  public ChangeEventWithMetadata(final ChangeEvent<String, String> event) {
+    this.event = event;
+    this.eventValueAsJson = Jsons.deserialize(event.value());
+    this.snapshotMetadata = SnapshotMetadata.valueOf(eventValueAsJson.get("source").get("snapshot").asText().toUpperCase());
+  }
+
+  public ChangeEvent<String, String> event() {
+    return event;
+  }
+
+  /**
+   * @return the parsed value of the event. It is not copied, so the conversion to an Airbyte message
+   *         reuses, and mutates, it.
+   */
+  public JsonNode eventValueAsJson() {
+    return eventValueAsJson;
+  }
+
+  public boolean isSnapshotEvent() {
+    return SnapshotMetadata.TRUE == snapshotMetadata;
+  }
+
+}
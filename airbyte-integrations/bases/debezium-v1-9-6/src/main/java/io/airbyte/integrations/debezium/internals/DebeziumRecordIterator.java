@@ -4,10 +4,8 @@
 
 package io.airbyte.integrations.debezium.internals;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.AbstractIterator;
 import io.airbyte.commons.concurrency.VoidCallable;
-import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.lang.MoreBooleans;
 import io.airbyte.commons.util.AutoCloseableIterator;
 import io.airbyte.integrations.debezium.CdcTargetPosition;
@@ -29,9 +27,12 @@ import org.slf4j.LoggerFactory;
  * signal and the publisher actually shutting down, the consumer must stay alive as long as the
  * publisher is not closed. Even after the publisher is closed, the consumer will finish processing
  * any produced records before closing.
+ *
+ * Each record is parsed once here and handed on along with its parsed value, so that the conversion
+ * to an Airbyte message does not parse it again.
  */
-public class DebeziumRecordIterator extends AbstractIterator<ChangeEvent<String, String>>
-    implements AutoCloseableIterator<ChangeEvent<String, String>> {
+public class DebeziumRecordIterator extends AbstractIterator<ChangeEventWithMetadata>
+    implements AutoCloseableIterator<ChangeEventWithMetadata> {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DebeziumRecordIterator.class);
 
@@ -64,7 +65,7 @@ public class DebeziumRecordIterator extends AbstractIterator<ChangeEvent<String,
   }
 
   @Override
-  protected ChangeEvent<String, String> computeNext() {
+  protected ChangeEventWithMetadata computeNext() {
     // keep trying until the publisher is closed or until the queue is empty. the latter case is
     // possible when the publisher has shutdown but the consumer has not yet processed all messages it
     // emitted.
@@ -86,24 +87,19 @@ public class DebeziumRecordIterator extends AbstractIterator<ChangeEvent<String,
         continue;
       }
 
-      final JsonNode eventAsJson = Jsons.deserialize(next.value());
-      hasSnapshotFinished = hasSnapshotFinished(eventAsJson);
+      final ChangeEventWithMetadata changeEventWithMetadata = new ChangeEventWithMetadata(next);
+      hasSnapshotFinished = !changeEventWithMetadata.isSnapshotEvent();
 
       // if the last record matches the target file position, it is time to tell the producer to shutdown.
-      if (!signalledClose && shouldSignalClose(eventAsJson)) {
+      if (!signalledClose && shouldSignalClose(changeEventWithMetadata)) {
         requestClose();
       }
       receivedFirstRecord = true;
-      return next;
+      return changeEventWithMetadata;
     }
     return endOfData();
   }
 
-  private boolean hasSnapshotFinished(final JsonNode eventAsJson) {
-    final SnapshotMetadata snapshot = SnapshotMetadata.valueOf(eventAsJson.get("source").get("snapshot").asText().toUpperCase());
-    return SnapshotMetadata.TRUE != snapshot;
-  }
-
   /**
    * Debezium was built as an ever running process which keeps on listening for new changes on DB and
    * immediately processing them. Airbyte needs debezium to work as a start stop mechanism. In order
@@ -125,8 +121,8 @@ public class DebeziumRecordIterator extends AbstractIterator<ChangeEvent<String,
     requestClose();
   }
 
-  private boolean shouldSignalClose(final JsonNode eventAsJson) {
-    return targetPosition.reachedTargetPosition(eventAsJson);
+  private boolean shouldSignalClose(final ChangeEventWithMetadata event) {
+    return targetPosition.reachedTargetPosition(event.eventValueAsJson());
   }
 
   private void requestClose() {
@@ -18,6 +18,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,6 +35,7 @@ public class DebeziumRecordPublisher implements AutoCloseable {
   private final AtomicBoolean hasClosed;
   private final AtomicBoolean isClosing;
   private final AtomicReference<Throwable> thrownError;
+  private final AtomicLong publishedRecords;
   private final CountDownLatch engineLatch;
   private final DebeziumPropertiesManager debeziumPropertiesManager;
 
@@ -47,6 +49,7 @@ public class DebeziumRecordPublisher implements AutoCloseable {
     this.hasClosed = new AtomicBoolean(false);
     this.isClosing = new AtomicBoolean(false);
     this.thrownError = new AtomicReference<>();
+    this.publishedRecords = new AtomicLong();
     this.executor = Executors.newSingleThreadExecutor();
     this.engineLatch = new CountDownLatch(1);
   }
@@ -63,6 +66,7 @@ public class DebeziumRecordPublisher implements AutoCloseable {
           if (e.value() != null) {
             try {
               queue.put(e);
+              publishedRecords.incrementAndGet();
             } catch (InterruptedException ex) {
               Thread.currentThread().interrupt();
               throw new RuntimeException(ex);
@@ -80,6 +84,15 @@ public class DebeziumRecordPublisher implements AutoCloseable {
     executor.execute(engine);
   }
 
+  /**
+   * @return the number of records put on the queue so far. debezium only commits the offset of a
+   *         record once it has been put on the queue, so an offset read before this count is taken
+   *         does not go past these records.
+   */
+  public long getPublishedRecords() {
+    return publishedRecords.get();
+  }
+
   public boolean hasClosed() {
     return hasClosed.get();
   }
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium.internals;
+
+import com.google.common.collect.AbstractIterator;
+import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.integrations.debezium.CdcMetadataInjector;
+import io.airbyte.integrations.debezium.CdcStateHandler;
+import io.airbyte.protocol.models.AirbyteMessage;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.apache.kafka.connect.errors.ConnectException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Converts the change events of an incremental sync to Airbyte messages and emits a state message
+ * in between them every few records or minutes, so that a sync that fails does not have to start
+ * over from the last state of the previous sync.
+ *
+ * Debezium writes its offset file on its own schedule, and may already have committed the offset of
+ * records that are still on the queue. So when a checkpoint is due, the offset and schema history
+ * are read along with the number of records published so far, and the state message is only
+ * emitted once that many records have been emitted. Checkpoints are not taken while debezium is
+ * snapshotting, since a snapshot that is cut short is started over anyway.
+ */
+public class DebeziumStateDecoratingIterator extends AbstractIterator<AirbyteMessage> implements AutoCloseableIterator<AirbyteMessage> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(DebeziumStateDecoratingIterator.class);
+
+  private final AutoCloseableIterator<ChangeEventWithMetadata> changeEventIterator;
+  private final CdcMetadataInjector cdcMetadataInjector;
+  private final Instant emittedAt;
+  private final Supplier<Map<String, String>> offsetSupplier;
+  private final Supplier<String> schemaHistorySupplier;
+  private final LongSupplier publishedRecordsSupplier;
+  private final CdcStateHandler cdcStateHandler;
+  private final long checkpointRecords;
+  private final Duration checkpointInterval;
+
+  private long emittedRecords;
+  private long recordsSinceLastCheckpoint;
+  private Instant lastCheckpointAt;
+  private Map<String, String> lastCheckpointOffset;
+  private PendingCheckpoint pendingCheckpoint;
+
+  /**
+   * @param offsetSupplier reads the offset debezium last committed.
+   * @param schemaHistorySupplier reads the schema history, or returns null if it is not tracked.
+   * @param publishedRecordsSupplier returns the number of records put on the queue that
+   *        changeEventIterator reads from, see {@link DebeziumRecordPublisher#getPublishedRecords()}.
+   * @param checkpointRecords number of records after which a checkpoint is taken.
+   * @param checkpointInterval time after which a checkpoint is taken, if fewer records were read.
+   */
+  public DebeziumStateDecoratingIterator(final AutoCloseableIterator<ChangeEventWithMetadata> changeEventIterator,
+                                         final CdcMetadataInjector cdcMetadataInjector,
+                                         final Instant emittedAt,
+                                         final Supplier<Map<String, String>> offsetSupplier,
+                                         final Supplier<String> schemaHistorySupplier,
+                                         final LongSupplier publishedRecordsSupplier,
+                                         final CdcStateHandler cdcStateHandler,
+                                         final long checkpointRecords,
+                                         final Duration checkpointInterval) {
+    this.changeEventIterator = changeEventIterator;
+    this.cdcMetadataInjector = cdcMetadataInjector;
+    this.emittedAt = emittedAt;
+    this.offsetSupplier = offsetSupplier;
+    this.schemaHistorySupplier = schemaHistorySupplier;
+    this.publishedRecordsSupplier = publishedRecordsSupplier;
+    this.cdcStateHandler = cdcStateHandler;
+    this.checkpointRecords = checkpointRecords;
+    this.checkpointInterval = checkpointInterval;
+
+    this.emittedRecords = 0;
+    this.recordsSinceLastCheckpoint = 0;
+    this.lastCheckpointAt = Instant.now();
+    this.lastCheckpointOffset = null;
+    this.pendingCheckpoint = null;
+  }
+
+  @Override
+  protected AirbyteMessage computeNext() {
+    if (pendingCheckpoint != null && emittedRecords >= pendingCheckpoint.publishedRecords()) {
+      final PendingCheckpoint checkpoint = pendingCheckpoint;
+      pendingCheckpoint = null;
+      LOGGER.info("Emitting state after {} records", emittedRecords);
+      return cdcStateHandler.saveState(checkpoint.offset(), checkpoint.schemaHistory());
+    }
+
+    // the state after the last record is emitted by the caller, once debezium has been shut down.
+    if (!changeEventIterator.hasNext()) {
+      return endOfData();
+    }
+
+    final ChangeEventWithMetadata event = changeEventIterator.next();
+    emittedRecords++;
+    recordsSinceLastCheckpoint++;
+    if (pendingCheckpoint == null && !event.isSnapshotEvent() && isCheckpointDue()) {
+      takeCheckpoint();
+    }
+    return DebeziumEventUtils.toAirbyteMessage(event, cdcMetadataInjector, emittedAt);
+  }
+
+  @Override
+  public void close() throws Exception {
+    changeEventIterator.close();
+  }
+
+  private boolean isCheckpointDue() {
+    return recordsSinceLastCheckpoint >= checkpointRecords
+        || Duration.between(lastCheckpointAt, Instant.now()).compareTo(checkpointInterval) >= 0;
+  }
+
+  private void takeCheckpoint() {
+    recordsSinceLastCheckpoint = 0;
+    lastCheckpointAt = Instant.now();
+
+    final Map<String, String> offset;
+    try {
+      offset = offsetSupplier.get();
+    } catch (final ConnectException e) {
+      // debezium may be rewriting the file, we will try again at the next checkpoint.
+      LOGGER.warn("Could not read the debezium offset, skipping this checkpoint", e);
+      return;
+    }
+    // an empty offset is also what a file being rewritten reads as.
+    if (offset.isEmpty() || offset.equals(lastCheckpointOffset)) {
+      return;
+    }
+    // read after the offset, so that it covers every record the offset does.
+    final long publishedRecords = publishedRecordsSupplier.getAsLong();
+
+    final String schemaHistory;
+    try {
+      schemaHistory = schemaHistorySupplier.get();
+    } catch (final RuntimeException e) {
+      // debezium may be halfway through appending a line to the history file.
+      LOGGER.warn("Could not read the debezium schema history, skipping this checkpoint", e);
+      return;
+    }
+
+    lastCheckpointOffset = offset;
+    pendingCheckpoint = new PendingCheckpoint(offset, schemaHistory, publishedRecords);
+  }
+
+  private record PendingCheckpoint(Map<String, String> offset, String schemaHistory, long publishedRecords) {}
+
+}
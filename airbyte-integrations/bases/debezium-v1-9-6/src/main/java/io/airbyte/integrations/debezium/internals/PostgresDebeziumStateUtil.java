@@ -8,6 +8,7 @@ import static io.debezium.connector.postgresql.PostgresOffsetContext.LAST_COMMIT
 import static io.debezium.connector.postgresql.SourceInfo.LSN_KEY;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.db.jdbc.JdbcUtils;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.debezium.config.Configuration;
 import io.debezium.connector.common.OffsetReader;
@@ -18,6 +19,9 @@ import io.debezium.connector.postgresql.PostgresPartition;
 import io.debezium.connector.postgresql.connection.Lsn;
 import io.debezium.pipeline.spi.Offsets;
 import io.debezium.pipeline.spi.Partition;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
@@ -29,6 +33,11 @@ import org.apache.kafka.connect.runtime.WorkerConfig;
 import org.apache.kafka.connect.runtime.standalone.StandaloneConfig;
 import org.apache.kafka.connect.storage.FileOffsetBackingStore;
 import org.apache.kafka.connect.storage.OffsetStorageReaderImpl;
+import org.postgresql.PGConnection;
+import org.postgresql.PGProperty;
+import org.postgresql.replication.LogSequenceNumber;
+import org.postgresql.replication.PGReplicationStream;
+import org.postgresql.replication.fluent.logical.ChainedLogicalStreamBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -39,19 +48,17 @@ import org.slf4j.LoggerFactory;
 public class PostgresDebeziumStateUtil {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(PostgresDebeziumStateUtil.class);
+  private static final String PGOUTPUT_PLUGIN = "pgoutput";
 
   public boolean isSavedOffsetAfterReplicationSlotLSN(final Properties baseProperties,
                                                       final ConfiguredAirbyteCatalog catalog,
                                                       final JsonNode cdcState,
                                                       final JsonNode replicationSlot,
                                                       final JsonNode config) {
+    return isSavedOffsetAfterReplicationSlotLSN(replicationSlot, savedOffset(baseProperties, catalog, cdcState, config));
+  }
 
-    final DebeziumPropertiesManager debeziumPropertiesManager = new DebeziumPropertiesManager(baseProperties, config, catalog,
-        AirbyteFileOffsetBackingStore.initializeState(cdcState),
-        Optional.empty());
-    final Properties debeziumProperties = debeziumPropertiesManager.getDebeziumProperties();
-    final OptionalLong savedOffset = parseSavedOffset(debeziumProperties);
-
+  public boolean isSavedOffsetAfterReplicationSlotLSN(final JsonNode replicationSlot, final OptionalLong savedOffset) {
     if (savedOffset.isPresent()) {
       if (replicationSlot.has("confirmed_flush_lsn")) {
         final long confirmedFlushLsnOnServerSide = Lsn.valueOf(replicationSlot.get("confirmed_flush_lsn").asText()).asLong();
@@ -69,6 +76,74 @@ public class PostgresDebeziumStateUtil {
     return true;
   }
 
+  /**
+   * @return Returns the LSN of the offset saved in the given state, if there is one
+   */
+  public OptionalLong savedOffset(final Properties baseProperties,
+                                  final ConfiguredAirbyteCatalog catalog,
+                                  final JsonNode cdcState,
+                                  final JsonNode config) {
+    final DebeziumPropertiesManager debeziumPropertiesManager = new DebeziumPropertiesManager(baseProperties, config, catalog,
+        AirbyteFileOffsetBackingStore.initializeState(cdcState),
+        Optional.empty());
+    return parseSavedOffset(debeziumPropertiesManager.getDebeziumProperties());
+  }
+
+  /**
+   * Moves the replication slot to the LSN of a saved state. Debezium is configured not to flush
+   * LSNs to the slot itself (flush.lsn.source=false), as it would on every offset commit. The slot
+   * therefore never gets ahead of a state the platform has persisted, and a sync retried from any
+   * of its checkpoints can resume from it. The cost is that the slot only moves when a sync starts,
+   * so the WAL written since the previous sync started stays on the server until then.
+   *
+   * @param databaseConfig config holding the jdbc url and credentials of the source database
+   * @param connectionProperties connection properties the source connects with, such as its SSL
+   *        settings
+   * @param savedOffset LSN of the saved state, nothing is committed when it is empty
+   */
+  public void commitLSNToPostgresDatabase(final JsonNode databaseConfig,
+                                          final Map<String, String> connectionProperties,
+                                          final OptionalLong savedOffset,
+                                          final String slotName,
+                                          final String publicationName,
+                                          final String plugin) {
+    if (savedOffset.isEmpty()) {
+      return;
+    }
+
+    final LogSequenceNumber logSequenceNumber = LogSequenceNumber.valueOf(savedOffset.getAsLong());
+    final Properties properties = new Properties();
+    properties.putAll(connectionProperties);
+    PGProperty.USER.set(properties, databaseConfig.get(JdbcUtils.USERNAME_KEY).asText());
+    if (databaseConfig.has(JdbcUtils.PASSWORD_KEY)) {
+      PGProperty.PASSWORD.set(properties, databaseConfig.get(JdbcUtils.PASSWORD_KEY).asText());
+    }
+    PGProperty.REPLICATION.set(properties, "database");
+    PGProperty.ASSUME_MIN_SERVER_VERSION.set(properties, "9.4");
+    PGProperty.PREFER_QUERY_MODE.set(properties, "simple");
+
+    try (final Connection connection = DriverManager.getConnection(databaseConfig.get(JdbcUtils.JDBC_URL_KEY).asText(), properties)) {
+      final ChainedLogicalStreamBuilder streamBuilder = connection.unwrap(PGConnection.class)
+          .getReplicationAPI()
+          .replicationStream()
+          .logical()
+          .withSlotName("\"" + slotName + "\"")
+          .withStartPosition(logSequenceNumber);
+      if (PGOUTPUT_PLUGIN.equals(plugin)) {
+        streamBuilder.withSlotOption("proto_version", 1).withSlotOption("publication_names", publicationName);
+      }
+
+      try (final PGReplicationStream stream = streamBuilder.start()) {
+        stream.setFlushedLSN(logSequenceNumber);
+        stream.setAppliedLSN(logSequenceNumber);
+        stream.forceUpdateStatus();
+      }
+      LOGGER.info("Committed LSN {} to replication slot {}", logSequenceNumber, slotName);
+    } catch (final SQLException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   /**
    *
    * @param properties Properties should contain the relevant properties like path to the debezium
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium.internals;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.resources.MoreResources;
+import io.airbyte.commons.util.AutoCloseableIterators;
+import io.airbyte.integrations.debezium.CdcMetadataInjector;
+import io.airbyte.integrations.debezium.CdcStateHandler;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import io.debezium.engine.ChangeEvent;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.apache.kafka.connect.errors.ConnectException;
+import org.junit.jupiter.api.Test;
+
+class DebeziumStateDecoratingIteratorTest {
+
+  private static final Map<String, String> OFFSET = Map.of("offset", "23012216");
+  private static final Duration NEVER = Duration.ofDays(1);
+
+  @Test
+  void testEmitsStateOnceCommittedRecordsAreEmitted() throws IOException {
+    // the offset is read at the second record, when three had been published, so it follows the third.
+    final List<AirbyteMessage> messages = readAll(events(5, false), () -> OFFSET, 3, 2);
+
+    assertEquals(List.of(Type.RECORD, Type.RECORD, Type.RECORD, Type.STATE, Type.RECORD, Type.RECORD), types(messages));
+    assertEquals(Jsons.jsonNode(OFFSET), messages.get(3).getState().getData());
+  }
+
+  @Test
+  void testDoesNotEmitTheSameOffsetTwice() throws IOException {
+    final List<AirbyteMessage> messages = readAll(events(6, false), () -> OFFSET, 2, 2);
+
+    assertEquals(List.of(Type.RECORD, Type.RECORD, Type.STATE, Type.RECORD, Type.RECORD, Type.RECORD, Type.RECORD), types(messages));
+  }
+
+  @Test
+  void testDoesNotCheckpointDuringSnapshot() throws IOException {
+    final List<AirbyteMessage> messages = readAll(events(4, true), () -> OFFSET, 0, 1);
+
+    assertEquals(Collections.nCopies(4, Type.RECORD), types(messages));
+  }
+
+  @Test
+  void testSkipsOffsetThatCannotBeRead() throws IOException {
+    final List<AirbyteMessage> emptyOffset = readAll(events(3, false), Map::of, 0, 1);
+    final List<AirbyteMessage> corruptOffset = readAll(events(3, false), () -> {
+      throw new ConnectException("corrupt");
+    }, 0, 1);
+
+    assertEquals(Collections.nCopies(3, Type.RECORD), types(emptyOffset));
+    assertEquals(Collections.nCopies(3, Type.RECORD), types(corruptOffset));
+  }
+
+  @Test
+  void testSkipsSchemaHistoryThatCannotBeRead() throws IOException {
+    final List<AirbyteMessage> messages = readAll(events(3, false), () -> OFFSET, () -> {
+      throw new IllegalStateException("truncated line");
+    }, 0, 1);
+
+    assertEquals(Collections.nCopies(3, Type.RECORD), types(messages));
+  }
+
+  private static List<AirbyteMessage> readAll(final List<ChangeEventWithMetadata> events,
+                                              final Supplier<Map<String, String>> offsetSupplier,
+                                              final long publishedRecords,
+                                              final long checkpointRecords) {
+    return readAll(events, offsetSupplier, () -> null, publishedRecords, checkpointRecords);
+  }
+
+  private static List<AirbyteMessage> readAll(final List<ChangeEventWithMetadata> events,
+                                              final Supplier<Map<String, String>> offsetSupplier,
+                                              final Supplier<String> schemaHistorySupplier,
+                                              final long publishedRecords,
+                                              final long checkpointRecords) {
+    final DebeziumStateDecoratingIterator iterator = new DebeziumStateDecoratingIterator(
+        AutoCloseableIterators.fromIterator(events.iterator()),
+        new DummyMetadataInjector(),
+        Instant.now(),
+        offsetSupplier,
+        schemaHistorySupplier,
+        () -> publishedRecords,
+        new DummyStateHandler(),
+        checkpointRecords,
+        NEVER);
+    final List<AirbyteMessage> messages = new ArrayList<>();
+    iterator.forEachRemaining(messages::add);
+    return messages;
+  }
+
+  private static List<ChangeEventWithMetadata> events(final int count, final boolean snapshot) throws IOException {
+    final ObjectNode value = (ObjectNode) Jsons.deserialize(MoreResources.readResource("insert_change_event.json"));
+    ((ObjectNode) value.get("source")).put("snapshot", String.valueOf(snapshot));
+    final List<ChangeEventWithMetadata> events = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      final ChangeEvent<String, String> event = mock(ChangeEvent.class);
+      when(event.value()).thenReturn(Jsons.serialize(value));
+      events.add(new ChangeEventWithMetadata(event));
+    }
+    return events;
+  }
+
+  private static List<Type> types(final List<AirbyteMessage> messages) {
+    return messages.stream().map(AirbyteMessage::getType).collect(Collectors.toList());
+  }
+
+  private static class DummyMetadataInjector implements CdcMetadataInjector {
+
+    @Override
+    public void addMetaData(final ObjectNode event, final JsonNode source) {
+      event.put(DebeziumEventUtils.CDC_LSN, source.get("lsn").asLong());
+    }
+
+    @Override
+    public String namespace(final JsonNode source) {
+      return source.get("schema").asText();
+    }
+
+  }
+
+  private static class DummyStateHandler implements CdcStateHandler {
+
+    @Override
+    public AirbyteMessage saveState(final Map<String, String> offset, final String dbHistory) {
+      return new AirbyteMessage().withType(Type.STATE).withState(new AirbyteStateMessage().withData(Jsons.jsonNode(offset)));
+    }
+
+    @Override
+    public AirbyteMessage saveStateAfterCompletionOfSnapshotOfNewStreams() {
+      throw new UnsupportedOperationException();
+    }
+
+  }
+
+}
@@ -7,15 +7,19 @@ package io.airbyte.integrations.destination.clickhouse;
 import com.clickhouse.client.ClickHouseFormat;
 import com.clickhouse.jdbc.ClickHouseConnection;
 import com.clickhouse.jdbc.ClickHouseStatement;
+import com.google.common.annotations.VisibleForTesting;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.db.jdbc.JdbcDatabase;
 import io.airbyte.integrations.base.JavaBaseConstants;
 import io.airbyte.integrations.destination.jdbc.JdbcSqlOperations;
+import io.airbyte.integrations.destination.jdbc.RecordEncodingInputStream;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -71,35 +75,45 @@ public class ClickhouseSqlOperations extends JdbcSqlOperations {
     }
 
     database.execute(connection -> {
-      File tmpFile = null;
-      Exception primaryException = null;
-      try {
-        tmpFile = Files.createTempFile(tmpTableName + "-", ".tmp").toFile();
-        writeBatchToFile(tmpFile, records);
-
-        final ClickHouseConnection conn = connection.unwrap(ClickHouseConnection.class);
-        final ClickHouseStatement sth = conn.createStatement();
+      try (final ClickHouseStatement sth = connection.unwrap(ClickHouseConnection.class).createStatement()) {
         sth.write() // Write API entrypoint
             .table(String.format("%s.%s", schemaName, tmpTableName)) // where to write data
-            .format(ClickHouseFormat.CSV) // set a format
-            .data(tmpFile.getAbsolutePath()) // specify input
+            .format(ClickHouseFormat.RowBinary) // set a format
+            .data(new RecordEncodingInputStream(records, this::writeRowBinary)) // specify input
             .send();
-
       } catch (final Exception e) {
-        primaryException = e;
         throw new RuntimeException(e);
-      } finally {
-        try {
-          if (tmpFile != null) {
-            Files.delete(tmpFile.toPath());
-          }
-        } catch (final IOException e) {
-          if (primaryException != null)
-            e.addSuppressed(primaryException);
-          throw new RuntimeException(e);
-        }
       }
     });
   }
 
+  /**
+   * Writes a record as a RowBinary row of the raw table: a String is its UTF-8 length as an unsigned
+   * LEB128 followed by its bytes, and a DateTime64(3) is the number of milliseconds since the epoch
+   * as a little endian Int64.
+   */
+  @VisibleForTesting
+  void writeRowBinary(final AirbyteRecordMessage record, final OutputStream out) throws IOException {
+    writeString(UUID.randomUUID().toString(), out);
+    writeString(Jsons.serialize(formatData(record.getData())), out);
+    writeInt64(record.getEmittedAt(), out);
+  }
+
+  private static void writeString(final String value, final OutputStream out) throws IOException {
+    final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    int length = bytes.length;
+    while ((length & ~0x7F) != 0) {
+      out.write((length & 0x7F) | 0x80);
+      length >>>= 7;
+    }
+    out.write(length);
+    out.write(bytes);
+  }
+
+  private static void writeInt64(final long value, final OutputStream out) throws IOException {
+    for (int i = 0; i < Long.BYTES; i++) {
+      out.write((int) (value >>> (8 * i)));
+    }
+  }
+
 }
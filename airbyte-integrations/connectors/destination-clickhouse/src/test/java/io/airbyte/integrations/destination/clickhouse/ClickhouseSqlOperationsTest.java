@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.clickhouse;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.integrations.base.JavaBaseConstants;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ClickhouseSqlOperationsTest {
+
+  private static final long EMITTED_AT = 0x0102030405060708L;
+  private static final byte[] EMITTED_AT_LITTLE_ENDIAN = {8, 7, 6, 5, 4, 3, 2, 1};
+
+  private final ClickhouseSqlOperations sqlOperations = new ClickhouseSqlOperations();
+
+  @Test
+  void testRowBinaryColumnsFollowRawTable() {
+    final String query = sqlOperations.createTableQuery(null, "schema", "table");
+
+    // writeRowBinary writes the id, then the data and then the emitted at.
+    final int abIdIndex = query.indexOf(JavaBaseConstants.COLUMN_NAME_AB_ID + " String");
+    final int dataIndex = query.indexOf(JavaBaseConstants.COLUMN_NAME_DATA + " String");
+    final int emittedAtIndex = query.indexOf(JavaBaseConstants.COLUMN_NAME_EMITTED_AT + " DateTime64(3");
+    assertTrue(abIdIndex >= 0);
+    assertTrue(abIdIndex < dataIndex);
+    assertTrue(dataIndex < emittedAtIndex);
+  }
+
+  @Test
+  void testWriteRowBinary() throws Exception {
+    // {"field":"..."} serializes to 300 bytes, a length that takes two LEB128 bytes.
+    final String data = Jsons.serialize(Map.of("field", "a".repeat(288)));
+    assertEquals(300, data.length());
+
+    final byte[] row = writeRow(data);
+
+    assertEquals(1 + 36 + 2 + 300 + 8, row.length);
+    assertEquals(36, row[0]);
+    UUID.fromString(new String(row, 1, 36, StandardCharsets.US_ASCII));
+    // 300 = 0b10_0101100: the low 7 bits with the continuation bit set, then the remaining 2.
+    assertArrayEquals(new byte[] {(byte) 0xAC, 0x02}, Arrays.copyOfRange(row, 37, 39));
+    assertEquals(data, new String(row, 39, 300, StandardCharsets.UTF_8));
+    assertArrayEquals(EMITTED_AT_LITTLE_ENDIAN, Arrays.copyOfRange(row, 339, 347));
+  }
+
+  @Test
+  void testWriteRowBinaryCountsUtf8Bytes() throws Exception {
+    final String data = Jsons.serialize(Map.of("field", "\u00e9"));
+    final byte[] dataBytes = data.getBytes(StandardCharsets.UTF_8);
+    assertEquals(13, data.length());
+    assertEquals(14, dataBytes.length);
+
+    final byte[] row = writeRow(data);
+
+    assertEquals(1 + 36 + 1 + 14 + 8, row.length);
+    assertEquals(14, row[37]);
+    assertArrayEquals(dataBytes, Arrays.copyOfRange(row, 38, 52));
+    assertArrayEquals(EMITTED_AT_LITTLE_ENDIAN, Arrays.copyOfRange(row, 52, 60));
+  }
+
+  private byte[] writeRow(final String data) throws Exception {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    sqlOperations.writeRowBinary(new AirbyteRecordMessage().withData(Jsons.deserialize(data)).withEmittedAt(EMITTED_AT), out);
+    return out.toByteArray();
+  }
+
+}
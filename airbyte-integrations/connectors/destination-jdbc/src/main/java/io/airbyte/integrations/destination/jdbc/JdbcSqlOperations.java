@@ -10,6 +10,8 @@ import io.airbyte.db.jdbc.JdbcDatabase;
 import io.airbyte.integrations.base.JavaBaseConstants;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
@@ -69,14 +71,32 @@ public abstract class JdbcSqlOperations implements SqlOperations {
     try (final PrintWriter writer = new PrintWriter(tmpFile, StandardCharsets.UTF_8);
         final CSVPrinter csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT)) {
       for (final AirbyteRecordMessage record : records) {
-        final var uuid = UUID.randomUUID().toString();
-        final var jsonData = Jsons.serialize(formatData(record.getData()));
-        final var emittedAt = Timestamp.from(Instant.ofEpochMilli(record.getEmittedAt()));
-        csvPrinter.printRecord(uuid, jsonData, emittedAt);
+        printCsvRecord(csvPrinter, record);
       }
     }
   }
 
+  /**
+   * Same CSV as {@link #writeBatchToFile(File, List)}, but encoded one record at a time while the
+   * stream is read, so that it can be handed to a bulk load without going through a temporary file.
+   */
+  protected InputStream getCsvInputStream(final List<AirbyteRecordMessage> records) throws IOException {
+    final StringBuilder line = new StringBuilder();
+    final CSVPrinter csvPrinter = new CSVPrinter(line, CSVFormat.DEFAULT);
+    return new RecordEncodingInputStream(records, (record, out) -> {
+      line.setLength(0);
+      printCsvRecord(csvPrinter, record);
+      out.write(line.toString().getBytes(StandardCharsets.UTF_8));
+    });
+  }
+
+  private void printCsvRecord(final CSVPrinter csvPrinter, final AirbyteRecordMessage record) throws IOException {
+    final var uuid = UUID.randomUUID().toString();
+    final var jsonData = Jsons.serialize(formatData(record.getData()));
+    final var emittedAt = Timestamp.from(Instant.ofEpochMilli(record.getEmittedAt()));
+    csvPrinter.printRecord(uuid, jsonData, emittedAt);
+  }
+
   protected JsonNode formatData(final JsonNode data) {
     return data;
   }
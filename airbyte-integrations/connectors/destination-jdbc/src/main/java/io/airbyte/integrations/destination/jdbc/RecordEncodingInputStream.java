@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.jdbc;
+
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Serves a batch of records as the input of a bulk load (COPY, LOAD DATA, ...). A record is only
+ * encoded once everything before it has been read, into a buffer that is reused for every record,
+ * so the batch is never written to a temporary file nor held in memory in its encoded form.
+ */
+public class RecordEncodingInputStream extends InputStream {
+
+  /**
+   * Writes a single record in the format expected by the bulk load.
+   */
+  @FunctionalInterface
+  public interface RecordEncoder {
+
+    void encode(AirbyteRecordMessage record, OutputStream out) throws IOException;
+
+  }
+
+  private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+
+  private final Iterator<AirbyteRecordMessage> records;
+  private final RecordEncoder encoder;
+  private final RecordBuffer buffer = new RecordBuffer();
+  private int position = 0;
+
+  public RecordEncodingInputStream(final List<AirbyteRecordMessage> records, final RecordEncoder encoder) {
+    this.records = records.iterator();
+    this.encoder = encoder;
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!fill()) {
+      return -1;
+    }
+    return buffer.bytes()[position++] & 0xff;
+  }
+
+  @Override
+  public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+    Objects.checkFromIndexSize(offset, length, bytes.length);
+    if (length == 0) {
+      return 0;
+    }
+    if (!fill()) {
+      return -1;
+    }
+    final int count = Math.min(length, buffer.size() - position);
+    System.arraycopy(buffer.bytes(), position, bytes, offset, count);
+    position += count;
+    return count;
+  }
+
+  @Override
+  public int available() {
+    return buffer.size() - position;
+  }
+
+  /**
+   * Encodes the next records until there is something left to read.
+   *
+   * @return false once all the records have been read.
+   */
+  private boolean fill() throws IOException {
+    while (position >= buffer.size() && records.hasNext()) {
+      buffer.reset();
+      position = 0;
+      encoder.encode(records.next(), buffer);
+    }
+    return position < buffer.size();
+  }
+
+  /**
+   * Gives access to the internal array, so that it can be read without being copied.
+   */
+  private static class RecordBuffer extends ByteArrayOutputStream {
+
+    RecordBuffer() {
+      super(INITIAL_BUFFER_SIZE);
+    }
+
+    byte[] bytes() {
+      return buf;
+    }
+
+  }
+
+}
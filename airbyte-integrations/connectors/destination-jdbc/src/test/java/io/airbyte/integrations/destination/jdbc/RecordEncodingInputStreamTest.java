@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RecordEncodingInputStreamTest {
+
+  private static final List<AirbyteRecordMessage> RECORDS = List.of(
+      record("{\"id\":1,\"name\":\"a, \\\"quoted\\\" name\"}", 1_600_000_000_000L),
+      record("{\"id\":2,\"name\":\"" + "x".repeat(20_000) + "\"}", 1_600_000_000_001L),
+      record("{\"id\":3,\"name\":\"na\u00efve\"}", 1_600_000_000_002L));
+
+  private static final RecordEncodingInputStream.RecordEncoder LINE_ENCODER =
+      (record, out) -> out.write((Jsons.serialize(record.getData()) + "\n").getBytes(StandardCharsets.UTF_8));
+
+  @Test
+  void testReadsAllRecordsInOrder() throws IOException {
+    final String expected = RECORDS.stream().map(record -> Jsons.serialize(record.getData()) + "\n").reduce("", String::concat);
+
+    assertEquals(expected, new String(new RecordEncodingInputStream(RECORDS, LINE_ENCODER).readAllBytes(), StandardCharsets.UTF_8));
+    assertEquals(expected, readOneByteAtATime(new RecordEncodingInputStream(RECORDS, LINE_ENCODER)));
+  }
+
+  @Test
+  void testEmptyBatch() throws IOException {
+    final InputStream inputStream = new RecordEncodingInputStream(List.of(), LINE_ENCODER);
+
+    assertEquals(-1, inputStream.read());
+    assertEquals(-1, inputStream.read(new byte[10], 0, 10));
+  }
+
+  @Test
+  void testEncodesRecordsWhenRead() throws IOException {
+    final AtomicInteger encodedRecords = new AtomicInteger();
+    final InputStream inputStream = new RecordEncodingInputStream(RECORDS, (record, out) -> {
+      encodedRecords.incrementAndGet();
+      LINE_ENCODER.encode(record, out);
+    });
+    assertEquals(0, encodedRecords.get());
+
+    inputStream.read(new byte[10], 0, 10);
+    assertEquals(1, encodedRecords.get());
+  }
+
+  @Test
+  void testCsvInputStreamMatchesBatchFile(@TempDir final Path tempDir) throws Exception {
+    final JdbcSqlOperations sqlOperations = new TestJdbcSqlOperations();
+    final File file = tempDir.resolve("batch.csv").toFile();
+    sqlOperations.writeBatchToFile(file, RECORDS);
+
+    final String streamed = new String(sqlOperations.getCsvInputStream(RECORDS).readAllBytes(), StandardCharsets.UTF_8);
+    assertEquals(withoutIds(Files.readString(file.toPath())), withoutIds(streamed));
+  }
+
+  private static String readOneByteAtATime(final InputStream inputStream) throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    int b = inputStream.read();
+    while (b != -1) {
+      out.write(b);
+      b = inputStream.read();
+    }
+    return out.toString(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Drops the random uuid that starts every line.
+   */
+  private static List<String> withoutIds(final String csv) {
+    return Arrays.stream(csv.split("\r\n")).map(line -> line.substring(line.indexOf(',') + 1)).toList();
+  }
+
+  private static AirbyteRecordMessage record(final String data, final long emittedAt) {
+    return new AirbyteRecordMessage().withStream("users").withData(Jsons.deserialize(data)).withEmittedAt(emittedAt);
+  }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.mssql;
+
+import com.microsoft.sqlserver.jdbc.ISQLServerBulkData;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.integrations.base.JavaBaseConstants;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import microsoft.sql.DateTimeOffset;
+
+/**
+ * Feeds the rows of a raw table to a bulk copy straight from the records of a batch, building each
+ * row only when the driver asks for it.
+ */
+class RawRecordBulkData implements ISQLServerBulkData {
+
+  private static final List<String> COLUMN_NAMES = List.of(
+      JavaBaseConstants.COLUMN_NAME_AB_ID,
+      JavaBaseConstants.COLUMN_NAME_DATA,
+      JavaBaseConstants.COLUMN_NAME_EMITTED_AT);
+  private static final int[] COLUMN_TYPES = {Types.VARCHAR, Types.NVARCHAR, microsoft.sql.Types.DATETIMEOFFSET};
+  // matches VARCHAR(64), NVARCHAR(MAX) and DATETIMEOFFSET(7) in SqlServerOperations#createTableQuery.
+  private static final int[] PRECISIONS = {64, Integer.MAX_VALUE, 34};
+  private static final int[] SCALES = {0, 0, 7};
+
+  private final Iterator<AirbyteRecordMessage> records;
+  private AirbyteRecordMessage current;
+
+  RawRecordBulkData(final List<AirbyteRecordMessage> records) {
+    this.records = records.iterator();
+  }
+
+  @Override
+  public Set<Integer> getColumnOrdinals() {
+    return Set.of(1, 2, 3);
+  }
+
+  @Override
+  public String getColumnName(final int column) {
+    return COLUMN_NAMES.get(column - 1);
+  }
+
+  @Override
+  public int getColumnType(final int column) {
+    return COLUMN_TYPES[column - 1];
+  }
+
+  @Override
+  public int getPrecision(final int column) {
+    return PRECISIONS[column - 1];
+  }
+
+  @Override
+  public int getScale(final int column) {
+    return SCALES[column - 1];
+  }
+
+  @Override
+  public boolean next() {
+    if (!records.hasNext()) {
+      return false;
+    }
+    current = records.next();
+    return true;
+  }
+
+  @Override
+  public Object[] getRowData() {
+    return new Object[] {
+      UUID.randomUUID().toString(),
+      Jsons.serialize(current.getData()),
+      DateTimeOffset.valueOf(new Timestamp(current.getEmittedAt()), 0)
+    };
+  }
+
+}
@@ -5,11 +5,11 @@
 package io.airbyte.integrations.destination.mssql;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.google.common.collect.Lists;
+import com.microsoft.sqlserver.jdbc.SQLServerBulkCopy;
+import com.microsoft.sqlserver.jdbc.SQLServerConnection;
 import io.airbyte.db.jdbc.JdbcDatabase;
 import io.airbyte.integrations.base.JavaBaseConstants;
 import io.airbyte.integrations.destination.jdbc.SqlOperations;
-import io.airbyte.integrations.destination.jdbc.SqlOperationsUtils;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import java.sql.SQLException;
 import java.util.List;
@@ -64,24 +64,18 @@ public class SqlServerOperations implements SqlOperations {
                             final String schemaName,
                             final String tempTableName)
       throws SQLException {
-    // MSSQL has a limitation of 2100 parameters used in a query
-    // Airbyte inserts data with 3 columns (raw table) this limits to 700 records.
-    // Limited the variable to 500 records to
-    final int MAX_BATCH_SIZE = 500;
-    final String insertQueryComponent = String.format(
-        "INSERT INTO %s.%s (%s, %s, %s) VALUES\n",
-        schemaName,
-        tempTableName,
-        JavaBaseConstants.COLUMN_NAME_AB_ID,
-        JavaBaseConstants.COLUMN_NAME_DATA,
-        JavaBaseConstants.COLUMN_NAME_EMITTED_AT);
-    final String recordQueryComponent = "(?, ?, ?),\n";
-    final List<List<AirbyteRecordMessage>> batches = Lists.partition(records, MAX_BATCH_SIZE);
-    batches.forEach(record -> {
-      try {
-        SqlOperationsUtils.insertRawRecordsInSingleQuery(insertQueryComponent, recordQueryComponent, database, record);
-      } catch (final SQLException e) {
-        e.printStackTrace();
+    if (records.isEmpty()) {
+      return;
+    }
+
+    // a bulk copy streams the rows, so it is not bound by the 2100 parameters limit of a query.
+    database.execute(connection -> {
+      try (final SQLServerBulkCopy bulkCopy = new SQLServerBulkCopy(connection.unwrap(SQLServerConnection.class))) {
+        bulkCopy.setDestinationTableName(String.format("%s.%s", schemaName, tempTableName));
+        bulkCopy.addColumnMapping(1, JavaBaseConstants.COLUMN_NAME_AB_ID);
+        bulkCopy.addColumnMapping(2, JavaBaseConstants.COLUMN_NAME_DATA);
+        bulkCopy.addColumnMapping(3, JavaBaseConstants.COLUMN_NAME_EMITTED_AT);
+        bulkCopy.writeToServer(new RawRecordBulkData(records));
       }
     });
   }
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.mssql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.integrations.base.JavaBaseConstants;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import microsoft.sql.DateTimeOffset;
+import org.junit.jupiter.api.Test;
+
+class RawRecordBulkDataTest {
+
+  @Test
+  void testColumnsFollowRawTable() {
+    final RawRecordBulkData bulkData = new RawRecordBulkData(List.of());
+    final String query = new SqlServerOperations().createTableQuery(null, "schema", "table");
+
+    assertEquals(Set.of(1, 2, 3), bulkData.getColumnOrdinals());
+    assertEquals(JavaBaseConstants.COLUMN_NAME_AB_ID, bulkData.getColumnName(1));
+    assertEquals(JavaBaseConstants.COLUMN_NAME_DATA, bulkData.getColumnName(2));
+    assertEquals(JavaBaseConstants.COLUMN_NAME_EMITTED_AT, bulkData.getColumnName(3));
+    assertTrue(query.indexOf(bulkData.getColumnName(1)) < query.indexOf(bulkData.getColumnName(2)));
+    assertTrue(query.indexOf(bulkData.getColumnName(2)) < query.indexOf(bulkData.getColumnName(3)));
+
+    assertEquals(Types.VARCHAR, bulkData.getColumnType(1));
+    assertEquals(64, bulkData.getPrecision(1));
+    assertTrue(query.contains(JavaBaseConstants.COLUMN_NAME_AB_ID + " VARCHAR(64)"));
+    assertEquals(Types.NVARCHAR, bulkData.getColumnType(2));
+    assertEquals(Integer.MAX_VALUE, bulkData.getPrecision(2));
+    assertTrue(query.contains(JavaBaseConstants.COLUMN_NAME_DATA + " NVARCHAR(MAX)"));
+    assertEquals(microsoft.sql.Types.DATETIMEOFFSET, bulkData.getColumnType(3));
+    assertEquals(7, bulkData.getScale(3));
+    assertTrue(query.contains(JavaBaseConstants.COLUMN_NAME_EMITTED_AT + " DATETIMEOFFSET(7)"));
+  }
+
+  @Test
+  void testRowsFollowRecords() {
+    final List<AirbyteRecordMessage> records = List.of(
+        new AirbyteRecordMessage().withData(Jsons.jsonNode(Map.of("id", 1, "name", "picard"))).withEmittedAt(1_600_000_000_123L),
+        new AirbyteRecordMessage().withData(Jsons.jsonNode(Map.of("id", 2, "name", "crusher"))).withEmittedAt(1_600_000_001_456L));
+    final RawRecordBulkData bulkData = new RawRecordBulkData(records);
+
+    for (final AirbyteRecordMessage record : records) {
+      assertTrue(bulkData.next());
+      final Object[] row = bulkData.getRowData();
+
+      assertEquals(3, row.length);
+      UUID.fromString((String) row[0]);
+      assertEquals(Jsons.serialize(record.getData()), row[1]);
+      final DateTimeOffset emittedAt = (DateTimeOffset) row[2];
+      assertEquals(record.getEmittedAt(), emittedAt.getTimestamp().getTime());
+      assertEquals(0, emittedAt.getMinutesOffset());
+    }
+    assertFalse(bulkData.next());
+  }
+
+}
@@ -5,14 +5,12 @@
 package io.airbyte.integrations.destination.mysql;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.mysql.cj.jdbc.JdbcStatement;
 import io.airbyte.db.jdbc.JdbcDatabase;
 import io.airbyte.integrations.base.JavaBaseConstants;
 import io.airbyte.integrations.destination.StandardNameTransformer;
 import io.airbyte.integrations.destination.jdbc.JdbcSqlOperations;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.List;
@@ -37,36 +35,15 @@ public class MySQLSqlOperations extends JdbcSqlOperations {
     }
 
     verifyLocalFileEnabled(database);
-    try {
-      final File tmpFile = Files.createTempFile(tmpTableName + "-", ".tmp").toFile();
-
-      loadDataIntoTable(database, records, schemaName, tmpTableName, tmpFile);
-
-      Files.delete(tmpFile.toPath());
-    } catch (final IOException e) {
-      throw new SQLException(e);
-    }
-  }
-
-  private void loadDataIntoTable(final JdbcDatabase database,
-                                 final List<AirbyteRecordMessage> records,
-                                 final String schemaName,
-                                 final String tmpTableName,
-                                 final File tmpFile)
-      throws SQLException {
     database.execute(connection -> {
-      try {
-        writeBatchToFile(tmpFile, records);
-
-        final String absoluteFile = "'" + tmpFile.getAbsolutePath() + "'";
-
-        final String query = String.format(
-            "LOAD DATA LOCAL INFILE %s INTO TABLE %s.%s FIELDS TERMINATED BY ',' ENCLOSED BY '\"' ESCAPED BY '\\\"' LINES TERMINATED BY '\\r\\n'",
-            absoluteFile, schemaName, tmpTableName);
-
-        try (final Statement stmt = connection.createStatement()) {
-          stmt.execute(query);
-        }
+      // the file name is ignored by the driver, which sends the content of the stream instead.
+      final String query = String.format(
+          "LOAD DATA LOCAL INFILE 'stream' INTO TABLE %s.%s FIELDS TERMINATED BY ',' ENCLOSED BY '\"' ESCAPED BY '\\\"' LINES TERMINATED BY '\\r\\n'",
+          schemaName, tmpTableName);
+
+      try (final Statement stmt = connection.createStatement()) {
+        stmt.unwrap(JdbcStatement.class).setLocalInfileInputStream(getCsvInputStream(records));
+        stmt.execute(query);
       } catch (final Exception e) {
         throw new RuntimeException(e);
       }
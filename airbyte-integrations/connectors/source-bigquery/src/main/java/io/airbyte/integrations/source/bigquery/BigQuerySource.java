@@ -146,6 +146,24 @@ public class BigQuerySource extends AbstractRelationalDbSource<StandardSQLTypeNa
         sourceOperations.getQueryParameter(cursorFieldType, cursorValue));
   }
 
+  @Override
+  protected AutoCloseableIterator<JsonNode> queryTableOrderedByKey(final BigQueryDatabase database,
+                                                                   final List<String> columnNames,
+                                                                   final String schemaName,
+                                                                   final String tableName,
+                                                                   final String keyField,
+                                                                   final StandardSQLTypeName keyFieldType,
+                                                                   final String afterKey) {
+    final String selectQuery = String.format("SELECT %s FROM %s",
+        enquoteIdentifierList(columnNames),
+        getFullTableName(schemaName, tableName));
+    if (afterKey == null) {
+      return queryTableWithParams(database, String.format("%s ORDER BY %s ASC", selectQuery, keyField));
+    }
+    return queryTableWithParams(database, String.format("%s WHERE %s > ? ORDER BY %s ASC", selectQuery, keyField, keyField),
+        sourceOperations.getQueryParameter(keyFieldType, afterKey));
+  }
+
   @Override
   public boolean isCursorType(final StandardSQLTypeName standardSQLTypeName) {
     return true;
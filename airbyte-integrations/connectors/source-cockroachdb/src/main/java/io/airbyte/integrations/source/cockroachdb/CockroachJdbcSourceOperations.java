@@ -4,13 +4,11 @@
 
 package io.airbyte.integrations.source.cockroachdb;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import io.airbyte.commons.json.Jsons;
 import io.airbyte.db.jdbc.JdbcSourceOperations;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
-import java.util.Collections;
 
 /**
  * Class is the responsible for special Cockroach DataTypes handling
@@ -37,28 +35,26 @@ public class CockroachJdbcSourceOperations extends JdbcSourceOperations {
   }
 
   @Override
-  public JsonNode rowToJson(final ResultSet queryContext) throws SQLException {
-    final int columnCount = queryContext.getMetaData().getColumnCount();
-    final ObjectNode jsonNode = (ObjectNode) Jsons.jsonNode(Collections.emptyMap());
-
-    for (int i = 1; i <= columnCount; i++) {
+  protected ColumnReader getColumnReader(final ResultSetMetaData metadata, final int colIndex) throws SQLException {
+    final ColumnReader columnReader = super.getColumnReader(metadata, colIndex);
+    final String columnName = metadata.getColumnName(colIndex);
+    final boolean isNumeric = "numeric".equalsIgnoreCase(metadata.getColumnTypeName(colIndex));
+    return (resultSet, json) -> {
       try {
-        queryContext.getObject(i);
-        if (!queryContext.wasNull()) {
-          setJsonField(queryContext, i, jsonNode);
-        }
+        columnReader.read(resultSet, json);
       } catch (final SQLException e) {
-        putCockroachSpecialDataType(queryContext, i, jsonNode);
+        putCockroachSpecialDataType(resultSet, colIndex, columnName, isNumeric, json);
       }
-    }
-    return jsonNode;
+    };
   }
 
-  private void putCockroachSpecialDataType(final ResultSet resultSet, final int index, final ObjectNode node) throws SQLException {
-    final String columnType = resultSet.getMetaData().getColumnTypeName(index);
-    final String columnName = resultSet.getMetaData().getColumnName(index);
+  private void putCockroachSpecialDataType(final ResultSet resultSet,
+                                           final int index,
+                                           final String columnName,
+                                           final boolean isNumeric,
+                                           final ObjectNode node) {
     try {
-      if ("numeric".equalsIgnoreCase(columnType)) {
+      if (isNumeric) {
         final double value = resultSet.getDouble(index);
         node.put(columnName, value);
       } else {
@@ -53,6 +53,7 @@ import java.net.URI;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -91,6 +92,7 @@ public abstract class AbstractJdbcSource<Datatype> extends AbstractRelationalDbS
   public static final String TRUST_KEY_STORE_TYPE = "trustCertificateKeyStoreType";
   public static final String KEY_STORE_TYPE_PKCS12 = "PKCS12";
   public static final String PARAM_MODE = "mode";
+  public static final String FULL_REFRESH_PARALLELISM_KEY = "full_refresh_parallelism";
   Pair<URI, String> caCertKeyStorePair;
   Pair<URI, String> clientCertKeyStorePair;
 
@@ -120,6 +122,11 @@ public abstract class AbstractJdbcSource<Datatype> extends AbstractRelationalDbS
 
   private static final Logger LOGGER = LoggerFactory.getLogger(AbstractJdbcSource.class);
 
+  private static final int MAX_FULL_REFRESH_PARALLELISM = 8;
+  // more chunks than connections, so that a few chunks denser than the others do not hold up the read.
+  private static final int FULL_REFRESH_CHUNKS_PER_CONNECTION = 4;
+  private static final Set<Integer> INTEGER_COLUMN_TYPES = Set.of(Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT);
+
   protected final String driverClass;
   protected final Supplier<JdbcStreamingQueryConfig> streamingQueryConfigProvider;
   protected final JdbcCompatibleSourceOperations<Datatype> sourceOperations;
@@ -324,6 +331,144 @@ public abstract class AbstractJdbcSource<Datatype> extends AbstractRelationalDbS
     return sourceOperations.isCursorType(type);
   }
 
+  /**
+   * When {@value #FULL_REFRESH_PARALLELISM_KEY} is set above 1 in the config and the table has a
+   * single column integer primary key, splits the range of the primary key into chunks and reads
+   * them with that many connections at once. Otherwise reads the table with a single query.
+   *
+   * <p>
+   * Each chunk is read in its own transaction, so unlike a single query the chunks are not a
+   * consistent snapshot of a table that is written to while it is read. Records of different chunks
+   * are interleaved in the order they are read.
+   * </p>
+   */
+  @Override
+  public AutoCloseableIterator<JsonNode> queryTableFullRefresh(final JdbcDatabase database,
+      final List<String> columnNames,
+      final String schemaName,
+      final String tableName) {
+    final int parallelism = getFullRefreshParallelism(database.getSourceConfig());
+    if (parallelism <= 1) {
+      return super.queryTableFullRefresh(database, columnNames, schemaName, tableName);
+    }
+    return AutoCloseableIterators.lazyIterator(() -> {
+      final List<AutoCloseableIterator<JsonNode>> chunks;
+      try {
+        chunks = queryTableChunks(database, columnNames, schemaName, tableName, parallelism * FULL_REFRESH_CHUNKS_PER_CONNECTION);
+      } catch (final SQLException e) {
+        throw new RuntimeException(e);
+      }
+      if (chunks.isEmpty()) {
+        return super.queryTableFullRefresh(database, columnNames, schemaName, tableName);
+      }
+      LOGGER.info("Reading table {} in {} primary key chunks with {} connections", tableName, chunks.size(), parallelism);
+      return AutoCloseableIterators.mergeConcurrently(chunks, parallelism);
+    });
+  }
+
+  protected int getFullRefreshParallelism(final JsonNode config) {
+    if (config == null || !config.has(FULL_REFRESH_PARALLELISM_KEY)) {
+      return 1;
+    }
+    return Math.max(1, Math.min(config.get(FULL_REFRESH_PARALLELISM_KEY).asInt(1), MAX_FULL_REFRESH_PARALLELISM));
+  }
+
+  /**
+   * @return queries for the chunks of the table, or an empty list if the table cannot be split by its
+   *         primary key: it is empty, or its primary key is not a single integer column.
+   */
+  private List<AutoCloseableIterator<JsonNode>> queryTableChunks(final JdbcDatabase database,
+      final List<String> columnNames,
+      final String schemaName,
+      final String tableName,
+      final int numChunks)
+      throws SQLException {
+    final List<String> primaryKeys = database.bufferedResultSetQuery(
+        connection -> connection.getMetaData().getPrimaryKeys(getCatalog(database), schemaName, tableName),
+        r -> r.getString(JDBC_COLUMN_COLUMN_NAME));
+    if (primaryKeys.size() != 1) {
+      return Collections.emptyList();
+    }
+
+    final String primaryKey = primaryKeys.get(0);
+    final List<Optional<Pair<Long, Long>>> ranges = database.bufferedResultSetQuery(
+        connection -> connection.createStatement().executeQuery(String.format("SELECT MIN(%1$s), MAX(%1$s) FROM %2$s",
+            sourceOperations.enquoteIdentifier(connection, primaryKey),
+            sourceOperations.getFullyQualifiedTableNameWithQuoting(connection, schemaName, tableName))),
+        r -> INTEGER_COLUMN_TYPES.contains(r.getMetaData().getColumnType(1)) && r.getObject(1) != null
+            ? Optional.of(ImmutablePair.of(r.getLong(1), r.getLong(2)))
+            : Optional.empty());
+    if (ranges.isEmpty() || ranges.get(0).isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    final long min = ranges.get(0).get().getLeft();
+    final long span;
+    try {
+      span = Math.subtractExact(ranges.get(0).get().getRight(), min);
+    } catch (final ArithmeticException e) {
+      return Collections.emptyList();
+    }
+
+    // the first and last chunks are open ended, to also read rows written outside of the range since.
+    final long chunkSize = span / numChunks + 1;
+    final List<Long> bounds = new ArrayList<>();
+    for (int i = 1; i < numChunks && i * chunkSize <= span; i++) {
+      bounds.add(min + i * chunkSize);
+    }
+    if (bounds.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    final List<AutoCloseableIterator<JsonNode>> chunks = new ArrayList<>();
+    for (int i = 0; i <= bounds.size(); i++) {
+      chunks.add(queryTableChunk(database, columnNames, schemaName, tableName, primaryKey,
+          i == 0 ? null : bounds.get(i - 1),
+          i == bounds.size() ? null : bounds.get(i)));
+    }
+    return chunks;
+  }
+
+  private AutoCloseableIterator<JsonNode> queryTableChunk(final JdbcDatabase database,
+      final List<String> columnNames,
+      final String schemaName,
+      final String tableName,
+      final String primaryKey,
+      final Long lowerBound,
+      final Long upperBound) {
+    return AutoCloseableIterators.lazyIterator(() -> {
+      try {
+        final Stream<JsonNode> stream = database.unsafeQuery(
+            connection -> {
+              final String quotedPrimaryKey = sourceOperations.enquoteIdentifier(connection, primaryKey);
+              final List<String> conditions = new ArrayList<>();
+              if (lowerBound != null) {
+                conditions.add(quotedPrimaryKey + " >= ?");
+              }
+              if (upperBound != null) {
+                conditions.add(quotedPrimaryKey + " < ?");
+              }
+              final PreparedStatement preparedStatement = connection.prepareStatement(String.format("SELECT %s FROM %s WHERE %s",
+                  sourceOperations.enquoteIdentifierList(connection, columnNames),
+                  sourceOperations.getFullyQualifiedTableNameWithQuoting(connection, schemaName, tableName),
+                  String.join(" AND ", conditions)));
+              int index = 1;
+              if (lowerBound != null) {
+                preparedStatement.setLong(index++, lowerBound);
+              }
+              if (upperBound != null) {
+                preparedStatement.setLong(index, upperBound);
+              }
+              return preparedStatement;
+            },
+            sourceOperations::rowToJson);
+        return AutoCloseableIterators.fromStream(stream);
+      } catch (final SQLException e) {
+        throw new RuntimeException(e);
+      }
+    });
+  }
+
   @Override
   public AutoCloseableIterator<JsonNode> queryTableIncremental(final JdbcDatabase database,
       final List<String> columnNames,
@@ -332,6 +477,40 @@ public abstract class AbstractJdbcSource<Datatype> extends AbstractRelationalDbS
       final String cursorField,
       final Datatype cursorFieldType,
       final String cursorValue) {
+    // if the connector emits intermediate states, the incremental query must be sorted by the cursor
+    // field
+    return queryTableByCursor(database, columnNames, schemaName, tableName, cursorField, cursorFieldType, cursorValue,
+        getStateEmissionFrequency() > 0);
+  }
+
+  @Override
+  protected boolean supportsResumableFullRefresh() {
+    return true;
+  }
+
+  @Override
+  protected AutoCloseableIterator<JsonNode> queryTableOrderedByKey(final JdbcDatabase database,
+      final List<String> columnNames,
+      final String schemaName,
+      final String tableName,
+      final String keyField,
+      final Datatype keyFieldType,
+      final String afterKey) {
+    return queryTableByCursor(database, columnNames, schemaName, tableName, keyField, keyFieldType, afterKey, true);
+  }
+
+  /**
+   * Reads the records where the cursor field is bigger than cursorValue, or all the records if
+   * cursorValue is null, sorted by the cursor field if isOrdered is set.
+   */
+  private AutoCloseableIterator<JsonNode> queryTableByCursor(final JdbcDatabase database,
+      final List<String> columnNames,
+      final String schemaName,
+      final String tableName,
+      final String cursorField,
+      final Datatype cursorFieldType,
+      final String cursorValue,
+      final boolean isOrdered) {
     LOGGER.info("Queueing query for table: {}", tableName);
     return AutoCloseableIterators.lazyIterator(() -> {
       try {
@@ -339,18 +518,20 @@ public abstract class AbstractJdbcSource<Datatype> extends AbstractRelationalDbS
             connection -> {
               LOGGER.info("Preparing query for table: {}", tableName);
               final String quotedCursorField = sourceOperations.enquoteIdentifier(connection, cursorField);
-              final StringBuilder sql = new StringBuilder(String.format("SELECT %s FROM %s WHERE %s > ?",
+              final StringBuilder sql = new StringBuilder(String.format("SELECT %s FROM %s",
                   sourceOperations.enquoteIdentifierList(connection, columnNames),
-                  sourceOperations.getFullyQualifiedTableNameWithQuoting(connection, schemaName, tableName),
-                  quotedCursorField));
-              // if the connector emits intermediate states, the incremental query must be sorted by the cursor
-              // field
-              if (getStateEmissionFrequency() > 0) {
+                  sourceOperations.getFullyQualifiedTableNameWithQuoting(connection, schemaName, tableName)));
+              if (cursorValue != null) {
+                sql.append(String.format(" WHERE %s > ?", quotedCursorField));
+              }
+              if (isOrdered) {
                 sql.append(String.format(" ORDER BY %s ASC", quotedCursorField));
               }
 
               final PreparedStatement preparedStatement = connection.prepareStatement(sql.toString());
-              sourceOperations.setStatementField(preparedStatement, 1, cursorFieldType, cursorValue);
+              if (cursorValue != null) {
+                sourceOperations.setStatementField(preparedStatement, 1, cursorFieldType, cursorValue);
+              }
               LOGGER.info("Executing query for table: {}", tableName);
               return preparedStatement;
             },
@@ -369,12 +550,22 @@ public abstract class AbstractJdbcSource<Datatype> extends AbstractRelationalDbS
         jdbcConfig.has(JdbcUtils.PASSWORD_KEY) ? jdbcConfig.get(JdbcUtils.PASSWORD_KEY).asText() : null,
         driverClass,
         jdbcConfig.get(JdbcUtils.JDBC_URL_KEY).asText(),
-        getConnectionProperties(config));
+        getConnectionProperties(config),
+        getMaximumPoolSize(config));
     // Record the data source so that it can be closed.
     dataSources.add(dataSource);
     return dataSource;
   }
 
+  /**
+   * Makes room in the pool for each of the streams read at the same time to read a table with as many
+   * connections as it is allowed to, plus one for the queries made around the reads.
+   */
+  protected int getMaximumPoolSize(final JsonNode config) {
+    return Math.max(DataSourceFactory.DEFAULT_MAXIMUM_POOL_SIZE,
+        getStreamReadParallelism(config) * getFullRefreshParallelism(config) + 1);
+  }
+
   @Override
   public JdbcDatabase createDatabase(final JsonNode config) throws SQLException {
     final DataSource dataSource = createDataSource(config);
@@ -8,6 +8,7 @@ import static io.airbyte.db.jdbc.JdbcUtils.getDefaultSourceOperations;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doCallRealMethod;
@@ -28,6 +29,7 @@ import io.airbyte.db.jdbc.StreamingJdbcDatabase;
 import io.airbyte.db.jdbc.streaming.AdaptiveStreamingQueryConfig;
 import io.airbyte.integrations.base.Source;
 import io.airbyte.integrations.source.jdbc.AbstractJdbcSource;
+import io.airbyte.integrations.source.relationaldb.AbstractDbSource;
 import io.airbyte.integrations.source.relationaldb.models.DbState;
 import io.airbyte.integrations.source.relationaldb.models.DbStreamState;
 import io.airbyte.protocol.models.AirbyteCatalog;
@@ -428,6 +430,92 @@ public abstract class JdbcSourceAcceptanceTest {
     assertThat(actualMessages, Matchers.containsInAnyOrder(expectedMessages.toArray()));
   }
 
+  @Test
+  void testReadSuccessWithFullRefreshParallelism() throws Exception {
+    final JsonNode parallelConfig = Jsons.clone(config);
+    ((ObjectNode) parallelConfig).put(AbstractJdbcSource.FULL_REFRESH_PARALLELISM_KEY, 2);
+    final List<AirbyteMessage> actualMessages =
+        MoreIterators.toList(
+            source.read(parallelConfig, getConfiguredCatalogWithOneStream(getDefaultNamespace()), null));
+
+    setEmittedAtToNull(actualMessages);
+    final List<AirbyteMessage> expectedMessages = getTestMessages();
+    assertThat(expectedMessages, Matchers.containsInAnyOrder(actualMessages.toArray()));
+    assertThat(actualMessages, Matchers.containsInAnyOrder(expectedMessages.toArray()));
+  }
+
+  @Test
+  void testReadFullRefreshSnapshotWithCheckpoints() throws Exception {
+    final ConfiguredAirbyteCatalog catalog = getConfiguredCatalogWithOneStream(getDefaultNamespace());
+    catalog.getStreams().forEach(stream -> stream.setDestinationSyncMode(DestinationSyncMode.APPEND));
+
+    final List<AirbyteMessage> actualMessages = MoreIterators.toList(source.read(getSnapshotConfig(), catalog, null));
+
+    setEmittedAtToNull(actualMessages);
+    final List<AirbyteMessage> expectedRecords = getTestMessages();
+    if (!supportsResumableFullRefresh()) {
+      assertThat(actualMessages, Matchers.containsInAnyOrder(expectedRecords.toArray()));
+      return;
+    }
+    // the records are read in order of the key, and the last key read is checkpointed after every
+    // record, once the next record shows that no other record has the same key.
+    assertEquals(List.of(Type.RECORD, Type.RECORD, Type.STATE, Type.RECORD, Type.STATE),
+        actualMessages.stream().map(AirbyteMessage::getType).collect(Collectors.toList()));
+    assertEquals(expectedRecords, actualMessages.stream().filter(m -> m.getType() == Type.RECORD).collect(Collectors.toList()));
+
+    final DbStreamState checkpoint = extractStreamState(actualMessages.get(2));
+    assertEquals(List.of(COL_ID), checkpoint.getCursorField());
+    assertEquals("1", checkpoint.getCursor());
+    // the completed snapshot clears its cursor, so that the next sync reads the whole table again.
+    assertNull(extractStreamState(actualMessages.get(4)).getCursor());
+  }
+
+  @Test
+  void testReadFullRefreshSnapshotResumesAfterCheckpoint() throws Exception {
+    final ConfiguredAirbyteCatalog catalog = getConfiguredCatalogWithOneStream(getDefaultNamespace());
+    catalog.getStreams().forEach(stream -> stream.setDestinationSyncMode(DestinationSyncMode.APPEND));
+    final DbStreamState checkpoint = new DbStreamState()
+        .withStreamName(streamName)
+        .withStreamNamespace(getDefaultNamespace())
+        .withCursorField(List.of(COL_ID))
+        .withCursor("1");
+
+    final List<AirbyteMessage> actualMessages = MoreIterators
+        .toList(source.read(getSnapshotConfig(), catalog, Jsons.jsonNode(createState(List.of(checkpoint)))));
+
+    setEmittedAtToNull(actualMessages);
+    final List<AirbyteMessage> actualRecords = actualMessages.stream()
+        .filter(m -> m.getType() == Type.RECORD)
+        .collect(Collectors.toList());
+    if (!supportsResumableFullRefresh()) {
+      assertThat(actualRecords, Matchers.containsInAnyOrder(getTestMessages().toArray()));
+      return;
+    }
+    // only the records after the checkpointed key are read, each of them once.
+    assertEquals(getTestMessages().subList(1, 3), actualRecords);
+    final List<AirbyteMessage> actualStates = actualMessages.stream()
+        .filter(m -> m.getType() == Type.STATE)
+        .collect(Collectors.toList());
+    assertEquals(1, actualStates.size());
+    assertNull(extractStreamState(actualStates.get(0)).getCursor());
+  }
+
+  @Test
+  void testReadFullRefreshSnapshotWithoutSingleColumnPrimaryKey() throws Exception {
+    final ConfiguredAirbyteCatalog catalog = CatalogHelpers.toDefaultConfiguredCatalog(getCatalog(getDefaultNamespace()));
+    catalog.withStreams(catalog.getStreams().stream()
+        .filter(stream -> !stream.getStream().getName().equals(streamName))
+        .peek(stream -> stream.setDestinationSyncMode(DestinationSyncMode.APPEND))
+        .collect(Collectors.toList()));
+
+    final List<AirbyteMessage> actualMessages = MoreIterators.toList(source.read(getSnapshotConfig(), catalog, null));
+
+    // streams without a primary key or with a composite one are read with a single query, without
+    // checkpoints.
+    assertEquals(6, actualMessages.size());
+    assertTrue(actualMessages.stream().allMatch(m -> m.getType() == Type.RECORD));
+  }
+
   @Test
   void testReadOneColumn() throws Exception {
     final ConfiguredAirbyteCatalog catalog = CatalogHelpers
@@ -458,6 +546,17 @@ public abstract class JdbcSourceAcceptanceTest {
 
   @Test
   void testReadMultipleTables() throws Exception {
+    assertReadMultipleTables(config);
+  }
+
+  @Test
+  void testReadMultipleTablesWithStreamReadParallelism() throws Exception {
+    final JsonNode parallelConfig = Jsons.clone(config);
+    ((ObjectNode) parallelConfig).put(AbstractDbSource.STREAM_READ_PARALLELISM_KEY, 4);
+    assertReadMultipleTables(parallelConfig);
+  }
+
+  private void assertReadMultipleTables(final JsonNode config) throws Exception {
     final ConfiguredAirbyteCatalog catalog = getConfiguredCatalogWithOneStream(
         getDefaultNamespace());
     final List<AirbyteMessage> expectedMessages = new ArrayList<>(getTestMessages());
@@ -1042,6 +1141,37 @@ public abstract class JdbcSourceAcceptanceTest {
     }
   }
 
+  /**
+   * @return config that reads full refresh streams as resumable snapshots, with a checkpoint after
+   *         every record.
+   */
+  protected JsonNode getSnapshotConfig() {
+    final JsonNode snapshotConfig = Jsons.clone(config);
+    ((ObjectNode) snapshotConfig).put(AbstractDbSource.SNAPSHOT_CHECKPOINT_INTERVAL_KEY, 1);
+    return snapshotConfig;
+  }
+
+  /**
+   * Tests whether the connector under test reads full refresh streams as resumable snapshots when
+   * {@link AbstractDbSource#SNAPSHOT_CHECKPOINT_INTERVAL_KEY} is set.
+   *
+   * @return {@code true} if it does, {@code false} if the streams are always read with a single
+   *         query. Default value is {@code true}.
+   */
+  protected boolean supportsResumableFullRefresh() {
+    return true;
+  }
+
+  protected DbStreamState extractStreamState(final AirbyteMessage stateMessage) {
+    if (supportsPerStream()) {
+      return Jsons.object(stateMessage.getState().getStream().getStreamState(), DbStreamState.class);
+    }
+    return Jsons.object(stateMessage.getState().getData(), DbState.class).getStreams().stream()
+        .filter(stream -> stream.getStreamName().equals(streamName))
+        .findFirst()
+        .orElseThrow();
+  }
+
   protected static void setEmittedAtToNull(final Iterable<AirbyteMessage> messages) {
     for (final AirbyteMessage actualMessage : messages) {
       if (actualMessage.getRecord() != null) {
@@ -5,6 +5,7 @@
 package io.airbyte.integrations.source.mongodb;
 
 import static com.mongodb.client.model.Filters.gt;
+import static com.mongodb.client.model.Sorts.ascending;
 import static org.bson.BsonType.DATE_TIME;
 import static org.bson.BsonType.DECIMAL128;
 import static org.bson.BsonType.DOCUMENT;
@@ -193,7 +194,7 @@ public class MongoDbSource extends AbstractDbSource<BsonType, MongoDatabase> {
                                                                final List<String> columnNames,
                                                                final String schemaName,
                                                                final String tableName) {
-    return queryTable(database, columnNames, tableName, null);
+    return queryTable(database, columnNames, tableName, null, null);
   }
 
   @Override
@@ -205,7 +206,19 @@ public class MongoDbSource extends AbstractDbSource<BsonType, MongoDatabase> {
                                                                final BsonType cursorFieldType,
                                                                final String cursorValue) {
     final Bson greaterComparison = gt(cursorField, MongoUtils.getBsonValue(cursorFieldType, cursorValue));
-    return queryTable(database, columnNames, tableName, greaterComparison);
+    return queryTable(database, columnNames, tableName, greaterComparison, null);
+  }
+
+  @Override
+  protected AutoCloseableIterator<JsonNode> queryTableOrderedByKey(final MongoDatabase database,
+                                                                   final List<String> columnNames,
+                                                                   final String schemaName,
+                                                                   final String tableName,
+                                                                   final String keyField,
+                                                                   final BsonType keyFieldType,
+                                                                   final String afterKey) {
+    final Bson greaterComparison = afterKey == null ? null : gt(keyField, MongoUtils.getBsonValue(keyFieldType, afterKey));
+    return queryTable(database, columnNames, tableName, greaterComparison, ascending(keyField));
   }
 
   @Override
@@ -220,10 +233,11 @@ public class MongoDbSource extends AbstractDbSource<BsonType, MongoDatabase> {
   private AutoCloseableIterator<JsonNode> queryTable(final MongoDatabase database,
                                                      final List<String> columnNames,
                                                      final String tableName,
-                                                     final Bson filter) {
+                                                     final Bson filter,
+                                                     final Bson sort) {
     return AutoCloseableIterators.lazyIterator(() -> {
       try {
-        final Stream<JsonNode> stream = database.read(tableName, columnNames, Optional.ofNullable(filter));
+        final Stream<JsonNode> stream = database.read(tableName, columnNames, Optional.ofNullable(filter), Optional.ofNullable(sort));
         return AutoCloseableIterators.fromStream(stream);
       } catch (final Exception e) {
         throw new RuntimeException(e);
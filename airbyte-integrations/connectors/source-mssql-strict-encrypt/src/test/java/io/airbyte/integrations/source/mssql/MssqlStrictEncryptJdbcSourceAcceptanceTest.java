@@ -119,4 +119,9 @@ public class MssqlStrictEncryptJdbcSourceAcceptanceTest extends JdbcSourceAccept
     assertEquals(expected, actual);
   }
 
+  @Override
+  protected boolean supportsResumableFullRefresh() {
+    return false;
+  }
+
 }
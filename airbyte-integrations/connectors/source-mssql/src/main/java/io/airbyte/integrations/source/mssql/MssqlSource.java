@@ -91,6 +91,13 @@ public class MssqlSource extends AbstractJdbcSource<JDBCType> implements Source
     return queryTable(database, preparedSqlQuery);
   }
 
+  @Override
+  protected boolean supportsResumableFullRefresh() {
+    // the generic ordered read would not wrap the columns that need to be converted like the queries
+    // above.
+    return false;
+  }
+
   @Override
   public AutoCloseableIterator<JsonNode> queryTableIncremental(final JdbcDatabase database,
                                                                final List<String> columnNames,
@@ -14,12 +14,12 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.microsoft.sqlserver.jdbc.Geography;
 import com.microsoft.sqlserver.jdbc.Geometry;
-import com.microsoft.sqlserver.jdbc.SQLServerResultSetMetaData;
 import io.airbyte.db.DataTypeUtils;
 import io.airbyte.db.jdbc.JdbcSourceOperations;
 import java.nio.charset.Charset;
 import java.sql.JDBCType;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,55 +29,45 @@ public class MssqlSourceOperations extends JdbcSourceOperations {
   private static final Logger LOGGER = LoggerFactory.getLogger(MssqlSourceOperations.class);
 
   /**
-   * The method is used to set json value by type. Need to be overridden as MSSQL has some its own
+   * The method is used to read json values by type. Need to be overridden as MSSQL has some its own
    * specific types (ex. Geometry, Geography, Hierarchyid, etc)
    *
    * @throws SQLException
    */
   @Override
-  public void setJsonField(final ResultSet resultSet, final int colIndex, final ObjectNode json)
-      throws SQLException {
-
-    final SQLServerResultSetMetaData metadata = (SQLServerResultSetMetaData) resultSet
-        .getMetaData();
+  protected ColumnReader getColumnReader(final ResultSetMetaData metadata, final int colIndex) throws SQLException {
     final String columnName = metadata.getColumnName(colIndex);
     final String columnTypeName = metadata.getColumnTypeName(colIndex);
     final JDBCType columnType = safeGetJdbcType(metadata.getColumnType(colIndex));
 
     if (columnTypeName.equalsIgnoreCase("time")) {
-      putTime(json, columnName, resultSet, colIndex);
+      return readIfNotNull(colIndex, columnName, this::putTime);
     } else if (columnTypeName.equalsIgnoreCase("geometry")) {
-      putGeometry(json, columnName, resultSet, colIndex);
+      return readIfNotNull(colIndex, columnName, this::putGeometry);
     } else if (columnTypeName.equalsIgnoreCase("geography")) {
-      putGeography(json, columnName, resultSet, colIndex);
+      return readIfNotNull(colIndex, columnName, this::putGeography);
     } else {
-      putValue(columnType, resultSet, columnName, colIndex, json);
+      return getValueReader(columnType, columnName, colIndex);
     }
   }
 
-  private void putValue(final JDBCType columnType,
-                        final ResultSet resultSet,
-                        final String columnName,
-                        final int colIndex,
-                        final ObjectNode json)
-      throws SQLException {
-    switch (columnType) {
-      case BIT, BOOLEAN -> putBoolean(json, columnName, resultSet, colIndex);
-      case TINYINT, SMALLINT -> putShortInt(json, columnName, resultSet, colIndex);
-      case INTEGER -> putInteger(json, columnName, resultSet, colIndex);
-      case BIGINT -> putBigInt(json, columnName, resultSet, colIndex);
-      case FLOAT, DOUBLE -> putDouble(json, columnName, resultSet, colIndex);
-      case REAL -> putFloat(json, columnName, resultSet, colIndex);
-      case NUMERIC, DECIMAL -> putBigDecimal(json, columnName, resultSet, colIndex);
-      case CHAR, NVARCHAR, VARCHAR, LONGVARCHAR -> putString(json, columnName, resultSet, colIndex);
-      case DATE -> putDate(json, columnName, resultSet, colIndex);
-      case TIME -> putTime(json, columnName, resultSet, colIndex);
-      case TIMESTAMP -> putTimestamp(json, columnName, resultSet, colIndex);
-      case BLOB, BINARY, VARBINARY, LONGVARBINARY -> putBinary(json, columnName, resultSet,
-          colIndex);
-      case ARRAY -> putArray(json, columnName, resultSet, colIndex);
-      default -> putDefault(json, columnName, resultSet, colIndex);
-    }
+  private ColumnReader getValueReader(final JDBCType columnType, final String columnName, final int colIndex) {
+    return switch (columnType) {
+      case BIT, BOOLEAN -> readOnce(colIndex, columnName, this::putBoolean);
+      case TINYINT, SMALLINT -> readOnce(colIndex, columnName, this::putShortInt);
+      case INTEGER -> readOnce(colIndex, columnName, this::putInteger);
+      case BIGINT -> readOnce(colIndex, columnName, this::putBigInt);
+      case FLOAT, DOUBLE -> readOnce(colIndex, columnName, this::putDouble);
+      case REAL -> readOnce(colIndex, columnName, this::putFloat);
+      case NUMERIC, DECIMAL -> readOnce(colIndex, columnName, this::putBigDecimal);
+      case CHAR, NVARCHAR, VARCHAR, LONGVARCHAR -> readOnce(colIndex, columnName, this::putString);
+      case DATE -> readIfNotNull(colIndex, columnName, this::putDate);
+      case TIME -> readIfNotNull(colIndex, columnName, this::putTime);
+      case TIMESTAMP -> readIfNotNull(colIndex, columnName, this::putTimestamp);
+      case BLOB, BINARY, VARBINARY, LONGVARBINARY -> readIfNotNull(colIndex, columnName, this::putBinary);
+      case ARRAY -> readIfNotNull(colIndex, columnName, this::putArray);
+      default -> readOnce(colIndex, columnName, this::putDefault);
+    };
   }
 
   @Override
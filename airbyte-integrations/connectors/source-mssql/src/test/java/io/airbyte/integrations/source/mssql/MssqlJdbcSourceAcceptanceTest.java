@@ -151,4 +151,9 @@ public class MssqlJdbcSourceAcceptanceTest extends JdbcSourceAcceptanceTest {
     assertTrue(status.getMessage().contains("State code: S0001; Error code: 4060;"));
   }
 
+  @Override
+  protected boolean supportsResumableFullRefresh() {
+    return false;
+  }
+
 }
@@ -73,46 +73,38 @@ public class MySqlSourceOperations extends AbstractJdbcCompatibleSourceOperation
    */
   @Override
   public void setJsonField(final ResultSet resultSet, final int colIndex, final ObjectNode json) throws SQLException {
-    final ResultSetMetaData metaData = (ResultSetMetaData) resultSet.getMetaData();
-    final Field field = metaData.getFields()[colIndex - 1];
+    getColumnReader(resultSet.getMetaData(), colIndex).read(resultSet, json);
+  }
+
+  @Override
+  protected ColumnReader getColumnReader(final java.sql.ResultSetMetaData metadata, final int colIndex) throws SQLException {
+    final Field field = ((ResultSetMetaData) metadata).getFields()[colIndex - 1];
     final String columnName = field.getName();
     final MysqlType columnType = field.getMysqlType();
 
     // https://dev.mysql.com/doc/connector-j/8.0/en/connector-j-reference-type-conversions.html
-    switch (columnType) {
-      case BIT -> {
-        if (field.getLength() == 1L) {
-          // BIT(1) is boolean
-          putBoolean(json, columnName, resultSet, colIndex);
-        } else {
-          putBinary(json, columnName, resultSet, colIndex);
-        }
-      }
-      case BOOLEAN -> putBoolean(json, columnName, resultSet, colIndex);
-      case TINYINT, TINYINT_UNSIGNED -> {
-        if (field.getLength() == 1L) {
-          // TINYINT(1) is boolean
-          putBoolean(json, columnName, resultSet, colIndex);
-        } else {
-          putShortInt(json, columnName, resultSet, colIndex);
-        }
-      }
-      case SMALLINT, SMALLINT_UNSIGNED, MEDIUMINT, MEDIUMINT_UNSIGNED -> putInteger(json, columnName, resultSet, colIndex);
-      case INT, INT_UNSIGNED -> {
-        if (field.isUnsigned()) {
-          putBigInt(json, columnName, resultSet, colIndex);
-        } else {
-          putInteger(json, columnName, resultSet, colIndex);
-        }
-      }
-      case BIGINT, BIGINT_UNSIGNED -> putBigInt(json, columnName, resultSet, colIndex);
-      case FLOAT, FLOAT_UNSIGNED -> putFloat(json, columnName, resultSet, colIndex);
-      case DOUBLE, DOUBLE_UNSIGNED -> putDouble(json, columnName, resultSet, colIndex);
-      case DECIMAL, DECIMAL_UNSIGNED -> putBigDecimal(json, columnName, resultSet, colIndex);
-      case DATE -> putDate(json, columnName, resultSet, colIndex);
-      case DATETIME -> putTimestamp(json, columnName, resultSet, colIndex);
-      case TIMESTAMP -> putTimestampWithTimezone(json, columnName, resultSet, colIndex);
-      case TIME -> putTime(json, columnName, resultSet, colIndex);
+    return switch (columnType) {
+      // BIT(1) is boolean
+      case BIT -> field.getLength() == 1L
+          ? readOnce(colIndex, columnName, this::putBoolean)
+          : readOnce(colIndex, columnName, this::putBinary);
+      case BOOLEAN -> readOnce(colIndex, columnName, this::putBoolean);
+      // TINYINT(1) is boolean
+      case TINYINT, TINYINT_UNSIGNED -> field.getLength() == 1L
+          ? readOnce(colIndex, columnName, this::putBoolean)
+          : readOnce(colIndex, columnName, this::putShortInt);
+      case SMALLINT, SMALLINT_UNSIGNED, MEDIUMINT, MEDIUMINT_UNSIGNED -> readOnce(colIndex, columnName, this::putInteger);
+      case INT, INT_UNSIGNED -> field.isUnsigned()
+          ? readOnce(colIndex, columnName, this::putBigInt)
+          : readOnce(colIndex, columnName, this::putInteger);
+      case BIGINT, BIGINT_UNSIGNED -> readOnce(colIndex, columnName, this::putBigInt);
+      case FLOAT, FLOAT_UNSIGNED -> readOnce(colIndex, columnName, this::putFloat);
+      case DOUBLE, DOUBLE_UNSIGNED -> readOnce(colIndex, columnName, this::putDouble);
+      case DECIMAL, DECIMAL_UNSIGNED -> readOnce(colIndex, columnName, this::putBigDecimal);
+      case DATE -> readIfNotNull(colIndex, columnName, this::putDate);
+      case DATETIME -> readIfNotNull(colIndex, columnName, this::putTimestamp);
+      case TIMESTAMP -> readIfNotNull(colIndex, columnName, this::putTimestampWithTimezone);
+      case TIME -> readIfNotNull(colIndex, columnName, this::putTime);
       // The returned year value can either be a java.sql.Short (when yearIsDateType=false)
       // or a java.sql.Date with the date set to January 1st, at midnight (when yearIsDateType=true).
       // Currently, JsonSchemaPrimitive does not support integer, but only supports number.
@@ -121,23 +113,19 @@ public class MySqlSourceOperations extends AbstractJdbcCompatibleSourceOperation
       // and parse the returned year value as a string.
       // The case can be re-evaluated when JsonSchemaPrimitive supports integer.
       // Issue: https://github.com/airbytehq/airbyte/issues/8722
-      case YEAR -> {
-        final String year = resultSet.getDate(colIndex).toString().split("-")[0];
-        json.put(columnName, DataTypeUtils.returnNullIfInvalid(() -> year));
-      }
-      case CHAR, VARCHAR -> {
-        if (field.isBinary()) {
-          // when character set is binary, the returned value is binary
-          putBinary(json, columnName, resultSet, colIndex);
-        } else {
-          putString(json, columnName, resultSet, colIndex);
-        }
-      }
-      case TINYBLOB, BLOB, MEDIUMBLOB, LONGBLOB, BINARY, VARBINARY, GEOMETRY -> putBinary(json, columnName, resultSet, colIndex);
-      case TINYTEXT, TEXT, MEDIUMTEXT, LONGTEXT, JSON, ENUM, SET -> putString(json, columnName, resultSet, colIndex);
-      case NULL -> json.set(columnName, NullNode.instance);
-      default -> putDefault(json, columnName, resultSet, colIndex);
-    }
+      case YEAR -> readIfNotNull(colIndex, columnName, (node, name, resultSet, index) -> {
+        final String year = resultSet.getDate(index).toString().split("-")[0];
+        node.put(name, DataTypeUtils.returnNullIfInvalid(() -> year));
+      });
+      // when character set is binary, the returned value is binary
+      case CHAR, VARCHAR -> field.isBinary()
+          ? readOnce(colIndex, columnName, this::putBinary)
+          : readOnce(colIndex, columnName, this::putString);
+      case TINYBLOB, BLOB, MEDIUMBLOB, LONGBLOB, BINARY, VARBINARY, GEOMETRY -> readOnce(colIndex, columnName, this::putBinary);
+      case TINYTEXT, TEXT, MEDIUMTEXT, LONGTEXT, JSON, ENUM, SET -> readOnce(colIndex, columnName, this::putString);
+      case NULL -> readIfNotNull(colIndex, columnName, (node, name, resultSet, index) -> node.set(name, NullNode.instance));
+      default -> readOnce(colIndex, columnName, this::putDefault);
+    };
   }
 
   /**
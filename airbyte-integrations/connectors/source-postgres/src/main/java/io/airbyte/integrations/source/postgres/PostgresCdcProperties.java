@@ -54,6 +54,13 @@ public class PostgresCdcProperties {
     props.setProperty("converters", "datetime");
     props.setProperty("datetime.type", PostgresConverter.class.getName());
     props.setProperty("include.unknown.datatypes", "true");
+    // Debezium would move the replication slot to every offset it commits, which is ahead of the
+    // states Airbyte has emitted. The slot is moved to the saved state before each sync instead,
+    // see PostgresDebeziumStateUtil#commitLSNToPostgresDatabase. The trade-off is that the slot
+    // stays where the previous sync left off for the whole sync: the WAL written since then is only
+    // released when the next sync starts, so the server needs room for up to two sync intervals
+    // of WAL.
+    props.setProperty("flush.lsn.source", "false");
 
     // Check params for SSL connection in config and add properties for CDC SSL connection
     // https://debezium.io/documentation/reference/stable/connectors/postgresql.html#postgresql-property-database-sslmode
@@ -16,7 +16,6 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.annotations.VisibleForTesting;
 import io.airbyte.commons.jackson.MoreMappers;
-import io.airbyte.commons.json.Jsons;
 import io.airbyte.db.DataTypeUtils;
 import io.airbyte.db.jdbc.DateTimeConverter;
 import io.airbyte.db.jdbc.JdbcSourceOperations;
@@ -33,7 +32,6 @@ import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.time.OffsetTime;
 import java.time.format.DateTimeParseException;
-import java.util.Collections;
 import org.postgresql.geometric.PGbox;
 import org.postgresql.geometric.PGcircle;
 import org.postgresql.geometric.PGline;
@@ -41,7 +39,6 @@ import org.postgresql.geometric.PGlseg;
 import org.postgresql.geometric.PGpath;
 import org.postgresql.geometric.PGpoint;
 import org.postgresql.geometric.PGpolygon;
-import org.postgresql.jdbc.PgResultSetMetaData;
 import org.postgresql.util.PGobject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -53,42 +50,6 @@ public class PostgresSourceOperations extends JdbcSourceOperations {
   private static final String TIMETZ = "timetz";
   private static final ObjectMapper OBJECT_MAPPER = MoreMappers.initMapper();
 
-  @Override
-  public JsonNode rowToJson(final ResultSet queryContext) throws SQLException {
-    // the first call communicates with the database. after that the result is cached.
-    final ResultSetMetaData metadata = queryContext.getMetaData();
-    final int columnCount = metadata.getColumnCount();
-    final ObjectNode jsonNode = (ObjectNode) Jsons.jsonNode(Collections.emptyMap());
-
-    for (int i = 1; i <= columnCount; i++) {
-      final String columnType = metadata.getColumnTypeName(i);
-      // attempt to access the column. this allows us to know if it is null before we do type-specific
-      // parsing. if it is null, we can move on. while awkward, this seems to be the agreed upon way of
-      // checking for null values with jdbc.
-
-      if (columnType.equalsIgnoreCase("money")) {
-        // when a column is of type MONEY, getObject will throw exception
-        // this is a bug that will not be fixed:
-        // https://github.com/pgjdbc/pgjdbc/issues/425
-        // https://github.com/pgjdbc/pgjdbc/issues/1835
-        queryContext.getString(i);
-      } else if (columnType.equalsIgnoreCase("bit")) {
-        // getObject will fail as it tries to parse the value as boolean
-        queryContext.getString(i);
-      } else if (columnType.equalsIgnoreCase("numeric") || columnType.equalsIgnoreCase("decimal")) {
-        // getObject will fail when the value is 'infinity'
-        queryContext.getDouble(i);
-      } else {
-        queryContext.getObject(i);
-      }
-
-      // convert to java types that will convert into reasonable json.
-      setJsonField(queryContext, i, jsonNode);
-    }
-
-    return jsonNode;
-  }
-
   @Override
   public void setStatementField(final PreparedStatement preparedStatement,
                                 final int parameterIndex,
@@ -166,49 +127,65 @@ public class PostgresSourceOperations extends JdbcSourceOperations {
   }
 
   @Override
-  public void setJsonField(final ResultSet resultSet, final int colIndex, final ObjectNode json) throws SQLException {
-    final PgResultSetMetaData metadata = (PgResultSetMetaData) resultSet.getMetaData();
+  protected ColumnReader getColumnReader(final ResultSetMetaData metadata, final int colIndex) throws SQLException {
     final String columnName = metadata.getColumnName(colIndex);
     final String columnTypeName = metadata.getColumnTypeName(colIndex).toLowerCase();
     final JDBCType columnType = safeGetJdbcType(metadata.getColumnType(colIndex));
-    if (resultSet.getString(colIndex) == null) {
-      json.putNull(columnName);
-    } else {
-      switch (columnTypeName) {
-        case "bool", "boolean" -> putBoolean(json, columnName, resultSet, colIndex);
-        case "bytea" -> putString(json, columnName, resultSet, colIndex);
-        case TIMETZ -> putTimeWithTimezone(json, columnName, resultSet, colIndex);
-        case TIMESTAMPTZ -> putTimestampWithTimezone(json, columnName, resultSet, colIndex);
-        case "hstore" -> putHstoreAsJson(json, columnName, resultSet, colIndex);
-        case "circle" -> putObject(json, columnName, resultSet, colIndex, PGcircle.class);
-        case "box" -> putObject(json, columnName, resultSet, colIndex, PGbox.class);
-        case "double precision", "float", "float8" -> putDouble(json, columnName, resultSet, colIndex);
-        case "line" -> putObject(json, columnName, resultSet, colIndex, PGline.class);
-        case "lseg" -> putObject(json, columnName, resultSet, colIndex, PGlseg.class);
-        case "path" -> putObject(json, columnName, resultSet, colIndex, PGpath.class);
-        case "point" -> putObject(json, columnName, resultSet, colIndex, PGpoint.class);
-        case "polygon" -> putObject(json, columnName, resultSet, colIndex, PGpolygon.class);
-        default -> {
-          switch (columnType) {
-            case BOOLEAN -> putBoolean(json, columnName, resultSet, colIndex);
-            case TINYINT, SMALLINT -> putShortInt(json, columnName, resultSet, colIndex);
-            case INTEGER -> putInteger(json, columnName, resultSet, colIndex);
-            case BIGINT -> putBigInt(json, columnName, resultSet, colIndex);
-            case FLOAT, DOUBLE -> putDouble(json, columnName, resultSet, colIndex);
-            case REAL -> putFloat(json, columnName, resultSet, colIndex);
-            case NUMERIC, DECIMAL -> putBigDecimal(json, columnName, resultSet, colIndex);
-            // BIT is a bit string in Postgres, e.g. '0100'
-            case BIT, CHAR, VARCHAR, LONGVARCHAR -> putString(json, columnName, resultSet, colIndex);
-            case DATE -> putDate(json, columnName, resultSet, colIndex);
-            case TIME -> putTime(json, columnName, resultSet, colIndex);
-            case TIMESTAMP -> putTimestamp(json, columnName, resultSet, colIndex);
-            case BLOB, BINARY, VARBINARY, LONGVARBINARY -> putBinary(json, columnName, resultSet, colIndex);
-            case ARRAY -> putArray(json, columnName, resultSet, colIndex);
-            default -> putDefault(json, columnName, resultSet, colIndex);
-          }
-        }
-      }
-    }
+    return switch (columnTypeName) {
+      case "bool", "boolean" -> readIfNotNull(colIndex, columnName, this::putBoolean);
+      case "bytea" -> readOnce(colIndex, columnName, this::putString);
+      case TIMETZ -> readIfNotNull(colIndex, columnName, this::putTimeWithTimezone);
+      case TIMESTAMPTZ -> readIfNotNull(colIndex, columnName, this::putTimestampWithTimezone);
+      case "hstore" -> readIfNotNull(colIndex, columnName, this::putHstoreAsJson);
+      case "circle" -> readPgObject(colIndex, columnName, PGcircle.class);
+      case "box" -> readPgObject(colIndex, columnName, PGbox.class);
+      case "double precision", "float", "float8" -> readOnce(colIndex, columnName, this::putDouble);
+      case "line" -> readPgObject(colIndex, columnName, PGline.class);
+      case "lseg" -> readPgObject(colIndex, columnName, PGlseg.class);
+      case "path" -> readPgObject(colIndex, columnName, PGpath.class);
+      case "point" -> readPgObject(colIndex, columnName, PGpoint.class);
+      case "polygon" -> readPgObject(colIndex, columnName, PGpolygon.class);
+      // MONEY is reported as a DOUBLE, but cannot be read as one
+      case "money" -> readIfNotNull(colIndex, columnName, this::putMoney);
+      default -> switch (columnType) {
+        case BOOLEAN -> readIfNotNull(colIndex, columnName, this::putBoolean);
+        case TINYINT, SMALLINT -> readOnce(colIndex, columnName, this::putShortInt);
+        case INTEGER -> readOnce(colIndex, columnName, this::putInteger);
+        case BIGINT -> readOnce(colIndex, columnName, this::putBigInt);
+        case FLOAT, DOUBLE -> readOnce(colIndex, columnName, this::putDouble);
+        case REAL -> readOnce(colIndex, columnName, this::putFloat);
+        case NUMERIC, DECIMAL -> readOnce(colIndex, columnName, this::putBigDecimal);
+        // BIT is a bit string in Postgres, e.g. '0100'
+        case BIT, CHAR, VARCHAR, LONGVARCHAR -> readOnce(colIndex, columnName, this::putString);
+        case DATE -> readIfNotNull(colIndex, columnName, this::putDate);
+        case TIME -> readIfNotNull(colIndex, columnName, this::putTime);
+        case TIMESTAMP -> readIfNotNull(colIndex, columnName, this::putTimestamp);
+        case BLOB, BINARY, VARBINARY, LONGVARBINARY -> readOnce(colIndex, columnName, this::putBinary);
+        case ARRAY -> readIfNotNull(colIndex, columnName, this::putArray);
+        default -> readOnce(colIndex, columnName, this::putDefault);
+      };
+    };
+  }
+
+  /**
+   * Postgres records keep a null field for every null column.
+   */
+  @Override
+  protected void onNull(final ObjectNode json, final String columnName) {
+    json.putNull(columnName);
+  }
+
+  private <T extends PGobject> ColumnReader readPgObject(final int colIndex, final String columnName, final Class<T> clazz) {
+    return readIfNotNull(colIndex, columnName, (node, name, resultSet, index) -> putObject(node, name, resultSet, index, clazz));
+  }
+
+  /**
+   * Unlike getObject, getString can read any Postgres value, including MONEY, BIT and special
+   * NUMERIC values such as 'infinity'.
+   */
+  @Override
+  protected boolean isNull(final ResultSet resultSet, final int colIndex) throws SQLException {
+    return resultSet.getString(colIndex) == null;
   }
 
   @Override
@@ -296,15 +273,6 @@ public class PostgresSourceOperations extends JdbcSourceOperations {
     }
   }
 
-  @Override
-  protected void putDouble(final ObjectNode node, final String columnName, final ResultSet resultSet, final int index) throws SQLException {
-    if (resultSet.getMetaData().getColumnTypeName(index).equals("money")) {
-      putMoney(node, columnName, resultSet, index);
-    } else {
-      super.putDouble(node, columnName, resultSet, index);
-    }
-  }
-
   private void putMoney(final ObjectNode node, final String columnName, final ResultSet resultSet, final int index) throws SQLException {
     final String moneyValue = parseMoneyValue(resultSet.getString(index));
     node.put(columnName, DataTypeUtils.returnNullIfInvalid(() -> Double.valueOf(moneyValue), Double::isFinite));
@@ -367,20 +367,63 @@ abstract class CdcPostgresSourceTest extends CdcSourceTest {
       writeModelRecord(record);
     }
 
+    // A sync started from the second sync's state moves the replication slot past the first sync's
+    // state, which mimics the WAL of the first state having been purged
+    final AutoCloseableIterator<AirbyteMessage> thirdBatchIterator = getSource()
+        .read(getConfig(), CONFIGURED_CATALOG, Jsons.jsonNode(stateAfterSecondBatch));
+    final List<AirbyteMessage> dataFromThirdBatch = AutoCloseableIterators
+        .toListAndClose(thirdBatchIterator);
+    assertExpectedStateMessages(extractStateMessages(dataFromThirdBatch));
+
+    final AutoCloseableIterator<AirbyteMessage> fourthBatchIterator = getSource()
+        .read(getConfig(), CONFIGURED_CATALOG, state);
+
+    final List<AirbyteMessage> dataFromFourthBatch = AutoCloseableIterators
+        .toListAndClose(fourthBatchIterator);
+
+    final List<AirbyteStateMessage> stateAfterFourthBatch = extractStateMessages(dataFromFourthBatch);
+    assertExpectedStateMessages(stateAfterFourthBatch);
+    final Set<AirbyteRecordMessage> recordsFromFourthBatch = extractRecordMessages(
+        dataFromFourthBatch);
+
+    assertEquals(MODEL_RECORDS.size() + recordsToCreate + 1, recordsFromFourthBatch.size());
+  }
+
+  @Test
+  void syncShouldResumeFromStateOfFailedSync() throws Exception {
+    final int recordsToCreate = 20;
+
+    final AutoCloseableIterator<AirbyteMessage> firstBatchIterator = getSource()
+        .read(getConfig(), CONFIGURED_CATALOG, null);
+    final List<AirbyteMessage> dataFromFirstBatch = AutoCloseableIterators
+        .toListAndClose(firstBatchIterator);
+    final JsonNode state = Jsons.jsonNode(extractStateMessages(dataFromFirstBatch));
+
+    for (int recordsCreated = 0; recordsCreated < recordsToCreate; recordsCreated++) {
+      final JsonNode record =
+          Jsons.jsonNode(ImmutableMap
+              .of(COL_ID, 200 + recordsCreated, COL_MAKE_ID, 1, COL_MODEL,
+                  "F-" + recordsCreated));
+      writeModelRecord(record);
+    }
+
+    // debezium commits its offsets while the second sync runs, which must not move the replication
+    // slot past the state the sync started from
+    final AutoCloseableIterator<AirbyteMessage> secondBatchIterator = getSource()
+        .read(getConfig(), CONFIGURED_CATALOG, state);
+    final List<AirbyteMessage> dataFromSecondBatch = AutoCloseableIterators
+        .toListAndClose(secondBatchIterator);
+    assertExpectedStateMessages(extractStateMessages(dataFromSecondBatch));
+
     // Triggering sync with the first sync's state only which would mimic a scenario that the second
     // sync failed on destination end and we didn't save state
     final AutoCloseableIterator<AirbyteMessage> thirdBatchIterator = getSource()
         .read(getConfig(), CONFIGURED_CATALOG, state);
-
     final List<AirbyteMessage> dataFromThirdBatch = AutoCloseableIterators
         .toListAndClose(thirdBatchIterator);
 
-    final List<AirbyteStateMessage> stateAfterThirdBatch = extractStateMessages(dataFromThirdBatch);
-    assertExpectedStateMessages(stateAfterThirdBatch);
-    final Set<AirbyteRecordMessage> recordsFromThirdBatch = extractRecordMessages(
-        dataFromThirdBatch);
-
-    assertEquals(MODEL_RECORDS.size() + recordsToCreate + 1, recordsFromThirdBatch.size());
+    assertExpectedStateMessages(extractStateMessages(dataFromThirdBatch));
+    assertEquals(recordsToCreate, extractRecordMessages(dataFromThirdBatch).size());
   }
 
 }
@@ -469,6 +469,36 @@ class PostgresSourceTest {
     assertEquals(ASCII_MESSAGES, actualMessages);
   }
 
+  @Test
+  void testReadNullColumns() throws Exception {
+    final JsonNode config = getConfig(PSQL_DB, dbName);
+    try (final DSLContext dslContext = getDslContext(config)) {
+      getDatabase(dslContext).query(ctx -> {
+        ctx.fetch("CREATE TABLE id_and_nulls(id INTEGER, name VARCHAR(200), power double precision, created_at TIMESTAMP, tags TEXT[]);");
+        ctx.fetch("INSERT INTO id_and_nulls (id, name, power, created_at, tags) VALUES (1, NULL, NULL, NULL, NULL);");
+        return null;
+      });
+    }
+    final ConfiguredAirbyteCatalog configuredCatalog = CatalogHelpers.toDefaultConfiguredCatalog(new AirbyteCatalog().withStreams(List.of(
+        CatalogHelpers.createAirbyteStream(
+            "id_and_nulls",
+            SCHEMA_NAME,
+            Field.of("id", JsonSchemaType.NUMBER),
+            Field.of("name", JsonSchemaType.STRING),
+            Field.of("power", JsonSchemaType.NUMBER),
+            Field.of("created_at", JsonSchemaType.STRING),
+            Field.of("tags", JsonSchemaType.ARRAY))
+            .withSupportedSyncModes(Lists.newArrayList(SyncMode.FULL_REFRESH)))));
+
+    final Set<AirbyteMessage> actualMessages = MoreIterators.toSet(new PostgresSource().read(config, configuredCatalog, null));
+    setEmittedAtToNull(actualMessages);
+
+    // null columns are emitted as null fields, not left out of the record
+    assertEquals(
+        Set.of(createRecord("id_and_nulls", SCHEMA_NAME, map("id", 1, "name", null, "power", null, "created_at", null, "tags", null))),
+        actualMessages);
+  }
+
   @Test
   void testIsCdc() {
     final JsonNode config = getConfig(PSQL_DB, dbName);
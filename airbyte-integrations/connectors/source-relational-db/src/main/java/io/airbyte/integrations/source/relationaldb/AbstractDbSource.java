@@ -44,6 +44,7 @@ import io.airbyte.protocol.models.CatalogHelpers;
 import io.airbyte.protocol.models.CommonField;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
+import io.airbyte.protocol.models.DestinationSyncMode;
 import io.airbyte.protocol.models.Field;
 import io.airbyte.protocol.models.JsonSchemaPrimitive;
 import io.airbyte.protocol.models.JsonSchemaType;
@@ -73,7 +74,11 @@ import org.slf4j.LoggerFactory;
 public abstract class AbstractDbSource<DataType, Database extends AbstractDatabase> extends
     BaseConnector implements Source, AutoCloseable {
 
+  public static final String STREAM_READ_PARALLELISM_KEY = "stream_read_parallelism";
+  public static final String SNAPSHOT_CHECKPOINT_INTERVAL_KEY = "snapshot_checkpoint_interval";
+
   private static final Logger LOGGER = LoggerFactory.getLogger(AbstractDbSource.class);
+  private static final int MAX_STREAM_READ_PARALLELISM = 8;
   // TODO: Remove when the flag is not use anymore
   private final FeatureFlags featureFlags = new EnvVariableFeatureFlags();
 
@@ -159,14 +164,38 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
         .flatMap(Collection::stream)
         .collect(Collectors.toList());
 
+    final int parallelism = getStreamReadParallelism(config);
+    final AutoCloseableIterator<AirbyteMessage> messageIterator;
+    if (parallelism > 1) {
+      LOGGER.info("Reading {} streams with up to {} streams at a time.", iteratorList.size(), parallelism);
+      messageIterator = AutoCloseableIterators.mergeConcurrently(iteratorList, parallelism);
+    } else {
+      messageIterator = AutoCloseableIterators.concatWithEagerClose(iteratorList);
+    }
+
     return AutoCloseableIterators
-        .appendOnClose(AutoCloseableIterators.concatWithEagerClose(iteratorList), () -> {
+        .appendOnClose(messageIterator, () -> {
           LOGGER.info("Closing database connection pool.");
           Exceptions.toRuntime(this::close);
           LOGGER.info("Closed database connection pool.");
         });
   }
 
+  /**
+   * Streams are read one after the other unless {@value #STREAM_READ_PARALLELISM_KEY} is set above 1
+   * in the config, in which case that many streams are read at the same time and their messages are
+   * interleaved. The messages of a stream, including its state messages, keep their order.
+   *
+   * @param config connector configuration
+   * @return number of streams read at the same time
+   */
+  protected int getStreamReadParallelism(final JsonNode config) {
+    if (config == null || !config.has(STREAM_READ_PARALLELISM_KEY)) {
+      return 1;
+    }
+    return Math.max(1, Math.min(config.get(STREAM_READ_PARALLELISM_KEY).asInt(1), MAX_STREAM_READ_PARALLELISM));
+  }
+
   private void validateCursorFieldForIncrementalTables(final Map<String, TableInfo<CommonField<DataType>>> tableNameToTable, final ConfiguredAirbyteCatalog catalog) {
     final List<InvalidCursorInfo> tablesWithInvalidCursor = new ArrayList<>();
     for (final ConfiguredAirbyteStream airbyteStream : catalog.getStreams()) {
@@ -333,7 +362,12 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
           getStateEmissionFrequency()),
           airbyteMessageIterator);
     } else if (airbyteStream.getSyncMode() == SyncMode.FULL_REFRESH) {
-      iterator = getFullRefreshStream(database, streamName, namespace, selectedDatabaseFields, table, emittedAt);
+      final Optional<CommonField<DataType>> snapshotKey = getSnapshotKey(database, airbyteStream, table, selectedDatabaseFields);
+      if (snapshotKey.isPresent()) {
+        iterator = getResumableFullRefreshStream(database, airbyteStream, selectedDatabaseFields, table, snapshotKey.get(), stateManager, emittedAt);
+      } else {
+        iterator = getFullRefreshStream(database, streamName, namespace, selectedDatabaseFields, table, emittedAt);
+      }
     } else if (airbyteStream.getSyncMode() == null) {
       throw new IllegalArgumentException(String.format("%s requires a source sync mode", this.getClass()));
     } else {
@@ -412,6 +446,103 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
     return getMessageIterator(queryStream, streamName, namespace, emittedAt.toEpochMilli());
   }
 
+  /**
+   * A full refresh stream is read as a resumable snapshot when {@value #SNAPSHOT_CHECKPOINT_INTERVAL_KEY}
+   * is set in the config, the source supports it, the records are appended to the destination and the
+   * stream has a single column primary key that can be used as a cursor and is selected.
+   *
+   * @return the primary key to read the snapshot in order of, or empty to read the stream with a single
+   *         query.
+   */
+  private Optional<CommonField<DataType>> getSnapshotKey(final Database database,
+                                                         final ConfiguredAirbyteStream airbyteStream,
+                                                         final TableInfo<CommonField<DataType>> table,
+                                                         final List<String> selectedDatabaseFields) {
+    // the records read by a failed attempt are only kept by the destination if they are appended.
+    if (getSnapshotCheckpointInterval(database.getSourceConfig()) <= 0 || !supportsResumableFullRefresh()
+        || airbyteStream.getDestinationSyncMode() == null || airbyteStream.getDestinationSyncMode() == DestinationSyncMode.OVERWRITE) {
+      return Optional.empty();
+    }
+
+    final List<List<String>> primaryKey = airbyteStream.getStream().getSourceDefinedPrimaryKey();
+    if (primaryKey == null || primaryKey.size() != 1 || primaryKey.get(0).size() != 1
+        || !selectedDatabaseFields.contains(primaryKey.get(0).get(0))) {
+      return Optional.empty();
+    }
+    return table.getFields().stream()
+        .filter(field -> field.getName().equals(primaryKey.get(0).get(0)) && isCursorType(field.getType()))
+        .findFirst();
+  }
+
+  /**
+   * Reads a full refresh stream in order of its primary key, and emits the last key read every
+   * {@value #SNAPSHOT_CHECKPOINT_INTERVAL_KEY} records as the cursor of the stream. If the previous
+   * attempt failed after such a checkpoint, the read starts after its key instead of from the first
+   * record. Once the stream has been read completely, its cursor is cleared so that the next sync
+   * reads it from the start again.
+   *
+   * @param database Source Database
+   * @param airbyteStream represents an ingestion source (e.g. API endpoint or database table)
+   * @param selectedDatabaseFields subset of database fields selected for replication
+   * @param table information in tabular format
+   * @param snapshotKey primary key of the stream
+   * @param stateManager Manager used to track the state of data synced by the connector
+   * @param emittedAt Time when data was emitted from the Source database
+   * @return AirbyteMessageIterator with the records of the stream, followed by checkpoints
+   */
+  protected AutoCloseableIterator<AirbyteMessage> getResumableFullRefreshStream(final Database database,
+                                                                                final ConfiguredAirbyteStream airbyteStream,
+                                                                                final List<String> selectedDatabaseFields,
+                                                                                final TableInfo<CommonField<DataType>> table,
+                                                                                final CommonField<DataType> snapshotKey,
+                                                                                final StateManager stateManager,
+                                                                                final Instant emittedAt) {
+    final String streamName = airbyteStream.getStream().getName();
+    final String namespace = airbyteStream.getStream().getNamespace();
+    final AirbyteStreamNameNamespacePair pair = new AirbyteStreamNameNamespacePair(streamName, namespace);
+    final String keyField = snapshotKey.getName();
+
+    final CursorInfo cursorInfo = stateManager.getCursorInfo(pair)
+        .orElseThrow(() -> new IllegalStateException("Could not find cursor information for stream: " + pair));
+    final String resumeAfter = keyField.equals(cursorInfo.getOriginalCursorField()) ? cursorInfo.getOriginalCursor() : null;
+    if (resumeAfter != null) {
+      LOGGER.info("Resuming the snapshot of stream {} after {} {}", pair, keyField, resumeAfter);
+    }
+    cursorInfo.setCursorField(keyField).setCursor(resumeAfter);
+
+    final AutoCloseableIterator<JsonNode> queryIterator = queryTableOrderedByKey(
+        database,
+        selectedDatabaseFields,
+        table.getNameSpace(),
+        table.getName(),
+        keyField,
+        snapshotKey.getType(),
+        resumeAfter);
+
+    return AutoCloseableIterators.transform(autoCloseableIterator -> new StateDecoratingIterator(
+        autoCloseableIterator,
+        stateManager,
+        pair,
+        keyField,
+        resumeAfter,
+        IncrementalUtils.getCursorType(airbyteStream, keyField),
+        getSnapshotCheckpointInterval(database.getSourceConfig()),
+        true),
+        getMessageIterator(queryIterator, streamName, namespace, emittedAt.toEpochMilli()));
+  }
+
+  /**
+   * @param config connector configuration
+   * @return number of records between the checkpoints of a resumable full refresh snapshot, 0 if full
+   *         refresh streams are not read as resumable snapshots
+   */
+  protected int getSnapshotCheckpointInterval(final JsonNode config) {
+    if (config == null || !config.has(SNAPSHOT_CHECKPOINT_INTERVAL_KEY)) {
+      return 0;
+    }
+    return Math.max(0, config.get(SNAPSHOT_CHECKPOINT_INTERVAL_KEY).asInt(0));
+  }
+
   protected String getFullyQualifiedTableName(final String nameSpace, final String tableName) {
     return nameSpace != null ? nameSpace + "." + tableName : tableName;
   }
@@ -609,6 +740,31 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
                                                                         DataType cursorFieldType,
                                                                         String cursorValue);
 
+  /**
+   * Whether full refresh streams can be read as resumable snapshots with
+   * {@link #queryTableOrderedByKey}. Sources opt in once their ordered query has been verified
+   * against the database, otherwise full refresh streams are always read with
+   * {@link #queryTableFullRefresh}.
+   */
+  protected boolean supportsResumableFullRefresh() {
+    return false;
+  }
+
+  /**
+   * Read all data from a table, sorted by a key column whose values are unique. If afterKey is not
+   * null, only the records where the key column is bigger than it are read. Only used when
+   * {@link #supportsResumableFullRefresh()} returns true.
+   *
+   * @return iterator with read data
+   */
+  protected abstract AutoCloseableIterator<JsonNode> queryTableOrderedByKey(Database database,
+                                                                            List<String> columnNames,
+                                                                            String schemaName,
+                                                                            String tableName,
+                                                                            String keyField,
+                                                                            DataType keyFieldType,
+                                                                            String afterKey);
+
   /**
    * When larger than 0, the incremental iterator will emit intermediate state for every N records.
    * Please note that if intermediate state emission is enabled, the incremental query must be ordered
@@ -11,7 +11,7 @@ public class CursorInfo {
   private final String originalCursorField;
   private final String originalCursor;
 
-  private final String cursorField;
+  private String cursorField;
   private String cursor;
 
   public CursorInfo(final String originalCursorField,
@@ -40,6 +40,12 @@ public class CursorInfo {
     return cursor;
   }
 
+  @SuppressWarnings("UnusedReturnValue")
+  public CursorInfo setCursorField(final String cursorField) {
+    this.cursorField = cursorField;
+    return this;
+  }
+
   @SuppressWarnings("UnusedReturnValue")
   public CursorInfo setCursor(final String cursor) {
     this.cursor = cursor;
@@ -29,6 +29,7 @@ public class StateDecoratingIterator extends AbstractIterator<AirbyteMessage> im
   private final JsonSchemaPrimitive cursorType;
 
   private final String initialCursor;
+  private final boolean clearCursorOnCompletion;
   private String maxCursor;
   private boolean hasEmittedFinalState;
 
@@ -75,6 +76,23 @@ public class StateDecoratingIterator extends AbstractIterator<AirbyteMessage> im
                                  final String initialCursor,
                                  final JsonSchemaPrimitive cursorType,
                                  final int stateEmissionFrequency) {
+    this(messageIterator, stateManager, pair, cursorField, initialCursor, cursorType, stateEmissionFrequency, false);
+  }
+
+  /**
+   * @param clearCursorOnCompletion If true, the final state clears the cursor instead of setting it
+   *        to the max cursor. This is for reads that only use the cursor to resume where a failed
+   *        attempt left off, such as the snapshot of a full refresh stream, and must start over once
+   *        they complete.
+   */
+  public StateDecoratingIterator(final Iterator<AirbyteMessage> messageIterator,
+                                 final StateManager stateManager,
+                                 final AirbyteStreamNameNamespacePair pair,
+                                 final String cursorField,
+                                 final String initialCursor,
+                                 final JsonSchemaPrimitive cursorType,
+                                 final int stateEmissionFrequency,
+                                 final boolean clearCursorOnCompletion) {
     this.messageIterator = messageIterator;
     this.stateManager = stateManager;
     this.pair = pair;
@@ -83,6 +101,7 @@ public class StateDecoratingIterator extends AbstractIterator<AirbyteMessage> im
     this.initialCursor = initialCursor;
     this.maxCursor = initialCursor;
     this.stateEmissionFrequency = stateEmissionFrequency;
+    this.clearCursorOnCompletion = clearCursorOnCompletion;
   }
 
   private String getCursorCandidate(final AirbyteMessage message) {
@@ -183,17 +202,21 @@ public class StateDecoratingIterator extends AbstractIterator<AirbyteMessage> im
    * @return AirbyteMessage which includes information on state of records read so far
    */
   public AirbyteMessage createStateMessage(final boolean isFinalState) {
-    final AirbyteStateMessage stateMessage = stateManager.updateAndEmit(pair, maxCursor);
-    LOGGER.info("State Report: stream name: {}, original cursor field: {}, original cursor value {}, cursor field: {}, new cursor value: {}",
-        pair,
-        stateManager.getOriginalCursorField(pair).orElse(null),
-        stateManager.getOriginalCursor(pair).orElse(null),
-        stateManager.getCursorField(pair).orElse(null),
-        stateManager.getCursor(pair).orElse(null));
+    final AirbyteStateMessage stateMessage;
+    // streams read concurrently share the state manager, and a state message may cover all of them.
+    synchronized (stateManager) {
+      stateMessage = stateManager.updateAndEmit(pair, isFinalState && clearCursorOnCompletion ? null : maxCursor);
+      LOGGER.info("State Report: stream name: {}, original cursor field: {}, original cursor value {}, cursor field: {}, new cursor value: {}",
+          pair,
+          stateManager.getOriginalCursorField(pair).orElse(null),
+          stateManager.getOriginalCursor(pair).orElse(null),
+          stateManager.getCursorField(pair).orElse(null),
+          stateManager.getCursor(pair).orElse(null));
+    }
 
     if (isFinalState) {
       hasEmittedFinalState = true;
-      if (stateManager.getCursor(pair).isEmpty()) {
+      if (stateManager.getCursor(pair).isEmpty() && !clearCursorOnCompletion) {
         LOGGER.warn("Cursor was for stream {} was null. This stream will replicate all records on the next run", pair);
       }
     }
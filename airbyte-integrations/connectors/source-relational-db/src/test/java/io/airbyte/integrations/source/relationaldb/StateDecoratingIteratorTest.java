@@ -317,6 +317,33 @@ class StateDecoratingIteratorTest {
     assertFalse(iterator1.hasNext());
   }
 
+  @Test
+  @DisplayName("When the cursor is cleared on completion, and emit state for every 2 records")
+  void testStateEmissionClearingCursorOnCompletion() {
+    messageIterator = MoreIterators.of(RECORD_MESSAGE_1, RECORD_MESSAGE_2, RECORD_MESSAGE_3, RECORD_MESSAGE_4, RECORD_MESSAGE_5);
+    final StateDecoratingIterator iterator1 = new StateDecoratingIterator(
+        messageIterator,
+        stateManager,
+        NAME_NAMESPACE_PAIR,
+        UUID_FIELD_NAME,
+        null,
+        JsonSchemaPrimitive.STRING,
+        2,
+        true);
+
+    assertEquals(RECORD_MESSAGE_1, iterator1.next());
+    assertEquals(RECORD_MESSAGE_2, iterator1.next());
+    // intermediate states checkpoint the records read so far
+    assertEquals(STATE_MESSAGE_1, iterator1.next());
+    assertEquals(RECORD_MESSAGE_3, iterator1.next());
+    assertEquals(RECORD_MESSAGE_4, iterator1.next());
+    assertEquals(STATE_MESSAGE_3, iterator1.next());
+    assertEquals(RECORD_MESSAGE_5, iterator1.next());
+    // the final state clears the cursor
+    assertEquals(EMPTY_STATE_MESSAGE, iterator1.next());
+    assertFalse(iterator1.hasNext());
+  }
+
   @Test
   @DisplayName("When initial cursor is not null")
   void testStateEmissionWhenInitialCursorIsNotNull() {
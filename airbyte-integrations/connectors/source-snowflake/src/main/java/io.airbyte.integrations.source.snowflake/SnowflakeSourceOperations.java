@@ -20,6 +20,7 @@ import java.sql.Date;
 import java.sql.JDBCType;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.LocalDate;
@@ -97,40 +98,38 @@ public class SnowflakeSourceOperations extends JdbcSourceOperations {
    * The only difference between this method and the one in {@link JdbcSourceOperations} is that the
    * TIMESTAMP_WITH_TIMEZONE columns are also converted using the putTimestamp method. This is
    * necessary after the JDBC upgrade from 3.13.9 to 3.13.22. This change may need to be added to
-   * {@link JdbcSourceOperations#setJsonField} in the future.
+   * {@link JdbcSourceOperations#getColumnReader} in the future.
    * <p/>
    * See issue: https://github.com/airbytehq/airbyte/issues/16838.
    */
   @Override
-  public void setJsonField(final ResultSet resultSet, final int colIndex, final ObjectNode json) throws SQLException {
-    final int columnTypeInt = resultSet.getMetaData().getColumnType(colIndex);
-    final String columnName = resultSet.getMetaData().getColumnName(colIndex);
-    final String columnTypeName = resultSet.getMetaData().getColumnTypeName(colIndex).toLowerCase();
+  protected ColumnReader getColumnReader(final ResultSetMetaData metadata, final int colIndex) throws SQLException {
+    final String columnName = metadata.getColumnName(colIndex);
+    final String columnTypeName = metadata.getColumnTypeName(colIndex).toLowerCase();
 
-    final JDBCType columnType = safeGetJdbcType(columnTypeInt);
+    final JDBCType columnType = safeGetJdbcType(metadata.getColumnType(colIndex));
     // TIMESTAMPLTZ data type detected as JDBCType.TIMESTAMP which is not correct
     if ("TIMESTAMPLTZ".equalsIgnoreCase(columnTypeName)) {
-      putTimestampWithTimezone(json, columnName, resultSet, colIndex);
-      return;
+      return readIfNotNull(colIndex, columnName, this::putTimestampWithTimezone);
     }
     // https://www.cis.upenn.edu/~bcpierce/courses/629/jdkdocs/guide/jdbc/getstart/mapping.doc.html
-    switch (columnType) {
-      case BIT, BOOLEAN -> putBoolean(json, columnName, resultSet, colIndex);
-      case TINYINT, SMALLINT -> putShortInt(json, columnName, resultSet, colIndex);
-      case INTEGER -> putInteger(json, columnName, resultSet, colIndex);
-      case BIGINT -> putBigInt(json, columnName, resultSet, colIndex);
-      case FLOAT, DOUBLE -> putDouble(json, columnName, resultSet, colIndex);
-      case REAL -> putFloat(json, columnName, resultSet, colIndex);
-      case NUMERIC, DECIMAL -> putBigDecimal(json, columnName, resultSet, colIndex);
-      case CHAR, VARCHAR, LONGVARCHAR -> putString(json, columnName, resultSet, colIndex);
-      case DATE -> putDate(json, columnName, resultSet, colIndex);
-      case TIME -> putTime(json, columnName, resultSet, colIndex);
-      case TIMESTAMP -> putTimestamp(json, columnName, resultSet, colIndex);
-      case TIMESTAMP_WITH_TIMEZONE -> putTimestampWithTimezone(json, columnName, resultSet, colIndex);
-      case BLOB, BINARY, VARBINARY, LONGVARBINARY -> putBinary(json, columnName, resultSet, colIndex);
-      case ARRAY -> putArray(json, columnName, resultSet, colIndex);
-      default -> putDefault(json, columnName, resultSet, colIndex);
-    }
+    return switch (columnType) {
+      case BIT, BOOLEAN -> readOnce(colIndex, columnName, this::putBoolean);
+      case TINYINT, SMALLINT -> readOnce(colIndex, columnName, this::putShortInt);
+      case INTEGER -> readOnce(colIndex, columnName, this::putInteger);
+      case BIGINT -> readOnce(colIndex, columnName, this::putBigInt);
+      case FLOAT, DOUBLE -> readOnce(colIndex, columnName, this::putDouble);
+      case REAL -> readOnce(colIndex, columnName, this::putFloat);
+      case NUMERIC, DECIMAL -> readOnce(colIndex, columnName, this::putBigDecimal);
+      case CHAR, VARCHAR, LONGVARCHAR -> readOnce(colIndex, columnName, this::putString);
+      case DATE -> readIfNotNull(colIndex, columnName, this::putDate);
+      case TIME -> readIfNotNull(colIndex, columnName, this::putTime);
+      case TIMESTAMP -> readIfNotNull(colIndex, columnName, this::putTimestamp);
+      case TIMESTAMP_WITH_TIMEZONE -> readIfNotNull(colIndex, columnName, this::putTimestampWithTimezone);
+      case BLOB, BINARY, VARBINARY, LONGVARBINARY -> readOnce(colIndex, columnName, this::putBinary);
+      case ARRAY -> readIfNotNull(colIndex, columnName, this::putArray);
+      default -> readOnce(colIndex, columnName, this::putDefault);
+    };
   }
 
   @Override
@@ -6,6 +6,7 @@ package io.airbyte.validation.json;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.base.Preconditions;
+import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaFactory;
 import com.networknt.schema.SchemaValidatorsConfig;
 import com.networknt.schema.SpecVersion;
@@ -13,7 +14,9 @@ import com.networknt.schema.ValidationMessage;
 import io.airbyte.commons.string.Strings;
 import java.io.File;
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import me.andrz.jackson.JsonContext;
@@ -28,12 +31,62 @@ public class JsonSchemaValidator {
 
   private final SchemaValidatorsConfig schemaValidatorsConfig;
   private final JsonSchemaFactory jsonSchemaFactory;
+  // schemas compiled by initializeSchemaValidator, keyed by the name they were registered under
+  private final Map<String, JsonSchema> schemaToValidators = new HashMap<>();
 
   public JsonSchemaValidator() {
     this.schemaValidatorsConfig = new SchemaValidatorsConfig();
     this.jsonSchemaFactory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7);
   }
 
+  /**
+   * Compiles a schema once so that objects can later be validated against it by name without paying
+   * the schema compilation cost on every call. Meant for hot paths that validate many objects against
+   * the same schema.
+   *
+   * @param schemaName name to register the compiled schema under
+   * @param schemaJson schema to compile
+   */
+  public void initializeSchemaValidator(final String schemaName, final JsonNode schemaJson) {
+    Preconditions.checkNotNull(schemaJson);
+    schemaToValidators.put(schemaName, jsonSchemaFactory.getSchema(schemaJson, schemaValidatorsConfig));
+  }
+
+  public boolean isSchemaValidatorInitialized(final String schemaName) {
+    return schemaToValidators.containsKey(schemaName);
+  }
+
+  /**
+   * Same as {@link #test(JsonNode, JsonNode)} but against a schema compiled by
+   * {@link #initializeSchemaValidator(String, JsonNode)}.
+   */
+  public boolean testInitializedSchema(final String schemaName, final JsonNode objectJson) {
+    return validateInitializedSchemaInternal(schemaName, objectJson).isEmpty();
+  }
+
+  public List<String[]> getInitializedSchemaValidationMessageArgs(final String schemaName, final JsonNode objectJson) {
+    return validateInitializedSchemaInternal(schemaName, objectJson)
+        .stream()
+        .map(ValidationMessage::getArguments)
+        .collect(Collectors.toList());
+  }
+
+  public List<String> getInitializedSchemaValidationMessagePaths(final String schemaName, final JsonNode objectJson) {
+    return validateInitializedSchemaInternal(schemaName, objectJson)
+        .stream()
+        .map(ValidationMessage::getPath)
+        .collect(Collectors.toList());
+  }
+
+  // keep this internal as it returns a type specific to the wrapped library.
+  private Set<ValidationMessage> validateInitializedSchemaInternal(final String schemaName, final JsonNode objectJson) {
+    final JsonSchema schema = schemaToValidators.get(schemaName);
+    Preconditions.checkNotNull(schema, "No schema validator initialized for %s", schemaName);
+    Preconditions.checkNotNull(objectJson);
+
+    return schema.validate(objectJson);
+  }
+
   public Set<String> validate(final JsonNode schemaJson, final JsonNode objectJson) {
     return validateInternal(schemaJson, objectJson)
         .stream()
@@ -5,6 +5,7 @@
 package io.airbyte.validation.json;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -16,6 +17,7 @@ import io.airbyte.commons.json.Jsons;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 
 class JsonSchemaValidatorTest {
@@ -67,6 +69,21 @@ class JsonSchemaValidatorTest {
     assertThrows(JsonValidationException.class, () -> validator.ensure(VALID_SCHEMA, object2));
   }
 
+  @Test
+  void testInitializedSchema() {
+    final JsonSchemaValidator validator = new JsonSchemaValidator();
+    validator.initializeSchemaValidator("test", VALID_SCHEMA);
+
+    assertTrue(validator.isSchemaValidatorInitialized("test"));
+    assertFalse(validator.isSchemaValidatorInitialized("other"));
+    assertTrue(validator.testInitializedSchema("test", Jsons.deserialize("{\"host\":\"abc\", \"port\":1}")));
+
+    final JsonNode invalidObject = Jsons.deserialize("{\"host\":\"abc\", \"port\":\"1\"}");
+    assertFalse(validator.testInitializedSchema("test", invalidObject));
+    assertEquals(List.of("$.port"), validator.getInitializedSchemaValidationMessagePaths("test", invalidObject));
+    assertThrows(NullPointerException.class, () -> validator.testInitializedSchema("other", invalidObject));
+  }
+
   @Test
   void test() throws IOException {
     final String schema = "{\n"
@@ -13,6 +13,7 @@ import io.airbyte.db.instance.jobs.jooq.generated.enums.JobStatus;
  */
 public class MetricTags {
 
+  public static final String CONFIG_TYPE = "config_type";
   public static final String CONNECTION_ID = "connection_id";
   public static final String FAILURE_ORIGIN = "failure_origin";
   public static final String JOB_ID = "job_id";
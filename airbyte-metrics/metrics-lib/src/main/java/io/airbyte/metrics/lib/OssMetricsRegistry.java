@@ -47,6 +47,14 @@ public enum OssMetricsRegistry implements MetricsRegistry {
       MetricEmittingApps.WORKER,
       "attempt_succeeded_by_release_stage",
       "increments when an attempts succeeds. attempts are double counted as this is tagged by release stage."),
+  CONFIG_CACHE_HIT(
+      MetricEmittingApps.WORKER,
+      "config_cache_hit",
+      "increments when a config is read from the in-memory config cache instead of the config database. tagged by config type."),
+  CONFIG_CACHE_MISS(
+      MetricEmittingApps.WORKER,
+      "config_cache_miss",
+      "increments when a cacheable config is not in the in-memory config cache and is read from the config database. tagged by config type."),
   EST_NUM_METRICS_EMITTED_BY_REPORTER(
       MetricEmittingApps.METRICS_REPORTER,
       "est_num_metrics_emitted_by_reporter",
@@ -116,6 +124,12 @@ public enum OssMetricsRegistry implements MetricsRegistry {
   NUM_SOURCE_STREAMS_WITH_RECORD_SCHEMA_VALIDATION_ERRORS(MetricEmittingApps.WORKER,
       "record_schema_validation_error",
       "number of record schema validation errors"),
+  REPLICATION_STAGE_QUEUE_MAX_DEPTH(MetricEmittingApps.WORKER,
+      "replication_stage_queue_max_depth",
+      "max number of messages buffered in the queue feeding a stage of a pipelined replication. tagged by stage."),
+  REPLICATION_STAGE_BLOCKED_TIME_MILLISECS(MetricEmittingApps.WORKER,
+      "replication_stage_blocked_time_millisecs",
+      "time a stage of a pipelined replication spent blocked on a full output queue or an empty input queue. tagged by stage and side."),
   STATE_METRIC_TRACKER_ERROR(MetricEmittingApps.WORKER,
       "state_timestamp_metric_tracker_error",
       "number of syncs where the state timestamp metric tracker ran out of memory or was unable to match destination state message to source state message");
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.persistence.job;
+
+import io.airbyte.config.JobConfig.ConfigType;
+import io.airbyte.db.Database;
+import io.airbyte.db.factory.DSLContextFactory;
+import io.airbyte.db.factory.DataSourceFactory;
+import io.airbyte.db.instance.test.TestDatabaseProviders;
+import io.airbyte.persistence.job.models.Job;
+import io.airbyte.test.utils.DatabaseConnectionHelper;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Compares fetching a page of a connection's job history by offset, by offset with the light
+ * projection and by keyset, at increasing page depths. The jobs database is generated with a
+ * million jobs spread over 20 connections, each with 3 attempts and a few kilobytes of config and
+ * output, so a busy connection has 50k jobs of history.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JobHistoryPaginationBenchmark {
+
+  private static final int NUM_CONNECTIONS = 20;
+  private static final int NUM_JOBS = 1_000_000;
+  private static final int ATTEMPTS_PER_JOB = 3;
+  private static final int PAGE_SIZE = 25;
+  private static final String SCOPE = "00000000-0000-0000-0000-000000000000";
+  private static final Set<ConfigType> CONFIG_TYPES = Set.of(ConfigType.SYNC);
+
+  @Param({"0", "1000", "40000"})
+  public int pageOffset;
+
+  private PostgreSQLContainer<?> container;
+  private DataSource dataSource;
+  private DefaultJobPersistence jobPersistence;
+  private long cursorJobId;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    container = new PostgreSQLContainer<>("postgres:13-alpine")
+        .withDatabaseName("airbyte")
+        .withUsername("docker")
+        .withPassword("docker");
+    container.start();
+
+    dataSource = DatabaseConnectionHelper.createDataSource(container);
+    final DSLContext dslContext = DSLContextFactory.create(dataSource, SQLDialect.POSTGRES);
+    final Database jobDatabase = new TestDatabaseProviders(dataSource, dslContext).createNewJobsDatabase();
+    generateJobs(jobDatabase);
+    jobPersistence = new DefaultJobPersistence(jobDatabase);
+
+    // the last job of the previous page, as a client paging with a cursor would have it
+    cursorJobId = pageOffset == 0 ? -1
+        : jobPersistence.listJobsLight(CONFIG_TYPES, SCOPE, 1, pageOffset - 1).get(0).getId();
+  }
+
+  private static void generateJobs(final Database jobDatabase) throws Exception {
+    jobDatabase.query(ctx -> {
+      ctx.execute("INSERT INTO jobs (id, config_type, scope, config, status, created_at, updated_at) "
+          + "SELECT g, CAST('sync' AS JOB_CONFIG_TYPE), "
+          + "CASE WHEN g % " + NUM_CONNECTIONS + " = 0 THEN '" + SCOPE + "' ELSE 'connection-' || (g % " + NUM_CONNECTIONS + ") END, "
+          + "jsonb_build_object('configType', 'sync', 'sync', jsonb_build_object('configuredAirbyteCatalog', repeat('c', 4096))), "
+          + "CAST('succeeded' AS JOB_STATUS), now() - g * interval '1 minute', now() - g * interval '1 minute' "
+          + "FROM generate_series(1, " + NUM_JOBS + ") g");
+      ctx.execute("INSERT INTO attempts (job_id, attempt_number, log_path, output, status, created_at, updated_at) "
+          + "SELECT j.id, a, '/tmp/logs/' || j.id || '/' || a, "
+          + "jsonb_build_object('outputType', 'sync', 'sync', jsonb_build_object("
+          + "'standardSyncSummary', jsonb_build_object('recordsSynced', 100, 'bytesSynced', 1000), "
+          + "'state', jsonb_build_object('state', repeat('s', 2048)))), "
+          + "CAST('succeeded' AS ATTEMPT_STATUS), j.created_at, j.created_at "
+          + "FROM jobs j CROSS JOIN generate_series(1, " + ATTEMPTS_PER_JOB + ") a");
+      ctx.execute("ANALYZE");
+      return null;
+    });
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    DataSourceFactory.close(dataSource);
+    container.close();
+  }
+
+  @Benchmark
+  public List<Job> offsetPage() throws Exception {
+    return jobPersistence.listJobs(CONFIG_TYPES, SCOPE, PAGE_SIZE, pageOffset);
+  }
+
+  @Benchmark
+  public List<Job> lightOffsetPage() throws Exception {
+    return jobPersistence.listJobsLight(CONFIG_TYPES, SCOPE, PAGE_SIZE, pageOffset);
+  }
+
+  @Benchmark
+  public List<Job> lightKeysetPage() throws Exception {
+    return pageOffset == 0 ? jobPersistence.listJobsLight(CONFIG_TYPES, SCOPE, PAGE_SIZE, 0)
+        : jobPersistence.listJobsLightBefore(CONFIG_TYPES, SCOPE, cursorJobId, PAGE_SIZE);
+  }
+
+}
@@ -55,6 +55,7 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -66,6 +67,7 @@ import java.util.UUID;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.jooq.Condition;
 import org.jooq.DSLContext;
 import org.jooq.Field;
 import org.jooq.InsertValuesStepN;
@@ -107,6 +109,23 @@ public class DefaultJobPersistence implements JobPersistence {
   @VisibleForTesting
   static final String BASE_JOB_SELECT_AND_JOIN = jobSelectAndJoin("jobs");
 
+  /**
+   * Of a job's config, only keep what is shown when listing jobs: its type and, for resets, the
+   * streams being reset. This spares reading and parsing the catalog every job config holds.
+   */
+  private static final String LIGHT_JOB_CONFIG = "jsonb_strip_nulls(jsonb_build_object("
+      + "'configType', jobs.config -> 'configType', "
+      + "'resetConnection', CASE WHEN jobs.config -> 'resetConnection' IS NULL THEN NULL "
+      + "ELSE jsonb_build_object('resetSourceConfiguration', jobs.config -> 'resetConnection' -> 'resetSourceConfiguration') END))";
+
+  /**
+   * Of an attempt's output, only keep the sync summary, leaving out the output catalog and state.
+   */
+  private static final String LIGHT_ATTEMPT_OUTPUT = "CASE WHEN attempts.output IS NULL THEN NULL "
+      + "ELSE jsonb_strip_nulls(jsonb_build_object("
+      + "'outputType', attempts.output -> 'outputType', "
+      + "'sync', jsonb_build_object('standardSyncSummary', attempts.output -> 'sync' -> 'standardSyncSummary'))) END";
+
   private static final String AIRBYTE_METADATA_TABLE = "airbyte_metadata";
   public static final String ORDER_BY_JOB_TIME_ATTEMPT_TIME =
       "ORDER BY jobs.created_at DESC, jobs.id DESC, attempts.created_at ASC, attempts.id ASC ";
@@ -132,18 +151,26 @@ public class DefaultJobPersistence implements JobPersistence {
   }
 
   private static String jobSelectAndJoin(final String jobsSubquery) {
+    return jobSelectAndJoin(jobsSubquery, "jobs.config", "attempts.output");
+  }
+
+  private static String lightJobSelectAndJoin(final String jobsSubquery) {
+    return jobSelectAndJoin(jobsSubquery, LIGHT_JOB_CONFIG, LIGHT_ATTEMPT_OUTPUT);
+  }
+
+  private static String jobSelectAndJoin(final String jobsSubquery, final String jobConfig, final String attemptOutput) {
     return "SELECT\n"
         + "jobs.id AS job_id,\n"
         + "jobs.config_type AS config_type,\n"
         + "jobs.scope AS scope,\n"
-        + "jobs.config AS config,\n"
+        + jobConfig + " AS config,\n"
         + "jobs.status AS job_status,\n"
         + "jobs.started_at AS job_started_at,\n"
         + "jobs.created_at AS job_created_at,\n"
         + "jobs.updated_at AS job_updated_at,\n"
         + "attempts.attempt_number AS attempt_number,\n"
         + "attempts.log_path AS log_path,\n"
-        + "attempts.output AS attempt_output,\n"
+        + attemptOutput + " AS attempt_output,\n"
         + "attempts.status AS attempt_status,\n"
         + "attempts.failure_summary AS attempt_failure_summary,\n"
         + "attempts.created_at AS attempt_created_at,\n"
@@ -456,19 +483,46 @@ public class DefaultJobPersistence implements JobPersistence {
 
   @Override
   public List<Job> listJobs(final Set<ConfigType> configTypes, final String configId, final int pagesize, final int offset) throws IOException {
-    return jobDatabase.query(ctx -> {
-      final String jobsSubquery = "(" + ctx.select(DSL.asterisk()).from(JOBS)
-          .where(JOBS.CONFIG_TYPE.in(Sqls.toSqlNames(configTypes)))
-          .and(JOBS.SCOPE.eq(configId))
-          .orderBy(JOBS.CREATED_AT.desc(), JOBS.ID.desc())
-          .limit(pagesize)
-          .offset(offset)
-          .getSQL(ParamType.INLINED) + ") AS jobs";
+    return jobDatabase.query(ctx -> getJobsFromResult(ctx.fetch(
+        jobSelectAndJoin(jobsPageSubquery(ctx, configTypes, configId, DSL.noCondition(), pagesize, offset)) + ORDER_BY_JOB_TIME_ATTEMPT_TIME)));
+  }
 
-      return getJobsFromResult(ctx.fetch(jobSelectAndJoin(jobsSubquery) + ORDER_BY_JOB_TIME_ATTEMPT_TIME));
-    });
+  @Override
+  public List<Job> listJobsLight(final Set<ConfigType> configTypes, final String configId, final int pagesize, final int offset)
+      throws IOException {
+    return jobDatabase.query(ctx -> getJobsFromResult(ctx.fetch(
+        lightJobSelectAndJoin(jobsPageSubquery(ctx, configTypes, configId, DSL.noCondition(), pagesize, offset)) + ORDER_BY_JOB_TIME_ATTEMPT_TIME)));
   }
 
+  @Override
+  public List<Job> listJobsLightBefore(final Set<ConfigType> configTypes, final String configId, final long beforeJobId, final int pagesize)
+      throws IOException {
+    // jobs are listed newest first, so the next page holds the jobs that sort after the cursor job on
+    // (created_at, id), which the jobs_scope_created_at_id_idx index can seek to directly. A cursor
+    // job that does not exist compares as null and yields an empty page.
+    final Condition afterCursor = DSL.row(JOBS.CREATED_AT, JOBS.ID)
+        .lessThan(DSL.select(JOBS.CREATED_AT, JOBS.ID).from(JOBS).where(JOBS.ID.eq(beforeJobId)));
+    return jobDatabase.query(ctx -> getJobsFromResult(ctx.fetch(
+        lightJobSelectAndJoin(jobsPageSubquery(ctx, configTypes, configId, afterCursor, pagesize, 0)) + ORDER_BY_JOB_TIME_ATTEMPT_TIME)));
+  }
+
+  private static String jobsPageSubquery(final DSLContext ctx,
+                                         final Set<ConfigType> configTypes,
+                                         final String configId,
+                                         final Condition condition,
+                                         final int pagesize,
+                                         final int offset) {
+    return "(" + ctx.select(DSL.asterisk()).from(JOBS)
+        .where(JOBS.CONFIG_TYPE.in(Sqls.toSqlNames(configTypes)))
+        .and(JOBS.SCOPE.eq(configId))
+        .and(condition)
+        .orderBy(JOBS.CREATED_AT.desc(), JOBS.ID.desc())
+        .limit(pagesize)
+        .offset(offset)
+        .getSQL(ParamType.INLINED) + ") AS jobs";
+  }
+
+
   @Override
   public List<Job> listJobsIncludingId(final Set<ConfigType> configTypes, final String connectionId, final long includingJobId, final int pagesize)
       throws IOException {
@@ -578,6 +632,41 @@ public class DefaultJobPersistence implements JobPersistence {
         .flatMap(r -> getJobOptional(ctx, r.get(JOB_ID, Long.class))));
   }
 
+  @Override
+  public List<Job> getLastSyncJobForConnections(final List<UUID> connectionIds) throws IOException {
+    return getLatestJobForEachScope(ConfigType.SYNC, connectionIds, Optional.empty());
+  }
+
+  @Override
+  public List<Job> getRunningSyncJobForConnections(final List<UUID> connectionIds) throws IOException {
+    return getLatestJobForEachScope(ConfigType.SYNC, connectionIds, Optional.of(JobStatus.NON_TERMINAL_STATUSES));
+  }
+
+  /**
+   * Fetches the most recent job of the given type, and optionally statuses, for each connection in
+   * one query. DISTINCT ON keeps the first row of each scope, so the jobs subquery is ordered by
+   * scope and then newest first.
+   */
+  private List<Job> getLatestJobForEachScope(final ConfigType configType,
+                                             final List<UUID> connectionIds,
+                                             final Optional<Set<JobStatus>> statuses)
+      throws IOException {
+    if (connectionIds.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    return jobDatabase.query(ctx -> {
+      final String jobsSubquery = "(" + ctx.select(DSL.asterisk()).distinctOn(JOBS.SCOPE).from(JOBS)
+          .where(JOBS.CONFIG_TYPE.in(Sqls.toSqlNames(Set.of(configType))))
+          .and(JOBS.SCOPE.in(connectionIds.stream().map(UUID::toString).toList()))
+          .and(statuses.map(s -> JOBS.STATUS.in(Sqls.toSqlNames(s))).orElse(DSL.noCondition()))
+          .orderBy(JOBS.SCOPE, JOBS.CREATED_AT.desc(), JOBS.ID.desc())
+          .getSQL(ParamType.INLINED) + ") AS jobs";
+
+      return getJobsFromResult(ctx.fetch(jobSelectAndJoin(jobsSubquery) + ORDER_BY_JOB_TIME_ATTEMPT_TIME));
+    });
+  }
+
   @Override
   public Optional<Job> getFirstReplicationJob(final UUID connectionId) throws IOException {
     return jobDatabase.query(ctx -> ctx
@@ -161,6 +161,31 @@ public interface JobPersistence {
    */
   List<Job> listJobs(Set<JobConfig.ConfigType> configTypes, String configId, int limit, int offset) throws IOException;
 
+  /**
+   * Same as {@link #listJobs(Set, String, int, int)}, but only loads the parts of the jobs that are
+   * needed to list them: of each job's config only its type and the streams it resets, and of each
+   * attempt's output only the sync summary.
+   *
+   * @param configTypes - type of config, e.g. sync
+   * @param configId - id of that config
+   * @return lists job in descending order by created_at
+   * @throws IOException - what you do when you IO
+   */
+  List<Job> listJobsLight(Set<JobConfig.ConfigType> configTypes, String configId, int limit, int offset) throws IOException;
+
+  /**
+   * Keyset paginated version of {@link #listJobsLight(Set, String, int, int)}. Returns the page of
+   * jobs that directly follows the given job in descending (created_at, id) order. Unlike an offset,
+   * this does not get slower the deeper the page is.
+   *
+   * @param configTypes - type of config, e.g. sync
+   * @param configId - id of that config
+   * @param beforeJobId - id of the last job of the previous page
+   * @return lists job in descending order by created_at, or an empty list if the job does not exist
+   * @throws IOException - what you do when you IO
+   */
+  List<Job> listJobsLightBefore(Set<JobConfig.ConfigType> configTypes, String configId, long beforeJobId, int limit) throws IOException;
+
   /**
    * @param configType The type of job
    * @param attemptEndedAtTimestamp The timestamp after which you want the jobs
@@ -211,6 +236,25 @@ public interface JobPersistence {
 
   Optional<Job> getLastSyncJob(UUID connectionId) throws IOException;
 
+  /**
+   * Bulk version of {@link #getLastSyncJob(UUID)}, answered with a single query.
+   *
+   * @param connectionIds The IDs of the connections
+   * @return the most recent sync job of each connection that has one, in no particular order
+   * @throws IOException
+   */
+  List<Job> getLastSyncJobForConnections(List<UUID> connectionIds) throws IOException;
+
+  /**
+   * Returns the most recent sync job that is not in a terminal state for each of the connections,
+   * answered with a single query.
+   *
+   * @param connectionIds The IDs of the connections
+   * @return the running sync job of each connection that has one, in no particular order
+   * @throws IOException
+   */
+  List<Job> getRunningSyncJobForConnections(List<UUID> connectionIds) throws IOException;
+
   Optional<Job> getFirstReplicationJob(UUID connectionId) throws IOException;
 
   Optional<Job> getNextJob() throws IOException;
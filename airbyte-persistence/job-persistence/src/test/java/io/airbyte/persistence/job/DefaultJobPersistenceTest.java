@@ -36,6 +36,7 @@ import io.airbyte.config.JobSyncConfig;
 import io.airbyte.config.NormalizationSummary;
 import io.airbyte.config.StandardSyncOutput;
 import io.airbyte.config.StandardSyncSummary;
+import io.airbyte.config.State;
 import io.airbyte.config.SyncStats;
 import io.airbyte.db.Database;
 import io.airbyte.db.factory.DSLContextFactory;
@@ -978,6 +979,56 @@ class DefaultJobPersistenceTest {
 
   }
 
+  @Nested
+  @DisplayName("When getting the last and running sync jobs of many connections")
+  class GetSyncJobForConnections {
+
+    @Test
+    @DisplayName("Should return nothing if no connections are given")
+    void testGetSyncJobForConnectionsEmpty() throws IOException {
+      jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+
+      assertTrue(jobPersistence.getLastSyncJobForConnections(Collections.emptyList()).isEmpty());
+      assertTrue(jobPersistence.getRunningSyncJobForConnections(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should return the last sync job of each connection")
+    void testGetLastSyncJobForConnections() throws IOException {
+      final long jobId1 = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.succeedAttempt(jobId1, jobPersistence.createAttempt(jobId1, LOG_PATH));
+      final long otherConnectionJobId = jobPersistence.enqueueJob(CONNECTION_ID2.toString(), SYNC_JOB_CONFIG).orElseThrow();
+
+      final Instant afterNow = NOW.plusSeconds(1000);
+      when(timeSupplier.get()).thenReturn(afterNow);
+      final long jobId2 = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.failJob(jobId2);
+      jobPersistence.enqueueJob(SCOPE, RESET_JOB_CONFIG).orElseThrow();
+
+      final Map<String, Long> actual = jobPersistence.getLastSyncJobForConnections(List.of(CONNECTION_ID, CONNECTION_ID2, UUID.randomUUID()))
+          .stream()
+          .collect(Collectors.toMap(Job::getScope, Job::getId));
+
+      assertEquals(Map.of(SCOPE, jobId2, CONNECTION_ID2.toString(), otherConnectionJobId), actual);
+    }
+
+    @Test
+    @DisplayName("Should return the running sync job of each connection that has one")
+    void testGetRunningSyncJobForConnections() throws IOException {
+      final long succeededJobId = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.succeedAttempt(succeededJobId, jobPersistence.createAttempt(succeededJobId, LOG_PATH));
+      final long runningJobId = jobPersistence.enqueueJob(CONNECTION_ID2.toString(), SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.createAttempt(runningJobId, LOG_PATH);
+
+      final List<Job> actual = jobPersistence.getRunningSyncJobForConnections(List.of(CONNECTION_ID, CONNECTION_ID2));
+
+      assertEquals(1, actual.size());
+      assertEquals(runningJobId, actual.get(0).getId());
+      assertEquals(JobStatus.RUNNING, actual.get(0).getStatus());
+    }
+
+  }
+
   @Nested
   @DisplayName("When getting first replication job")
   class GetFirstReplicationJob {
@@ -1374,6 +1425,60 @@ class DefaultJobPersistenceTest {
       assertEquals(List.of(), actualList);
     }
 
+    @Test
+    @DisplayName("Should only load the parts of the config and output needed to list jobs")
+    void testListJobsLight() throws IOException {
+      final JobConfig syncConfig = new JobConfig()
+          .withConfigType(ConfigType.SYNC)
+          .withSync(new JobSyncConfig().withSourceDockerImage("airbyte/source-postgres:1.0.0"));
+      final long jobId = jobPersistence.enqueueJob(SCOPE, syncConfig).orElseThrow();
+      final int attemptNumber = jobPersistence.createAttempt(jobId, LOG_PATH);
+      final StandardSyncSummary syncSummary = new StandardSyncSummary()
+          .withRecordsSynced(10L)
+          .withTotalStats(new SyncStats().withRecordsEmitted(10L).withBytesEmitted(100L));
+      final JobOutput jobOutput = new JobOutput()
+          .withOutputType(JobOutput.OutputType.SYNC)
+          .withSync(new StandardSyncOutput()
+              .withStandardSyncSummary(syncSummary)
+              .withState(new State().withState(Jsons.jsonNode(Map.of("cursor", 42)))));
+      jobPersistence.writeOutput(jobId, attemptNumber, jobOutput, syncSummary.getTotalStats(), null);
+
+      final List<Job> actualList = jobPersistence.listJobsLight(Set.of(ConfigType.SYNC), SCOPE, 10, 0);
+
+      assertEquals(1, actualList.size());
+      final Job actual = actualList.get(0);
+      assertEquals(jobId, actual.getId());
+      assertEquals(new JobConfig().withConfigType(ConfigType.SYNC), actual.getConfig());
+      final JobOutput expectedOutput = new JobOutput()
+          .withOutputType(JobOutput.OutputType.SYNC)
+          .withSync(new StandardSyncOutput().withStandardSyncSummary(syncSummary));
+      assertEquals(Optional.of(expectedOutput), actual.getAttempts().get(0).getOutput());
+    }
+
+    @Test
+    @DisplayName("Should page through jobs by keyset the same way as by offset")
+    void testListJobsLightBefore() throws IOException {
+      for (int i = 0; i < 25; i++) {
+        final long jobId = jobPersistence.enqueueJob(SCOPE, SPEC_JOB_CONFIG).orElseThrow();
+        jobPersistence.createAttempt(jobId, LOG_PATH);
+        jobPersistence.enqueueJob(CONNECTION_ID2.toString(), SPEC_JOB_CONFIG).orElseThrow();
+      }
+      final Set<ConfigType> configTypes = Set.of(SPEC_JOB_CONFIG.getConfigType());
+      final int pagesize = 10;
+
+      final List<Long> expectedIds = jobPersistence.listJobsLight(configTypes, SCOPE, 100, 0).stream().map(Job::getId).toList();
+      final List<Long> actualIds = new ArrayList<>();
+      List<Job> page = jobPersistence.listJobsLight(configTypes, SCOPE, pagesize, 0);
+      while (!page.isEmpty()) {
+        page.forEach(job -> actualIds.add(job.getId()));
+        page = jobPersistence.listJobsLightBefore(configTypes, SCOPE, page.get(page.size() - 1).getId(), pagesize);
+      }
+
+      assertEquals(25, expectedIds.size());
+      assertEquals(expectedIds, actualIds);
+      assertEquals(List.of(), jobPersistence.listJobsLightBefore(configTypes, SCOPE, Long.MAX_VALUE, pagesize));
+    }
+
   }
 
   @Nested
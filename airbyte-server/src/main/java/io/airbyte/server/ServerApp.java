@@ -18,6 +18,7 @@ import io.airbyte.config.EnvConfigs;
 import io.airbyte.config.StandardSync;
 import io.airbyte.config.StandardSync.Status;
 import io.airbyte.config.helpers.LogClientSingleton;
+import io.airbyte.config.persistence.CachingConfigPersistence;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigPersistence;
 import io.airbyte.config.persistence.ConfigRepository;
@@ -36,6 +37,7 @@ import io.airbyte.db.factory.DatabaseCheckFactory;
 import io.airbyte.db.factory.FlywayFactory;
 import io.airbyte.db.instance.configs.ConfigsDatabaseMigrator;
 import io.airbyte.db.instance.jobs.JobsDatabaseMigrator;
+import io.airbyte.metrics.lib.MetricClientFactory;
 import io.airbyte.persistence.job.DefaultJobPersistence;
 import io.airbyte.persistence.job.JobPersistence;
 import io.airbyte.persistence.job.WebUrlHelper;
@@ -62,6 +64,7 @@ import io.airbyte.workers.temporal.TemporalClient;
 import io.temporal.serviceclient.WorkflowServiceStubs;
 import java.io.IOException;
 import java.net.http.HttpClient;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -164,6 +167,18 @@ public class ServerApp implements ServerRunnable {
         configs.getJobsDatabaseInitializationTimeoutMs()).check();
   }
 
+  private static ConfigPersistence getConfigPersistence(final Configs configs,
+                                                        final Database configsDatabase,
+                                                        final JsonSecretsProcessor jsonSecretsProcessor) {
+    final ConfigPersistence configPersistence = DatabaseConfigPersistence.createWithValidation(configsDatabase, jsonSecretsProcessor);
+    if (configs.getConfigCacheMaximumSize() <= 0) {
+      return configPersistence;
+    }
+    LOGGER.info("Caching configs in memory for {} seconds..", configs.getConfigCacheTtlSeconds());
+    return new CachingConfigPersistence(configPersistence, configs.getConfigCacheMaximumSize(),
+        Duration.ofSeconds(configs.getConfigCacheTtlSeconds()), MetricClientFactory.getMetricClient());
+  }
+
   public static ServerRunnable getServer(final ServerFactory apiFactory,
                                          final Configs configs,
                                          final DSLContext configsDslContext,
@@ -184,7 +199,7 @@ public class ServerApp implements ServerRunnable {
     final JsonSecretsProcessor jsonSecretsProcessor = JsonSecretsProcessor.builder()
         .copySecrets(false)
         .build();
-    final ConfigPersistence configPersistence = DatabaseConfigPersistence.createWithValidation(configsDatabase, jsonSecretsProcessor);
+    final ConfigPersistence configPersistence = getConfigPersistence(configs, configsDatabase, jsonSecretsProcessor);
     final SecretsHydrator secretsHydrator = SecretPersistence.getSecretsHydrator(configsDslContext, configs);
     final Optional<SecretPersistence> secretPersistence = SecretPersistence.getLongLived(configsDslContext, configs);
     final Optional<SecretPersistence> ephemeralSecretPersistence = SecretPersistence.getEphemeral(configsDslContext, configs);
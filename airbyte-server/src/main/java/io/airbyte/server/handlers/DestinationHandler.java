@@ -289,6 +289,18 @@ public class DestinationHandler {
     return toDestinationRead(dci, standardDestinationDefinition);
   }
 
+  /**
+   * Builds the read of a destination that was already loaded along with its definition, with its
+   * secrets masked, e.g. after fetching many destinations at once.
+   */
+  public DestinationRead buildDestinationRead(final DestinationConnection destinationConnection,
+                                              final StandardDestinationDefinition standardDestinationDefinition) {
+    final ConnectorSpecification spec = standardDestinationDefinition.getSpec();
+    final DestinationConnection dci = Jsons.clone(destinationConnection);
+    dci.setConfiguration(secretsProcessor.prepareSecretsForOutput(dci.getConfiguration(), spec.getConnectionSpecification()));
+    return toDestinationRead(dci, standardDestinationDefinition);
+  }
+
   private DestinationRead buildDestinationReadWithSecrets(final UUID destinationId)
       throws ConfigNotFoundException, IOException, JsonValidationException {
 
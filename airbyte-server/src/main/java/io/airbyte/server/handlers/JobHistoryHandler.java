@@ -38,6 +38,7 @@ import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -91,8 +92,10 @@ public class JobHistoryHandler {
 
     if (request.getIncludingJobId() != null) {
       jobs = jobPersistence.listJobsIncludingId(configTypes, configId, request.getIncludingJobId(), pageSize);
+    } else if (request.getBeforeJobId() != null) {
+      jobs = jobPersistence.listJobsLightBefore(configTypes, configId, request.getBeforeJobId(), pageSize);
     } else {
-      jobs = jobPersistence.listJobs(configTypes, configId, pageSize,
+      jobs = jobPersistence.listJobsLight(configTypes, configId, pageSize,
           (request.getPagination() != null && request.getPagination().getRowOffset() != null) ? request.getPagination().getRowOffset() : 0);
     }
 
@@ -140,6 +143,26 @@ public class JobHistoryHandler {
     return jobPersistence.getLastSyncJob(connectionId).map(JobConverter::getJobRead);
   }
 
+  /**
+   * Bulk version of {@link #getLatestSyncJob(UUID)}, keyed by connection id. Connections without a
+   * sync job have no entry.
+   */
+  public Map<UUID, JobRead> getLatestSyncJobsForConnections(final List<UUID> connectionIds) throws IOException {
+    return toJobReadByConnectionId(jobPersistence.getLastSyncJobForConnections(connectionIds));
+  }
+
+  /**
+   * Bulk version of {@link #getLatestRunningSyncJob(UUID)}, keyed by connection id. Connections
+   * without a running sync job have no entry.
+   */
+  public Map<UUID, JobRead> getRunningSyncJobForConnections(final List<UUID> connectionIds) throws IOException {
+    return toJobReadByConnectionId(jobPersistence.getRunningSyncJobForConnections(connectionIds));
+  }
+
+  private static Map<UUID, JobRead> toJobReadByConnectionId(final List<Job> jobs) {
+    return jobs.stream().collect(Collectors.toMap(job -> UUID.fromString(job.getScope()), JobConverter::getJobRead));
+  }
+
   private SourceRead getSourceRead(final ConnectionRead connectionRead) throws JsonValidationException, IOException, ConfigNotFoundException {
     final SourceIdRequestBody sourceIdRequestBody = new SourceIdRequestBody().sourceId(connectionRead.getSourceId());
     return sourceHandler.getSource(sourceIdRequestBody);
@@ -17,6 +17,7 @@ import io.airbyte.api.model.generated.SourceReadList;
 import io.airbyte.api.model.generated.SourceSearch;
 import io.airbyte.api.model.generated.SourceUpdate;
 import io.airbyte.api.model.generated.WorkspaceIdRequestBody;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.lang.MoreBooleans;
 import io.airbyte.config.SourceConnection;
 import io.airbyte.config.StandardSourceDefinition;
@@ -261,6 +262,18 @@ public class SourceHandler {
     return toSourceRead(sourceConnection, standardSourceDefinition);
   }
 
+  /**
+   * Builds the read of a source that was already loaded along with its definition, with its secrets
+   * masked, e.g. after fetching many sources at once.
+   */
+  public SourceRead buildSourceRead(final SourceConnection sourceConnection, final StandardSourceDefinition standardSourceDefinition) {
+    final ConnectorSpecification spec = standardSourceDefinition.getSpec();
+    // the caller still holds the source, so its configuration is left untouched
+    final SourceConnection sci = Jsons.clone(sourceConnection);
+    sci.setConfiguration(secretsProcessor.prepareSecretsForOutput(sci.getConfiguration(), spec.getConnectionSpecification()));
+    return toSourceRead(sci, standardSourceDefinition);
+  }
+
   private SourceRead buildSourceReadWithSecrets(final UUID sourceId)
       throws ConfigNotFoundException, IOException, JsonValidationException {
     // read configuration from db
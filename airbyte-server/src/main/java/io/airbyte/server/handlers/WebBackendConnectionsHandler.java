@@ -43,6 +43,7 @@ import io.airbyte.api.model.generated.WorkspaceIdRequestBody;
 import io.airbyte.commons.enums.Enums;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.lang.MoreBooleans;
+import io.airbyte.config.ConfigSchema;
 import io.airbyte.config.StandardSync;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
@@ -99,16 +100,46 @@ public class WebBackendConnectionsHandler {
   public WebBackendConnectionReadList webBackendListConnectionsForWorkspace(final WorkspaceIdRequestBody workspaceIdRequestBody)
       throws ConfigNotFoundException, IOException, JsonValidationException {
 
-    final List<WebBackendConnectionListItem> connectionItems = Lists.newArrayList();
-
     // passing 'false' so that deleted connections are not included
-    for (final StandardSync standardSync : configRepository.listWorkspaceStandardSyncs(workspaceIdRequestBody.getWorkspaceId(), false)) {
-      connectionItems.add(buildWebBackendConnectionListItem(standardSync));
+    final List<StandardSync> standardSyncs =
+        configRepository.listWorkspaceStandardSyncs(workspaceIdRequestBody.getWorkspaceId(), false);
+
+    // load everything the list items need up front, in a fixed number of queries no matter how many
+    // connections the workspace has
+    final Map<UUID, SourceRead> sourceReadById = getSourceReadById(standardSyncs.stream().map(StandardSync::getSourceId).distinct().toList());
+    final Map<UUID, DestinationRead> destinationReadById =
+        getDestinationReadById(standardSyncs.stream().map(StandardSync::getDestinationId).distinct().toList());
+    final List<UUID> connectionIds = standardSyncs.stream().map(StandardSync::getConnectionId).toList();
+    final Map<UUID, JobRead> latestSyncJobByConnectionId = jobHistoryHandler.getLatestSyncJobsForConnections(connectionIds);
+    final Map<UUID, JobRead> runningSyncJobByConnectionId = jobHistoryHandler.getRunningSyncJobForConnections(connectionIds);
+
+    final List<WebBackendConnectionListItem> connectionItems = Lists.newArrayList();
+    for (final StandardSync standardSync : standardSyncs) {
+      connectionItems.add(buildWebBackendConnectionListItem(
+          standardSync,
+          sourceReadById,
+          destinationReadById,
+          latestSyncJobByConnectionId,
+          runningSyncJobByConnectionId));
     }
 
     return new WebBackendConnectionReadList().connections(connectionItems);
   }
 
+  private Map<UUID, SourceRead> getSourceReadById(final List<UUID> sourceIds) throws IOException {
+    return configRepository.getSourceAndDefinitionsFromSourceIds(sourceIds).stream()
+        .map(sourceAndDefinition -> sourceHandler.buildSourceRead(sourceAndDefinition.source(), sourceAndDefinition.definition()))
+        .collect(toMap(SourceRead::getSourceId, sourceRead -> sourceRead));
+  }
+
+  private Map<UUID, DestinationRead> getDestinationReadById(final List<UUID> destinationIds) throws IOException {
+    return configRepository.getDestinationAndDefinitionsFromDestinationIds(destinationIds).stream()
+        .map(destinationAndDefinition -> destinationHandler.buildDestinationRead(
+            destinationAndDefinition.destination(),
+            destinationAndDefinition.definition()))
+        .collect(toMap(DestinationRead::getDestinationId, destinationRead -> destinationRead));
+  }
+
   private WebBackendConnectionRead buildWebBackendConnectionRead(final ConnectionRead connectionRead)
       throws ConfigNotFoundException, IOException, JsonValidationException {
     final SourceRead source = getSourceRead(connectionRead.getSourceId());
@@ -130,12 +161,22 @@ public class WebBackendConnectionsHandler {
     return webBackendConnectionRead;
   }
 
-  private WebBackendConnectionListItem buildWebBackendConnectionListItem(final StandardSync standardSync)
-      throws JsonValidationException, ConfigNotFoundException, IOException {
-    final SourceRead source = getSourceRead(standardSync.getSourceId());
-    final DestinationRead destination = getDestinationRead(standardSync.getDestinationId());
-    final Optional<JobRead> latestSyncJob = jobHistoryHandler.getLatestSyncJob(standardSync.getConnectionId());
-    final Optional<JobRead> latestRunningSyncJob = jobHistoryHandler.getLatestRunningSyncJob(standardSync.getConnectionId());
+  private static WebBackendConnectionListItem buildWebBackendConnectionListItem(final StandardSync standardSync,
+                                                                               final Map<UUID, SourceRead> sourceReadById,
+                                                                               final Map<UUID, DestinationRead> destinationReadById,
+                                                                               final Map<UUID, JobRead> latestSyncJobByConnectionId,
+                                                                               final Map<UUID, JobRead> runningSyncJobByConnectionId)
+      throws ConfigNotFoundException {
+    final SourceRead source = sourceReadById.get(standardSync.getSourceId());
+    if (source == null) {
+      throw new ConfigNotFoundException(ConfigSchema.SOURCE_CONNECTION, standardSync.getSourceId());
+    }
+    final DestinationRead destination = destinationReadById.get(standardSync.getDestinationId());
+    if (destination == null) {
+      throw new ConfigNotFoundException(ConfigSchema.DESTINATION_CONNECTION, standardSync.getDestinationId());
+    }
+    final Optional<JobRead> latestSyncJob = Optional.ofNullable(latestSyncJobByConnectionId.get(standardSync.getConnectionId()));
+    final Optional<JobRead> latestRunningSyncJob = Optional.ofNullable(runningSyncJobByConnectionId.get(standardSync.getConnectionId()));
 
     final WebBackendConnectionListItem listItem = new WebBackendConnectionListItem()
         .connectionId(standardSync.getConnectionId())
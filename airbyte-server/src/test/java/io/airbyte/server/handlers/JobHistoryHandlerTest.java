@@ -147,7 +147,7 @@ class JobHistoryHandlerTest {
           new Job(jobId2, JOB_CONFIG.getConfigType(), JOB_CONFIG_ID, JOB_CONFIG, Collections.emptyList(), JobStatus.PENDING,
               null, createdAt2, createdAt2);
 
-      when(jobPersistence.listJobs(Set.of(Enums.convertTo(CONFIG_TYPE_FOR_API, ConfigType.class)), JOB_CONFIG_ID, pagesize, rowOffset))
+      when(jobPersistence.listJobsLight(Set.of(Enums.convertTo(CONFIG_TYPE_FOR_API, ConfigType.class)), JOB_CONFIG_ID, pagesize, rowOffset))
           .thenReturn(List.of(latestJobNoAttempt, successfulJob));
       when(jobPersistence.getJobCount(Set.of(Enums.convertTo(CONFIG_TYPE_FOR_API, ConfigType.class)), JOB_CONFIG_ID)).thenReturn(2L);
 
@@ -189,7 +189,7 @@ class JobHistoryHandlerTest {
       final var latestJob =
           new Job(latestJobId, ConfigType.SYNC, JOB_CONFIG_ID, JOB_CONFIG, Collections.emptyList(), JobStatus.PENDING, null, createdAt3, createdAt3);
 
-      when(jobPersistence.listJobs(configTypes, JOB_CONFIG_ID, pagesize, rowOffset)).thenReturn(List.of(latestJob, secondJob, firstJob));
+      when(jobPersistence.listJobsLight(configTypes, JOB_CONFIG_ID, pagesize, rowOffset)).thenReturn(List.of(latestJob, secondJob, firstJob));
       when(jobPersistence.getJobCount(configTypes, JOB_CONFIG_ID)).thenReturn(3L);
 
       final JobListRequestBody requestBody = new JobListRequestBody()
@@ -209,6 +209,27 @@ class JobHistoryHandlerTest {
       assertEquals(expectedJobReadList, jobReadList);
     }
 
+    @Test
+    @DisplayName("Should return the page of jobs following the specified job id")
+    void testListJobsBeforeJobId() throws IOException {
+      final int pagesize = 25;
+      final var newerJobId = JOB_ID + 100;
+      final Set<ConfigType> configTypes = Set.of(Enums.convertTo(CONFIG_TYPE_FOR_API, ConfigType.class));
+
+      when(jobPersistence.listJobsLightBefore(configTypes, JOB_CONFIG_ID, newerJobId, pagesize)).thenReturn(List.of(testJob));
+      when(jobPersistence.getJobCount(configTypes, JOB_CONFIG_ID)).thenReturn(2L);
+
+      final var requestBody = new JobListRequestBody()
+          .configTypes(Collections.singletonList(CONFIG_TYPE_FOR_API))
+          .configId(JOB_CONFIG_ID)
+          .beforeJobId(newerJobId)
+          .pagination(new Pagination().pageSize(pagesize));
+      final var jobReadList = jobHistoryHandler.listJobsFor(requestBody);
+
+      final var jobWithAttemptRead = new JobWithAttemptsRead().job(toJobInfo(testJob)).attempts(ImmutableList.of(toAttemptRead(testJobAttempt)));
+      assertEquals(new JobReadList().jobs(List.of(jobWithAttemptRead)).totalJobCount(2L), jobReadList);
+    }
+
     @Test
     @DisplayName("Should return jobs including specified job id")
     void testListJobsIncludingJobId() throws IOException {
@@ -44,6 +44,7 @@ import io.airbyte.validation.json.JsonSchemaValidator;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
@@ -203,6 +204,19 @@ class SourceHandlerTest {
         sourceDefinitionSpecificationRead.getConnectionSpecification());
   }
 
+  @Test
+  void testBuildSourceReadDoesNotMutateSource() {
+    final JsonNode configuration = Jsons.clone(sourceConnection.getConfiguration());
+    final JsonNode sanitizedConfiguration = Jsons.jsonNode(Map.of("apiKey", "**********"));
+    when(secretsProcessor.prepareSecretsForOutput(sourceConnection.getConfiguration(), connectorSpecification.getConnectionSpecification()))
+        .thenReturn(sanitizedConfiguration);
+
+    final SourceRead sourceRead = sourceHandler.buildSourceRead(sourceConnection, standardSourceDefinition);
+
+    assertEquals(sanitizedConfiguration, sourceRead.getConnectionConfiguration());
+    assertEquals(configuration, sourceConnection.getConfiguration());
+  }
+
   @Test
   void testCloneSourceWithoutConfigChange() throws JsonValidationException, ConfigNotFoundException, IOException {
     final SourceConnection clonedConnection = SourceHelpers.generateSource(standardSourceDefinition.getSourceDefinitionId());
@@ -71,6 +71,8 @@ import io.airbyte.config.StandardSourceDefinition;
 import io.airbyte.config.StandardSync;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.config.persistence.ConfigRepository.DestinationAndDefinition;
+import io.airbyte.config.persistence.ConfigRepository.SourceAndDefinition;
 import io.airbyte.protocol.models.CatalogHelpers;
 import io.airbyte.protocol.models.Field;
 import io.airbyte.protocol.models.JsonSchemaType;
@@ -88,6 +90,7 @@ import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -158,6 +161,7 @@ class WebBackendConnectionsHandlerTest {
     final DestinationRead destinationRead = DestinationHelpers.getDestinationRead(destination, destinationDefinition);
 
     final StandardSync standardSync = ConnectionHelpers.generateSyncWithSourceId(source.getSourceId());
+    standardSync.setDestinationId(destination.getDestinationId());
     when(configRepository.listWorkspaceStandardSyncs(sourceRead.getWorkspaceId(), false))
         .thenReturn(Collections.singletonList(standardSync));
     connectionRead = ConnectionHelpers.generateExpectedConnectionRead(standardSync);
@@ -174,6 +178,13 @@ class WebBackendConnectionsHandlerTest {
     destinationIdRequestBody.setDestinationId(connectionRead.getDestinationId());
     when(destinationHandler.getDestination(destinationIdRequestBody)).thenReturn(destinationRead);
 
+    when(configRepository.getSourceAndDefinitionsFromSourceIds(List.of(source.getSourceId())))
+        .thenReturn(List.of(new SourceAndDefinition(source, standardSourceDefinition)));
+    when(sourceHandler.buildSourceRead(source, standardSourceDefinition)).thenReturn(sourceRead);
+    when(configRepository.getDestinationAndDefinitionsFromDestinationIds(List.of(destination.getDestinationId())))
+        .thenReturn(List.of(new DestinationAndDefinition(destination, destinationDefinition)));
+    when(destinationHandler.buildDestinationRead(destination, destinationDefinition)).thenReturn(destinationRead);
+
     final Instant now = Instant.now();
     final JobWithAttemptsRead jobRead = new JobWithAttemptsRead()
         .job(new JobRead()
@@ -193,6 +204,10 @@ class WebBackendConnectionsHandlerTest {
             .endedAt(now.getEpochSecond())));
 
     when(jobHistoryHandler.getLatestSyncJob(connectionRead.getConnectionId())).thenReturn(Optional.of(jobRead.getJob()));
+    when(jobHistoryHandler.getLatestSyncJobsForConnections(List.of(connectionRead.getConnectionId())))
+        .thenReturn(Map.of(connectionRead.getConnectionId(), jobRead.getJob()));
+    when(jobHistoryHandler.getRunningSyncJobForConnections(List.of(connectionRead.getConnectionId())))
+        .thenReturn(Collections.emptyMap());
 
     expectedListItem = ConnectionHelpers.generateExpectedWebBackendConnectionListItem(
         standardSync,
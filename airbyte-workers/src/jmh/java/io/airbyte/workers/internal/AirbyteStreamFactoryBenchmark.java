@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.logging.MdcScope;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the throughput, in records per second, of the tree based
+ * {@link DefaultAirbyteStreamFactory} and the single pass {@link StreamingAirbyteStreamFactory} on
+ * narrow and wide records.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AirbyteStreamFactoryBenchmark {
+
+  private static final int NUM_RECORDS = 10_000;
+
+  @Param({"5", "200"})
+  public int numColumns;
+
+  private String input;
+  private DefaultAirbyteStreamFactory defaultFactory;
+  private StreamingAirbyteStreamFactory streamingFactory;
+  private StreamingAirbyteStreamFactory rawDataStreamingFactory;
+
+  @Setup
+  public void setup() {
+    final ObjectNode data = (ObjectNode) Jsons.emptyObject();
+    for (int i = 0; i < numColumns; i++) {
+      switch (i % 3) {
+        case 0 -> data.put("column_" + i, "some string value " + i);
+        case 1 -> data.put("column_" + i, i * 1000L);
+        default -> data.put("column_" + i, i / 7.0);
+      }
+    }
+    final String line = Jsons.serialize(new AirbyteMessage()
+        .withType(AirbyteMessage.Type.RECORD)
+        .withRecord(new AirbyteRecordMessage()
+            .withStream("benchmark_stream")
+            .withNamespace("public")
+            .withEmittedAt(1_665_000_000_000L)
+            .withData(data)));
+    input = (line + System.lineSeparator()).repeat(NUM_RECORDS);
+
+    defaultFactory = new DefaultAirbyteStreamFactory();
+    streamingFactory = new StreamingAirbyteStreamFactory();
+    rawDataStreamingFactory = new StreamingAirbyteStreamFactory(MdcScope.DEFAULT_BUILDER, true);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUM_RECORDS)
+  public long defaultFactory() {
+    return defaultFactory.create(new BufferedReader(new StringReader(input))).count();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUM_RECORDS)
+  public long streamingFactory() {
+    return streamingFactory.create(new BufferedReader(new StringReader(input))).count();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUM_RECORDS)
+  public long streamingFactoryWithRawData() {
+    return rawDataStreamingFactory.create(new BufferedReader(new StringReader(input))).count();
+  }
+
+}
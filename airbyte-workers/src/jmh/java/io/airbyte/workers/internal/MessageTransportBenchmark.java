@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.io.FramedMessageReader;
+import io.airbyte.commons.io.FramedMessageWriter;
+import io.airbyte.commons.io.IOs;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.logging.MdcScope;
+import io.airbyte.commons.protocol.serde.AirbyteMessageSmileDeserializer;
+import io.airbyte.commons.protocol.serde.AirbyteMessageSmileSerializer;
+import io.airbyte.commons.version.AirbyteVersion;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Compares the throughput, in records per second, of reading the messages of a connector as json
+ * lines from a socket, as the worker reads the stdout of a connector through socat, with reading
+ * them as length prefixed frames from the unix domain message socket. socat is approximated with a
+ * loopback tcp socket. Both sides parse records with the raw data {@link StreamingAirbyteStreamFactory}
+ * so that the difference is the transport. Frames encoded as Smile, which include encoding on the
+ * connector side, are compared as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MessageTransportBenchmark {
+
+  private static final int NUM_RECORDS = 10_000;
+
+  @Param({"5", "200"})
+  public int numColumns;
+
+  private String message;
+  private AirbyteMessage smileMessage;
+  private AirbyteMessageSmileSerializer<AirbyteMessage> smileSerializer;
+  private AirbyteMessageSmileDeserializer<AirbyteMessage> smileDeserializer;
+  private StreamingAirbyteStreamFactory streamFactory;
+  private ExecutorService writerExecutor;
+  private Path socketDir;
+  private ServerSocketChannel tcpServer;
+  private ServerSocketChannel unixServer;
+
+  @Setup
+  public void setup() throws IOException {
+    final ObjectNode data = (ObjectNode) Jsons.emptyObject();
+    for (int i = 0; i < numColumns; i++) {
+      data.put("column_" + i, "some string value " + i);
+    }
+    smileMessage = new AirbyteMessage()
+        .withType(AirbyteMessage.Type.RECORD)
+        .withRecord(new AirbyteRecordMessage()
+            .withStream("benchmark_stream")
+            .withEmittedAt(1_665_000_000_000L)
+            .withData(data));
+    message = Jsons.serialize(smileMessage);
+    smileSerializer = new AirbyteMessageSmileSerializer<>(new AirbyteVersion("0.3.0"));
+    smileDeserializer = new AirbyteMessageSmileDeserializer<>(new AirbyteVersion("0.3.0"), AirbyteMessage.class);
+
+    streamFactory = new StreamingAirbyteStreamFactory(MdcScope.DEFAULT_BUILDER, true);
+    writerExecutor = Executors.newSingleThreadExecutor();
+
+    tcpServer = ServerSocketChannel.open();
+    tcpServer.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+    socketDir = Files.createTempDirectory("message-transport");
+    unixServer = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+    unixServer.bind(UnixDomainSocketAddress.of(socketDir.resolve("messages.sock")));
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    writerExecutor.shutdownNow();
+    tcpServer.close();
+    unixServer.close();
+    Files.deleteIfExists(socketDir.resolve("messages.sock"));
+    Files.deleteIfExists(socketDir);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUM_RECORDS)
+  public long jsonLines() throws Exception {
+    final Future<?> writer = writerExecutor.submit(() -> {
+      try (final SocketChannel channel = SocketChannel.open(tcpServer.getLocalAddress());
+          final Writer out = new BufferedWriter(new OutputStreamWriter(Channels.newOutputStream(channel), StandardCharsets.UTF_8))) {
+        for (int i = 0; i < NUM_RECORDS; i++) {
+          out.write(message);
+          out.write(System.lineSeparator());
+        }
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+
+    try (final SocketChannel channel = tcpServer.accept()) {
+      final long count = streamFactory.create(IOs.newBufferedReader(Channels.newInputStream(channel))).count();
+      writer.get();
+      return count;
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUM_RECORDS)
+  public long framedMessages() throws Exception {
+    final Future<?> writer = writerExecutor.submit(() -> {
+      try (final FramedMessageWriter out = FramedMessageWriter.connect(socketDir.resolve("messages.sock"))) {
+        for (int i = 0; i < NUM_RECORDS; i++) {
+          out.write(message);
+        }
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+
+    try (final SocketChannel channel = unixServer.accept()) {
+      final long count = streamFactory.create(new FramedMessageReader(Channels.newInputStream(channel)).messages()).count();
+      writer.get();
+      return count;
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUM_RECORDS)
+  public long smileFramedMessages() throws Exception {
+    final Future<?> writer = writerExecutor.submit(() -> {
+      try (final FramedMessageWriter out = FramedMessageWriter.connect(socketDir.resolve("messages.sock"))) {
+        for (int i = 0; i < NUM_RECORDS; i++) {
+          out.write(smileSerializer.serialize(smileMessage));
+        }
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+
+    try (final SocketChannel channel = unixServer.accept()) {
+      final long count = streamFactory.create(new FramedMessageReader(Channels.newInputStream(channel)).frames(), smileDeserializer).count();
+      writer.get();
+      return count;
+    }
+  }
+
+}
@@ -6,14 +6,16 @@ package io.airbyte.workers;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.base.Preconditions;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.validation.json.JsonSchemaValidator;
-import io.airbyte.validation.json.JsonValidationException;
 import io.airbyte.workers.exception.RecordSchemaValidationException;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import org.apache.commons.lang3.mutable.MutableLong;
 
 /**
  * Validates that AirbyteRecordMessage data conforms to the JSON schema defined by the source's
@@ -22,55 +24,107 @@ import java.util.Set;
 
 public class RecordSchemaValidator {
 
-  private final Map<String, JsonNode> streams;
+  private final JsonSchemaValidator validator = new JsonSchemaValidator();
+  // validate 1 in sampleRate records of each stream
+  private final int sampleRate;
+  // stop validating a stream once this many of its records have been validated, 0 means no limit
+  private final long maxRecordsPerStream;
+  private final Map<String, MutableLong> streamToRecordsSeen = new HashMap<>();
+  private final Map<String, MutableLong> streamToRecordsValidated = new HashMap<>();
 
   public RecordSchemaValidator(final Map<String, JsonNode> streamNamesToSchemas) {
-    // streams is Map of a stream source namespace + name mapped to the stream schema
-    // for easy access when we check each record's schema
-    this.streams = streamNamesToSchemas;
+    this(streamNamesToSchemas, 1, 0);
+  }
+
+  /**
+   * @param sampleRate validate only 1 in sampleRate records of each stream. 1 validates every record,
+   *        0 disables validation.
+   * @param maxRecordsPerStream validate at most the first maxRecordsPerStream records of each stream.
+   *        0 means no limit.
+   */
+  public RecordSchemaValidator(final Map<String, JsonNode> streamNamesToSchemas, final int sampleRate, final long maxRecordsPerStream) {
+    Preconditions.checkArgument(sampleRate >= 0, "sample rate must not be negative");
+    Preconditions.checkArgument(maxRecordsPerStream >= 0, "max records per stream must not be negative");
+    this.sampleRate = sampleRate;
+    this.maxRecordsPerStream = maxRecordsPerStream;
+    if (!isEnabled()) {
+      return;
+    }
+    // streamNamesToSchemas is Map of a stream source namespace + name mapped to the stream schema.
+    // compile each stream schema once up front instead of once per record
+    streamNamesToSchemas.forEach((stream, schema) -> {
+      final JsonNode schemaCopy = schema.deepCopy();
+      // We must choose a JSON validator version for validating the schema
+      // Rather than allowing connectors to use any version, we enforce validation using V7
+      ((ObjectNode) schemaCopy).put("$schema", "http://json-schema.org/draft-07/schema#");
+      validator.initializeSchemaValidator(stream, schemaCopy);
+    });
   }
 
   /**
    * Takes an AirbyteRecordMessage and uses the JsonSchemaValidator to validate that its data conforms
-   * to the stream's schema If it does not, this method throws a RecordSchemaValidationException
+   * to the stream's schema If it does not, this method throws a RecordSchemaValidationException.
+   * Records skipped by sampling are not validated.
    *
    * @param message
    * @throws RecordSchemaValidationException
    */
   public void validateSchema(final AirbyteRecordMessage message, final String messageStream) throws RecordSchemaValidationException {
+    if (!shouldValidate(messageStream)) {
+      return;
+    }
+
     final JsonNode messageData = message.getData();
-    final JsonNode matchingSchema = streams.get(messageStream);
-
-    final JsonSchemaValidator validator = new JsonSchemaValidator();
-
-    // We must choose a JSON validator version for validating the schema
-    // Rather than allowing connectors to use any version, we enforce validation using V7
-    ((ObjectNode) matchingSchema).put("$schema", "http://json-schema.org/draft-07/schema#");
-
-    try {
-      validator.ensure(matchingSchema, messageData);
-    } catch (final JsonValidationException e) {
-      final List<String[]> invalidRecordDataAndType = validator.getValidationMessageArgs(matchingSchema, messageData);
-      final List<String> invalidFields = validator.getValidationMessagePaths(matchingSchema, messageData);
-
-      final Set<String> validationMessagesToDisplay = new HashSet<>();
-      for (int i = 0; i < invalidFields.size(); i++) {
-        final StringBuilder expectedType = new StringBuilder();
-        if (invalidRecordDataAndType.size() > i && invalidRecordDataAndType.get(i).length > 1) {
-          expectedType.append(invalidRecordDataAndType.get(i)[1]);
-        }
-        final StringBuilder newMessage = new StringBuilder();
-        newMessage.append(invalidFields.get(i));
-        newMessage.append(" is of an incorrect type.");
-        if (expectedType.length() > 0) {
-          newMessage.append(" Expected it to be " + expectedType);
-        }
-        validationMessagesToDisplay.add(newMessage.toString());
+    if (validator.testInitializedSchema(messageStream, messageData)) {
+      return;
+    }
+
+    final List<String[]> invalidRecordDataAndType = validator.getInitializedSchemaValidationMessageArgs(messageStream, messageData);
+    final List<String> invalidFields = validator.getInitializedSchemaValidationMessagePaths(messageStream, messageData);
+
+    final Set<String> validationMessagesToDisplay = new HashSet<>();
+    for (int i = 0; i < invalidFields.size(); i++) {
+      final StringBuilder expectedType = new StringBuilder();
+      if (invalidRecordDataAndType.size() > i && invalidRecordDataAndType.get(i).length > 1) {
+        expectedType.append(invalidRecordDataAndType.get(i)[1]);
+      }
+      final StringBuilder newMessage = new StringBuilder();
+      newMessage.append(invalidFields.get(i));
+      newMessage.append(" is of an incorrect type.");
+      if (expectedType.length() > 0) {
+        newMessage.append(" Expected it to be " + expectedType);
       }
+      validationMessagesToDisplay.add(newMessage.toString());
+    }
+
+    throw new RecordSchemaValidationException(validationMessagesToDisplay,
+        String.format("Record schema validation failed for %s", messageStream));
+  }
+
+  public boolean isEnabled() {
+    return sampleRate > 0;
+  }
+
+  private boolean shouldValidate(final String messageStream) {
+    if (!isEnabled()) {
+      return false;
+    }
+    if (sampleRate == 1 && maxRecordsPerStream == 0) {
+      return true;
+    }
+
+    final MutableLong recordsSeen = streamToRecordsSeen.computeIfAbsent(messageStream, k -> new MutableLong());
+    recordsSeen.increment();
+    if ((recordsSeen.longValue() - 1) % sampleRate != 0) {
+      return false;
+    }
 
-      throw new RecordSchemaValidationException(validationMessagesToDisplay,
-          String.format("Record schema validation failed for %s", messageStream), e);
+    final MutableLong recordsValidated = streamToRecordsValidated.computeIfAbsent(messageStream, k -> new MutableLong());
+    if (maxRecordsPerStream > 0 && recordsValidated.longValue() >= maxRecordsPerStream) {
+      return false;
     }
+    recordsValidated.increment();
+    return true;
   }
 
 }
@@ -12,6 +12,7 @@ public class WorkerConstants {
   public static final String SOURCE_CATALOG_JSON_FILENAME = "source_catalog.json";
   public static final String DESTINATION_CATALOG_JSON_FILENAME = "destination_catalog.json";
   public static final String INPUT_STATE_JSON_FILENAME = "input_state.json";
+  public static final String MESSAGE_SOCKET_FILENAME = "messages.sock";
 
   public static final String RESET_JOB_SOURCE_DOCKER_IMAGE_STUB = "airbyte_empty";
 
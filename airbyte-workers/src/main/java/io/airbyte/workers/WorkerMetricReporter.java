@@ -31,4 +31,15 @@ public class WorkerMetricReporter {
         new MetricAttribute("docker_version", dockerVersion));
   }
 
+  public void trackReplicationStageQueue(final String stage, final int maxDepth, final long producerBlockedMillis, final long consumerBlockedMillis) {
+    metricClient.gauge(OssMetricsRegistry.REPLICATION_STAGE_QUEUE_MAX_DEPTH, maxDepth, new MetricAttribute("docker_repo", dockerRepo),
+        new MetricAttribute("docker_version", dockerVersion), new MetricAttribute("stage", stage));
+    metricClient.distribution(OssMetricsRegistry.REPLICATION_STAGE_BLOCKED_TIME_MILLISECS, producerBlockedMillis,
+        new MetricAttribute("docker_repo", dockerRepo), new MetricAttribute("docker_version", dockerVersion), new MetricAttribute("stage", stage),
+        new MetricAttribute("side", "producer"));
+    metricClient.distribution(OssMetricsRegistry.REPLICATION_STAGE_BLOCKED_TIME_MILLISECS, consumerBlockedMillis,
+        new MetricAttribute("docker_repo", dockerRepo), new MetricAttribute("docker_version", dockerVersion), new MetricAttribute("stage", stage),
+        new MetricAttribute("side", "consumer"));
+  }
+
 }
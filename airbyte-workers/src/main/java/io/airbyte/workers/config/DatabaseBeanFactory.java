@@ -4,6 +4,7 @@
 
 package io.airbyte.workers.config;
 
+import io.airbyte.config.persistence.CachingConfigPersistence;
 import io.airbyte.config.persistence.ConfigPersistence;
 import io.airbyte.config.persistence.ConfigRepository;
 import io.airbyte.config.persistence.DatabaseConfigPersistence;
@@ -15,6 +16,7 @@ import io.airbyte.db.check.DatabaseMigrationCheck;
 import io.airbyte.db.check.impl.JobsDatabaseAvailabilityCheck;
 import io.airbyte.db.factory.DatabaseCheckFactory;
 import io.airbyte.db.instance.DatabaseConstants;
+import io.airbyte.metrics.lib.MetricClient;
 import io.airbyte.persistence.job.DefaultJobPersistence;
 import io.airbyte.persistence.job.JobPersistence;
 import io.micronaut.context.annotation.Factory;
@@ -24,6 +26,7 @@ import io.micronaut.flyway.FlywayConfigurationProperties;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.IOException;
+import java.time.Duration;
 import javax.sql.DataSource;
 import lombok.extern.slf4j.Slf4j;
 import org.flywaydb.core.Flyway;
@@ -90,8 +93,15 @@ public class DatabaseBeanFactory {
   @Singleton
   @Requires(env = WorkerMode.CONTROL_PLANE)
   public ConfigPersistence configPersistence(@Named("configDatabase") final Database configDatabase,
-                                             final JsonSecretsProcessor jsonSecretsProcessor) {
-    return DatabaseConfigPersistence.createWithValidation(configDatabase, jsonSecretsProcessor);
+                                             final JsonSecretsProcessor jsonSecretsProcessor,
+                                             final MetricClient metricClient,
+                                             @Value("${airbyte.config.cache.maximum-size}") final Long cacheMaximumSize,
+                                             @Value("${airbyte.config.cache.ttl-seconds}") final Long cacheTtlSeconds) {
+    final ConfigPersistence configPersistence = DatabaseConfigPersistence.createWithValidation(configDatabase, jsonSecretsProcessor);
+    if (cacheMaximumSize <= 0) {
+      return configPersistence;
+    }
+    return new CachingConfigPersistence(configPersistence, cacheMaximumSize, Duration.ofSeconds(cacheTtlSeconds), metricClient);
   }
 
   @Singleton
@@ -4,6 +4,7 @@
 
 package io.airbyte.workers.general;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.airbyte.commons.io.LineGobbler;
 import io.airbyte.config.FailureReason;
@@ -26,6 +27,7 @@ import io.airbyte.workers.helper.FailureHelper;
 import io.airbyte.workers.internal.AirbyteDestination;
 import io.airbyte.workers.internal.AirbyteMapper;
 import io.airbyte.workers.internal.AirbyteSource;
+import io.airbyte.workers.internal.FanOutAirbyteDestination;
 import io.airbyte.workers.internal.MessageTracker;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -35,11 +37,15 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.io.FileUtils;
@@ -55,6 +61,7 @@ import org.slf4j.MDC;
  * <ul>
  * <li>Starting the Source and Destination containers</li>
  * <li>Passing data from Source to Destination</li>
+ * <li>Optionally passing the same data to several Destinations from a single Source read</li>
  * <li>Executing any configured map-only operations (Mappers) in between the Source and
  * Destination</li>
  * <li>Collecting metadata about the data that is passing from Source to Destination</li>
@@ -70,6 +77,9 @@ public class DefaultReplicationWorker implements ReplicationWorker {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DefaultReplicationWorker.class);
 
+  // capacity of each queue between two stages of the pipelined replication runnable
+  private static final int PIPELINE_QUEUE_CAPACITY = 1000;
+
   private final String jobId;
   private final int attempt;
   private final AirbyteSource source;
@@ -82,6 +92,7 @@ public class DefaultReplicationWorker implements ReplicationWorker {
   private final AtomicBoolean hasFailed;
   private final RecordSchemaValidator recordSchemaValidator;
   private final WorkerMetricReporter metricReporter;
+  private final boolean usePipelinedReplication;
 
   public DefaultReplicationWorker(final String jobId,
                                   final int attempt,
@@ -91,6 +102,23 @@ public class DefaultReplicationWorker implements ReplicationWorker {
                                   final MessageTracker messageTracker,
                                   final RecordSchemaValidator recordSchemaValidator,
                                   final WorkerMetricReporter metricReporter) {
+    this(jobId, attempt, source, mapper, destination, messageTracker, recordSchemaValidator, metricReporter, false);
+  }
+
+  /**
+   * @param usePipelinedReplication if true, reading, schema validation, mapping, tracking and writing
+   *        of source messages each run on their own thread connected by bounded queues instead of
+   *        all running on a single replication thread. Message order is the same in both modes.
+   */
+  public DefaultReplicationWorker(final String jobId,
+                                  final int attempt,
+                                  final AirbyteSource source,
+                                  final AirbyteMapper mapper,
+                                  final AirbyteDestination destination,
+                                  final MessageTracker messageTracker,
+                                  final RecordSchemaValidator recordSchemaValidator,
+                                  final WorkerMetricReporter metricReporter,
+                                  final boolean usePipelinedReplication) {
     this.jobId = jobId;
     this.attempt = attempt;
     this.source = source;
@@ -100,11 +128,34 @@ public class DefaultReplicationWorker implements ReplicationWorker {
     this.executors = Executors.newFixedThreadPool(2);
     this.recordSchemaValidator = recordSchemaValidator;
     this.metricReporter = metricReporter;
+    this.usePipelinedReplication = usePipelinedReplication;
 
     this.cancelled = new AtomicBoolean(false);
     this.hasFailed = new AtomicBoolean(false);
   }
 
+  /**
+   * Replicates a single read of the source to several destinations, each started with its own
+   * connection configuration. A state is only reported once every destination has committed it, see
+   * {@link FanOutAirbyteDestination}.
+   * <p>
+   * Not used by the replication activity yet, which still syncs each connection to its single
+   * destination.
+   */
+  public DefaultReplicationWorker(final String jobId,
+                                  final int attempt,
+                                  final AirbyteSource source,
+                                  final AirbyteMapper mapper,
+                                  final List<AirbyteDestination> destinations,
+                                  final List<JsonNode> destinationConfigurations,
+                                  final MessageTracker messageTracker,
+                                  final RecordSchemaValidator recordSchemaValidator,
+                                  final WorkerMetricReporter metricReporter,
+                                  final boolean usePipelinedReplication) {
+    this(jobId, attempt, source, mapper, new FanOutAirbyteDestination(destinations, destinationConfigurations), messageTracker,
+        recordSchemaValidator, metricReporter, usePipelinedReplication);
+  }
+
   /**
    * Run executes two threads. The first pipes data from STDOUT of the source to STDIN of the
    * destination. The second listen on STDOUT of the destination. The goal of this second thread is to
@@ -160,9 +211,10 @@ public class DefaultReplicationWorker implements ReplicationWorker {
               }
             });
 
-        final CompletableFuture<?> replicationThreadFuture = CompletableFuture.runAsync(
-            getReplicationRunnable(source, destination, cancelled, mapper, messageTracker, mdc, recordSchemaValidator, metricReporter),
-            executors).whenComplete((msg, ex) -> {
+        final Runnable replicationRunnable = usePipelinedReplication
+            ? getPipelinedReplicationRunnable(source, destination, cancelled, mapper, messageTracker, mdc, recordSchemaValidator, metricReporter)
+            : getReplicationRunnable(source, destination, cancelled, mapper, messageTracker, mdc, recordSchemaValidator, metricReporter);
+        final CompletableFuture<?> replicationThreadFuture = CompletableFuture.runAsync(replicationRunnable, executors).whenComplete((msg, ex) -> {
               if (ex != null) {
                 if (ex.getCause() instanceof SourceException) {
                   replicationRunnableFailureRef.set(FailureHelper.sourceFailure(ex, Long.valueOf(jobId), attempt));
@@ -395,6 +447,191 @@ public class DefaultReplicationWorker implements ReplicationWorker {
     };
   }
 
+  /**
+   * Same contract as {@link #getReplicationRunnable}, but splits the work on each source message into
+   * stages that run on separate threads: read, schema validation, mapping, tracking and writing to
+   * the destination. Stages are connected by bounded {@link ReplicationStageQueue}s with a single
+   * producer and consumer each, so records and state messages reach the destination in the order the
+   * source emitted them. The write stage runs on the calling thread.
+   */
+  @SuppressWarnings("PMD.AvoidInstanceofChecksInCatchClause")
+  private static Runnable getPipelinedReplicationRunnable(final AirbyteSource source,
+                                                          final AirbyteDestination destination,
+                                                          final AtomicBoolean cancelled,
+                                                          final AirbyteMapper mapper,
+                                                          final MessageTracker messageTracker,
+                                                          final Map<String, String> mdc,
+                                                          final RecordSchemaValidator recordSchemaValidator,
+                                                          final WorkerMetricReporter metricReporter) {
+    return () -> {
+      MDC.setContextMap(mdc);
+      LOGGER.info("Pipelined replication thread started.");
+      final Map<String, ImmutablePair<Set<String>, Integer>> validationErrors = new HashMap<>();
+      final ReplicationStageQueue readQueue = new ReplicationStageQueue("read", PIPELINE_QUEUE_CAPACITY);
+      final ReplicationStageQueue validateQueue = new ReplicationStageQueue("validate", PIPELINE_QUEUE_CAPACITY);
+      final ReplicationStageQueue mapQueue = new ReplicationStageQueue("map", PIPELINE_QUEUE_CAPACITY);
+      final ReplicationStageQueue trackQueue = new ReplicationStageQueue("track", PIPELINE_QUEUE_CAPACITY);
+      final List<ReplicationStageQueue> queues = List.of(readQueue, validateQueue, mapQueue, trackQueue);
+
+      final AtomicBoolean stageFailed = new AtomicBoolean(false);
+      final BooleanSupplier isAborted = () -> cancelled.get() || stageFailed.get();
+      final ExecutorService stageExecutors = Executors.newFixedThreadPool(queues.size());
+      final AtomicLong recordsRead = new AtomicLong();
+
+      try {
+        final List<CompletableFuture<?>> stageFutures = Stream.of(
+            getReadStageRunnable(source, readQueue, isAborted),
+            getPipelineStageRunnable(readQueue, validateQueue, isAborted, message -> {
+              validateSchema(recordSchemaValidator, validationErrors, message);
+              return message;
+            }),
+            getPipelineStageRunnable(validateQueue, mapQueue, isAborted, mapper::mapMessage),
+            getPipelineStageRunnable(mapQueue, trackQueue, isAborted, message -> {
+              messageTracker.acceptFromSource(message);
+              if (recordsRead.incrementAndGet() % 1000 == 0) {
+                LOGGER.info("Records read: {} ({})", recordsRead.get(), FileUtils.byteCountToDisplaySize(messageTracker.getTotalBytesEmitted()));
+              }
+              return message.getType() == Type.RECORD || message.getType() == Type.STATE ? message : null;
+            }))
+            .map(stage -> CompletableFuture.runAsync(() -> {
+              MDC.setContextMap(mdc);
+              stage.run();
+            }, stageExecutors).whenComplete((msg, ex) -> {
+              if (ex != null) {
+                stageFailed.set(true);
+              }
+            }))
+            .collect(Collectors.toList());
+
+        try {
+          AirbyteMessage message;
+          while ((message = trackQueue.take(isAborted)) != null && message != ReplicationStageQueue.END_OF_STREAM) {
+            try {
+              destination.accept(message);
+            } catch (final Exception e) {
+              throw new DestinationException("Destination process message delivery failed", e);
+            }
+          }
+        } catch (final Exception e) {
+          stageFailed.set(true);
+          throw e;
+        }
+
+        // surface the failure of the earliest failed stage, the same way the single threaded runnable
+        // would have thrown it.
+        for (final CompletableFuture<?> stageFuture : stageFutures) {
+          try {
+            stageFuture.get();
+          } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+              throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+          }
+        }
+        // when cancelled, the stages stop early but the destination is still notified, as in the
+        // sequential runnable, so that its stdin is closed.
+
+        LOGGER.info("Total records read: {} ({})", recordsRead.get(), FileUtils.byteCountToDisplaySize(messageTracker.getTotalBytesEmitted()));
+        if (!validationErrors.isEmpty()) {
+          validationErrors.forEach((stream, errorPair) -> {
+            LOGGER.warn("Schema validation errors found for stream {}. Error messages: {}", stream, errorPair.getLeft());
+            metricReporter.trackSchemaValidationError(stream);
+          });
+        }
+
+        try {
+          destination.notifyEndOfInput();
+        } catch (final Exception e) {
+          throw new DestinationException("Destination process end of stream notification failed", e);
+        }
+        if (!cancelled.get() && source.getExitValue() != 0) {
+          throw new SourceException("Source process exited with non-zero exit code " + source.getExitValue());
+        }
+      } catch (final Exception e) {
+        if (!cancelled.get()) {
+          if (e instanceof SourceException || e instanceof DestinationException) {
+            throw (RuntimeException) e;
+          } else {
+            throw new RuntimeException(e);
+          }
+        }
+      } finally {
+        stageExecutors.shutdownNow();
+        queues.forEach(queue -> {
+          LOGGER.info("Replication stage '{}' queue: max depth {}, producer blocked {} ms, consumer blocked {} ms",
+              queue.getName(), queue.getMaxDepth(), queue.getProducerBlockedMillis(), queue.getConsumerBlockedMillis());
+          metricReporter.trackReplicationStageQueue(queue.getName(), queue.getMaxDepth(), queue.getProducerBlockedMillis(),
+              queue.getConsumerBlockedMillis());
+        });
+      }
+    };
+  }
+
+  private static Runnable getReadStageRunnable(final AirbyteSource source,
+                                               final ReplicationStageQueue output,
+                                               final BooleanSupplier isAborted) {
+    return () -> {
+      try {
+        while (!isAborted.getAsBoolean() && !source.isFinished()) {
+          final Optional<AirbyteMessage> messageOptional;
+          try {
+            messageOptional = source.attemptRead();
+          } catch (final Exception e) {
+            throw new SourceException("Source process read attempt failed", e);
+          }
+
+          if (messageOptional.isPresent()) {
+            if (!output.put(messageOptional.get(), isAborted)) {
+              return;
+            }
+          } else {
+            LOGGER.info("Source has no more messages, closing connection.");
+            try {
+              source.close();
+            } catch (final Exception e) {
+              throw new SourceException("Source cannot be stopped!", e);
+            }
+          }
+        }
+        if (!isAborted.getAsBoolean()) {
+          output.put(ReplicationStageQueue.END_OF_STREAM, isAborted);
+        }
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException(e);
+      }
+    };
+  }
+
+  /**
+   * @param transform applied to every message taken from the input queue. The message is dropped if
+   *        it returns null.
+   */
+  private static Runnable getPipelineStageRunnable(final ReplicationStageQueue input,
+                                                   final ReplicationStageQueue output,
+                                                   final BooleanSupplier isAborted,
+                                                   final UnaryOperator<AirbyteMessage> transform) {
+    return () -> {
+      try {
+        AirbyteMessage message;
+        while ((message = input.take(isAborted)) != null) {
+          if (message == ReplicationStageQueue.END_OF_STREAM) {
+            output.put(message, isAborted);
+            return;
+          }
+          final AirbyteMessage transformed = transform.apply(message);
+          if (transformed != null && !output.put(transformed, isAborted)) {
+            return;
+          }
+        }
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException(e);
+      }
+    };
+  }
+
   private static void validateSchema(final RecordSchemaValidator recordSchemaValidator,
                                      final Map<String, ImmutablePair<Set<String>, Integer>> validationErrors,
                                      final AirbyteMessage message) {
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.general;
+
+import io.airbyte.protocol.models.AirbyteMessage;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Bounded hand-off queue between two stages of the pipelined replication runnable. Each queue has
+ * exactly one producer and one consumer thread, so FIFO order of the messages is preserved across
+ * the pipeline.
+ *
+ * Besides moving messages, the queue records how deep it got and how long each side spent blocked
+ * on it, which tells us which stage is the bottleneck of a sync.
+ */
+class ReplicationStageQueue {
+
+  /**
+   * Marker put on the queue by the producer once it has no more messages. Compared by identity.
+   */
+  static final AirbyteMessage END_OF_STREAM = new AirbyteMessage();
+
+  private static final long POLL_TIMEOUT_MILLIS = 100;
+
+  private final String name;
+  private final BlockingQueue<AirbyteMessage> queue;
+  private final AtomicInteger maxDepth = new AtomicInteger();
+  private final AtomicLong producerBlockedNanos = new AtomicLong();
+  private final AtomicLong consumerBlockedNanos = new AtomicLong();
+
+  ReplicationStageQueue(final String name, final int capacity) {
+    this.name = name;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+  }
+
+  /**
+   * Hands a message to the next stage, blocking while the queue is full.
+   *
+   * @param message to enqueue
+   * @param isAborted checked while blocked so that a failed or cancelled pipeline does not hang
+   * @return true if the message was enqueued, false if the pipeline was aborted while waiting
+   */
+  boolean put(final AirbyteMessage message, final BooleanSupplier isAborted) throws InterruptedException {
+    if (!queue.offer(message)) {
+      final long start = System.nanoTime();
+      try {
+        while (!queue.offer(message, POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+          if (isAborted.getAsBoolean()) {
+            return false;
+          }
+        }
+      } finally {
+        producerBlockedNanos.addAndGet(System.nanoTime() - start);
+      }
+    }
+    maxDepth.accumulateAndGet(queue.size(), Math::max);
+    return true;
+  }
+
+  /**
+   * Takes the next message from the previous stage, blocking while the queue is empty.
+   *
+   * @param isAborted checked while blocked so that a failed or cancelled pipeline does not hang
+   * @return the next message, or null if the pipeline was aborted while waiting
+   */
+  AirbyteMessage take(final BooleanSupplier isAborted) throws InterruptedException {
+    AirbyteMessage message = queue.poll();
+    if (message == null) {
+      final long start = System.nanoTime();
+      try {
+        while ((message = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) == null) {
+          if (isAborted.getAsBoolean()) {
+            return null;
+          }
+        }
+      } finally {
+        consumerBlockedNanos.addAndGet(System.nanoTime() - start);
+      }
+    }
+    return message;
+  }
+
+  String getName() {
+    return name;
+  }
+
+  int getMaxDepth() {
+    return maxDepth.get();
+  }
+
+  long getProducerBlockedMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(producerBlockedNanos.get());
+  }
+
+  long getConsumerBlockedMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(consumerBlockedNanos.get());
+  }
+
+}
@@ -4,6 +4,9 @@
 
 package io.airbyte.workers.internal;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.POJONode;
+import com.fasterxml.jackson.databind.util.RawValue;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Charsets;
 import com.google.common.collect.BiMap;
@@ -25,7 +28,6 @@ import io.airbyte.workers.internal.state_aggregator.DefaultStateAggregator;
 import io.airbyte.workers.internal.state_aggregator.StateAggregator;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -41,11 +43,11 @@ public class AirbyteMessageTracker implements MessageTracker {
 
   private final AtomicReference<State> sourceOutputState;
   private final AtomicReference<State> destinationOutputState;
-  private final Map<Short, Long> streamToRunningCount;
+  private final StreamIndexedCounter streamToRunningCount;
   private final HashFunction hashFunction;
   private final BiMap<String, Short> streamNameToIndex;
-  private final Map<Short, Long> streamToTotalBytesEmitted;
-  private final Map<Short, Long> streamToTotalRecordsEmitted;
+  private final StreamIndexedCounter streamToTotalBytesEmitted;
+  private final StreamIndexedCounter streamToTotalRecordsEmitted;
   private final StateDeltaTracker stateDeltaTracker;
   private final StateMetricsTracker stateMetricsTracker;
   private final List<AirbyteTraceMessage> destinationErrorTraceMessages;
@@ -83,11 +85,11 @@ public class AirbyteMessageTracker implements MessageTracker {
                                   final StateMetricsTracker stateMetricsTracker) {
     this.sourceOutputState = new AtomicReference<>();
     this.destinationOutputState = new AtomicReference<>();
-    this.streamToRunningCount = new HashMap<>();
+    this.streamToRunningCount = new StreamIndexedCounter();
     this.streamNameToIndex = HashBiMap.create();
     this.hashFunction = Hashing.murmur3_32_fixed();
-    this.streamToTotalBytesEmitted = new HashMap<>();
-    this.streamToTotalRecordsEmitted = new HashMap<>();
+    this.streamToTotalBytesEmitted = new StreamIndexedCounter();
+    this.streamToTotalRecordsEmitted = new StreamIndexedCounter();
     this.stateDeltaTracker = stateDeltaTracker;
     this.stateMetricsTracker = stateMetricsTracker;
     this.nextStreamIndex = 0;
@@ -132,15 +134,28 @@ public class AirbyteMessageTracker implements MessageTracker {
 
     final short streamIndex = getStreamIndex(recordMessage.getStream());
 
-    final long currentRunningCount = streamToRunningCount.getOrDefault(streamIndex, 0L);
-    streamToRunningCount.put(streamIndex, currentRunningCount + 1);
-
-    final long currentTotalCount = streamToTotalRecordsEmitted.getOrDefault(streamIndex, 0L);
-    streamToTotalRecordsEmitted.put(streamIndex, currentTotalCount + 1);
+    streamToRunningCount.add(streamIndex, 1);
+    streamToTotalRecordsEmitted.add(streamIndex, 1);
+    streamToTotalBytesEmitted.add(streamIndex, getEstimatedByteSize(recordMessage.getData()));
+  }
 
-    final int estimatedNumBytes = Jsons.getEstimatedByteSize(recordMessage.getData());
-    final long currentTotalStreamBytes = streamToTotalBytesEmitted.getOrDefault(streamIndex, 0L);
-    streamToTotalBytesEmitted.put(streamIndex, currentTotalStreamBytes + estimatedNumBytes);
+  /**
+   * Same estimate as {@link Jsons#getEstimatedByteSize(JsonNode)}, but reuses the length of the json
+   * text the {@link StreamingAirbyteStreamFactory} read the data from when it is known, instead of
+   * serializing the data again.
+   */
+  @VisibleForTesting
+  static long getEstimatedByteSize(final JsonNode data) {
+    if (data instanceof SizedObjectNode && ((SizedObjectNode) data).getSerializedSize() != SizedObjectNode.UNKNOWN_SIZE) {
+      return ((SizedObjectNode) data).getSerializedSize();
+    }
+    if (data instanceof POJONode && ((POJONode) data).getPojo() instanceof RawValue) {
+      final Object rawJson = ((RawValue) ((POJONode) data).getPojo()).rawValue();
+      if (rawJson instanceof String) {
+        return ((String) rawJson).length();
+      }
+    }
+    return Jsons.getEstimatedByteSize(data);
   }
 
   /**
@@ -159,7 +174,7 @@ public class AirbyteMessageTracker implements MessageTracker {
 
     try {
       if (!unreliableCommittedCounts) {
-        stateDeltaTracker.addState(stateHash, streamToRunningCount);
+        stateDeltaTracker.addState(stateHash, streamToRunningCount.toMap());
       }
       if (!unreliableStateTimingMetrics) {
         stateMetricsTracker.addState(stateMessage, stateHash, timeEmittedStateMessage);
@@ -231,11 +246,13 @@ public class AirbyteMessageTracker implements MessageTracker {
   }
 
   private short getStreamIndex(final String streamName) {
-    if (!streamNameToIndex.containsKey(streamName)) {
-      streamNameToIndex.put(streamName, nextStreamIndex);
-      nextStreamIndex++;
+    final Short streamIndex = streamNameToIndex.get(streamName);
+    if (streamIndex != null) {
+      return streamIndex;
     }
-    return streamNameToIndex.get(streamName);
+    final short newStreamIndex = nextStreamIndex++;
+    streamNameToIndex.put(streamName, newStreamIndex);
+    return newStreamIndex;
   }
 
   private int getStateHashCode(final AirbyteStateMessage stateMessage) {
@@ -325,7 +342,7 @@ public class AirbyteMessageTracker implements MessageTracker {
    */
   @Override
   public Map<String, Long> getStreamToEmittedRecords() {
-    return streamToTotalRecordsEmitted.entrySet().stream().collect(Collectors.toMap(
+    return streamToTotalRecordsEmitted.toMap().entrySet().stream().collect(Collectors.toMap(
         entry -> streamNameToIndex.inverse().get(entry.getKey()),
         Map.Entry::getValue));
   }
@@ -335,7 +352,7 @@ public class AirbyteMessageTracker implements MessageTracker {
    */
   @Override
   public Map<String, Long> getStreamToEmittedBytes() {
-    return streamToTotalBytesEmitted.entrySet().stream().collect(Collectors.toMap(
+    return streamToTotalBytesEmitted.toMap().entrySet().stream().collect(Collectors.toMap(
         entry -> streamNameToIndex.inverse().get(entry.getKey()),
         Map.Entry::getValue));
   }
@@ -345,7 +362,7 @@ public class AirbyteMessageTracker implements MessageTracker {
    */
   @Override
   public long getTotalRecordsEmitted() {
-    return streamToTotalRecordsEmitted.values().stream().reduce(0L, Long::sum);
+    return streamToTotalRecordsEmitted.sum();
   }
 
   /**
@@ -353,7 +370,7 @@ public class AirbyteMessageTracker implements MessageTracker {
    */
   @Override
   public long getTotalBytesEmitted() {
-    return streamToTotalBytesEmitted.values().stream().reduce(0L, Long::sum);
+    return streamToTotalBytesEmitted.sum();
   }
 
   /**
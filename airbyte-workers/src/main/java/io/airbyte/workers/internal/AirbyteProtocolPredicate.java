@@ -15,17 +15,19 @@ import java.util.function.Predicate;
  */
 public class AirbyteProtocolPredicate implements Predicate<JsonNode> {
 
+  private static final String PROTOCOL_SCHEMA_NAME = "protocol schema";
   private final JsonSchemaValidator jsonSchemaValidator;
-  private final JsonNode schema;
 
   public AirbyteProtocolPredicate() {
     jsonSchemaValidator = new JsonSchemaValidator();
-    schema = JsonSchemaValidator.getSchema(AirbyteProtocolSchema.PROTOCOL.getFile(), "AirbyteMessage");
+    final JsonNode schema = JsonSchemaValidator.getSchema(AirbyteProtocolSchema.PROTOCOL.getFile(), "AirbyteMessage");
+    // compile the schema once instead of on every message
+    jsonSchemaValidator.initializeSchemaValidator(PROTOCOL_SCHEMA_NAME, schema);
   }
 
   @Override
   public boolean test(final JsonNode s) {
-    return jsonSchemaValidator.test(schema, s);
+    return jsonSchemaValidator.testInitializedSchema(PROTOCOL_SCHEMA_NAME, s);
   }
 
 }
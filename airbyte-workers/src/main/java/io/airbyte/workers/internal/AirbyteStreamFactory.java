@@ -4,12 +4,29 @@
 
 package io.airbyte.workers.internal;
 
+import io.airbyte.commons.protocol.serde.AirbyteMessageBinaryDeserializer;
 import io.airbyte.protocol.models.AirbyteMessage;
 import java.io.BufferedReader;
+import java.io.StringReader;
 import java.util.stream.Stream;
 
 public interface AirbyteStreamFactory {
 
   Stream<AirbyteMessage> create(BufferedReader bufferedReader);
 
+  /**
+   * Creates a stream from messages that were already split, e.g. read as frames from a socket
+   * instead of as lines from stdout.
+   */
+  default Stream<AirbyteMessage> create(final Stream<String> messages) {
+    return messages.flatMap(message -> create(new BufferedReader(new StringReader(message))));
+  }
+
+  /**
+   * Creates a stream from messages that were encoded in a binary format, read as frames.
+   */
+  default Stream<AirbyteMessage> create(final Stream<byte[]> frames, final AirbyteMessageBinaryDeserializer<AirbyteMessage> deserializer) {
+    return frames.map(deserializer::deserialize);
+  }
+
 }
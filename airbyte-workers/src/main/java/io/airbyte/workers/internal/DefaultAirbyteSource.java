@@ -6,6 +6,7 @@ package io.airbyte.workers.internal;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Streams;
 import io.airbyte.commons.features.EnvVariableFeatureFlags;
 import io.airbyte.commons.io.IOs;
 import io.airbyte.commons.io.LineGobbler;
@@ -13,6 +14,9 @@ import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.logging.LoggingHelper.Color;
 import io.airbyte.commons.logging.MdcScope;
 import io.airbyte.commons.logging.MdcScope.Builder;
+import io.airbyte.commons.protocol.serde.AirbyteMessageBinaryDeserializer;
+import io.airbyte.commons.protocol.serde.AirbyteMessageSmileDeserializer;
+import io.airbyte.commons.version.AirbyteVersion;
 import io.airbyte.config.WorkerSourceConfig;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteMessage.Type;
@@ -20,12 +24,20 @@ import io.airbyte.workers.WorkerConstants;
 import io.airbyte.workers.WorkerUtils;
 import io.airbyte.workers.exception.WorkerException;
 import io.airbyte.workers.process.IntegrationLauncher;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,6 +47,7 @@ public class DefaultAirbyteSource implements AirbyteSource {
 
   private static final Duration HEARTBEAT_FRESH_DURATION = Duration.of(5, ChronoUnit.MINUTES);
   private static final Duration GRACEFUL_SHUTDOWN_DURATION = Duration.of(1, ChronoUnit.MINUTES);
+  private static final AirbyteVersion MESSAGE_VERSION = new AirbyteVersion("0.3.0");
 
   private static final MdcScope.Builder CONTAINER_LOG_MDC_BUILDER = new Builder()
       .setLogPrefix("source")
@@ -43,43 +56,108 @@ public class DefaultAirbyteSource implements AirbyteSource {
   private final IntegrationLauncher integrationLauncher;
   private final AirbyteStreamFactory streamFactory;
   private final HeartbeatMonitor heartbeatMonitor;
+  private final boolean useMessageSocket;
+  private final AirbyteMessageBinaryDeserializer<AirbyteMessage> binaryDeserializer;
 
   private Process sourceProcess = null;
   private Iterator<AirbyteMessage> messageIterator = null;
+  private MessageSocketIterator messageSocketIterator = null;
   private Integer exitValue = null;
   private final boolean logConnectorMessages = new EnvVariableFeatureFlags().logConnectorMessages();
 
   public DefaultAirbyteSource(final IntegrationLauncher integrationLauncher) {
-    this(integrationLauncher, new DefaultAirbyteStreamFactory(CONTAINER_LOG_MDC_BUILDER),
-        new HeartbeatMonitor(HEARTBEAT_FRESH_DURATION));
+    this(integrationLauncher, false);
+  }
+
+  /**
+   * @param recordPassthrough if true, record data is kept as the raw json the source emitted and is
+   *        written to the destination as is. Only use this if nothing in the sync needs to read or
+   *        change record data.
+   */
+  public DefaultAirbyteSource(final IntegrationLauncher integrationLauncher, final boolean recordPassthrough) {
+    this(integrationLauncher, recordPassthrough, false);
+  }
+
+  /**
+   * @param useMessageSocket if true, the source is asked to send its messages as frames through a
+   *        unix domain socket in the job root instead of as json lines on stdout. Sources that do not
+   *        connect to it are still read from stdout.
+   */
+  public DefaultAirbyteSource(final IntegrationLauncher integrationLauncher, final boolean recordPassthrough, final boolean useMessageSocket) {
+    this(integrationLauncher, recordPassthrough, useMessageSocket, false);
+  }
+
+  /**
+   * @param useBinaryMessageFormat if true, the source is offered to send its messages through the
+   *        message socket as Smile instead of json, which is cheaper to decode. Only used with
+   *        useMessageSocket.
+   */
+  public DefaultAirbyteSource(final IntegrationLauncher integrationLauncher,
+                              final boolean recordPassthrough,
+                              final boolean useMessageSocket,
+                              final boolean useBinaryMessageFormat) {
+    this(integrationLauncher, new StreamingAirbyteStreamFactory(CONTAINER_LOG_MDC_BUILDER, recordPassthrough),
+        new HeartbeatMonitor(HEARTBEAT_FRESH_DURATION), useMessageSocket,
+        useBinaryMessageFormat ? new AirbyteMessageSmileDeserializer<>(MESSAGE_VERSION, AirbyteMessage.class) : null);
   }
 
   @VisibleForTesting
   DefaultAirbyteSource(final IntegrationLauncher integrationLauncher,
                        final AirbyteStreamFactory streamFactory,
                        final HeartbeatMonitor heartbeatMonitor) {
+    this(integrationLauncher, streamFactory, heartbeatMonitor, false, null);
+  }
+
+  @VisibleForTesting
+  DefaultAirbyteSource(final IntegrationLauncher integrationLauncher,
+                       final AirbyteStreamFactory streamFactory,
+                       final HeartbeatMonitor heartbeatMonitor,
+                       final boolean useMessageSocket,
+                       final AirbyteMessageBinaryDeserializer<AirbyteMessage> binaryDeserializer) {
     this.integrationLauncher = integrationLauncher;
     this.streamFactory = streamFactory;
     this.heartbeatMonitor = heartbeatMonitor;
+    this.useMessageSocket = useMessageSocket;
+    this.binaryDeserializer = binaryDeserializer;
   }
 
   @Override
   public void start(final WorkerSourceConfig sourceConfig, final Path jobRoot) throws Exception {
     Preconditions.checkState(sourceProcess == null);
 
-    sourceProcess = integrationLauncher.read(jobRoot,
-        WorkerConstants.SOURCE_CONFIG_JSON_FILENAME,
-        Jsons.serialize(sourceConfig.getSourceConnectionConfiguration()),
-        WorkerConstants.SOURCE_CATALOG_JSON_FILENAME,
-        Jsons.serialize(sourceConfig.getCatalog()),
-        sourceConfig.getState() == null ? null : WorkerConstants.INPUT_STATE_JSON_FILENAME,
-        sourceConfig.getState() == null ? null : Jsons.serialize(sourceConfig.getState().getState()));
+    // the socket has to be listening before the source starts, as it connects right away.
+    final ServerSocketChannel messageSocket = useMessageSocket ? bindMessageSocket(jobRoot) : null;
+    final String configContents = Jsons.serialize(sourceConfig.getSourceConnectionConfiguration());
+    final String catalogContents = Jsons.serialize(sourceConfig.getCatalog());
+    final String stateFilename = sourceConfig.getState() == null ? null : WorkerConstants.INPUT_STATE_JSON_FILENAME;
+    final String stateContents = sourceConfig.getState() == null ? null : Jsons.serialize(sourceConfig.getState().getState());
+    if (messageSocket == null) {
+      sourceProcess = integrationLauncher.read(jobRoot,
+          WorkerConstants.SOURCE_CONFIG_JSON_FILENAME, configContents,
+          WorkerConstants.SOURCE_CATALOG_JSON_FILENAME, catalogContents,
+          stateFilename, stateContents);
+    } else {
+      sourceProcess = integrationLauncher.read(jobRoot,
+          WorkerConstants.SOURCE_CONFIG_JSON_FILENAME, configContents,
+          WorkerConstants.SOURCE_CATALOG_JSON_FILENAME, catalogContents,
+          stateFilename, stateContents,
+          WorkerConstants.MESSAGE_SOCKET_FILENAME,
+          binaryDeserializer == null ? List.of() : List.of(binaryDeserializer.getFormat()));
+    }
     // stdout logs are logged elsewhere since stdout also contains data
     LineGobbler.gobble(sourceProcess.getErrorStream(), LOGGER::error, "airbyte-source", CONTAINER_LOG_MDC_BUILDER);
 
     logInitialStateAsJSON(sourceConfig);
 
-    messageIterator = streamFactory.create(IOs.newBufferedReader(sourceProcess.getInputStream()))
+    final BufferedReader stdout = IOs.newBufferedReader(sourceProcess.getInputStream());
+    final Stream<AirbyteMessage> messages;
+    if (messageSocket == null) {
+      messages = streamFactory.create(stdout);
+    } else {
+      messageSocketIterator = new MessageSocketIterator(messageSocket, streamFactory, binaryDeserializer, stdout);
+      messages = Streams.stream(messageSocketIterator);
+    }
+    messageIterator = messages
         .peek(message -> heartbeatMonitor.beat())
         .filter(message -> message.getType() == Type.RECORD || message.getType() == Type.STATE || message.getType() == Type.TRACE)
         .iterator();
@@ -129,6 +207,7 @@ public class DefaultAirbyteSource implements AirbyteSource {
         sourceProcess,
         GRACEFUL_SHUTDOWN_DURATION.toMillis(),
         TimeUnit.MILLISECONDS);
+    closeMessageSocket();
 
     if (sourceProcess.isAlive() || getExitValue() != 0) {
       final String message = sourceProcess.isAlive() ? "Source has not terminated " : "Source process exit with code " + getExitValue();
@@ -147,6 +226,35 @@ public class DefaultAirbyteSource implements AirbyteSource {
       WorkerUtils.cancelProcess(sourceProcess);
       LOGGER.info("Cancelled source process!");
     }
+    closeMessageSocket();
+  }
+
+  /**
+   * @return a socket listening in the job root, or null if it cannot be bound, in which case the
+   *         source is only read from stdout.
+   */
+  private static ServerSocketChannel bindMessageSocket(final Path jobRoot) {
+    final Path socketPath = jobRoot.resolve(WorkerConstants.MESSAGE_SOCKET_FILENAME);
+    try {
+      Files.deleteIfExists(socketPath);
+      final ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+      try {
+        server.bind(UnixDomainSocketAddress.of(socketPath));
+      } catch (final IOException | RuntimeException e) {
+        server.close();
+        throw e;
+      }
+      return server;
+    } catch (final IOException | RuntimeException e) {
+      LOGGER.warn("Could not listen on message socket {}, reading the source from stdout.", socketPath, e);
+      return null;
+    }
+  }
+
+  private void closeMessageSocket() throws IOException {
+    if (messageSocketIterator != null) {
+      messageSocketIterator.close();
+    }
   }
 
   private void logInitialStateAsJSON(final WorkerSourceConfig sourceConfig) {
@@ -7,6 +7,7 @@ package io.airbyte.workers.internal;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.logging.MdcScope;
+import io.airbyte.commons.protocol.serde.AirbyteMessageBinaryDeserializer;
 import io.airbyte.protocol.models.AirbyteLogMessage;
 import io.airbyte.protocol.models.AirbyteMessage;
 import java.io.BufferedReader;
@@ -50,14 +51,41 @@ public class DefaultAirbyteStreamFactory implements AirbyteStreamFactory {
 
   @Override
   public Stream<AirbyteMessage> create(final BufferedReader bufferedReader) {
-    return bufferedReader
-        .lines()
+    return create(bufferedReader.lines());
+  }
+
+  @Override
+  public Stream<AirbyteMessage> create(final Stream<String> messages) {
+    return messages
         .flatMap(this::parseJson)
         .filter(this::validate)
         .flatMap(this::toAirbyteMessage)
         .filter(this::filterLog);
   }
 
+  /**
+   * Binary messages are not validated against the protocol schema, as they are not read as json
+   * trees. Deserializing them into an {@link AirbyteMessage} still checks their structure.
+   */
+  @Override
+  public Stream<AirbyteMessage> create(final Stream<byte[]> frames, final AirbyteMessageBinaryDeserializer<AirbyteMessage> deserializer) {
+    return frames
+        .flatMap(frame -> deserializeFrame(frame, deserializer))
+        .filter(this::filterLog);
+  }
+
+  /**
+   * Unlike a line of stdout, which may be a log line of the connector, a binary frame is always a
+   * message, so one that cannot be deserialized fails the read instead of being dropped.
+   */
+  protected Stream<AirbyteMessage> deserializeFrame(final byte[] frame, final AirbyteMessageBinaryDeserializer<AirbyteMessage> deserializer) {
+    try {
+      return Stream.of(deserializer.deserialize(frame));
+    } catch (final RuntimeException e) {
+      throw new IllegalStateException(String.format("Deserialization of a %s message failed", deserializer.getFormat()), e);
+    }
+  }
+
   protected Stream<JsonNode> parseJson(final String line) {
     final Optional<JsonNode> jsonLine = Jsons.tryDeserialize(line);
     if (jsonLine.isEmpty()) {
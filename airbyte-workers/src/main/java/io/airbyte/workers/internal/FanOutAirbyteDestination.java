@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.base.Preconditions;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.WorkerDestinationConfig;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+/**
+ * Writes the messages of a single source read to several destinations at once, so that a source
+ * feeding more than one destination only has to be read once. It can be passed to the
+ * {@link io.airbyte.workers.general.DefaultReplicationWorker} in place of a single destination.
+ *
+ * Every destination is started with its own connection configuration, in its own directory of the
+ * job root, and receives the same catalog and messages. A state message is only emitted once every
+ * destination has emitted it (or a later one), since the data before it is only committed at that
+ * point. Trace messages are emitted as soon as any destination emits them.
+ */
+public class FanOutAirbyteDestination implements AirbyteDestination {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(FanOutAirbyteDestination.class);
+
+  private static final long READ_TIMEOUT_MILLIS = 100;
+
+  private record PendingState(long sequence, AirbyteMessage message) {}
+
+  private final List<AirbyteDestination> destinations;
+  private final List<JsonNode> destinationConfigurations;
+
+  private final BlockingQueue<AirbyteMessage> output = new LinkedBlockingQueue<>();
+  private final AtomicInteger runningReaders = new AtomicInteger();
+  private final AtomicReference<RuntimeException> readerFailure = new AtomicReference<>();
+  private ExecutorService readerExecutor = null;
+
+  // states sent to the destinations that some of them have not emitted yet, in the order they were
+  // sent. guarded by this.
+  private final List<PendingState> pendingStates = new ArrayList<>();
+  // sequence of the last state emitted by each destination. guarded by this.
+  private final long[] emittedSequences;
+  private long nextSequence = 0;
+  private long committedSequence = -1;
+
+  /**
+   * @param destinations the destinations to write to.
+   * @param destinationConfigurations the connection configuration of each destination, in the same
+   *        order.
+   */
+  public FanOutAirbyteDestination(final List<AirbyteDestination> destinations, final List<JsonNode> destinationConfigurations) {
+    Preconditions.checkArgument(!destinations.isEmpty(), "At least one destination is required.");
+    Preconditions.checkArgument(destinations.size() == destinationConfigurations.size(),
+        "Each destination requires a configuration.");
+    this.destinations = destinations;
+    this.destinationConfigurations = destinationConfigurations;
+    this.emittedSequences = new long[destinations.size()];
+    Arrays.fill(emittedSequences, -1);
+  }
+
+  @Override
+  public void start(final WorkerDestinationConfig destinationConfig, final Path jobRoot) throws Exception {
+    Preconditions.checkState(readerExecutor == null);
+
+    for (int i = 0; i < destinations.size(); i++) {
+      final Path destinationRoot = Files.createDirectories(jobRoot.resolve("destination-" + i));
+      final WorkerDestinationConfig config = Jsons.clone(destinationConfig)
+          .withDestinationConnectionConfiguration(destinationConfigurations.get(i));
+      destinations.get(i).start(config, destinationRoot);
+    }
+
+    final Map<String, String> mdc = MDC.getCopyOfContextMap();
+    readerExecutor = Executors.newFixedThreadPool(destinations.size());
+    runningReaders.set(destinations.size());
+    for (int i = 0; i < destinations.size(); i++) {
+      final int index = i;
+      readerExecutor.submit(() -> {
+        if (mdc != null) {
+          MDC.setContextMap(mdc);
+        }
+        readDestination(index);
+      });
+    }
+  }
+
+  @Override
+  public void accept(final AirbyteMessage message) throws Exception {
+    if (message.getType() == Type.STATE) {
+      // registered before being sent, so that it is known when a destination emits it.
+      addPendingState(message);
+    }
+    for (final AirbyteDestination destination : destinations) {
+      destination.accept(message);
+    }
+  }
+
+  @Override
+  public void notifyEndOfInput() throws Exception {
+    for (final AirbyteDestination destination : destinations) {
+      destination.notifyEndOfInput();
+    }
+  }
+
+  /**
+   * Not finished while the failure of a destination reader is pending, even if everything else was
+   * read, so that the caller keeps reading and gets the failure from {@link #attemptRead()}.
+   */
+  @Override
+  public boolean isFinished() {
+    Preconditions.checkState(readerExecutor != null);
+    return readerFailure.get() == null && runningReaders.get() == 0 && output.isEmpty();
+  }
+
+  @Override
+  public int getExitValue() {
+    for (final AirbyteDestination destination : destinations) {
+      final int exitValue = destination.getExitValue();
+      if (exitValue != 0) {
+        return exitValue;
+      }
+    }
+    return 0;
+  }
+
+  @Override
+  public Optional<AirbyteMessage> attemptRead() {
+    Preconditions.checkState(readerExecutor != null);
+
+    final RuntimeException failure = readerFailure.get();
+    if (failure != null) {
+      throw failure;
+    }
+    try {
+      return Optional.ofNullable(output.poll(READ_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public void close() throws Exception {
+    Exception exception = null;
+    for (final AirbyteDestination destination : destinations) {
+      try {
+        destination.close();
+      } catch (final Exception e) {
+        if (exception == null) {
+          exception = e;
+        } else {
+          exception.addSuppressed(e);
+        }
+      }
+    }
+    if (readerExecutor != null) {
+      readerExecutor.shutdownNow();
+    }
+    if (exception != null) {
+      throw exception;
+    }
+  }
+
+  @Override
+  public void cancel() throws Exception {
+    Exception exception = null;
+    for (final AirbyteDestination destination : destinations) {
+      try {
+        destination.cancel();
+      } catch (final Exception e) {
+        if (exception == null) {
+          exception = e;
+        } else {
+          exception.addSuppressed(e);
+        }
+      }
+    }
+    if (readerExecutor != null) {
+      readerExecutor.shutdownNow();
+    }
+    if (exception != null) {
+      throw exception;
+    }
+  }
+
+  private void readDestination(final int index) {
+    final AirbyteDestination destination = destinations.get(index);
+    try {
+      while (!destination.isFinished()) {
+        final Optional<AirbyteMessage> messageOptional = destination.attemptRead();
+        if (messageOptional.isEmpty()) {
+          continue;
+        }
+
+        final AirbyteMessage message = messageOptional.get();
+        if (message.getType() == Type.STATE) {
+          output.addAll(acknowledgeState(index, message.getState()));
+        } else {
+          output.add(message);
+        }
+      }
+    } catch (final RuntimeException e) {
+      readerFailure.compareAndSet(null, e);
+    } finally {
+      runningReaders.decrementAndGet();
+    }
+  }
+
+  private synchronized void addPendingState(final AirbyteMessage message) {
+    pendingStates.add(new PendingState(nextSequence++, message));
+  }
+
+  /**
+   * Records that a destination has committed everything up to the given state.
+   *
+   * @return the states that every destination has now committed, in the order they were sent.
+   */
+  private synchronized List<AirbyteMessage> acknowledgeState(final int index, final AirbyteStateMessage state) {
+    final Optional<PendingState> emitted = pendingStates.stream()
+        .filter(pendingState -> pendingState.sequence() > emittedSequences[index] && state.equals(pendingState.message().getState()))
+        .findFirst();
+    if (emitted.isEmpty()) {
+      LOGGER.warn("Destination {} emitted a state that was not sent to it, ignoring it.", index);
+      return List.of();
+    }
+    emittedSequences[index] = emitted.get().sequence();
+
+    final long committed = Arrays.stream(emittedSequences).min().getAsLong();
+    if (committed <= committedSequence) {
+      return List.of();
+    }
+    committedSequence = committed;
+
+    // states in between are emitted as well, as with per stream states each one may be the only state
+    // of its stream.
+    final List<AirbyteMessage> committedStates = new ArrayList<>();
+    final Iterator<PendingState> iterator = pendingStates.iterator();
+    while (iterator.hasNext()) {
+      final PendingState pendingState = iterator.next();
+      if (pendingState.sequence() > committed) {
+        break;
+      }
+      committedStates.add(pendingState.message());
+      iterator.remove();
+    }
+    return committedStates;
+  }
+
+}
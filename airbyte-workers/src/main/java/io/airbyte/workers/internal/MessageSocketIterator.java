@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import com.google.common.collect.AbstractIterator;
+import io.airbyte.commons.io.FramedMessageReader;
+import io.airbyte.commons.io.FramedMessageWriter;
+import io.airbyte.commons.protocol.serde.AirbyteMessageBinaryDeserializer;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+/**
+ * Reads the messages of a connector that was launched with a message socket. A connector that
+ * connects to the socket sends its messages through it as length prefixed frames (see
+ * {@link io.airbyte.commons.io.FramedMessageWriter}) and only logs on stdout. A connector that does
+ * not keeps sending everything as json lines on stdout, so both are read.
+ *
+ * If a binary deserializer is given, its format was offered to the connector, and the first frame
+ * on the socket names the format of the following ones: that format or json.
+ *
+ * Stdout is read on its own thread, which also logs the log messages of the connector, so that a
+ * connector writing logs never blocks on stdout while the worker is waiting on the socket. Once
+ * the connector sends a record or a state on stdout, it is not going to connect anymore and the
+ * socket is closed.
+ */
+class MessageSocketIterator extends AbstractIterator<AirbyteMessage> implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(MessageSocketIterator.class);
+
+  private static final long POLL_TIMEOUT_MILLIS = 50;
+  private static final int STDOUT_QUEUE_CAPACITY = 1000;
+  // marks the end of stdout in the queue.
+  private static final AirbyteMessage END_OF_STDOUT = new AirbyteMessage();
+
+  private final ServerSocketChannel server;
+  private final AirbyteStreamFactory streamFactory;
+  private final AirbyteMessageBinaryDeserializer<AirbyteMessage> binaryDeserializer;
+
+  private final BlockingQueue<AirbyteMessage> stdoutMessages = new ArrayBlockingQueue<>(STDOUT_QUEUE_CAPACITY);
+  private final AtomicReference<RuntimeException> stdoutFailure = new AtomicReference<>();
+  private final ExecutorService stdoutExecutor = Executors.newSingleThreadExecutor();
+
+  private boolean accepting = true;
+  private boolean stdoutFinished = false;
+  private SocketChannel channel = null;
+  private Iterator<AirbyteMessage> socketMessages = null;
+
+  /**
+   * @param server the socket the connector was asked to connect to, bound to a unix domain socket
+   *        address. It is closed, and its file deleted, once it is no longer needed.
+   * @param streamFactory parses the messages of both the socket and stdout.
+   * @param stdout the stdout of the connector.
+   */
+  MessageSocketIterator(final ServerSocketChannel server, final AirbyteStreamFactory streamFactory, final BufferedReader stdout)
+      throws IOException {
+    this(server, streamFactory, null, stdout);
+  }
+
+  /**
+   * @param binaryDeserializer deserializes the messages of the binary format offered to the
+   *        connector, or null if none was.
+   */
+  MessageSocketIterator(final ServerSocketChannel server,
+                        final AirbyteStreamFactory streamFactory,
+                        final AirbyteMessageBinaryDeserializer<AirbyteMessage> binaryDeserializer,
+                        final BufferedReader stdout)
+      throws IOException {
+    this.server = server;
+    this.streamFactory = streamFactory;
+    this.binaryDeserializer = binaryDeserializer;
+    server.configureBlocking(false);
+
+    final Map<String, String> mdc = MDC.getCopyOfContextMap();
+    stdoutExecutor.submit(() -> {
+      if (mdc != null) {
+        MDC.setContextMap(mdc);
+      }
+      readStdout(stdout);
+    });
+  }
+
+  @Override
+  protected AirbyteMessage computeNext() {
+    while (true) {
+      if (socketMessages != null) {
+        if (socketMessages.hasNext()) {
+          return socketMessages.next();
+        }
+        // the connector is done writing to the socket, what is left on stdout follows.
+        socketMessages = null;
+      }
+
+      if (accepting) {
+        acceptConnection();
+        if (socketMessages != null) {
+          continue;
+        }
+      }
+
+      if (stdoutFinished) {
+        return endOfData();
+      }
+
+      final AirbyteMessage message = pollStdout();
+      if (message == END_OF_STDOUT) {
+        final RuntimeException failure = stdoutFailure.get();
+        if (failure != null) {
+          throw failure;
+        }
+        // a connection made right before the connector exited is still accepted on the next pass.
+        stdoutFinished = true;
+      } else if (message != null) {
+        if (accepting && (message.getType() == Type.RECORD || message.getType() == Type.STATE)) {
+          LOGGER.info("Source is writing its messages to stdout, closing the message socket.");
+          stopAccepting();
+        }
+        return message;
+      }
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    stdoutExecutor.shutdownNow();
+    stopAccepting();
+    if (channel != null) {
+      channel.close();
+    }
+  }
+
+  private void readStdout(final BufferedReader stdout) {
+    try {
+      try {
+        final Iterator<AirbyteMessage> messages = streamFactory.create(stdout).iterator();
+        while (messages.hasNext()) {
+          stdoutMessages.put(messages.next());
+        }
+      } catch (final RuntimeException e) {
+        stdoutFailure.set(e);
+      }
+      stdoutMessages.put(END_OF_STDOUT);
+    } catch (final InterruptedException e) {
+      // closed before stdout was read to the end.
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private AirbyteMessage pollStdout() {
+    try {
+      return stdoutMessages.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    }
+  }
+
+  private void acceptConnection() {
+    try {
+      channel = server.accept();
+      if (channel != null) {
+        LOGGER.info("Source connected to the message socket, reading its messages from it.");
+        stopAccepting();
+        socketMessages = readSocket(new FramedMessageReader(Channels.newInputStream(channel))).iterator();
+      } else if (stdoutFinished) {
+        stopAccepting();
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private Stream<AirbyteMessage> readSocket(final FramedMessageReader reader) throws IOException {
+    if (binaryDeserializer == null) {
+      return streamFactory.create(reader.messages());
+    }
+
+    final String format = reader.read();
+    if (binaryDeserializer.getFormat().equals(format)) {
+      LOGGER.info("Source is sending its messages as {}.", format);
+      return streamFactory.create(reader.frames(), binaryDeserializer);
+    } else if (format == null || FramedMessageWriter.JSON_FORMAT.equals(format)) {
+      return streamFactory.create(reader.messages());
+    }
+    throw new IllegalStateException("Source is sending its messages in unknown format " + format);
+  }
+
+  private void stopAccepting() {
+    if (!accepting) {
+      return;
+    }
+    accepting = false;
+    try {
+      final UnixDomainSocketAddress address = (UnixDomainSocketAddress) server.getLocalAddress();
+      server.close();
+      if (address != null) {
+        Files.deleteIfExists(address.getPath());
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+}
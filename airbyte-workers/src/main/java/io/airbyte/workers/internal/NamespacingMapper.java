@@ -58,9 +58,17 @@ public class NamespacingMapper implements AirbyteMapper {
     return catalog;
   }
 
+  /**
+   * @return true if this mapper leaves records untouched, i.e. the source namespace is kept and
+   *         stream names are not prefixed.
+   */
+  public boolean isIdentity() {
+    return (namespaceDefinition == null || namespaceDefinition.equals(NamespaceDefinitionType.SOURCE)) && Strings.isBlank(streamPrefix);
+  }
+
   @Override
   public AirbyteMessage mapMessage(final AirbyteMessage inputMessage) {
-    if (inputMessage.getType() == Type.RECORD) {
+    if (inputMessage.getType() == Type.RECORD && !isIdentity()) {
       final AirbyteMessage message = Jsons.clone(inputMessage);
       // Default behavior if namespaceDefinition is not set is to follow SOURCE
       if (namespaceDefinition != null) {
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Object node that remembers the length of the json text it was parsed from, so the size of a
+ * record's data can be tracked without serializing it again. The size is only known for the object
+ * the {@link StreamingAirbyteStreamFactory} measured; nested objects and copies do not carry it.
+ *
+ * <p>
+ * Equality and serialization are those of a plain {@link ObjectNode}.
+ */
+class SizedObjectNode extends ObjectNode {
+
+  static final long UNKNOWN_SIZE = -1;
+
+  /**
+   * Node factory that creates every object node as a {@link SizedObjectNode}, so the data tree can
+   * be parsed directly into one.
+   */
+  static final JsonNodeFactory NODE_FACTORY = new JsonNodeFactory() {
+
+    @Override
+    public ObjectNode objectNode() {
+      return new SizedObjectNode(this);
+    }
+
+  };
+
+  private long serializedSize = UNKNOWN_SIZE;
+
+  private SizedObjectNode(final JsonNodeFactory nodeFactory) {
+    super(nodeFactory);
+  }
+
+  /**
+   * @return the number of characters of the json text this object was parsed from, or
+   *         {@link #UNKNOWN_SIZE}
+   */
+  long getSerializedSize() {
+    return serializedSize;
+  }
+
+  void setSerializedSize(final long serializedSize) {
+    this.serializedSize = serializedSize;
+  }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dense per-stream counter keyed by the stream indices handed out by the
+ * {@link AirbyteMessageTracker}. Indices are assigned sequentially from 0, so the counts live in a
+ * plain {@code long[]} and incrementing one neither boxes nor allocates once the array has grown to
+ * fit every stream of the sync.
+ *
+ * <p>
+ * Not thread safe. Streams whose count is 0 are treated as absent.
+ */
+class StreamIndexedCounter {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private long[] counts = new long[INITIAL_CAPACITY];
+
+  void add(final short streamIndex, final long delta) {
+    if (streamIndex >= counts.length) {
+      counts = Arrays.copyOf(counts, Math.max(streamIndex + 1, counts.length * 2));
+    }
+    counts[streamIndex] += delta;
+  }
+
+  long sum() {
+    long sum = 0;
+    for (final long count : counts) {
+      sum += count;
+    }
+    return sum;
+  }
+
+  void clear() {
+    Arrays.fill(counts, 0L);
+  }
+
+  /**
+   * @return the non zero counts keyed by stream index
+   */
+  Map<Short, Long> toMap() {
+    final Map<Short, Long> map = new HashMap<>();
+    for (short i = 0; i < counts.length; i++) {
+      if (counts[i] != 0) {
+        map.put(i, counts[i]);
+      }
+    }
+    return map;
+  }
+
+}
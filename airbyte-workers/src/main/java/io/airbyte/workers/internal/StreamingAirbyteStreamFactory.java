@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.util.RawValue;
+import io.airbyte.commons.jackson.MoreMappers;
+import io.airbyte.commons.logging.MdcScope;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates a stream from an input stream, like {@link DefaultAirbyteStreamFactory}, but parses
+ * record messages in a single pass with Jackson's streaming {@link JsonParser} instead of
+ * deserializing each line into a tree, validating the tree against the protocol schema and then
+ * converting the tree into an {@link AirbyteMessage}.
+ *
+ * <p>
+ * A record line is accepted on the fast path if it has the envelope the protocol requires of a
+ * record: a RECORD type and a record with a string stream, an object data and an integer
+ * emitted_at. Every other line (other message types, malformed records, non-json lines) falls back
+ * on the {@link DefaultAirbyteStreamFactory} path so it is validated, logged and dropped exactly as
+ * before. Those lines are rare compared to records.
+ *
+ * <p>
+ * If keepRawRecordData is set, the record data is not parsed at all: it is kept as the raw json
+ * text it was read as, and written back out verbatim when the message is serialized. Only use this
+ * when nothing downstream needs to look inside the data, e.g. no schema validation.
+ *
+ * <p>
+ * Either way, the length of the record data's json text is kept with the data so that the
+ * {@link AirbyteMessageTracker} does not have to serialize it again to count emitted bytes.
+ */
+public class StreamingAirbyteStreamFactory extends DefaultAirbyteStreamFactory {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(StreamingAirbyteStreamFactory.class);
+  private static final ObjectMapper MAPPER = MoreMappers.initMapper().setNodeFactory(SizedObjectNode.NODE_FACTORY);
+
+  private static final String TYPE_FIELD = "type";
+  private static final String RECORD_FIELD = "record";
+  private static final String STREAM_FIELD = "stream";
+  private static final String NAMESPACE_FIELD = "namespace";
+  private static final String DATA_FIELD = "data";
+  private static final String EMITTED_AT_FIELD = "emitted_at";
+
+  private final boolean keepRawRecordData;
+
+  public StreamingAirbyteStreamFactory() {
+    this(MdcScope.DEFAULT_BUILDER, false);
+  }
+
+  public StreamingAirbyteStreamFactory(final MdcScope.Builder containerLogMdcBuilder, final boolean keepRawRecordData) {
+    this(new AirbyteProtocolPredicate(), LOGGER, containerLogMdcBuilder, keepRawRecordData);
+  }
+
+  StreamingAirbyteStreamFactory(final AirbyteProtocolPredicate protocolPredicate,
+                                final Logger logger,
+                                final MdcScope.Builder containerLogMdcBuilder,
+                                final boolean keepRawRecordData) {
+    super(protocolPredicate, logger, containerLogMdcBuilder);
+    this.keepRawRecordData = keepRawRecordData;
+  }
+
+  @Override
+  public Stream<AirbyteMessage> create(final Stream<String> messages) {
+    return messages
+        .flatMap(this::parseLine)
+        .filter(this::filterLog);
+  }
+
+  protected Stream<AirbyteMessage> parseLine(final String line) {
+    final Optional<AirbyteMessage> record = tryParseRecord(line);
+    if (record.isPresent()) {
+      return record.stream();
+    }
+    return parseJson(line)
+        .filter(this::validate)
+        .flatMap(this::toAirbyteMessage);
+  }
+
+  /**
+   * @return the record message on the line, or empty if the line is not a well formed record message
+   */
+  Optional<AirbyteMessage> tryParseRecord(final String line) {
+    try (final JsonParser parser = MAPPER.getFactory().createParser(line)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return Optional.empty();
+      }
+
+      boolean isRecordType = false;
+      AirbyteRecordMessage record = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String fieldName = parser.getCurrentName();
+        final JsonToken valueToken = parser.nextToken();
+        if (TYPE_FIELD.equals(fieldName)) {
+          // type is serialized first by our connectors, this lets other message types bail out early
+          if (valueToken != JsonToken.VALUE_STRING || !Type.RECORD.value().equals(parser.getText())) {
+            return Optional.empty();
+          }
+          isRecordType = true;
+        } else if (RECORD_FIELD.equals(fieldName)) {
+          if (valueToken != JsonToken.START_OBJECT) {
+            return Optional.empty();
+          }
+          record = parseRecord(parser, line);
+          if (record == null) {
+            return Optional.empty();
+          }
+        } else if (valueToken != JsonToken.VALUE_NULL) {
+          // another message type field or an unknown field, let the full protocol validation decide.
+          return Optional.empty();
+        }
+      }
+
+      if (!isRecordType || record == null) {
+        return Optional.empty();
+      }
+      return Optional.of(new AirbyteMessage().withType(Type.RECORD).withRecord(record));
+    } catch (final IOException e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Parses the record object the parser is positioned on. Returns null if the record is missing one
+   * of its required fields or one of them has the wrong type.
+   */
+  private AirbyteRecordMessage parseRecord(final JsonParser parser, final String line) throws IOException {
+    final AirbyteRecordMessage record = new AirbyteRecordMessage();
+    boolean hasEmittedAt = false;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String fieldName = parser.getCurrentName();
+      final JsonToken valueToken = parser.nextToken();
+      switch (fieldName) {
+        case STREAM_FIELD -> {
+          if (valueToken != JsonToken.VALUE_STRING) {
+            return null;
+          }
+          record.setStream(parser.getText());
+        }
+        case NAMESPACE_FIELD -> {
+          if (valueToken != JsonToken.VALUE_STRING && valueToken != JsonToken.VALUE_NULL) {
+            return null;
+          }
+          record.setNamespace(valueToken == JsonToken.VALUE_NULL ? null : parser.getText());
+        }
+        case EMITTED_AT_FIELD -> {
+          if (valueToken != JsonToken.VALUE_NUMBER_INT) {
+            return null;
+          }
+          record.setEmittedAt(parser.getLongValue());
+          hasEmittedAt = true;
+        }
+        case DATA_FIELD -> {
+          if (valueToken != JsonToken.START_OBJECT) {
+            return null;
+          }
+          record.setData(keepRawRecordData ? readRawObject(parser, line) : readMeasuredObject(parser));
+        }
+        default -> record.setAdditionalProperty(fieldName, parser.readValueAsTree());
+      }
+    }
+
+    if (record.getStream() == null || record.getData() == null || !hasEmittedAt) {
+      return null;
+    }
+    return record;
+  }
+
+  /**
+   * Reads the object the parser is positioned on into a tree that remembers how many characters of
+   * json text it was read from.
+   */
+  private static JsonNode readMeasuredObject(final JsonParser parser) throws IOException {
+    final long start = parser.getTokenLocation().getCharOffset();
+    final SizedObjectNode node = parser.readValueAsTree();
+    node.setSerializedSize(parser.getCurrentLocation().getCharOffset() - start);
+    return node;
+  }
+
+  /**
+   * Skips over the object the parser is positioned on and returns its json text, as it appears in
+   * the line, wrapped in a node that serializes it verbatim.
+   */
+  private static JsonNode readRawObject(final JsonParser parser, final String line) throws IOException {
+    final int start = (int) parser.getTokenLocation().getCharOffset();
+    parser.skipChildren();
+    final int end = (int) parser.getCurrentLocation().getCharOffset();
+    return JsonNodeFactory.instance.rawValueNode(new RawValue(line.substring(start, end)));
+  }
+
+}
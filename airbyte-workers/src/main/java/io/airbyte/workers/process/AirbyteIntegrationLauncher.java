@@ -9,6 +9,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import io.airbyte.commons.features.EnvVariableFeatureFlags;
 import io.airbyte.commons.features.FeatureFlags;
+import io.airbyte.commons.io.FramedMessageWriter;
 import io.airbyte.config.ResourceRequirements;
 import io.airbyte.config.WorkerEnvConstants;
 import io.airbyte.workers.exception.WorkerException;
@@ -128,6 +129,20 @@ public class AirbyteIntegrationLauncher implements IntegrationLauncher {
                       final String stateFilename,
                       final String stateContents)
       throws WorkerException {
+    return read(jobRoot, configFilename, configContents, catalogFilename, catalogContents, stateFilename, stateContents, null, List.of());
+  }
+
+  @Override
+  public Process read(final Path jobRoot,
+                      final String configFilename,
+                      final String configContents,
+                      final String catalogFilename,
+                      final String catalogContents,
+                      final String stateFilename,
+                      final String stateContents,
+                      final String messageSocketFilename,
+                      final List<String> messageFormats)
+      throws WorkerException {
     final List<String> arguments = Lists.newArrayList(
         "read",
         CONFIG, configFilename,
@@ -145,6 +160,14 @@ public class AirbyteIntegrationLauncher implements IntegrationLauncher {
       files.put(stateFilename, stateContents);
     }
 
+    final Map<String, String> metadata = new HashMap<>(getWorkerMetadata());
+    if (messageSocketFilename != null) {
+      metadata.put(FramedMessageWriter.MESSAGE_SOCKET_ENV_VAR, messageSocketFilename);
+      if (!messageFormats.isEmpty()) {
+        metadata.put(FramedMessageWriter.MESSAGE_FORMATS_ENV_VAR, String.join(",", messageFormats));
+      }
+    }
+
     return processFactory.create(
         READ_STEP,
         jobId,
@@ -156,7 +179,7 @@ public class AirbyteIntegrationLauncher implements IntegrationLauncher {
         null,
         resourceRequirement,
         Map.of(JOB_TYPE, SYNC_JOB, SYNC_STEP, READ_STEP),
-        getWorkerMetadata(),
+        metadata,
         Collections.emptyMap(),
         arguments.toArray(new String[arguments.size()]));
   }
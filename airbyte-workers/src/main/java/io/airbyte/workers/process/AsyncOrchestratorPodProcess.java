@@ -5,6 +5,7 @@
 package io.airbyte.workers.process;
 
 import io.airbyte.commons.features.EnvVariableFeatureFlags;
+import io.airbyte.commons.features.FeatureFlags;
 import io.airbyte.commons.io.IOs;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.EnvConfigs;
@@ -61,7 +62,7 @@ public class AsyncOrchestratorPodProcess implements KubePod {
   private final String secretMountPath;
   private final String googleApplicationCredentials;
   private final AtomicReference<Optional<Integer>> cachedExitValue;
-  private final boolean useStreamCapableState;
+  private final FeatureFlags featureFlags;
   private final Integer serverPort;
 
   public AsyncOrchestratorPodProcess(
@@ -71,7 +72,7 @@ public class AsyncOrchestratorPodProcess implements KubePod {
                                      final String secretName,
                                      final String secretMountPath,
                                      final String googleApplicationCredentials,
-                                     final boolean useStreamCapableState,
+                                     final FeatureFlags featureFlags,
                                      final Integer serverPort) {
     this.kubePodInfo = kubePodInfo;
     this.documentStoreClient = documentStoreClient;
@@ -80,7 +81,7 @@ public class AsyncOrchestratorPodProcess implements KubePod {
     this.secretMountPath = secretMountPath;
     this.googleApplicationCredentials = googleApplicationCredentials;
     this.cachedExitValue = new AtomicReference<>(Optional.empty());
-    this.useStreamCapableState = useStreamCapableState;
+    this.featureFlags = featureFlags;
     this.serverPort = serverPort;
   }
 
@@ -295,7 +296,11 @@ public class AsyncOrchestratorPodProcess implements KubePod {
     envVars.add(new EnvVar(EnvConfigs.DD_AGENT_HOST, envConfigs.getDDAgentHost(), null));
     envVars.add(new EnvVar(EnvConfigs.DD_DOGSTATSD_PORT, envConfigs.getDDDogStatsDPort(), null));
     envVars.add(new EnvVar(EnvConfigs.PUBLISH_METRICS, Boolean.toString(envConfigs.getPublishMetrics()), null));
-    envVars.add(new EnvVar(EnvVariableFeatureFlags.USE_STREAM_CAPABLE_STATE, Boolean.toString(useStreamCapableState), null));
+    envVars.add(new EnvVar(EnvConfigs.RECORD_SCHEMA_VALIDATION_SAMPLE_RATE, Integer.toString(envConfigs.getRecordSchemaValidationSampleRate()), null));
+    envVars.add(new EnvVar(EnvConfigs.RECORD_SCHEMA_VALIDATION_MAX_RECORDS_PER_STREAM,
+        Long.toString(envConfigs.getRecordSchemaValidationMaxRecordsPerStream()), null));
+    envVars.add(new EnvVar(EnvVariableFeatureFlags.USE_STREAM_CAPABLE_STATE, Boolean.toString(featureFlags.useStreamCapableState()), null));
+    envVars.add(new EnvVar(EnvVariableFeatureFlags.USE_PIPELINED_REPLICATION, Boolean.toString(featureFlags.usePipelinedReplication()), null));
     final List<ContainerPort> containerPorts = KubePodProcess.createContainerPortList(portMap);
     containerPorts.add(new ContainerPort(serverPort, null, null, null, null));
 
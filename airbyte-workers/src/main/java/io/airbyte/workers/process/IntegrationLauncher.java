@@ -6,6 +6,7 @@ package io.airbyte.workers.process;
 
 import io.airbyte.workers.exception.WorkerException;
 import java.nio.file.Path;
+import java.util.List;
 
 /**
  * This interface provides an abstraction for launching a container that implements the Airbyte
@@ -32,6 +33,30 @@ public interface IntegrationLauncher {
                final String stateContents)
       throws WorkerException;
 
+  /**
+   * Like {@link #read(Path, String, String, String, String, String, String)}, but asks the connector
+   * to send its messages as frames through the unix domain socket at messageSocketFilename, relative
+   * to the jobRoot, instead of as json lines on stdout. The worker must be listening on the socket
+   * before the connector starts. Connectors that do not support it, or cannot reach the socket, keep
+   * writing to stdout, so the caller has to read both. Launchers that cannot pass the socket on
+   * ignore it.
+   *
+   * If messageFormats is not empty, the connector may send its messages through the socket in one of
+   * those binary formats, see {@link io.airbyte.commons.io.FramedMessageWriter#MESSAGE_FORMATS_ENV_VAR}.
+   */
+  default Process read(final Path jobRoot,
+                       final String configFilename,
+                       final String configContents,
+                       final String catalogFilename,
+                       final String catalogContents,
+                       final String stateFilename,
+                       final String stateContents,
+                       final String messageSocketFilename,
+                       final List<String> messageFormats)
+      throws WorkerException {
+    return read(jobRoot, configFilename, configContents, catalogFilename, catalogContents, stateFilename, stateContents);
+  }
+
   default Process read(final Path jobRoot,
                        final String configFilename,
                        final String configContents,
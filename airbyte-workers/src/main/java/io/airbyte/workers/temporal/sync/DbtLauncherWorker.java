@@ -4,6 +4,7 @@
 
 package io.airbyte.workers.temporal.sync;
 
+import io.airbyte.commons.features.FeatureFlags;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.temporal.TemporalUtils;
 import io.airbyte.config.OperatorDbtInput;
@@ -29,7 +30,8 @@ public class DbtLauncherWorker extends LauncherWorker<OperatorDbtInput, Void> {
                            final ContainerOrchestratorConfig containerOrchestratorConfig,
                            final Supplier<ActivityExecutionContext> activityContext,
                            final Integer serverPort,
-                           final TemporalUtils temporalUtils) {
+                           final TemporalUtils temporalUtils,
+                           final FeatureFlags featureFlags) {
     super(
         connectionId,
         DBT,
@@ -42,7 +44,8 @@ public class DbtLauncherWorker extends LauncherWorker<OperatorDbtInput, Void> {
         Void.class,
         activityContext,
         serverPort,
-        temporalUtils);
+        temporalUtils,
+        featureFlags);
   }
 
 }
@@ -7,6 +7,7 @@ package io.airbyte.workers.temporal.sync;
 import io.airbyte.api.client.AirbyteApiClient;
 import io.airbyte.api.client.invoker.generated.ApiException;
 import io.airbyte.api.client.model.generated.JobIdRequestBody;
+import io.airbyte.commons.features.FeatureFlags;
 import io.airbyte.commons.functional.CheckedSupplier;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.temporal.CancellationHandler;
@@ -53,6 +54,7 @@ public class DbtTransformationActivityImpl implements DbtTransformationActivity
   private final AirbyteConfigValidator airbyteConfigValidator;
   private final TemporalUtils temporalUtils;
   private final AirbyteApiClient airbyteApiClient;
+  private final FeatureFlags featureFlags;
 
   public DbtTransformationActivityImpl(@Named("containerOrchestratorConfig") final Optional<ContainerOrchestratorConfig> containerOrchestratorConfig,
                                        @Named("defaultWorkerConfigs") final WorkerConfigs workerConfigs,
@@ -65,7 +67,8 @@ public class DbtTransformationActivityImpl implements DbtTransformationActivity
                                        @Value("${micronaut.server.port}") final Integer serverPort,
                                        final AirbyteConfigValidator airbyteConfigValidator,
                                        final TemporalUtils temporalUtils,
-                                       final AirbyteApiClient airbyteApiClient) {
+                                       final AirbyteApiClient airbyteApiClient,
+                                       final FeatureFlags featureFlags) {
     this.containerOrchestratorConfig = containerOrchestratorConfig;
     this.workerConfigs = workerConfigs;
     this.processFactory = processFactory;
@@ -78,6 +81,7 @@ public class DbtTransformationActivityImpl implements DbtTransformationActivity
     this.airbyteConfigValidator = airbyteConfigValidator;
     this.temporalUtils = temporalUtils;
     this.airbyteApiClient = airbyteApiClient;
+    this.featureFlags = featureFlags;
   }
 
   @Override
@@ -155,7 +159,8 @@ public class DbtTransformationActivityImpl implements DbtTransformationActivity
         containerOrchestratorConfig.get(),
         activityContext,
         serverPort,
-        temporalUtils);
+        temporalUtils,
+        featureFlags);
   }
 
 }
@@ -5,7 +5,7 @@
 package io.airbyte.workers.temporal.sync;
 
 import com.google.common.base.Stopwatch;
-import io.airbyte.commons.features.EnvVariableFeatureFlags;
+import io.airbyte.commons.features.FeatureFlags;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.lang.Exceptions;
 import io.airbyte.commons.temporal.TemporalUtils;
@@ -37,7 +37,6 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
-import lombok.val;
 
 /**
  * Coordinates configuring and managing the state of an async process. This is tied to the (job_id,
@@ -63,6 +62,7 @@ public class LauncherWorker<INPUT, OUTPUT> implements Worker<INPUT, OUTPUT> {
   private final Supplier<ActivityExecutionContext> activityContext;
   private final Integer serverPort;
   private final TemporalUtils temporalUtils;
+  private final FeatureFlags featureFlags;
 
   private final AtomicBoolean cancelled = new AtomicBoolean(false);
   private AsyncOrchestratorPodProcess process;
@@ -77,7 +77,8 @@ public class LauncherWorker<INPUT, OUTPUT> implements Worker<INPUT, OUTPUT> {
                         final Class<OUTPUT> outputClass,
                         final Supplier<ActivityExecutionContext> activityContext,
                         final Integer serverPort,
-                        final TemporalUtils temporalUtils) {
+                        final TemporalUtils temporalUtils,
+                        final FeatureFlags featureFlags) {
 
     this.connectionId = connectionId;
     this.application = application;
@@ -90,6 +91,7 @@ public class LauncherWorker<INPUT, OUTPUT> implements Worker<INPUT, OUTPUT> {
     this.activityContext = activityContext;
     this.serverPort = serverPort;
     this.temporalUtils = temporalUtils;
+    this.featureFlags = featureFlags;
   }
 
   @Override
@@ -132,7 +134,6 @@ public class LauncherWorker<INPUT, OUTPUT> implements Worker<INPUT, OUTPUT> {
         final var kubePodInfo = new KubePodInfo(containerOrchestratorConfig.namespace(),
             podName,
             mainContainerInfo);
-        val featureFlag = new EnvVariableFeatureFlags();
 
         // Use the configuration to create the process.
         process = new AsyncOrchestratorPodProcess(
@@ -142,7 +143,7 @@ public class LauncherWorker<INPUT, OUTPUT> implements Worker<INPUT, OUTPUT> {
             containerOrchestratorConfig.secretName(),
             containerOrchestratorConfig.secretMountPath(),
             containerOrchestratorConfig.googleApplicationCredentials(),
-            featureFlag.useStreamCapableState(),
+            featureFlags,
             serverPort);
 
         // Define what to do on cancellation.
@@ -7,6 +7,7 @@ package io.airbyte.workers.temporal.sync;
 import io.airbyte.api.client.AirbyteApiClient;
 import io.airbyte.api.client.invoker.generated.ApiException;
 import io.airbyte.api.client.model.generated.JobIdRequestBody;
+import io.airbyte.commons.features.FeatureFlags;
 import io.airbyte.commons.functional.CheckedSupplier;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.temporal.CancellationHandler;
@@ -56,6 +57,7 @@ public class NormalizationActivityImpl implements NormalizationActivity {
   private final TemporalUtils temporalUtils;
   private final ResourceRequirements normalizationResourceRequirements;
   private final AirbyteApiClient airbyteApiClient;
+  private final FeatureFlags featureFlags;
 
   public NormalizationActivityImpl(@Named("containerOrchestratorConfig") final Optional<ContainerOrchestratorConfig> containerOrchestratorConfig,
                                    @Named("defaultWorkerConfigs") final WorkerConfigs workerConfigs,
@@ -69,7 +71,8 @@ public class NormalizationActivityImpl implements NormalizationActivity {
                                    final AirbyteConfigValidator airbyteConfigValidator,
                                    final TemporalUtils temporalUtils,
                                    @Named("normalizationResourceRequirements") final ResourceRequirements normalizationResourceRequirements,
-                                   final AirbyteApiClient airbyteApiClient) {
+                                   final AirbyteApiClient airbyteApiClient,
+                                   final FeatureFlags featureFlags) {
     this.containerOrchestratorConfig = containerOrchestratorConfig;
     this.workerConfigs = workerConfigs;
     this.processFactory = processFactory;
@@ -83,6 +86,7 @@ public class NormalizationActivityImpl implements NormalizationActivity {
     this.temporalUtils = temporalUtils;
     this.normalizationResourceRequirements = normalizationResourceRequirements;
     this.airbyteApiClient = airbyteApiClient;
+    this.featureFlags = featureFlags;
   }
 
   @Override
@@ -162,7 +166,8 @@ public class NormalizationActivityImpl implements NormalizationActivity {
         containerOrchestratorConfig.get(),
         activityContext,
         serverPort,
-        temporalUtils);
+        temporalUtils,
+        featureFlags);
   }
 
 }
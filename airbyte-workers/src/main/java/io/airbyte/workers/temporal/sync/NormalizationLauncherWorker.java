@@ -4,6 +4,7 @@
 
 package io.airbyte.workers.temporal.sync;
 
+import io.airbyte.commons.features.FeatureFlags;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.temporal.TemporalUtils;
 import io.airbyte.config.NormalizationInput;
@@ -30,7 +31,8 @@ public class NormalizationLauncherWorker extends LauncherWorker<NormalizationInp
                                      final ContainerOrchestratorConfig containerOrchestratorConfig,
                                      final Supplier<ActivityExecutionContext> activityContext,
                                      final Integer serverPort,
-                                     final TemporalUtils temporalUtils) {
+                                     final TemporalUtils temporalUtils,
+                                     final FeatureFlags featureFlags) {
     super(
         connectionId,
         NORMALIZATION,
@@ -43,7 +45,8 @@ public class NormalizationLauncherWorker extends LauncherWorker<NormalizationInp
         NormalizationSummary.class,
         activityContext,
         serverPort,
-        temporalUtils);
+        temporalUtils,
+        featureFlags);
 
   }
 
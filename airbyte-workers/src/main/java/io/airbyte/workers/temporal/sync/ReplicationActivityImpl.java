@@ -74,6 +74,8 @@ public class ReplicationActivityImpl implements ReplicationActivity {
   private final AirbyteConfigValidator airbyteConfigValidator;
   private final TemporalUtils temporalUtils;
   private final AirbyteApiClient airbyteApiClient;
+  private final Integer recordSchemaValidationSampleRate;
+  private final Long recordSchemaValidationMaxRecordsPerStream;
 
   public ReplicationActivityImpl(@Named("containerOrchestratorConfig") final Optional<ContainerOrchestratorConfig> containerOrchestratorConfig,
                                  @Named("replicationProcessFactory") final ProcessFactory processFactory,
@@ -86,7 +88,9 @@ public class ReplicationActivityImpl implements ReplicationActivity {
                                  @Value("${micronaut.server.port}") final Integer serverPort,
                                  final AirbyteConfigValidator airbyteConfigValidator,
                                  final TemporalUtils temporalUtils,
-                                 final AirbyteApiClient airbyteApiClient) {
+                                 final AirbyteApiClient airbyteApiClient,
+                                 @Value("${airbyte.worker.replication.schema-validation.sample-rate}") final Integer recordSchemaValidationSampleRate,
+                                 @Value("${airbyte.worker.replication.schema-validation.max-records-per-stream}") final Long recordSchemaValidationMaxRecordsPerStream) {
     this.containerOrchestratorConfig = containerOrchestratorConfig;
     this.processFactory = processFactory;
     this.secretsHydrator = secretsHydrator;
@@ -99,6 +103,8 @@ public class ReplicationActivityImpl implements ReplicationActivity {
     this.airbyteConfigValidator = airbyteConfigValidator;
     this.temporalUtils = temporalUtils;
     this.airbyteApiClient = airbyteApiClient;
+    this.recordSchemaValidationSampleRate = recordSchemaValidationSampleRate;
+    this.recordSchemaValidationMaxRecordsPerStream = recordSchemaValidationMaxRecordsPerStream;
   }
 
   @Override
@@ -207,11 +213,21 @@ public class ReplicationActivityImpl implements ReplicationActivity {
           processFactory,
           syncInput.getDestinationResourceRequirements());
 
+      final NamespacingMapper mapper =
+          new NamespacingMapper(syncInput.getNamespaceDefinition(), syncInput.getNamespaceFormat(), syncInput.getPrefix());
+      final RecordSchemaValidator recordSchemaValidator = new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(syncInput),
+          recordSchemaValidationSampleRate, recordSchemaValidationMaxRecordsPerStream);
+      // when nothing reads or changes record data on the way to the destination, pass it through as the
+      // raw json emitted by the source instead of parsing and re-serializing it.
+      final boolean recordPassthrough = mapper.isIdentity() && !recordSchemaValidator.isEnabled();
+      LOGGER.info("Record passthrough: {}", recordPassthrough);
+
       // reset jobs use an empty source to induce resetting all data in destination.
       final AirbyteSource airbyteSource =
           WorkerConstants.RESET_JOB_SOURCE_DOCKER_IMAGE_STUB.equals(sourceLauncherConfig.getDockerImage())
               ? new EmptyAirbyteSource(featureFlags.useStreamCapableState())
-              : new DefaultAirbyteSource(sourceLauncher);
+              : new DefaultAirbyteSource(sourceLauncher, recordPassthrough, featureFlags.useMessageSocket(),
+                  featureFlags.useBinaryMessageFormat());
       MetricClientFactory.initialize(MetricEmittingApps.WORKER);
       final MetricClient metricClient = MetricClientFactory.getMetricClient();
       final WorkerMetricReporter metricReporter = new WorkerMetricReporter(metricClient, sourceLauncherConfig.getDockerImage());
@@ -220,11 +236,12 @@ public class ReplicationActivityImpl implements ReplicationActivity {
           jobRunConfig.getJobId(),
           Math.toIntExact(jobRunConfig.getAttemptId()),
           airbyteSource,
-          new NamespacingMapper(syncInput.getNamespaceDefinition(), syncInput.getNamespaceFormat(), syncInput.getPrefix()),
+          mapper,
           new DefaultAirbyteDestination(destinationLauncher),
           new AirbyteMessageTracker(),
-          new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(syncInput)),
-          metricReporter);
+          recordSchemaValidator,
+          metricReporter,
+          featureFlags.usePipelinedReplication());
     };
   }
 
@@ -251,7 +268,8 @@ public class ReplicationActivityImpl implements ReplicationActivity {
         resourceRequirements,
         activityContext,
         serverPort,
-        temporalUtils);
+        temporalUtils,
+        featureFlags);
   }
 
 }
@@ -4,6 +4,7 @@
 
 package io.airbyte.workers.temporal.sync;
 
+import io.airbyte.commons.features.FeatureFlags;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.temporal.TemporalUtils;
 import io.airbyte.config.ReplicationOutput;
@@ -37,7 +38,8 @@ public class ReplicationLauncherWorker extends LauncherWorker<StandardSyncInput,
                                    final ResourceRequirements resourceRequirements,
                                    final Supplier<ActivityExecutionContext> activityContext,
                                    final Integer serverPort,
-                                   final TemporalUtils temporalUtils) {
+                                   final TemporalUtils temporalUtils,
+                                   final FeatureFlags featureFlags) {
     super(
         connectionId,
         REPLICATION,
@@ -51,7 +53,8 @@ public class ReplicationLauncherWorker extends LauncherWorker<StandardSyncInput,
         ReplicationOutput.class,
         activityContext,
         serverPort,
-        temporalUtils);
+        temporalUtils,
+        featureFlags);
   }
 
 }
@@ -4,6 +4,8 @@
 
 package io.airbyte.workers;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import io.airbyte.config.StandardSync;
@@ -42,4 +44,27 @@ class RecordSchemaValidatorTest {
     assertThrows(RecordSchemaValidationException.class, () -> recordSchemaValidator.validateSchema(INVALID_RECORD.getRecord(), STREAM_NAME));
   }
 
+  @Test
+  void testValidateInvalidSchemaWithSampleRate() throws Exception {
+    final RecordSchemaValidator recordSchemaValidator = new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(syncInput), 2, 0);
+    // records 1, 3, 5... of the stream are validated
+    assertThrows(RecordSchemaValidationException.class, () -> recordSchemaValidator.validateSchema(INVALID_RECORD.getRecord(), STREAM_NAME));
+    assertDoesNotThrow(() -> recordSchemaValidator.validateSchema(INVALID_RECORD.getRecord(), STREAM_NAME));
+    assertThrows(RecordSchemaValidationException.class, () -> recordSchemaValidator.validateSchema(INVALID_RECORD.getRecord(), STREAM_NAME));
+  }
+
+  @Test
+  void testValidateInvalidSchemaWithMaxRecordsPerStream() throws Exception {
+    final RecordSchemaValidator recordSchemaValidator = new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(syncInput), 1, 1);
+    assertThrows(RecordSchemaValidationException.class, () -> recordSchemaValidator.validateSchema(INVALID_RECORD.getRecord(), STREAM_NAME));
+    assertDoesNotThrow(() -> recordSchemaValidator.validateSchema(INVALID_RECORD.getRecord(), STREAM_NAME));
+  }
+
+  @Test
+  void testValidationDisabled() {
+    final RecordSchemaValidator recordSchemaValidator = new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(syncInput), 0, 0);
+    assertFalse(recordSchemaValidator.isEnabled());
+    assertDoesNotThrow(() -> recordSchemaValidator.validateSchema(INVALID_RECORD.getRecord(), STREAM_NAME));
+  }
+
 }
@@ -68,6 +68,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -163,6 +164,59 @@ class DefaultReplicationWorkerTest {
     verify(recordSchemaValidator).validateSchema(RECORD_MESSAGE2.getRecord(), STREAM_NAME);
   }
 
+  @Test
+  void testPipelinedReplication() throws Exception {
+    when(source.isFinished()).thenReturn(false, false, false, false, true);
+    when(source.attemptRead()).thenReturn(Optional.of(RECORD_MESSAGE1), Optional.of(STATE_MESSAGE), Optional.of(RECORD_MESSAGE2),
+        Optional.of(RECORD_MESSAGE3));
+    when(mapper.mapMessage(STATE_MESSAGE)).thenReturn(STATE_MESSAGE);
+
+    final ReplicationWorker worker = new DefaultReplicationWorker(
+        JOB_ID,
+        JOB_ATTEMPT,
+        source,
+        mapper,
+        destination,
+        messageTracker,
+        recordSchemaValidator,
+        workerMetricReporter,
+        true);
+
+    final ReplicationOutput output = worker.run(syncInput, jobRoot);
+
+    assertEquals(ReplicationStatus.COMPLETED, output.getReplicationAttemptSummary().getStatus());
+    final InOrder inOrder = Mockito.inOrder(destination);
+    inOrder.verify(destination).accept(RECORD_MESSAGE1);
+    inOrder.verify(destination).accept(STATE_MESSAGE);
+    inOrder.verify(destination).accept(RECORD_MESSAGE2);
+    inOrder.verify(destination).accept(RECORD_MESSAGE3);
+    inOrder.verify(destination).notifyEndOfInput();
+    verify(recordSchemaValidator).validateSchema(RECORD_MESSAGE1.getRecord(), STREAM_NAME);
+    verify(recordSchemaValidator).validateSchema(RECORD_MESSAGE3.getRecord(), STREAM_NAME);
+    verify(messageTracker).acceptFromSource(STATE_MESSAGE);
+  }
+
+  @Test
+  void testPipelinedReplicationSourceFailure() throws Exception {
+    when(source.attemptRead()).thenThrow(new IllegalStateException(INDUCED_EXCEPTION));
+
+    final ReplicationWorker worker = new DefaultReplicationWorker(
+        JOB_ID,
+        JOB_ATTEMPT,
+        source,
+        mapper,
+        destination,
+        messageTracker,
+        recordSchemaValidator,
+        workerMetricReporter,
+        true);
+
+    final ReplicationOutput output = worker.run(syncInput, jobRoot);
+    assertEquals(ReplicationStatus.FAILED, output.getReplicationAttemptSummary().getStatus());
+    assertTrue(output.getFailures().stream().anyMatch(f -> f.getFailureOrigin().equals(FailureOrigin.SOURCE)));
+    verify(destination, never()).notifyEndOfInput();
+  }
+
   @Test
   void testInvalidSchema() throws Exception {
     when(source.attemptRead()).thenReturn(Optional.of(RECORD_MESSAGE1), Optional.of(RECORD_MESSAGE2), Optional.of(RECORD_MESSAGE3));
@@ -468,6 +522,46 @@ class DefaultReplicationWorkerTest {
     assertEquals(output.get().getState().getState(), STATE_MESSAGE.getState().getData());
   }
 
+  @SuppressWarnings({"BusyWait"})
+  @Test
+  void testPipelinedCancellationNotifiesDestination() throws Exception {
+    final AtomicReference<ReplicationOutput> output = new AtomicReference<>();
+    when(source.isFinished()).thenReturn(false);
+    when(source.attemptRead()).thenReturn(Optional.of(RECORD_MESSAGE1));
+
+    final ReplicationWorker worker = new DefaultReplicationWorker(
+        JOB_ID,
+        JOB_ATTEMPT,
+        source,
+        mapper,
+        destination,
+        messageTracker,
+        recordSchemaValidator,
+        workerMetricReporter,
+        true);
+
+    final Thread workerThread = new Thread(() -> {
+      try {
+        output.set(worker.run(syncInput, jobRoot));
+      } catch (final WorkerException e) {
+        throw new RuntimeException(e);
+      }
+    });
+
+    workerThread.start();
+
+    // verify the worker is actually running before we kill it.
+    while (Mockito.mockingDetails(messageTracker).getInvocations().size() < 5) {
+      LOGGER.info("waiting for worker to start running");
+      sleep(100);
+    }
+
+    worker.cancel();
+    Assertions.assertTimeout(Duration.ofSeconds(5), (Executable) workerThread::join);
+    assertNotNull(output.get());
+    verify(destination).notifyEndOfInput();
+  }
+
   @Test
   void testPopulatesOutputOnSuccess() throws WorkerException {
     final JsonNode expectedState = Jsons.jsonNode(ImmutableMap.of("updated_at", 10L));
@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.logging.MdcScope;
 import io.airbyte.config.FailureReason;
 import io.airbyte.config.State;
 import io.airbyte.protocol.models.AirbyteMessage;
@@ -139,6 +140,25 @@ class AirbyteMessageTrackerTest {
     assertEquals(expected, messageTracker.getStreamToEmittedBytes());
   }
 
+  @Test
+  void testEmittedBytesOfParsedRecordsReuseParsedLength() {
+    final AirbyteMessage record = AirbyteMessageUtils.createRecordMessage(STREAM_1, "favorite_color", "green");
+    final String line = Jsons.serialize(record);
+    final long recordBytes = Jsons.getEstimatedByteSize(record.getRecord().getData());
+
+    final AirbyteMessage parsed = new StreamingAirbyteStreamFactory().tryParseRecord(line).orElseThrow();
+    final AirbyteMessage parsedRaw = new StreamingAirbyteStreamFactory(new MdcScope.Builder(), true).tryParseRecord(line).orElseThrow();
+    assertEquals(recordBytes, AirbyteMessageTracker.getEstimatedByteSize(parsed.getRecord().getData()));
+    assertEquals(recordBytes, AirbyteMessageTracker.getEstimatedByteSize(parsedRaw.getRecord().getData()));
+
+    messageTracker.acceptFromSource(parsed);
+    messageTracker.acceptFromSource(parsedRaw);
+    messageTracker.acceptFromSource(record);
+
+    assertEquals(3, messageTracker.getTotalRecordsEmitted());
+    assertEquals(3 * recordBytes, messageTracker.getTotalBytesEmitted());
+  }
+
   @Test
   void testGetCommittedRecordsByStream() {
     final AirbyteMessage r1 = AirbyteMessageUtils.createRecordMessage(STREAM_1, 1);
@@ -5,6 +5,7 @@
 package io.airbyte.workers.internal;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
@@ -15,6 +16,9 @@ import static org.mockito.Mockito.when;
 
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.logging.MdcScope.Builder;
+import io.airbyte.commons.protocol.serde.AirbyteMessageSmileDeserializer;
+import io.airbyte.commons.protocol.serde.AirbyteMessageSmileSerializer;
+import io.airbyte.commons.version.AirbyteVersion;
 import io.airbyte.protocol.models.AirbyteLogMessage;
 import io.airbyte.protocol.models.AirbyteMessage;
 import java.io.BufferedReader;
@@ -104,6 +108,27 @@ class DefaultAirbyteStreamFactoryTest {
     verifyNoMoreInteractions(logger);
   }
 
+  @Test
+  void testBinaryFrames() {
+    final AirbyteVersion version = new AirbyteVersion("0.3.0");
+    final AirbyteMessage record1 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "green");
+    final byte[] frame = new AirbyteMessageSmileSerializer<AirbyteMessage>(version).serialize(record1);
+
+    final Stream<AirbyteMessage> messageStream = new DefaultAirbyteStreamFactory(protocolPredicate, logger, new Builder())
+        .create(Stream.of(frame), new AirbyteMessageSmileDeserializer<>(version, AirbyteMessage.class));
+
+    assertEquals(Collections.singletonList(record1), messageStream.collect(Collectors.toList()));
+  }
+
+  @Test
+  void testInvalidBinaryFrameFailsTheRead() {
+    final AirbyteVersion version = new AirbyteVersion("0.3.0");
+    final Stream<AirbyteMessage> messageStream = new DefaultAirbyteStreamFactory(protocolPredicate, logger, new Builder())
+        .create(Stream.of("not smile".getBytes(StandardCharsets.UTF_8)), new AirbyteMessageSmileDeserializer<>(version, AirbyteMessage.class));
+
+    assertThrows(IllegalStateException.class, () -> messageStream.collect(Collectors.toList()));
+  }
+
   @Test
   @Disabled
   void testMissingNewLineBetweenValidRecords() {
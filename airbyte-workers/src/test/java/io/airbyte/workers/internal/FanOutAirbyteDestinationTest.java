@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.WorkerDestinationConfig;
+import io.airbyte.protocol.models.AirbyteErrorTraceMessage;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteTraceMessage;
+import io.airbyte.workers.TestConfigHelpers;
+import io.airbyte.workers.WorkerUtils;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FanOutAirbyteDestinationTest {
+
+  private static final WorkerDestinationConfig DESTINATION_CONFIG =
+      WorkerUtils.syncToWorkerDestinationConfig(TestConfigHelpers.createSyncConfig().getValue());
+  private static final List<JsonNode> DESTINATION_CONFIGURATIONS = List.of(
+      Jsons.jsonNode(Map.of("destination", "snowflake")),
+      Jsons.jsonNode(Map.of("destination", "s3")));
+
+  private static final AirbyteMessage STATE_1 = AirbyteMessageUtils.createStateMessage("checkpoint", "1");
+  private static final AirbyteMessage STATE_2 = AirbyteMessageUtils.createStateMessage("checkpoint", "2");
+  private static final AirbyteMessage STATE_3 = AirbyteMessageUtils.createStateMessage("checkpoint", "3");
+
+  @TempDir
+  Path jobRoot;
+
+  private FakeDestination first;
+  private FakeDestination second;
+  private FanOutAirbyteDestination destination;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    first = new FakeDestination();
+    second = new FakeDestination();
+    destination = new FanOutAirbyteDestination(List.of(first, second), DESTINATION_CONFIGURATIONS);
+    destination.start(DESTINATION_CONFIG, jobRoot);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    destination.close();
+  }
+
+  @Test
+  void testStartsEachDestinationWithItsConfiguration() {
+    assertEquals(DESTINATION_CONFIGURATIONS.get(0), first.config.getDestinationConnectionConfiguration());
+    assertEquals(DESTINATION_CONFIGURATIONS.get(1), second.config.getDestinationConnectionConfiguration());
+    assertEquals(DESTINATION_CONFIG.getCatalog(), second.config.getCatalog());
+    assertEquals(jobRoot.resolve("destination-0"), first.jobRoot);
+    assertEquals(jobRoot.resolve("destination-1"), second.jobRoot);
+    assertTrue(Files.isDirectory(second.jobRoot));
+  }
+
+  @Test
+  void testSendsMessagesToEveryDestination() throws Exception {
+    final List<AirbyteMessage> messages = List.of(AirbyteMessageUtils.createRecordMessage("users", 1), STATE_1);
+    for (final AirbyteMessage message : messages) {
+      destination.accept(message);
+    }
+
+    assertEquals(messages, first.accepted);
+    assertEquals(messages, second.accepted);
+  }
+
+  @Test
+  void testStateIsEmittedOnceEveryDestinationCommittedIt() throws Exception {
+    destination.accept(STATE_1);
+    destination.accept(STATE_2);
+    destination.accept(STATE_3);
+
+    first.emit(STATE_2);
+    second.emit(STATE_1);
+    assertEquals(Optional.of(STATE_1), readNext());
+
+    second.emit(STATE_3);
+    assertEquals(Optional.of(STATE_2), readNext());
+
+    first.emit(STATE_3);
+    assertEquals(Optional.of(STATE_3), readNext());
+
+    first.finish(0);
+    second.finish(0);
+    assertEquals(List.of(), readAll());
+    assertEquals(0, destination.getExitValue());
+  }
+
+  @Test
+  void testTraceMessagesAreEmittedImmediately() throws Exception {
+    final AirbyteMessage trace = new AirbyteMessage().withType(Type.TRACE)
+        .withTrace(new AirbyteTraceMessage().withType(AirbyteTraceMessage.Type.ERROR).withError(new AirbyteErrorTraceMessage().withMessage("boom")));
+    destination.accept(STATE_1);
+
+    second.emit(trace);
+    assertEquals(Optional.of(trace), readNext());
+  }
+
+  @Test
+  void testUnknownStateIsIgnored() throws Exception {
+    destination.accept(STATE_1);
+
+    first.emit(STATE_2);
+    first.emit(STATE_1);
+    second.emit(STATE_1);
+    first.finish(0);
+    second.finish(0);
+    assertEquals(List.of(STATE_1), readAll());
+  }
+
+  @Test
+  void testExitValueOfFailedDestination() {
+    first.finish(0);
+    second.finish(1);
+    readAll();
+
+    assertEquals(1, destination.getExitValue());
+  }
+
+  @Test
+  void testReadFailureIsSurfaced() {
+    second.failure = new IllegalStateException("read failed");
+    second.emit(STATE_1);
+
+    assertThrows(IllegalStateException.class, this::readAll);
+  }
+
+  @Test
+  void testReadFailureAfterEverythingWasReadIsSurfaced() {
+    first.finish(0);
+    second.failure = new IllegalStateException("read failed");
+    second.emit(STATE_1);
+
+    // the failing reader is the last one running, and stops once everything was read: reading like
+    // the worker does, until isFinished is true, still surfaces its failure
+    assertThrows(IllegalStateException.class, this::readAll);
+    assertFalse(destination.isFinished());
+  }
+
+  private Optional<AirbyteMessage> readNext() {
+    final long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+    while (System.currentTimeMillis() < deadline) {
+      final Optional<AirbyteMessage> message = destination.attemptRead();
+      if (message.isPresent()) {
+        return message;
+      }
+    }
+    return Optional.empty();
+  }
+
+  private List<AirbyteMessage> readAll() {
+    final List<AirbyteMessage> messages = new ArrayList<>();
+    while (!destination.isFinished()) {
+      destination.attemptRead().ifPresent(messages::add);
+    }
+    return messages;
+  }
+
+  private static class FakeDestination implements AirbyteDestination {
+
+    private final BlockingQueue<AirbyteMessage> emitted = new LinkedBlockingQueue<>();
+    private final List<AirbyteMessage> accepted = new CopyOnWriteArrayList<>();
+    private volatile boolean finished = false;
+    private volatile int exitValue = 0;
+    private volatile RuntimeException failure = null;
+    private WorkerDestinationConfig config;
+    private Path jobRoot;
+
+    void emit(final AirbyteMessage message) {
+      emitted.add(message);
+    }
+
+    void finish(final int exitValue) {
+      this.exitValue = exitValue;
+      finished = true;
+    }
+
+    @Override
+    public void start(final WorkerDestinationConfig destinationConfig, final Path jobRoot) {
+      this.config = destinationConfig;
+      this.jobRoot = jobRoot;
+    }
+
+    @Override
+    public void accept(final AirbyteMessage message) {
+      accepted.add(message);
+    }
+
+    @Override
+    public void notifyEndOfInput() {}
+
+    @Override
+    public boolean isFinished() {
+      return finished && emitted.isEmpty();
+    }
+
+    @Override
+    public int getExitValue() {
+      return exitValue;
+    }
+
+    @Override
+    public Optional<AirbyteMessage> attemptRead() {
+      try {
+        final Optional<AirbyteMessage> message = Optional.ofNullable(emitted.poll(10, TimeUnit.MILLISECONDS));
+        if (message.isPresent() && failure != null) {
+          throw failure;
+        }
+        return message;
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException(e);
+      }
+    }
+
+    @Override
+    public void close() {
+      finished = true;
+    }
+
+    @Override
+    public void cancel() {
+      finished = true;
+    }
+
+  }
+
+}
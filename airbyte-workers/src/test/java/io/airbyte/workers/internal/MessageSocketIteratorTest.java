@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.google.common.collect.Lists;
+import io.airbyte.commons.io.FramedMessageWriter;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.protocol.serde.AirbyteMessageSmileDeserializer;
+import io.airbyte.commons.protocol.serde.AirbyteMessageSmileSerializer;
+import io.airbyte.commons.version.AirbyteVersion;
+import io.airbyte.protocol.models.AirbyteLogMessage;
+import io.airbyte.protocol.models.AirbyteMessage;
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MessageSocketIteratorTest {
+
+  private static final AirbyteMessage RECORD = AirbyteMessageUtils.createRecordMessage("users", "name", "mike");
+  private static final AirbyteMessage STATE = AirbyteMessageUtils.createStateMessage("checkpoint", "1");
+  private static final AirbyteMessage LOG = AirbyteMessageUtils.createLogMessage(AirbyteLogMessage.Level.INFO, "starting");
+
+  @TempDir
+  Path jobRoot;
+
+  private Path socketPath;
+  private ServerSocketChannel server;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    socketPath = jobRoot.resolve("messages.sock");
+    server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+    server.bind(UnixDomainSocketAddress.of(socketPath));
+  }
+
+  @Test
+  void testReadsMessagesFromSocket() throws Exception {
+    try (final FramedMessageWriter writer = FramedMessageWriter.connect(socketPath)) {
+      writer.write(Jsons.serialize(RECORD));
+      writer.write(Jsons.serialize(STATE));
+    }
+
+    try (final MessageSocketIterator iterator = new MessageSocketIterator(server, new DefaultAirbyteStreamFactory(), stdout(LOG))) {
+      assertEquals(List.of(RECORD, STATE), Lists.newArrayList(iterator));
+    }
+    assertFalse(Files.exists(socketPath));
+  }
+
+  @Test
+  void testReadsNegotiatedBinaryFormat() throws Exception {
+    final AirbyteVersion version = new AirbyteVersion("0.3.0");
+    final AirbyteMessageSmileSerializer<AirbyteMessage> serializer = new AirbyteMessageSmileSerializer<>(version);
+    try (final FramedMessageWriter writer = FramedMessageWriter.connect(socketPath)) {
+      writer.write(AirbyteMessageSmileSerializer.FORMAT);
+      writer.write(serializer.serialize(RECORD));
+      writer.write(serializer.serialize(STATE));
+    }
+
+    try (final MessageSocketIterator iterator = new MessageSocketIterator(server, new DefaultAirbyteStreamFactory(),
+        new AirbyteMessageSmileDeserializer<>(version, AirbyteMessage.class), stdout(LOG))) {
+      assertEquals(List.of(RECORD, STATE), Lists.newArrayList(iterator));
+    }
+  }
+
+  @Test
+  void testReadsJsonWhenBinaryFormatIsDeclined() throws Exception {
+    try (final FramedMessageWriter writer = FramedMessageWriter.connect(socketPath)) {
+      writer.write(FramedMessageWriter.JSON_FORMAT);
+      writer.write(Jsons.serialize(RECORD));
+    }
+
+    try (final MessageSocketIterator iterator = new MessageSocketIterator(server, new DefaultAirbyteStreamFactory(),
+        new AirbyteMessageSmileDeserializer<>(new AirbyteVersion("0.3.0"), AirbyteMessage.class), stdout())) {
+      assertEquals(List.of(RECORD), Lists.newArrayList(iterator));
+    }
+  }
+
+  @Test
+  void testFallsBackToStdout() throws Exception {
+    try (final MessageSocketIterator iterator = new MessageSocketIterator(server, new DefaultAirbyteStreamFactory(), stdout(LOG, RECORD, STATE))) {
+      assertEquals(List.of(RECORD, STATE), Lists.newArrayList(iterator));
+    }
+    assertFalse(server.isOpen());
+    assertFalse(Files.exists(socketPath));
+  }
+
+  private static BufferedReader stdout(final AirbyteMessage... messages) {
+    return new BufferedReader(new StringReader(List.of(messages).stream().map(Jsons::serialize).collect(Collectors.joining("\n"))));
+  }
+
+}
@@ -5,6 +5,8 @@
 package io.airbyte.workers.internal;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.JobSyncConfig.NamespaceDefinitionType;
@@ -38,6 +40,7 @@ class NamespacingMapperTest {
   @Test
   void testSourceNamespace() {
     final NamespacingMapper mapper = new NamespacingMapper(NamespaceDefinitionType.SOURCE, null, OUTPUT_PREFIX);
+    assertFalse(mapper.isIdentity());
 
     final ConfiguredAirbyteCatalog originalCatalog = Jsons.clone(CATALOG);
     final ConfiguredAirbyteCatalog expectedCatalog = CatalogHelpers.createConfiguredAirbyteCatalog(
@@ -181,6 +184,7 @@ class NamespacingMapperTest {
   @Test
   void testEmptyPrefix() {
     final NamespacingMapper mapper = new NamespacingMapper(NamespaceDefinitionType.SOURCE, null, null);
+    assertTrue(mapper.isIdentity());
 
     final ConfiguredAirbyteCatalog originalCatalog = Jsons.clone(CATALOG);
     final ConfiguredAirbyteCatalog expectedCatalog = CatalogHelpers.createConfiguredAirbyteCatalog(
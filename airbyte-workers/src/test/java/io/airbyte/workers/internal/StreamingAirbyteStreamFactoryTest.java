@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.logging.MdcScope.Builder;
+import io.airbyte.protocol.models.AirbyteLogMessage;
+import io.airbyte.protocol.models.AirbyteMessage;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+
+class StreamingAirbyteStreamFactoryTest {
+
+  private static final String STREAM_NAME = "user_preferences";
+  private static final String FIELD_NAME = "favorite_color";
+
+  private AirbyteProtocolPredicate protocolPredicate;
+  private Logger logger;
+
+  @BeforeEach
+  void setup() {
+    protocolPredicate = mock(AirbyteProtocolPredicate.class);
+    when(protocolPredicate.test(any())).thenReturn(true);
+    logger = mock(Logger.class);
+  }
+
+  @Test
+  void testValidRecord() {
+    final AirbyteMessage record1 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "green");
+    record1.getRecord().setNamespace("public");
+
+    final List<AirbyteMessage> messages = stringToMessages(Jsons.serialize(record1), false);
+
+    assertEquals(List.of(record1), messages);
+    // records do not go through the tree based protocol validation
+    verifyNoInteractions(protocolPredicate);
+    verifyNoInteractions(logger);
+  }
+
+  @Test
+  void testValidRecordWithRawData() {
+    final AirbyteMessage record1 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "green");
+    final String line = Jsons.serialize(record1);
+
+    final List<AirbyteMessage> messages = stringToMessages(line, true);
+
+    assertEquals(1, messages.size());
+    assertEquals(STREAM_NAME, messages.get(0).getRecord().getStream());
+    assertTrue(messages.get(0).getRecord().getData().isPojo());
+    assertEquals(line, Jsons.serialize(messages.get(0)));
+  }
+
+  @Test
+  void testNonRecordMessageFallsBackOnProtocolValidation() {
+    final AirbyteMessage state = AirbyteMessageUtils.createStateMessage("checkpoint", "1");
+
+    final List<AirbyteMessage> messages = stringToMessages(Jsons.serialize(state), false);
+
+    assertEquals(List.of(state), messages);
+    verify(protocolPredicate).test(Jsons.jsonNode(state));
+  }
+
+  @Test
+  void testRecordMissingRequiredFieldFallsBackOnProtocolValidation() {
+    final String invalidRecord = "{\"type\":\"RECORD\",\"record\":{\"stream\":\"s\",\"data\":{}}}";
+    when(protocolPredicate.test(Jsons.deserialize(invalidRecord))).thenReturn(false);
+
+    final List<AirbyteMessage> messages = stringToMessages(invalidRecord, false);
+
+    assertEquals(Collections.emptyList(), messages);
+    verify(logger).error(anyString(), anyString());
+    verifyNoMoreInteractions(logger);
+  }
+
+  @Test
+  void testLoggingLine() {
+    final List<AirbyteMessage> messages = stringToMessages("invalid line", false);
+
+    assertEquals(Collections.emptyList(), messages);
+    verify(logger).info(anyString());
+    verifyNoMoreInteractions(logger);
+  }
+
+  @Test
+  void testLoggingLevel() {
+    final AirbyteMessage logMessage = AirbyteMessageUtils.createLogMessage(AirbyteLogMessage.Level.WARN, "warning");
+
+    final List<AirbyteMessage> messages = stringToMessages(Jsons.serialize(logMessage), false);
+
+    assertEquals(Collections.emptyList(), messages);
+    verify(logger).warn("warning");
+    verify(logger, never()).error(anyString(), anyString());
+  }
+
+  private List<AirbyteMessage> stringToMessages(final String inputString, final boolean keepRawRecordData) {
+    final InputStream inputStream = new ByteArrayInputStream(inputString.getBytes(StandardCharsets.UTF_8));
+    final BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    return new StreamingAirbyteStreamFactory(protocolPredicate, logger, new Builder(), keepRawRecordData)
+        .create(bufferedReader)
+        .collect(Collectors.toList());
+  }
+
+}